@@ -0,0 +1,75 @@
+package com.lambdaschool.foundation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one load per key at a time.
+ * <p>
+ * The first caller for a key runs the loader. Callers that arrive with the
+ * same key while it is running wait for it and get the same result, or the
+ * same exception, instead of running the loader again. Once the load is done
+ * the key is forgotten, so results are not cached here.
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+public final class SingleFlight<K, V> {
+
+  /**
+   * Loads in progress
+   */
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight =
+    new ConcurrentHashMap<>();
+
+  /**
+   * Runs loader for key, or joins the run already in progress for key
+   *
+   * @param key what is being loaded
+   * @param loader loads the value, only called by one of the callers
+   * @return the loaded value
+   * @throws RuntimeException whatever the loader threw
+   */
+  public V run(K key, Supplier<V> loader) {
+    CompletableFuture<V> mine = new CompletableFuture<>();
+    CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+
+    if (running != null) {
+      try {
+        return running.join();
+      } catch (CompletionException e) {
+        throw unwrap(e);
+      }
+    }
+
+    try {
+      V value = loader.get();
+      mine.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      mine.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  /**
+   * Number of keys currently being loaded
+   *
+   * @return loads in progress
+   */
+  public int inFlight() {
+    return inFlight.size();
+  }
+
+  private static RuntimeException unwrap(CompletionException e) {
+    Throwable cause = e.getCause();
+    if (cause instanceof RuntimeException) return (RuntimeException) cause;
+    if (cause instanceof Error) throw (Error) cause;
+    return e;
+  }
+}
@@ -2,11 +2,16 @@ package com.lambdaschool.foundation.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.PreDestroy;
 import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 /**
  * Configures which database we are using based on a property in application.properties
@@ -26,33 +31,116 @@ public class DataSourceConfig {
   @Value("${spring.datasource.url:}")
   private String dbURL;
 
+  /**
+   * JDBC url of a read replica for read-only transactions. Defaults to empty
+   * string, which gives read-only transactions their own pool on dbURL
+   */
+  @Value("${citrics.datasource.read-url:}")
+  private String readURL;
+
+  /**
+   * Connections in the pool for read-write transactions
+   */
+  @Value("${citrics.datasource.write-pool-size:5}")
+  private int writePoolSize;
+
+  /**
+   * Connections in the pool for read-only transactions
+   */
+  @Value("${citrics.datasource.read-pool-size:10}")
+  private int readPoolSize;
+
+  /**
+   * The pools behind the routing datasource, closed on shutdown
+   */
+  private final List<HikariDataSource> pools = new ArrayList<>();
+
   /**
    * The actual datasource configuration
+   * Read-write transactions use one pool, read-only transactions another,
+   * see ReadWriteRoutingDataSource
    *
    * @return the datasource to use
    */
   @Bean
   public DataSource dataSource() {
+    HikariConfig write;
+    HikariConfig read;
     if (dbValue.equalsIgnoreCase("POSTGRESQL")) {
       // Assume Heroku
-      HikariConfig config = new HikariConfig();
-      config.setDriverClassName("org.postgresql.Driver");
-      config.setJdbcUrl(dbURL);
-      return new HikariDataSource(config);
+      write = postgres(dbURL);
+      read = postgres(readURL.isEmpty() ? dbURL : readURL);
     } else {
       // Assume H2
       String myURLString = "jdbc:h2:mem:testdb";
-      String myDriverClass = "org.h2.Driver";
-      String myDBUser = "sa";
-      String myDBPassword = "";
-
-      return DataSourceBuilder
-        .create()
-        .username(myDBUser)
-        .password(myDBPassword)
-        .url(myURLString)
-        .driverClassName(myDriverClass)
-        .build();
+      write = h2(myURLString);
+      read = h2(readURL.isEmpty() ? myURLString : readURL);
     }
+
+    write.setPoolName("citrics-write");
+    write.setMaximumPoolSize(writePoolSize);
+    read.setPoolName("citrics-read");
+    read.setMaximumPoolSize(readPoolSize);
+    read.setReadOnly(true);
+
+    return new LazyConnectionDataSourceProxy(
+      new ReadWriteRoutingDataSource(pool(write), pool(read))
+    );
+  }
+
+  /**
+   * Publishes the hikaricp.* gauges of both pools, tagged by pool name.
+   * Spring Boot only finds the write pool behind the routing datasource
+   *
+   * @param dataSource the datasource, so the pools exist before binding
+   * @return binder for the pool metrics
+   */
+  @Bean
+  public MeterBinder hikariPoolMetrics(DataSource dataSource) {
+    return registry -> {
+      for (HikariDataSource pool : pools) {
+        if (pool.getMetricsTrackerFactory() == null) {
+          pool.setMetricsTrackerFactory(
+            new MicrometerMetricsTrackerFactory(registry)
+          );
+        }
+      }
+    };
+  }
+
+  /**
+   * Closes the pools after everything using them has shut down
+   */
+  @PreDestroy
+  public void closePools() {
+    pools.forEach(HikariDataSource::close);
+  }
+
+  private HikariDataSource pool(HikariConfig config) {
+    HikariDataSource pool = new HikariDataSource(config);
+    pools.add(pool);
+    return pool;
+  }
+
+  private static HikariConfig postgres(String url) {
+    HikariConfig config = new HikariConfig();
+    config.setDriverClassName("org.postgresql.Driver");
+    config.setJdbcUrl(url);
+    // sends a JDBC batch of INSERTs as multi-row INSERTs
+    config.addDataSourceProperty("reWriteBatchedInserts", "true");
+    return config;
+  }
+
+  private static HikariConfig h2(String url) {
+    String myDriverClass = "org.h2.Driver";
+    String myDBUser = "sa";
+    String myDBPassword = "";
+
+    HikariConfig config = new HikariConfig();
+    config.setDriverClassName(myDriverClass);
+    config.setJdbcUrl(url);
+    config.setUsername(myDBUser);
+    config.setPassword(myDBPassword);
+    return config;
   }
 }
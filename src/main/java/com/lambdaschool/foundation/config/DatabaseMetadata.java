@@ -0,0 +1,85 @@
+package com.lambdaschool.foundation.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers questions about the database behind the datasource configured in
+ * DataSourceConfig, for code that writes SQL only PostgreSQL or H2 accepts.
+ * Connections are taken from the current transaction if there is one.
+ */
+@Component
+public class DatabaseMetadata {
+
+  private final DataSource dataSource;
+
+  /**
+   * The database is PostgreSQL, looked up on first use
+   */
+  private volatile Boolean postgres;
+
+  public DatabaseMetadata(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Whether the database is PostgreSQL, otherwise H2 is assumed
+   *
+   * @return true for PostgreSQL
+   */
+  public boolean isPostgres() {
+    if (postgres == null) {
+      Connection connection = DataSourceUtils.getConnection(dataSource);
+      try {
+        postgres =
+          "PostgreSQL".equals(
+              JdbcUtils.commonDatabaseName(
+                connection.getMetaData().getDatabaseProductName()
+              )
+            );
+      } catch (SQLException e) {
+        throw new IllegalStateException("Could not inspect connection", e);
+      } finally {
+        DataSourceUtils.releaseConnection(connection, dataSource);
+      }
+    }
+    return postgres;
+  }
+
+  /**
+   * Whether a table exists
+   *
+   * @param table unquoted table name
+   * @return true if the table exists
+   */
+  public boolean tableExists(String table) {
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      DatabaseMetaData metaData = connection.getMetaData();
+      // H2 keeps unquoted names in upper case, PostgreSQL in lower case
+      for (String name : new String[] { table, table.toUpperCase() }) {
+        try (
+          ResultSet tables = metaData.getTables(
+            null,
+            null,
+            name,
+            new String[] { "TABLE" }
+          )
+        ) {
+          if (tables.next()) return true;
+        }
+      }
+      return false;
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not inspect connection", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.lambdaschool.foundation.config;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds up the time Hibernate spends executing JDBC statements on the
+ * current thread.
+ * <p>
+ * Registered in application.properties through
+ * spring.jpa.properties.hibernate.session.events.auto. Hibernate creates
+ * one instance per session, so like QueryCountInspector the total lives in
+ * a static ThreadLocal. QueryCountFilter resets it at the start of every
+ * request.
+ */
+public class JdbcTimeListener extends BaseSessionEventListener {
+
+  /**
+   * Nanoseconds spent in statements on this thread since the last reset
+   */
+  private static final ThreadLocal<long[]> NANOS = ThreadLocal.withInitial(
+    () -> new long[1]
+  );
+
+  /**
+   * Start of the statement running in this session
+   */
+  private long start;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    start = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    NANOS.get()[0] += System.nanoTime() - start;
+  }
+
+  @Override
+  public void jdbcExecuteBatchStart() {
+    start = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteBatchEnd() {
+    NANOS.get()[0] += System.nanoTime() - start;
+  }
+
+  /**
+   * Sets the total of the current thread back to zero
+   */
+  public static void reset() {
+    NANOS.get()[0] = 0;
+  }
+
+  /**
+   * Time spent executing statements on the current thread since the last
+   * reset
+   * @return nanoseconds
+   */
+  public static long nanos() {
+    return NANOS.get()[0];
+  }
+}
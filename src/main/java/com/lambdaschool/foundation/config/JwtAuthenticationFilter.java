@@ -1,8 +1,6 @@
 package com.lambdaschool.foundation.config;
 
-import com.lambdaschool.foundation.models.User;
-import com.lambdaschool.foundation.repository.UserRepository;
-import com.lambdaschool.foundation.services.UserService;
+import com.lambdaschool.foundation.services.KnownUserCache;
 import java.io.IOException;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -16,14 +14,9 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-  // A very specific implementation of userrepos.findByUserName was needed for this filter,
-  // so the repository is used directly.
+  // Remembers which users already exist, so most requests skip the database
   @Autowired
-  UserRepository userrepos;
-
-  // Using the service is preferred so for save, the service is used
-  @Autowired
-  UserService userService;
+  KnownUserCache knownUserCache;
 
   /**
    * A method in this controller adds a new user to the application with the role User so needs access to Role Services to do this.
@@ -43,20 +36,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       .getContext()
       .getAuthentication();
 
-    if (!(authentication instanceof AnonymousAuthenticationToken)) {
-      if (userrepos.findByUsername(authentication.getName()) == null) {
-        User newUser = new User(authentication.getName());
+    if (
+      authentication != null &&
+      !(authentication instanceof AnonymousAuthenticationToken)
+    ) {
+      // adds the user the first time we see them, concurrent first requests
+      // share a single insert
+      knownUserCache.provision(authentication.getName());
 
-        // adds a default USER role to this new user
-        //                Set<UserRoles> newRoles = new HashSet<>();
-        //                newRoles.add(new UserRoles(newUser,
-        //                    roleService.findByName("user")));
-        //                newUser.setRoles(newRoles);
+      // adds a default USER role to this new user
+      //                Set<UserRoles> newRoles = new HashSet<>();
+      //                newRoles.add(new UserRoles(newUser,
+      //                    roleService.findByName("user")));
+      //                newUser.setRoles(newRoles);
 
-        userService.save(newUser);
-      } else {
-        // we already have this user so nothing to update
-      }
       // continue the filter chain.
     } else {
       // we do not have a user so nothing to check!
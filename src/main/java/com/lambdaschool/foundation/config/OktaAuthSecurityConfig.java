@@ -41,6 +41,12 @@ public class OktaAuthSecurityConfig extends WebSecurityConfigurerAdapter {
       .permitAll()
       .antMatchers("/roles/**")
       .permitAll()
+      // metrics show pool sizes, latencies and JVM details, only health is
+      // public
+      .antMatchers("/actuator/health")
+      .permitAll()
+      .antMatchers("/actuator/**")
+      .authenticated()
       .and()
       .exceptionHandling()
       .and()
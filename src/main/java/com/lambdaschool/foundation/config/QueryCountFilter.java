@@ -0,0 +1,133 @@
+package com.lambdaschool.foundation.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Measures the database work and allocations of each request.
+ * <p>
+ * Records, per method and endpoint pattern:
+ * citrics.request.sql.statements, counted by QueryCountInspector,
+ * citrics.request.jdbc, the statement time from JdbcTimeListener, and
+ * citrics.request.allocated, the bytes the request thread allocated.
+ * <p>
+ * Also logs the statement count of each request with
+ * logging.level.com.lambdaschool.foundation.config.QueryCountFilter=DEBUG
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+  private static final ThreadMXBean THREADS =
+    ManagementFactory.getThreadMXBean();
+
+  private final MeterRegistry registry;
+
+  /**
+   * Main constructor
+   * @param registry the application's registry, the global one if there is
+   *                 none, e.g. in web slice tests
+   */
+  public QueryCountFilter(ObjectProvider<MeterRegistry> registry) {
+    this.registry = registry.getIfAvailable(() -> Metrics.globalRegistry);
+  }
+
+  @Override
+  protected void doFilterInternal(
+    HttpServletRequest request,
+    HttpServletResponse response,
+    FilterChain filterChain
+  )
+    throws ServletException, IOException {
+    QueryCountInspector.reset();
+    JdbcTimeListener.reset();
+    long allocatedBefore = allocatedBytes();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int statements = QueryCountInspector.count();
+      Object pattern = request.getAttribute(
+        HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE
+      );
+      if (pattern != null) {
+        record(
+          Tags.of("method", request.getMethod(), "uri", pattern.toString()),
+          statements,
+          JdbcTimeListener.nanos(),
+          allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore
+        );
+      }
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+          request.getMethod() +
+          " " +
+          request.getRequestURI() +
+          " ran " +
+          statements +
+          " SQL statements"
+        );
+      }
+    }
+  }
+
+  private void record(
+    Tags tags,
+    int statements,
+    long jdbcNanos,
+    long allocated
+  ) {
+    DistributionSummary
+      .builder("citrics.request.sql.statements")
+      .description("SQL statements prepared per request")
+      .baseUnit("statements")
+      .tags(tags)
+      .register(registry)
+      .record(statements);
+    Timer
+      .builder("citrics.request.jdbc")
+      .description("Time spent executing SQL statements per request")
+      .tags(tags)
+      .register(registry)
+      .record(jdbcNanos, TimeUnit.NANOSECONDS);
+    if (allocated >= 0) {
+      DistributionSummary
+        .builder("citrics.request.allocated")
+        .description("Heap bytes allocated by the request thread")
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(registry)
+        .record(allocated);
+    }
+  }
+
+  /**
+   * Bytes allocated so far by the current thread
+   * @return allocated bytes, -1 if the JVM does not count them
+   */
+  private static long allocatedBytes() {
+    if (!(THREADS instanceof com.sun.management.ThreadMXBean)) return -1;
+    com.sun.management.ThreadMXBean threads =
+      (com.sun.management.ThreadMXBean) THREADS;
+    if (
+      !threads.isThreadAllocatedMemorySupported() ||
+      !threads.isThreadAllocatedMemoryEnabled()
+    ) {
+      return -1;
+    }
+    return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+}
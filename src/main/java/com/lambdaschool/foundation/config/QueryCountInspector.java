@@ -0,0 +1,47 @@
+package com.lambdaschool.foundation.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Registered in application.properties through
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector.
+ * Hibernate creates the instance itself, so the count lives in a static
+ * ThreadLocal. QueryCountFilter resets it at the start of every request.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+  /**
+   * Statements prepared on this thread since the last reset
+   */
+  private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(
+    () -> new int[1]
+  );
+
+  /**
+   * Counts the statement and hands it back to Hibernate unchanged
+   * @param sql the statement about to be prepared
+   * @return the same statement
+   */
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    return sql;
+  }
+
+  /**
+   * Sets the count of the current thread back to zero
+   */
+  public static void reset() {
+    COUNT.get()[0] = 0;
+  }
+
+  /**
+   * Number of statements prepared on the current thread since the last reset
+   * @return statement count
+   */
+  public static int count() {
+    return COUNT.get()[0];
+  }
+}
@@ -0,0 +1,49 @@
+package com.lambdaschool.foundation.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the read pool and everything else to the
+ * write pool.
+ * <p>
+ * The transaction is only marked read-only after it has begun, so this has
+ * to sit behind a LazyConnectionDataSourceProxy, which waits for the first
+ * statement before asking for a real connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  /**
+   * Lookup key of the write pool
+   */
+  static final String WRITE = "write";
+
+  /**
+   * Lookup key of the read pool
+   */
+  static final String READ = "read";
+
+  /**
+   * Main constructor
+   * @param write pool for read-write transactions and non-transactional work
+   * @param read pool for read-only transactions
+   */
+  public ReadWriteRoutingDataSource(DataSource write, DataSource read) {
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(WRITE, write);
+    targets.put(READ, read);
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(write);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+      ? READ
+      : WRITE;
+  }
+}
@@ -1,12 +1,29 @@
 package com.lambdaschool.foundation.controllers;
 
-import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.exceptions.ResourceFoundException;
 import com.lambdaschool.foundation.models.CityAbstract;
+import com.lambdaschool.foundation.models.CityAbstractPayload;
+import com.lambdaschool.foundation.models.CityComparison;
+import com.lambdaschool.foundation.models.CityDistance;
+import com.lambdaschool.foundation.models.CityFacet;
+import com.lambdaschool.foundation.models.CityMatch;
+import com.lambdaschool.foundation.models.CityMetric;
+import com.lambdaschool.foundation.models.KeysetPage;
+import com.lambdaschool.foundation.models.CitySimilarity;
+import com.lambdaschool.foundation.models.CityTrend;
+import com.lambdaschool.foundation.services.CityDetailCoalescer;
+import com.lambdaschool.foundation.services.CityPopularity;
 import com.lambdaschool.foundation.services.CityService;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/cities")
@@ -17,29 +34,61 @@ public class CityController {
    */
   private final CityService cityService;
 
+  /**
+   * Shares city detail loads between concurrent identical requests
+   */
+  private final CityDetailCoalescer cityDetailCoalescer;
+
+  /**
+   * Counts city views in memory for /trending
+   */
+  private final CityPopularity cityPopularity;
+
   // private final UserService userService;
 
   public CityController(
-    CityService cityService
+    CityService cityService,
+    CityDetailCoalescer cityDetailCoalescer,
+    CityPopularity cityPopularity
     //UserService userService
   ) {
     this.cityService = cityService;
+    this.cityDetailCoalescer = cityDetailCoalescer;
+    this.cityPopularity = cityPopularity;
     //   this.userService = userService;
   }
 
-  //    /**
-  //     *  /all endpoint (Not enough memory in free tier of
-  //     *  Heroku to use with fully populated DB. Disabled until
-  //     *  resources are available)
-  //     * @return list of all cities
-  //     */
-  //    @GetMapping(value = "/all",
-  //       produces = "application/json")
-  //    public ResponseEntity<?> listAllCities()
-  //    {
-  //        List<City> cities = cityService.findAll();
-  //        return  new ResponseEntity<>(cities, HttpStatus.OK);
-  //    }
+  /**
+   * /all endpoint - streams the whole catalogue instead of building it in
+   * memory, so it is safe on the free tier of Heroku again. The stream may
+   * run for spring.mvc.async.request-timeout
+   * @param format ndjson for one City with history per line, csv for the
+   *               City fields only
+   * @return the catalogue, written while the cities are read
+   */
+  @GetMapping(value = "/all")
+  public ResponseEntity<StreamingResponseBody> listAllCities(
+    @RequestParam(defaultValue = "ndjson") String format
+  ) {
+    switch (format.toLowerCase()) {
+      case "ndjson":
+        return ResponseEntity
+          .ok()
+          .contentType(MediaType.parseMediaType("application/x-ndjson"))
+          .body(out -> cityService.exportAllJson(out));
+      case "csv":
+        return ResponseEntity
+          .ok()
+          .contentType(MediaType.parseMediaType("text/csv"))
+          .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"cities.csv\""
+          )
+          .body(out -> cityService.exportAllCsv(out));
+      default:
+        throw new ResourceFoundException("format must be ndjson or csv");
+    }
+  }
 
   /**
    * /city/{id} endpoint
@@ -48,19 +97,166 @@ public class CityController {
    */
   @GetMapping(value = "/city/{id}", produces = "application/json")
   public ResponseEntity<?> getCityById(@PathVariable Long id) {
-    City c = cityService.findCityById(id);
-    return new ResponseEntity<>(c, HttpStatus.OK);
+    byte[] c = cityDetailCoalescer.findCityById(id);
+    cityPopularity.viewed(id);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(c);
+  }
+
+  /**
+   * /city/name/{name} endpoint
+   * @param name city name, e.g. Portland, OR
+   * @return city object matching name or throws exception
+   */
+  @GetMapping(value = "/city/name/{name}", produces = "application/json")
+  public ResponseEntity<?> getCityByName(@PathVariable String name) {
+    byte[] c = cityDetailCoalescer.findByCityName(name);
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(c);
+  }
+
+  /**
+   * /compare endpoint - returns several cities at once for the side by side
+   * view, with their histories merged on shared time axes
+   * @param ids comma separated city ids, at most 25
+   * @return the cities in the requested order and their merged histories
+   */
+  @GetMapping(value = "/compare", produces = "application/json")
+  public ResponseEntity<?> compareCities(@RequestParam List<Long> ids) {
+    // 25 is the history @BatchSize, so every collection stays one query
+    if (ids.isEmpty() || ids.size() > 25) {
+      throw new ResourceFoundException("Between 1 and 25 city ids needed");
+    }
+    CityComparison comparison = cityService.compareCities(ids);
+
+    return new ResponseEntity<>(comparison, HttpStatus.OK);
   }
 
   /**
    * /allid endpoint
-   * @return list of all City abstracts
+   * Served from a pre-serialized payload. Clients sending the ETag back in
+   * If-None-Match get a 304, clients accepting gzip get the compressed bytes.
+   * With limit, cursor or sort a single page is returned instead, see
+   * pageCityIds.
+   * @param limit most cities on a page, optional
+   * @param cursor nextCursor of the previous page, optional
+   * @param sort City metric to sort the pages by, e.g. rent, optional
+   * @param desc sort the pages largest value first
+   * @param ifNoneMatch ETag the client already has, optional
+   * @param acceptEncoding encodings the client accepts, optional
+   * @return list of all City abstracts, or one page of them
    */
   @GetMapping(value = "/allid", produces = "application/json")
-  public ResponseEntity<?> listAllCityIds() {
-    List<CityAbstract> myList = cityService.findAllIds();
+  public ResponseEntity<?> listAllCityIds(
+    @RequestParam(required = false) Integer limit,
+    @RequestParam(required = false) String cursor,
+    @RequestParam(required = false) String sort,
+    @RequestParam(defaultValue = "false") boolean desc,
+    @RequestHeader(
+      value = HttpHeaders.IF_NONE_MATCH,
+      required = false
+    ) String ifNoneMatch,
+    @RequestHeader(
+      value = HttpHeaders.ACCEPT_ENCODING,
+      required = false
+    ) String acceptEncoding
+  ) {
+    if (limit != null || cursor != null || sort != null) {
+      return pageCityIds(limit == null ? 50 : limit, cursor, sort, desc);
+    }
 
-    return new ResponseEntity<>(myList, HttpStatus.OK);
+    CityAbstractPayload payload = cityService.findAllIdsPayload();
+    boolean gzip = acceptsGzip(acceptEncoding);
+
+    HttpHeaders responseHeaders = new HttpHeaders();
+    responseHeaders.setETag(payload.getEtag(gzip));
+    responseHeaders.setVary(
+      Collections.singletonList(HttpHeaders.ACCEPT_ENCODING)
+    );
+
+    if (payload.matches(ifNoneMatch, gzip)) {
+      return new ResponseEntity<>(
+        null,
+        responseHeaders,
+        HttpStatus.NOT_MODIFIED
+      );
+    }
+
+    byte[] body = payload.getJson();
+    if (gzip) {
+      body = payload.getGzip();
+      responseHeaders.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+    responseHeaders.setContentLength(body.length);
+
+    return new ResponseEntity<>(body, responseHeaders, HttpStatus.OK);
+  }
+
+  /**
+   * Reads an Accept-Encoding header the way RFC 7231 section 5.3.4 does,
+   * so gzip;q=0 refuses gzip even when * is accepted
+   * @param acceptEncoding header value, may be null
+   * @return true if gzip may be sent
+   */
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) return false;
+    Boolean gzip = null;
+    boolean any = false;
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      String name = parts[0].trim().toLowerCase();
+      double q = 1;
+      for (int i = 1; i < parts.length; i++) {
+        String param = parts[i].trim().toLowerCase();
+        if (param.startsWith("q=")) {
+          try {
+            q = Double.parseDouble(param.substring(2));
+          } catch (NumberFormatException e) {
+            q = 0;
+          }
+        }
+      }
+      if (name.equals("gzip") || name.equals("x-gzip")) {
+        gzip = q > 0;
+      } else if (name.equals("*")) {
+        any = q > 0;
+      }
+    }
+    return gzip != null ? gzip : any;
+  }
+
+  /**
+   * One page of city abstracts, read with a keyset cursor so a deep page
+   * costs as little as the first one
+   * @param limit most cities on the page, at most 500
+   * @param cursor nextCursor of the previous page, null for the first page
+   * @param sort City metric to sort by, null or cityId for city id order
+   * @param desc largest value first
+   * @return the page and the cursor of the next one
+   */
+  private ResponseEntity<?> pageCityIds(
+    int limit,
+    String cursor,
+    String sort,
+    boolean desc
+  ) {
+    if (limit < 1 || limit > 500) {
+      throw new ResourceFoundException("limit must be between 1 and 500");
+    }
+    CityMetric metric = null;
+    if (sort != null && !sort.equalsIgnoreCase("cityId")) {
+      metric = CityMetric.fromAttribute(sort);
+      if (metric == null) {
+        throw new ResourceFoundException("Can not sort by " + sort);
+      }
+    }
+    KeysetPage<CityAbstract> page = cityService.findAllIdsPage(
+      metric,
+      desc,
+      cursor,
+      limit
+    );
+
+    return new ResponseEntity<>(page, HttpStatus.OK);
   }
 
   /**
@@ -74,6 +270,144 @@ public class CityController {
     return new ResponseEntity<>(myList, HttpStatus.OK);
   }
 
+  /**
+   * /near endpoint - returns the cities closest to a point or to a city
+   * Searches around cityId when given, otherwise around lat and lon.
+   * Without k or radiusKm the 10 closest cities are returned.
+   * @param lat latitude of the point in degrees
+   * @param lon longitude of the point in degrees
+   * @param cityId city to search around, the city itself is not returned
+   * @param k maximum number of cities, if 0 there is no maximum
+   * @param radiusKm maximum distance in kilometers
+   * @return city ids with their distance in kilometers, closest first
+   */
+  @GetMapping(value = "/near", produces = "application/json")
+  public ResponseEntity<?> nearCities(
+    @RequestParam(required = false) Double lat,
+    @RequestParam(required = false) Double lon,
+    @RequestParam(required = false) Long cityId,
+    @RequestParam(defaultValue = "0") int k,
+    @RequestParam(required = false) Double radiusKm
+  ) {
+    if (k < 0 || (radiusKm != null && radiusKm <= 0)) {
+      throw new ResourceFoundException("k and radiusKm must be positive");
+    }
+    double radius = radiusKm == null ? 0 : radiusKm;
+    if (k == 0 && radius == 0) {
+      k = 10;
+    }
+
+    List<CityDistance> myList;
+    if (cityId != null) {
+      myList = cityService.findNearCity(cityId, k, radius);
+    } else if (lat != null && lon != null) {
+      myList = cityService.findNear(lat, lon, k, radius);
+    } else {
+      throw new ResourceFoundException("Either cityId or lat and lon needed");
+    }
+
+    return new ResponseEntity<>(myList, HttpStatus.OK);
+  }
+
+  /**
+   * /similar/{cityId} endpoint - returns the cities most like a city
+   * Compares population, density, age, income, home cost, rent, cost of
+   * living, temperature, precipitation and covid cases
+   * @param cityId city to compare against, it is not returned
+   * @param k number of cities to return
+   * @return city ids with their distance, most similar first
+   */
+  @GetMapping(value = "/similar/{cityId}", produces = "application/json")
+  public ResponseEntity<?> similarCities(
+    @PathVariable long cityId,
+    @RequestParam(defaultValue = "10") int k
+  ) {
+    if (k <= 0) {
+      throw new ResourceFoundException("k must be positive");
+    }
+    List<CitySimilarity> myList = cityService.findSimilar(cityId, k);
+
+    return new ResponseEntity<>(myList, HttpStatus.OK);
+  }
+
+  /**
+   * /trending endpoint - returns the cities viewed and favorited most
+   * lately, refreshed every few seconds
+   * @param limit number of cities to return, at most 100
+   * @return city ids with their score, most trending first
+   */
+  @GetMapping(value = "/trending", produces = "application/json")
+  public ResponseEntity<?> trendingCities(
+    @RequestParam(defaultValue = "10") int limit
+  ) {
+    if (limit < 1 || limit > 100) {
+      throw new ResourceFoundException("limit must be between 1 and 100");
+    }
+    List<CityTrend> myList = cityService.findTrending(limit);
+
+    return new ResponseEntity<>(myList, HttpStatus.OK);
+  }
+
+  /**
+   * /facets endpoint - returns a histogram of every metric for the filter
+   * sliders, each counting the cities the user's other ranges let through
+   * @param bins number of bins per metric, at most 100
+   * @return one histogram per metric
+   */
+  @GetMapping(value = "/facets", produces = "application/json")
+  public ResponseEntity<?> cityFacets(
+    @RequestParam(defaultValue = "20") int bins
+  ) {
+    if (bins < 1 || bins > 100) {
+      throw new ResourceFoundException("bins must be between 1 and 100");
+    }
+    List<CityFacet> myList = cityService.findFacets(bins);
+
+    return new ResponseEntity<>(myList, HttpStatus.OK);
+  }
+
+  /**
+   * /matchid endpoint - returns the cities closest to the user's preferences
+   * Unlike /filterid no city is left out for missing a range, cities are
+   * ranked by how far outside the ranges they are
+   * @param k number of cities to return
+   * @param weights optional metric weights, e.g. rent:2,population:0.5
+   * @return city ids with their score, best match first
+   */
+  @GetMapping(value = "/matchid/{k}", produces = "application/json")
+  public ResponseEntity<?> matchCityIds(
+    @PathVariable int k,
+    @RequestParam(required = false) List<String> weights
+  ) {
+    if (k <= 0) {
+      throw new ResourceFoundException("k must be positive");
+    }
+
+    Map<CityMetric, Double> weightMap = new EnumMap<>(CityMetric.class);
+    if (weights != null) {
+      for (String weight : weights) {
+        String[] parts = weight.split(":");
+        CityMetric metric = CityMetric.fromAttribute(parts[0].trim());
+        double value = parts.length == 2 ? parseWeight(parts[1]) : -1;
+        if (metric == null || !(value >= 0)) {
+          throw new ResourceFoundException("Invalid weight " + weight);
+        }
+        weightMap.put(metric, value);
+      }
+    }
+    List<CityMatch> myList = cityService.findBestMatches(k, weightMap);
+
+    return new ResponseEntity<>(myList, HttpStatus.OK);
+  }
+
+  private static double parseWeight(String value) {
+    try {
+      return Double.parseDouble(value.trim());
+    } catch (NumberFormatException e) {
+      return Double.NaN;
+    }
+  }
+
   /**
    * /favorite/{cityId} endpoint
    * this adds city to users favorite cities
@@ -1,6 +1,8 @@
 package com.lambdaschool.foundation.controllers;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.lambdaschool.foundation.exceptions.ResourceFoundException;
+import com.lambdaschool.foundation.models.KeysetPage;
 import com.lambdaschool.foundation.models.User;
 import com.lambdaschool.foundation.models.UserCities;
 import com.lambdaschool.foundation.services.UserService;
@@ -34,11 +36,29 @@ public class UserController {
    * Returns a list of all users
    * <br>Example: <a href="http://localhost:2019/users/users">http://localhost:2019/users/users</a>
    *
-   * @return JSON list of all users with a status of OK
+   * <br>With limit or cursor one page in user id order is returned instead,
+   * e.g. /users/users?limit=50 then /users/users?limit=50&amp;cursor=...
+   *
+   * @param limit most users on a page, at most 500, optional
+   * @param cursor nextCursor of the previous page, optional
+   * @return JSON list of all users, or one page of them, with a status of OK
    * @see UserService#findAll() UserService.findAll()
+   * @see UserService#findPage(String, int) UserService.findPage(String, int)
    */
   @GetMapping(value = "/users", produces = "application/json")
-  public ResponseEntity<?> listAllUsers() {
+  public ResponseEntity<?> listAllUsers(
+    @RequestParam(required = false) Integer limit,
+    @RequestParam(required = false) String cursor
+  ) {
+    if (limit != null || cursor != null) {
+      int size = limit == null ? 50 : limit;
+      if (size < 1 || size > 500) {
+        throw new ResourceFoundException("limit must be between 1 and 500");
+      }
+      KeysetPage<User> page = userService.findPage(cursor, size);
+      return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+
     List<User> myUsers = userService.findAll();
     return new ResponseEntity<>(myUsers, HttpStatus.OK);
   }
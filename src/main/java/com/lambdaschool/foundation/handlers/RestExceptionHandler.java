@@ -123,6 +123,11 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     errorDetail.setDeveloperMessage(ex.getClass().getName());
     errorDetail.setErrors(helperFunctions.getConstraintViolation(ex));
 
+    // server errors are ours, so keep the stack trace in the log
+    if (status.is5xxServerError()) {
+      logger.error(request.getDescription(false), ex);
+    }
+
     return new ResponseEntity<>(errorDetail, null, status);
   }
 
@@ -7,9 +7,24 @@ import java.util.List;
 import java.util.Set;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
-
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * The entity allowing interaction with the cities table.
+ * <p>
+ * The history collections are lazy and batch fetched: initializing one of
+ * them loads the same collection for up to 25 cities in the persistence
+ * context with a single IN query.
+ * <p>
+ * The city, its history collections and their rows are also kept in the
+ * second-level cache, see ehcache.xml, so a repeated detail view does not
+ * reach the database. Writes through Hibernate keep the cache current.
+ */
 @Entity
 @Table(name = "cities")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class City extends Auditable {
 
   /**
@@ -134,36 +149,51 @@ public class City extends Auditable {
    * List of City's zipcodes
    */
   @OneToMany(mappedBy = "city", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 25)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private List<Zipcode> zipcodes = new ArrayList<>();
 
   /**
    * List of historical population data
    */
   @OneToMany(mappedBy = "city", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 25)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private List<PopulationHistory> populationHistory = new ArrayList<>();
 
   /**
    * List of historical income data
    */
   @OneToMany(mappedBy = "city", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 25)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private List<HistoricalIncome> historicalIncome = new ArrayList<>();
 
   /**
    * List of historical housing cost
    */
   @OneToMany(mappedBy = "city", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 25)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private List<HistoricalHomeCost> historicalHomeCost = new ArrayList<>();
 
   /**
-   * List of reported Covid-19 cases
+   * Reported Covid-19 cases, one delta encoded series per city
    */
-  @OneToMany(mappedBy = "city", cascade = CascadeType.ALL, orphanRemoval = true)
-  private List<HistoricalCovid> historicalCovid = new ArrayList<>();
+  @OneToOne(
+    cascade = CascadeType.ALL,
+    fetch = FetchType.LAZY,
+    orphanRemoval = true
+  )
+  @JoinColumn(name = "covid_series_id")
+  private HistoricalCovidSeries historicalCovid;
 
   /**
    * List of historical weather data
    */
   @OneToMany(mappedBy = "city", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 25)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   private List<HistoricalWeather> historicalWeather = new ArrayList<>();
 
   /**
@@ -378,11 +408,11 @@ public class City extends Auditable {
     this.historicalHomeCost = historicalHomeCost;
   }
 
-  public List<HistoricalCovid> getHistoricalCovid() {
+  public HistoricalCovidSeries getHistoricalCovid() {
     return historicalCovid;
   }
 
-  public void setHistoricalCovid(List<HistoricalCovid> covid) {
+  public void setHistoricalCovid(HistoricalCovidSeries covid) {
     this.historicalCovid = covid;
   }
 
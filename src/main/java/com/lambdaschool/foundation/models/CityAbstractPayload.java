@@ -0,0 +1,120 @@
+package com.lambdaschool.foundation.models;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.util.DigestUtils;
+
+/**
+ * The /cities/allid response, already serialized.
+ * Holds the JSON list of CityAbstracts as UTF-8 bytes and as gzip bytes,
+ * plus a strong ETag derived from the content for each of them. This is not
+ * a table.
+ */
+public class CityAbstractPayload {
+
+  /**
+   * Build number of the payload, increases with every city write
+   */
+  private final long version;
+
+  /**
+   * UTF-8 JSON bytes
+   */
+  private final byte[] json;
+
+  /**
+   * gzip compressed JSON bytes
+   */
+  private final byte[] gzip;
+
+  /**
+   * Strong ETag, quoted, of the JSON bytes
+   */
+  private final String etag;
+
+  /**
+   * Strong ETag, quoted, of the gzip bytes. A strong validator has to
+   * differ between content codings, so it is the JSON one plus -gzip
+   */
+  private final String gzipEtag;
+
+  /**
+   * Main constructor
+   * @param version build number of the payload
+   * @param json UTF-8 JSON bytes of the CityAbstract list
+   */
+  public CityAbstractPayload(long version, byte[] json) {
+    this.version = version;
+    this.json = json;
+    this.gzip = compress(json);
+    String md5 = DigestUtils.md5DigestAsHex(json);
+    this.etag = "\"" + md5 + "\"";
+    this.gzipEtag = "\"" + md5 + "-gzip\"";
+  }
+
+  private static byte[] compress(byte[] bytes) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(bytes);
+    } catch (IOException e) {
+      // cannot happen when writing to memory
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Checks an If-None-Match request header against this payload.
+   * If-None-Match uses the weak comparison, so W/ prefixes added by
+   * proxies and browsers are ignored
+   * @param ifNoneMatch header value, may be null
+   * @param gzip the gzip bytes would be sent, otherwise the JSON bytes
+   * @return true if the client already has the bytes that would be sent
+   */
+  public boolean matches(String ifNoneMatch, boolean gzip) {
+    if (ifNoneMatch == null) return false;
+    String current = getEtag(gzip);
+    for (String tag : ifNoneMatch.split(",")) {
+      tag = tag.trim();
+      if (tag.startsWith("W/")) tag = tag.substring(2);
+      if (tag.equals("*") || tag.equals(current)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Getters for CityAbstractPayload fields. The arrays must not be modified.
+   *
+   **************************************************************************/
+
+  public long getVersion() {
+    return version;
+  }
+
+  public byte[] getJson() {
+    return json;
+  }
+
+  public byte[] getGzip() {
+    return gzip;
+  }
+
+  public String getEtag() {
+    return etag;
+  }
+
+  public String getGzipEtag() {
+    return gzipEtag;
+  }
+
+  /**
+   * ETag of the bytes that are sent
+   * @param gzip the gzip bytes are sent, otherwise the JSON bytes
+   * @return the quoted ETag
+   */
+  public String getEtag(boolean gzip) {
+    return gzip ? gzipEtag : etag;
+  }
+}
@@ -0,0 +1,92 @@
+package com.lambdaschool.foundation.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The /cities/compare response, the requested cities with their histories
+ * merged on shared time axes
+ */
+public class CityComparison {
+
+  /**
+   * Cities in the order they were requested
+   */
+  private List<City> cities = new ArrayList<>();
+
+  /**
+   * Population by year, axis labels like 2019
+   */
+  private ComparedSeries population;
+
+  /**
+   * Average home cost by month, axis labels like 2020-01
+   */
+  private ComparedSeries homeCost;
+
+  /**
+   * Covid-19 cases by day, axis labels like 2020-01-22
+   */
+  private ComparedSeries covid;
+
+  /**
+   * Default constructor
+   */
+  public CityComparison() {}
+
+  /**
+   * Main constructor
+   * @param cities cities in the order they were requested
+   * @param population population by year
+   * @param homeCost average home cost by month
+   * @param covid Covid-19 cases by day
+   */
+  public CityComparison(
+    List<City> cities,
+    ComparedSeries population,
+    ComparedSeries homeCost,
+    ComparedSeries covid
+  ) {
+    this.cities = cities;
+    this.population = population;
+    this.homeCost = homeCost;
+    this.covid = covid;
+  }
+
+  /**
+   * Getters and setters for CityComparison fields
+   *
+   **************************************************************************/
+
+  public List<City> getCities() {
+    return cities;
+  }
+
+  public void setCities(List<City> cities) {
+    this.cities = cities;
+  }
+
+  public ComparedSeries getPopulation() {
+    return population;
+  }
+
+  public void setPopulation(ComparedSeries population) {
+    this.population = population;
+  }
+
+  public ComparedSeries getHomeCost() {
+    return homeCost;
+  }
+
+  public void setHomeCost(ComparedSeries homeCost) {
+    this.homeCost = homeCost;
+  }
+
+  public ComparedSeries getCovid() {
+    return covid;
+  }
+
+  public void setCovid(ComparedSeries covid) {
+    this.covid = covid;
+  }
+}
@@ -0,0 +1,70 @@
+package com.lambdaschool.foundation.models;
+
+/**
+ * A city id with its great-circle distance from a search point, returned by
+ * /cities/near
+ */
+public class CityDistance {
+
+  /**
+   * id of the city found
+   */
+  private long cityId;
+
+  /**
+   * Distance from the search point in kilometers
+   */
+  private double distanceKm;
+
+  /**
+   * Default constructor
+   */
+  public CityDistance() {}
+
+  /**
+   * Main constructor
+   * @param cityId id of the city found
+   * @param distanceKm distance from the search point in kilometers
+   */
+  public CityDistance(long cityId, double distanceKm) {
+    this.cityId = cityId;
+    this.distanceKm = distanceKm;
+  }
+
+  /**
+   * Getters and setters for CityDistance fields
+   *
+   **************************************************************************/
+
+  public long getCityId() {
+    return cityId;
+  }
+
+  public void setCityId(long cityId) {
+    this.cityId = cityId;
+  }
+
+  public double getDistanceKm() {
+    return distanceKm;
+  }
+
+  public void setDistanceKm(double distanceKm) {
+    this.distanceKm = distanceKm;
+  }
+
+  /**
+   * Override default toString()
+   * @return String of CityDistance object
+   */
+  @Override
+  public String toString() {
+    return (
+      "CityDistance{" +
+      "cityId=" +
+      cityId +
+      ", distanceKm=" +
+      distanceKm +
+      '}'
+    );
+  }
+}
@@ -0,0 +1,91 @@
+package com.lambdaschool.foundation.models;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of one City metric for the filter sliders, returned by
+ * /cities/facets
+ */
+public class CityFacet {
+
+  /**
+   * Name of the City field, e.g. rent
+   */
+  private String metric;
+
+  /**
+   * Bin edges in ascending order, one more than there are bins
+   */
+  private double[] edges;
+
+  /**
+   * Number of cities per bin. Bin i holds values from edges[i] up to, not
+   * including, edges[i + 1], the last bin includes its upper edge
+   */
+  private int[] counts;
+
+  /**
+   * Default constructor
+   */
+  public CityFacet() {}
+
+  /**
+   * Main constructor
+   * @param metric name of the City field
+   * @param edges bin edges in ascending order
+   * @param counts number of cities per bin
+   */
+  public CityFacet(String metric, double[] edges, int[] counts) {
+    this.metric = metric;
+    this.edges = edges;
+    this.counts = counts;
+  }
+
+  /**
+   * Getters and setters for CityFacet fields
+   *
+   **************************************************************************/
+
+  public String getMetric() {
+    return metric;
+  }
+
+  public void setMetric(String metric) {
+    this.metric = metric;
+  }
+
+  public double[] getEdges() {
+    return edges;
+  }
+
+  public void setEdges(double[] edges) {
+    this.edges = edges;
+  }
+
+  public int[] getCounts() {
+    return counts;
+  }
+
+  public void setCounts(int[] counts) {
+    this.counts = counts;
+  }
+
+  /**
+   * Override default toString()
+   * @return String of CityFacet object
+   */
+  @Override
+  public String toString() {
+    return (
+      "CityFacet{" +
+      "metric='" +
+      metric +
+      '\'' +
+      ", edges=" +
+      Arrays.toString(edges) +
+      ", counts=" +
+      Arrays.toString(counts) +
+      '}'
+    );
+  }
+}
@@ -0,0 +1,161 @@
+package com.lambdaschool.foundation.models;
+
+import java.util.Arrays;
+
+/**
+ * Inclusive min / max ranges over CityMetrics, built from a User's
+ * preferences
+ */
+public class CityFilter {
+
+  /**
+   * Lower bound per metric, indexed by CityMetric ordinal, NaN if not set
+   */
+  private final double[] min = new double[CityMetric.values().length];
+
+  /**
+   * Upper bound per metric, indexed by CityMetric ordinal, NaN if not set
+   */
+  private final double[] max = new double[CityMetric.values().length];
+
+  /**
+   * Default constructor, a filter that matches every city
+   */
+  public CityFilter() {
+    Arrays.fill(min, Double.NaN);
+    Arrays.fill(max, Double.NaN);
+  }
+
+  /**
+   * Builds the filter stored on a user's preferences
+   * @param user user whose preferences are used
+   * @return filter matching the user's preferences
+   */
+  public static CityFilter of(User user) {
+    CityFilter filter = new CityFilter();
+
+    if (user.getMinPopulation() != null) filter.setMin(
+      CityMetric.POPULATION,
+      user.getMinPopulation()
+    );
+    if (user.getMaxPopulation() != null) filter.setMax(
+      CityMetric.POPULATION,
+      user.getMaxPopulation()
+    );
+    if (user.getMinRent() != null) filter.setMin(
+      CityMetric.RENT,
+      user.getMinRent()
+    );
+    if (user.getMaxRent() != null) filter.setMax(
+      CityMetric.RENT,
+      user.getMaxRent()
+    );
+    if (user.getMinHouseCost() != null) filter.setMin(
+      CityMetric.AVERAGE_HOME_COST,
+      user.getMinHouseCost()
+    );
+    if (user.getMaxHouseCost() != null) filter.setMax(
+      CityMetric.AVERAGE_HOME_COST,
+      user.getMaxHouseCost()
+    );
+
+    return filter;
+  }
+
+  /**
+   * Sets the lower bound of a metric
+   * @param metric metric to restrict
+   * @param value inclusive lower bound, NaN to clear
+   * @return this filter
+   */
+  public CityFilter setMin(CityMetric metric, double value) {
+    min[metric.ordinal()] = value;
+    return this;
+  }
+
+  /**
+   * Sets the upper bound of a metric
+   * @param metric metric to restrict
+   * @param value inclusive upper bound, NaN to clear
+   * @return this filter
+   */
+  public CityFilter setMax(CityMetric metric, double value) {
+    max[metric.ordinal()] = value;
+    return this;
+  }
+
+  /**
+   * Lower bound of a metric, -Infinity if not set
+   * @param metric metric to read
+   * @return inclusive lower bound
+   */
+  public double getMin(CityMetric metric) {
+    double value = min[metric.ordinal()];
+    return Double.isNaN(value) ? Double.NEGATIVE_INFINITY : value;
+  }
+
+  /**
+   * Upper bound of a metric, +Infinity if not set
+   * @param metric metric to read
+   * @return inclusive upper bound
+   */
+  public double getMax(CityMetric metric) {
+    double value = max[metric.ordinal()];
+    return Double.isNaN(value) ? Double.POSITIVE_INFINITY : value;
+  }
+
+  /**
+   * Whether a metric has at least one bound set
+   * @param metric metric to check
+   * @return true if the metric restricts the result
+   */
+  public boolean isActive(CityMetric metric) {
+    return (
+      !Double.isNaN(min[metric.ordinal()]) ||
+      !Double.isNaN(max[metric.ordinal()])
+    );
+  }
+
+  /**
+   * Because filters are used as cache keys,
+   * equals and hashcode methods are required
+   * @param o Object being compared
+   * @return return boolean if object matches
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    CityFilter that = (CityFilter) o;
+    return Arrays.equals(min, that.min) && Arrays.equals(max, that.max);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(min) + Arrays.hashCode(max);
+  }
+
+  /**
+   * Override default toString()
+   * @return string of the active ranges
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("CityFilter{");
+    for (CityMetric metric : CityMetric.values()) {
+      if (!isActive(metric)) continue;
+      sb
+        .append(metric.getAttribute())
+        .append("=[")
+        .append(getMin(metric))
+        .append(", ")
+        .append(getMax(metric))
+        .append("] ");
+    }
+    return sb.append('}').toString();
+  }
+}
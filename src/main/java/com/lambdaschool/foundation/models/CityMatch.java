@@ -0,0 +1,64 @@
+package com.lambdaschool.foundation.models;
+
+/**
+ * A city id with how far it is from the user's preferences, returned by
+ * /cities/matchid
+ */
+public class CityMatch {
+
+  /**
+   * id of the city found
+   */
+  private long cityId;
+
+  /**
+   * Weighted distance from the preferences, 0 if the city is inside every
+   * preferred range
+   */
+  private double score;
+
+  /**
+   * Default constructor
+   */
+  public CityMatch() {}
+
+  /**
+   * Main constructor
+   * @param cityId id of the city found
+   * @param score weighted distance from the preferences
+   */
+  public CityMatch(long cityId, double score) {
+    this.cityId = cityId;
+    this.score = score;
+  }
+
+  /**
+   * Getters and setters for CityMatch fields
+   *
+   **************************************************************************/
+
+  public long getCityId() {
+    return cityId;
+  }
+
+  public void setCityId(long cityId) {
+    this.cityId = cityId;
+  }
+
+  public double getScore() {
+    return score;
+  }
+
+  public void setScore(double score) {
+    this.score = score;
+  }
+
+  /**
+   * Override default toString()
+   * @return String of CityMatch object
+   */
+  @Override
+  public String toString() {
+    return "CityMatch{" + "cityId=" + cityId + ", score=" + score + '}';
+  }
+}
@@ -0,0 +1,48 @@
+package com.lambdaschool.foundation.models;
+
+/**
+ * The numeric City fields that can be filtered, ranked and sorted on.
+ * Each constant maps to the matching field of City.
+ */
+public enum CityMetric {
+  POPULATION("population"),
+  POPULATION_DENSITY("populationDensity"),
+  AVERAGE_AGE("averageAge"),
+  HOUSEHOLD_INCOME("householdIncome"),
+  INDIVIDUAL_INCOME("individualIncome"),
+  AVERAGE_HOME_COST("averageHomeCost"),
+  RENT("rent"),
+  COST_OF_LIVING_INDEX("costOfLivingIndex"),
+  AVERAGE_TEMPERATURE("averageTemperature"),
+  AVERAGE_PRECIPITATION("averagePrecipitation"),
+  AVERAGE_NEW_COVID_CASES("averageNewCovidCases");
+
+  /**
+   * Name of the City field holding this metric
+   */
+  private final String attribute;
+
+  CityMetric(String attribute) {
+    this.attribute = attribute;
+  }
+
+  /**
+   * Getter for attribute
+   * @return name of the City field holding this metric
+   */
+  public String getAttribute() {
+    return attribute;
+  }
+
+  /**
+   * Finds the metric for a City field name, ignoring case
+   * @param attribute City field name, e.g. averageHomeCost
+   * @return the matching metric or null if there is none
+   */
+  public static CityMetric fromAttribute(String attribute) {
+    for (CityMetric metric : values()) {
+      if (metric.attribute.equalsIgnoreCase(attribute)) return metric;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,92 @@
+package com.lambdaschool.foundation.models;
+
+import java.util.Arrays;
+
+/**
+ * Weighted ranges, built from a User's preferences, used to rank cities by
+ * how far outside the ranges they are
+ */
+public class CityPreference {
+
+  /**
+   * Preferred ranges, a metric without a range is not scored
+   */
+  private final CityFilter ranges;
+
+  /**
+   * Weight per metric, indexed by CityMetric ordinal. A city outside a
+   * range is penalized by how far outside it is times the weight, a city
+   * inside every range scores 0
+   */
+  private final double[] weight = new double[CityMetric.values().length];
+
+  /**
+   * Main constructor, every metric weighs 1
+   * @param ranges preferred ranges
+   */
+  public CityPreference(CityFilter ranges) {
+    this.ranges = ranges;
+    Arrays.fill(weight, 1);
+  }
+
+  /**
+   * Builds the preferences stored on a user.
+   * The filter ranges are used as they are, and costOfLiving, which the
+   * filter ignores, is the preferred cost of living index.
+   * @param user user whose preferences are used
+   * @return preferences of the user
+   */
+  public static CityPreference of(User user) {
+    CityFilter ranges = CityFilter.of(user);
+    if (user.getCostOfLiving() != null) {
+      ranges
+        .setMin(CityMetric.COST_OF_LIVING_INDEX, user.getCostOfLiving())
+        .setMax(CityMetric.COST_OF_LIVING_INDEX, user.getCostOfLiving());
+    }
+    return new CityPreference(ranges);
+  }
+
+  /**
+   * Getter for ranges
+   * @return preferred ranges
+   */
+  public CityFilter getRanges() {
+    return ranges;
+  }
+
+  /**
+   * Weight of a metric
+   * @param metric metric to read
+   * @return weight, 1 unless set
+   */
+  public double getWeight(CityMetric metric) {
+    return weight[metric.ordinal()];
+  }
+
+  /**
+   * Sets the weight of a metric, 0 leaves the metric out of the score
+   * @param metric metric to weigh
+   * @param value weight, not negative
+   * @return these preferences
+   */
+  public CityPreference setWeight(CityMetric metric, double value) {
+    weight[metric.ordinal()] = value;
+    return this;
+  }
+
+  /**
+   * Override default toString()
+   * @return string of the ranges and weights
+   */
+  @Override
+  public String toString() {
+    return (
+      "CityPreference{" +
+      "ranges=" +
+      ranges +
+      ", weight=" +
+      Arrays.toString(weight) +
+      '}'
+    );
+  }
+}
@@ -0,0 +1,65 @@
+package com.lambdaschool.foundation.models;
+
+/**
+ * A city id with its distance from another city over the normalized city
+ * metrics, returned by /cities/similar
+ */
+public class CitySimilarity {
+
+  /**
+   * id of the city found
+   */
+  private long cityId;
+
+  /**
+   * Euclidean distance of the normalized metrics, 0 for identical cities
+   */
+  private double distance;
+
+  /**
+   * Default constructor
+   */
+  public CitySimilarity() {}
+
+  /**
+   * Main constructor
+   * @param cityId id of the city found
+   * @param distance distance of the normalized metrics
+   */
+  public CitySimilarity(long cityId, double distance) {
+    this.cityId = cityId;
+    this.distance = distance;
+  }
+
+  /**
+   * Getters and setters for CitySimilarity fields
+   *
+   **************************************************************************/
+
+  public long getCityId() {
+    return cityId;
+  }
+
+  public void setCityId(long cityId) {
+    this.cityId = cityId;
+  }
+
+  public double getDistance() {
+    return distance;
+  }
+
+  public void setDistance(double distance) {
+    this.distance = distance;
+  }
+
+  /**
+   * Override default toString()
+   * @return String of CitySimilarity object
+   */
+  @Override
+  public String toString() {
+    return (
+      "CitySimilarity{" + "cityId=" + cityId + ", distance=" + distance + '}'
+    );
+  }
+}
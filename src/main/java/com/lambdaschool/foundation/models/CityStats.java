@@ -0,0 +1,82 @@
+package com.lambdaschool.foundation.models;
+
+import java.util.Date;
+import javax.persistence.*;
+
+/**
+ * Running totals of how often a city was viewed and added to favorites.
+ * <p>
+ * Rows are only written by CityStatsWriter, which adds the counts
+ * collected in memory by CityPopularity, so the entity exists to keep the
+ * table in the schema. There is no foreign key to cities, totals of a
+ * deleted city are simply left behind.
+ */
+@Entity
+@Table(name = "city_stats")
+public class CityStats {
+
+  /**
+   * id of the city counted
+   */
+  @Id
+  @Column(name = "city_id")
+  private long cityId;
+
+  /**
+   * Times /cities/city/{id} returned the city
+   */
+  private long views;
+
+  /**
+   * Times the city was added to a user's favorites, less the times it was
+   * removed
+   */
+  private long favorites;
+
+  /**
+   * When counts were last added
+   */
+  @Temporal(TemporalType.TIMESTAMP)
+  private Date lastUpdated;
+
+  /**
+   * Default constructor
+   */
+  public CityStats() {}
+
+  /**
+   * Getters and setters for CityStats fields
+   *
+   **************************************************************************/
+  public long getCityId() {
+    return cityId;
+  }
+
+  public void setCityId(long cityId) {
+    this.cityId = cityId;
+  }
+
+  public long getViews() {
+    return views;
+  }
+
+  public void setViews(long views) {
+    this.views = views;
+  }
+
+  public long getFavorites() {
+    return favorites;
+  }
+
+  public void setFavorites(long favorites) {
+    this.favorites = favorites;
+  }
+
+  public Date getLastUpdated() {
+    return lastUpdated;
+  }
+
+  public void setLastUpdated(Date lastUpdated) {
+    this.lastUpdated = lastUpdated;
+  }
+}
@@ -0,0 +1,61 @@
+package com.lambdaschool.foundation.models;
+
+/**
+ * A city id with its trending score, returned by /cities/trending
+ */
+public class CityTrend {
+
+  /**
+   * id of the city
+   */
+  private long cityId;
+
+  /**
+   * Recent views plus weighted favorites, halved every half-life
+   */
+  private double score;
+
+  /**
+   * Default constructor
+   */
+  public CityTrend() {}
+
+  /**
+   * Main constructor
+   * @param cityId id of the city
+   * @param score decayed popularity score
+   */
+  public CityTrend(long cityId, double score) {
+    this.cityId = cityId;
+    this.score = score;
+  }
+
+  /**
+   * Getters and setters for CityTrend fields
+   *
+   **************************************************************************/
+  public long getCityId() {
+    return cityId;
+  }
+
+  public void setCityId(long cityId) {
+    this.cityId = cityId;
+  }
+
+  public double getScore() {
+    return score;
+  }
+
+  public void setScore(double score) {
+    this.score = score;
+  }
+
+  /**
+   * Override default toString()
+   * @return String of CityTrend object
+   */
+  @Override
+  public String toString() {
+    return "CityTrend{" + "cityId=" + cityId + ", score=" + score + '}';
+  }
+}
@@ -0,0 +1,122 @@
+package com.lambdaschool.foundation.models;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+/**
+ * One history of several cities laid out on a shared time axis, part of
+ * the /cities/compare response
+ */
+public class ComparedSeries {
+
+  /**
+   * Labels of the merged time axis in ascending order, e.g. 2020-01
+   */
+  private List<String> axis;
+
+  /**
+   * Values per city id, aligned with axis, in the order the cities were
+   * requested. null where the city has no entry
+   */
+  private Map<Long, List<Number>> values;
+
+  /**
+   * Default constructor
+   */
+  public ComparedSeries() {}
+
+  /**
+   * Main constructor
+   * @param axis labels of the time axis
+   * @param values values per city id, aligned with axis
+   */
+  public ComparedSeries(List<String> axis, Map<Long, List<Number>> values) {
+    this.axis = axis;
+    this.values = values;
+  }
+
+  /**
+   * Merges the histories of several cities on the union of their keys
+   * @param cityIds city ids, in the order they are returned
+   * @param series history of each city by sortable key, e.g. an epoch day
+   * @param label turns a key into its axis label
+   * @return the histories on one axis
+   */
+  public static ComparedSeries align(
+    List<Long> cityIds,
+    List<SortedMap<Integer, ? extends Number>> series,
+    IntFunction<String> label
+  ) {
+    TreeMap<Integer, Number[]> rows = new TreeMap<>();
+    for (int c = 0; c < series.size(); c++) {
+      SortedMap<Integer, ? extends Number> history = series.get(c);
+      for (Map.Entry<Integer, ? extends Number> entry : history.entrySet()) {
+        Number[] row = rows.computeIfAbsent(
+          entry.getKey(),
+          key -> new Number[series.size()]
+        );
+        row[c] = entry.getValue();
+      }
+    }
+
+    List<String> axis = new ArrayList<>(rows.size());
+    List<List<Number>> columns = new ArrayList<>(series.size());
+    for (int c = 0; c < series.size(); c++) {
+      columns.add(new ArrayList<>(rows.size()));
+    }
+    for (Map.Entry<Integer, Number[]> row : rows.entrySet()) {
+      axis.add(label.apply(row.getKey()));
+      for (int c = 0; c < series.size(); c++) {
+        columns.get(c).add(row.getValue()[c]);
+      }
+    }
+
+    Map<Long, List<Number>> values = new LinkedHashMap<>();
+    for (int c = 0; c < series.size(); c++) {
+      values.put(cityIds.get(c), columns.get(c));
+    }
+    return new ComparedSeries(axis, values);
+  }
+
+  /**
+   * Getters and setters for ComparedSeries fields
+   *
+   **************************************************************************/
+
+  public List<String> getAxis() {
+    return axis;
+  }
+
+  public void setAxis(List<String> axis) {
+    this.axis = axis;
+  }
+
+  public Map<Long, List<Number>> getValues() {
+    return values;
+  }
+
+  public void setValues(Map<Long, List<Number>> values) {
+    this.values = values;
+  }
+
+  /**
+   * Override default toString()
+   * @return String of ComparedSeries object
+   */
+  @Override
+  public String toString() {
+    return (
+      "ComparedSeries{" +
+      "axis=" +
+      axis +
+      ", values=" +
+      values +
+      '}'
+    );
+  }
+}
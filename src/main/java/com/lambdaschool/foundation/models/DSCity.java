@@ -12,6 +12,8 @@ public class DSCity {
    * Model for data coming in from DS API
    * Needed to decode the JSON String before City is
    * saved to DB. This does not become a table.
+   * Read by DSCityParser, which fills the historical
+   * series straight from the JSON tokens.
    */
 
   /**
@@ -92,10 +94,9 @@ public class DSCity {
   private Double density_km_sq;
 
   /**
-   * City's historical average population
+   * City's historical population, keyed by year
    */
-  @JsonProperty("pop_hist")
-  private DSHistoricalPop pop_hist;
+  private DSSeries pop_hist = new DSSeries();
 
   /**
    * City's average age
@@ -113,9 +114,14 @@ public class DSCity {
   private Double individual;
 
   /**
-   * City's historical average income
+   * City's historical median household income, keyed by year
    */
-  private DSHistoricalIncome income_hist;
+  private DSSeries household_hist = new DSSeries();
+
+  /**
+   * City's historical median individual income, keyed by year
+   */
+  private DSSeries individual_hist = new DSSeries();
 
   /**
    * City's average house cost
@@ -123,9 +129,9 @@ public class DSCity {
   private Double house;
 
   /**
-   * City's historical average home cost
+   * City's historical average home cost, keyed by epoch day
    */
-  private DSHistoricalHousing home_hist;
+  private DSSeries home_hist = new DSSeries();
 
   /**
    * City's average rent
@@ -145,15 +151,19 @@ public class DSCity {
   private String ACA_status;
 
   /**
-   * City's historical weather
+   * City's average monthly precipitation, keyed by month 1 - 12
    */
-  //    @JsonProperty("weather_hist")
-  private DSHistoricalWeather weather_hist;
+  private DSSeries precip_hist = new DSSeries();
 
   /**
-   * City's Covid-19 cases
+   * City's average monthly temperature, keyed by month 1 - 12
    */
-  private DSHistoricalCovid jhcovid;
+  private DSSeries temp_hist = new DSSeries();
+
+  /**
+   * City's Covid-19 cases, keyed by epoch day
+   */
+  private DSSeries jhcovid = new DSSeries();
 
   /**
    * Default constructor
@@ -285,11 +295,11 @@ public class DSCity {
     this.density_km_sq = density_km_sq;
   }
 
-  public DSHistoricalPop getPop_hist() {
+  public DSSeries getPop_hist() {
     return pop_hist;
   }
 
-  public void setPop_hist(DSHistoricalPop pop_hist) {
+  public void setPop_hist(DSSeries pop_hist) {
     this.pop_hist = pop_hist;
   }
 
@@ -317,12 +327,20 @@ public class DSCity {
     this.individual = individual;
   }
 
-  public DSHistoricalIncome getIncome_hist() {
-    return income_hist;
+  public DSSeries getHousehold_hist() {
+    return household_hist;
+  }
+
+  public void setHousehold_hist(DSSeries household_hist) {
+    this.household_hist = household_hist;
   }
 
-  public void setIncome_hist(DSHistoricalIncome income_hist) {
-    this.income_hist = income_hist;
+  public DSSeries getIndividual_hist() {
+    return individual_hist;
+  }
+
+  public void setIndividual_hist(DSSeries individual_hist) {
+    this.individual_hist = individual_hist;
   }
 
   public Double getHouse() {
@@ -333,11 +351,11 @@ public class DSCity {
     this.house = house;
   }
 
-  public DSHistoricalHousing getHome_hist() {
+  public DSSeries getHome_hist() {
     return home_hist;
   }
 
-  public void setHome_hist(DSHistoricalHousing home_hist) {
+  public void setHome_hist(DSSeries home_hist) {
     this.home_hist = home_hist;
   }
 
@@ -365,19 +383,27 @@ public class DSCity {
     this.ACA_status = ACA_status;
   }
 
-  public DSHistoricalWeather getWeather_hist() {
-    return weather_hist;
+  public DSSeries getPrecip_hist() {
+    return precip_hist;
+  }
+
+  public void setPrecip_hist(DSSeries precip_hist) {
+    this.precip_hist = precip_hist;
+  }
+
+  public DSSeries getTemp_hist() {
+    return temp_hist;
   }
 
-  public void setWeather_hist(DSHistoricalWeather weather_hist) {
-    this.weather_hist = weather_hist;
+  public void setTemp_hist(DSSeries temp_hist) {
+    this.temp_hist = temp_hist;
   }
 
-  public DSHistoricalCovid getJhcovid() {
+  public DSSeries getJhcovid() {
     return jhcovid;
   }
 
-  public void setJhcovid(DSHistoricalCovid jhcovid) {
+  public void setJhcovid(DSSeries jhcovid) {
     this.jhcovid = jhcovid;
   }
 
@@ -438,8 +464,11 @@ public class DSCity {
       household +
       ", individual=" +
       individual +
-      ", income_hist='" +
-      income_hist +
+      ", household_hist='" +
+      household_hist +
+      '\'' +
+      ", individual_hist='" +
+      individual_hist +
       '\'' +
       ", house=" +
       house +
@@ -453,8 +482,14 @@ public class DSCity {
       ", ACA_status='" +
       ACA_status +
       '\'' +
-      ", weather_hist='" +
-      weather_hist +
+      ", precip_hist='" +
+      precip_hist +
+      '\'' +
+      ", temp_hist='" +
+      temp_hist +
+      '\'' +
+      ", jhcovid='" +
+      jhcovid +
       '\'' +
       '}'
     );
@@ -1,3479 +0,0 @@
-package com.lambdaschool.foundation.models;
-
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
-
-@JsonIgnoreProperties(ignoreUnknown = true)
-public class DSHistoricalCovid {
-
-  /**
-   * This model is used to parse the historical
-   * data coming in from the DS API
-   */
-
-  @JsonProperty("2020_01_22")
-  private float s2020_01_22;
-
-  @JsonProperty("2020_01_23")
-  private float s2020_01_23;
-
-  @JsonProperty("2020_01_24")
-  private float s2020_01_24;
-
-  @JsonProperty("2020_01_25")
-  private float s2020_01_25;
-
-  @JsonProperty("2020_01_26")
-  private float s2020_01_26;
-
-  @JsonProperty("2020_01_27")
-  private float s2020_01_27;
-
-  @JsonProperty("2020_01_28")
-  private float s2020_01_28;
-
-  @JsonProperty("2020_01_29")
-  private float s2020_01_29;
-
-  @JsonProperty("2020_01_30")
-  private float s2020_01_30;
-
-  @JsonProperty("2020_01_31")
-  private float s2020_01_31;
-
-  @JsonProperty("2020_02_01")
-  private float s2020_02_01;
-
-  @JsonProperty("2020_02_02")
-  private float s2020_02_02;
-
-  @JsonProperty("2020_02_03")
-  private float s2020_02_03;
-
-  @JsonProperty("2020_02_04")
-  private float s2020_02_04;
-
-  @JsonProperty("2020_02_05")
-  private float s2020_02_05;
-
-  @JsonProperty("2020_02_06")
-  private float s2020_02_06;
-
-  @JsonProperty("2020_02_07")
-  private float s2020_02_07;
-
-  @JsonProperty("2020_02_08")
-  private float s2020_02_08;
-
-  @JsonProperty("2020_02_09")
-  private float s2020_02_09;
-
-  @JsonProperty("2020_02_10")
-  private float s2020_02_10;
-
-  @JsonProperty("2020_02_11")
-  private float s2020_02_11;
-
-  @JsonProperty("2020_02_12")
-  private float s2020_02_12;
-
-  @JsonProperty("2020_02_13")
-  private float s2020_02_13;
-
-  @JsonProperty("2020_02_14")
-  private float s2020_02_14;
-
-  @JsonProperty("2020_02_15")
-  private float s2020_02_15;
-
-  @JsonProperty("2020_02_16")
-  private float s2020_02_16;
-
-  @JsonProperty("2020_02_17")
-  private float s2020_02_17;
-
-  @JsonProperty("2020_02_18")
-  private float s2020_02_18;
-
-  @JsonProperty("2020_02_19")
-  private float s2020_02_19;
-
-  @JsonProperty("2020_02_20")
-  private float s2020_02_20;
-
-  @JsonProperty("2020_02_21")
-  private float s2020_02_21;
-
-  @JsonProperty("2020_02_22")
-  private float s2020_02_22;
-
-  @JsonProperty("2020_02_23")
-  private float s2020_02_23;
-
-  @JsonProperty("2020_02_24")
-  private float s2020_02_24;
-
-  @JsonProperty("2020_02_25")
-  private float s2020_02_25;
-
-  @JsonProperty("2020_02_26")
-  private float s2020_02_26;
-
-  @JsonProperty("2020_02_27")
-  private float s2020_02_27;
-
-  @JsonProperty("2020_02_28")
-  private float s2020_02_28;
-
-  @JsonProperty("2020_02_29")
-  private float s2020_02_29;
-
-  @JsonProperty("2020_03_01")
-  private float s2020_03_01;
-
-  @JsonProperty("2020_03_02")
-  private float s2020_03_02;
-
-  @JsonProperty("2020_03_03")
-  private float s2020_03_03;
-
-  @JsonProperty("2020_03_04")
-  private float s2020_03_04;
-
-  @JsonProperty("2020_03_05")
-  private float s2020_03_05;
-
-  @JsonProperty("2020_03_06")
-  private float s2020_03_06;
-
-  @JsonProperty("2020_03_07")
-  private float s2020_03_07;
-
-  @JsonProperty("2020_03_08")
-  private float s2020_03_08;
-
-  @JsonProperty("2020_03_09")
-  private float s2020_03_09;
-
-  @JsonProperty("2020_03_10")
-  private float s2020_03_10;
-
-  @JsonProperty("2020_03_11")
-  private float s2020_03_11;
-
-  @JsonProperty("2020_03_12")
-  private float s2020_03_12;
-
-  @JsonProperty("2020_03_13")
-  private float s2020_03_13;
-
-  @JsonProperty("2020_03_14")
-  private float s2020_03_14;
-
-  @JsonProperty("2020_03_15")
-  private float s2020_03_15;
-
-  @JsonProperty("2020_03_16")
-  private float s2020_03_16;
-
-  @JsonProperty("2020_03_17")
-  private float s2020_03_17;
-
-  @JsonProperty("2020_03_18")
-  private float s2020_03_18;
-
-  @JsonProperty("2020_03_19")
-  private float s2020_03_19;
-
-  @JsonProperty("2020_03_20")
-  private float s2020_03_20;
-
-  @JsonProperty("2020_03_21")
-  private float s2020_03_21;
-
-  @JsonProperty("2020_03_22")
-  private float s2020_03_22;
-
-  @JsonProperty("2020_03_23")
-  private float s2020_03_23;
-
-  @JsonProperty("2020_03_24")
-  private float s2020_03_24;
-
-  @JsonProperty("2020_03_25")
-  private float s2020_03_25;
-
-  @JsonProperty("2020_03_26")
-  private float s2020_03_26;
-
-  @JsonProperty("2020_03_27")
-  private float s2020_03_27;
-
-  @JsonProperty("2020_03_28")
-  private float s2020_03_28;
-
-  @JsonProperty("2020_03_29")
-  private float s2020_03_29;
-
-  @JsonProperty("2020_03_30")
-  private float s2020_03_30;
-
-  @JsonProperty("2020_03_31")
-  private float s2020_03_31;
-
-  @JsonProperty("2020_04_01")
-  private float s2020_04_01;
-
-  @JsonProperty("2020_04_02")
-  private float s2020_04_02;
-
-  @JsonProperty("2020_04_03")
-  private float s2020_04_03;
-
-  @JsonProperty("2020_04_04")
-  private float s2020_04_04;
-
-  @JsonProperty("2020_04_05")
-  private float s2020_04_05;
-
-  @JsonProperty("2020_04_06")
-  private float s2020_04_06;
-
-  @JsonProperty("2020_04_07")
-  private float s2020_04_07;
-
-  @JsonProperty("2020_04_08")
-  private float s2020_04_08;
-
-  @JsonProperty("2020_04_09")
-  private float s2020_04_09;
-
-  @JsonProperty("2020_04_10")
-  private float s2020_04_10;
-
-  @JsonProperty("2020_04_11")
-  private float s2020_04_11;
-
-  @JsonProperty("2020_04_12")
-  private float s2020_04_12;
-
-  @JsonProperty("2020_04_13")
-  private float s2020_04_13;
-
-  @JsonProperty("2020_04_14")
-  private float s2020_04_14;
-
-  @JsonProperty("2020_04_15")
-  private float s2020_04_15;
-
-  @JsonProperty("2020_04_16")
-  private float s2020_04_16;
-
-  @JsonProperty("2020_04_17")
-  private float s2020_04_17;
-
-  @JsonProperty("2020_04_18")
-  private float s2020_04_18;
-
-  @JsonProperty("2020_04_19")
-  private float s2020_04_19;
-
-  @JsonProperty("2020_04_20")
-  private float s2020_04_20;
-
-  @JsonProperty("2020_04_21")
-  private float s2020_04_21;
-
-  @JsonProperty("2020_04_22")
-  private float s2020_04_22;
-
-  @JsonProperty("2020_04_23")
-  private float s2020_04_23;
-
-  @JsonProperty("2020_04_24")
-  private float s2020_04_24;
-
-  @JsonProperty("2020_04_25")
-  private float s2020_04_25;
-
-  @JsonProperty("2020_04_26")
-  private float s2020_04_26;
-
-  @JsonProperty("2020_04_27")
-  private float s2020_04_27;
-
-  @JsonProperty("2020_04_28")
-  private float s2020_04_28;
-
-  @JsonProperty("2020_04_29")
-  private float s2020_04_29;
-
-  @JsonProperty("2020_04_30")
-  private float s2020_04_30;
-
-  @JsonProperty("2020_05_01")
-  private float s2020_05_01;
-
-  @JsonProperty("2020_05_02")
-  private float s2020_05_02;
-
-  @JsonProperty("2020_05_03")
-  private float s2020_05_03;
-
-  @JsonProperty("2020_05_04")
-  private float s2020_05_04;
-
-  @JsonProperty("2020_05_05")
-  private float s2020_05_05;
-
-  @JsonProperty("2020_05_06")
-  private float s2020_05_06;
-
-  @JsonProperty("2020_05_07")
-  private float s2020_05_07;
-
-  @JsonProperty("2020_05_08")
-  private float s2020_05_08;
-
-  @JsonProperty("2020_05_09")
-  private float s2020_05_09;
-
-  @JsonProperty("2020_05_10")
-  private float s2020_05_10;
-
-  @JsonProperty("2020_05_11")
-  private float s2020_05_11;
-
-  @JsonProperty("2020_05_12")
-  private float s2020_05_12;
-
-  @JsonProperty("2020_05_13")
-  private float s2020_05_13;
-
-  @JsonProperty("2020_05_14")
-  private float s2020_05_14;
-
-  @JsonProperty("2020_05_15")
-  private float s2020_05_15;
-
-  @JsonProperty("2020_05_16")
-  private float s2020_05_16;
-
-  @JsonProperty("2020_05_17")
-  private float s2020_05_17;
-
-  @JsonProperty("2020_05_18")
-  private float s2020_05_18;
-
-  @JsonProperty("2020_05_19")
-  private float s2020_05_19;
-
-  @JsonProperty("2020_05_20")
-  private float s2020_05_20;
-
-  @JsonProperty("2020_05_21")
-  private float s2020_05_21;
-
-  @JsonProperty("2020_05_22")
-  private float s2020_05_22;
-
-  @JsonProperty("2020_05_23")
-  private float s2020_05_23;
-
-  @JsonProperty("2020_05_24")
-  private float s2020_05_24;
-
-  @JsonProperty("2020_05_25")
-  private float s2020_05_25;
-
-  @JsonProperty("2020_05_26")
-  private float s2020_05_26;
-
-  @JsonProperty("2020_05_27")
-  private float s2020_05_27;
-
-  @JsonProperty("2020_05_28")
-  private float s2020_05_28;
-
-  @JsonProperty("2020_05_29")
-  private float s2020_05_29;
-
-  @JsonProperty("2020_05_30")
-  private float s2020_05_30;
-
-  @JsonProperty("2020_05_31")
-  private float s2020_05_31;
-
-  @JsonProperty("2020_06_01")
-  private float s2020_06_01;
-
-  @JsonProperty("2020_06_02")
-  private float s2020_06_02;
-
-  @JsonProperty("2020_06_03")
-  private float s2020_06_03;
-
-  @JsonProperty("2020_06_04")
-  private float s2020_06_04;
-
-  @JsonProperty("2020_06_05")
-  private float s2020_06_05;
-
-  @JsonProperty("2020_06_06")
-  private float s2020_06_06;
-
-  @JsonProperty("2020_06_07")
-  private float s2020_06_07;
-
-  @JsonProperty("2020_06_08")
-  private float s2020_06_08;
-
-  @JsonProperty("2020_06_09")
-  private float s2020_06_09;
-
-  @JsonProperty("2020_06_10")
-  private float s2020_06_10;
-
-  @JsonProperty("2020_06_11")
-  private float s2020_06_11;
-
-  @JsonProperty("2020_06_12")
-  private float s2020_06_12;
-
-  @JsonProperty("2020_06_13")
-  private float s2020_06_13;
-
-  @JsonProperty("2020_06_14")
-  private float s2020_06_14;
-
-  @JsonProperty("2020_06_15")
-  private float s2020_06_15;
-
-  @JsonProperty("2020_06_16")
-  private float s2020_06_16;
-
-  @JsonProperty("2020_06_17")
-  private float s2020_06_17;
-
-  @JsonProperty("2020_06_18")
-  private float s2020_06_18;
-
-  @JsonProperty("2020_06_19")
-  private float s2020_06_19;
-
-  @JsonProperty("2020_06_20")
-  private float s2020_06_20;
-
-  @JsonProperty("2020_06_21")
-  private float s2020_06_21;
-
-  @JsonProperty("2020_06_22")
-  private float s2020_06_22;
-
-  @JsonProperty("2020_06_23")
-  private float s2020_06_23;
-
-  @JsonProperty("2020_06_24")
-  private float s2020_06_24;
-
-  @JsonProperty("2020_06_25")
-  private float s2020_06_25;
-
-  @JsonProperty("2020_06_26")
-  private float s2020_06_26;
-
-  @JsonProperty("2020_06_27")
-  private float s2020_06_27;
-
-  @JsonProperty("2020_06_28")
-  private float s2020_06_28;
-
-  @JsonProperty("2020_06_29")
-  private float s2020_06_29;
-
-  @JsonProperty("2020_06_30")
-  private float s2020_06_30;
-
-  @JsonProperty("2020_07_01")
-  private float s2020_07_01;
-
-  @JsonProperty("2020_07_02")
-  private float s2020_07_02;
-
-  @JsonProperty("2020_07_03")
-  private float s2020_07_03;
-
-  @JsonProperty("2020_07_04")
-  private float s2020_07_04;
-
-  @JsonProperty("2020_07_05")
-  private float s2020_07_05;
-
-  @JsonProperty("2020_07_06")
-  private float s2020_07_06;
-
-  @JsonProperty("2020_07_07")
-  private float s2020_07_07;
-
-  @JsonProperty("2020_07_08")
-  private float s2020_07_08;
-
-  @JsonProperty("2020_07_09")
-  private float s2020_07_09;
-
-  @JsonProperty("2020_07_10")
-  private float s2020_07_10;
-
-  @JsonProperty("2020_07_11")
-  private float s2020_07_11;
-
-  @JsonProperty("2020_07_12")
-  private float s2020_07_12;
-
-  @JsonProperty("2020_07_13")
-  private float s2020_07_13;
-
-  @JsonProperty("2020_07_14")
-  private float s2020_07_14;
-
-  @JsonProperty("2020_07_15")
-  private float s2020_07_15;
-
-  @JsonProperty("2020_07_16")
-  private float s2020_07_16;
-
-  @JsonProperty("2020_07_17")
-  private float s2020_07_17;
-
-  @JsonProperty("2020_07_18")
-  private float s2020_07_18;
-
-  @JsonProperty("2020_07_19")
-  private float s2020_07_19;
-
-  @JsonProperty("2020_07_20")
-  private float s2020_07_20;
-
-  @JsonProperty("2020_07_21")
-  private float s2020_07_21;
-
-  @JsonProperty("2020_07_22")
-  private float s2020_07_22;
-
-  @JsonProperty("2020_07_23")
-  private float s2020_07_23;
-
-  @JsonProperty("2020_07_24")
-  private float s2020_07_24;
-
-  @JsonProperty("2020_07_25")
-  private float s2020_07_25;
-
-  @JsonProperty("2020_07_26")
-  private float s2020_07_26;
-
-  @JsonProperty("2020_07_27")
-  private float s2020_07_27;
-
-  @JsonProperty("2020_07_28")
-  private float s2020_07_28;
-
-  @JsonProperty("2020_07_29")
-  private float s2020_07_29;
-
-  @JsonProperty("2020_07_30")
-  private float s2020_07_30;
-
-  @JsonProperty("2020_07_31")
-  private float s2020_07_31;
-
-  @JsonProperty("2020_08_01")
-  private float s2020_08_01;
-
-  @JsonProperty("2020_08_02")
-  private float s2020_08_02;
-
-  @JsonProperty("2020_08_03")
-  private float s2020_08_03;
-
-  @JsonProperty("2020_08_04")
-  private float s2020_08_04;
-
-  @JsonProperty("2020_08_05")
-  private float s2020_08_05;
-
-  @JsonProperty("2020_08_06")
-  private float s2020_08_06;
-
-  @JsonProperty("2020_08_07")
-  private float s2020_08_07;
-
-  @JsonProperty("2020_08_08")
-  private float s2020_08_08;
-
-  @JsonProperty("2020_08_09")
-  private float s2020_08_09;
-
-  @JsonProperty("2020_08_10")
-  private float s2020_08_10;
-
-  @JsonProperty("2020_08_11")
-  private float s2020_08_11;
-
-  @JsonProperty("2020_08_12")
-  private float s2020_08_12;
-
-  @JsonProperty("2020_08_13")
-  private float s2020_08_13;
-
-  @JsonProperty("2020_08_14")
-  private float s2020_08_14;
-
-  @JsonProperty("2020_08_15")
-  private float s2020_08_15;
-
-  @JsonProperty("2020_08_16")
-  private float s2020_08_16;
-
-  @JsonProperty("2020_08_17")
-  private float s2020_08_17;
-
-  @JsonProperty("2020_08_18")
-  private float s2020_08_18;
-
-  @JsonProperty("2020_08_19")
-  private float s2020_08_19;
-
-  @JsonProperty("2020_08_20")
-  private float s2020_08_20;
-
-  @JsonProperty("2020_08_21")
-  private float s2020_08_21;
-
-  @JsonProperty("2020_08_22")
-  private float s2020_08_22;
-
-  @JsonProperty("2020_08_23")
-  private float s2020_08_23;
-
-  @JsonProperty("2020_08_24")
-  private float s2020_08_24;
-
-  @JsonProperty("2020_08_25")
-  private float s2020_08_25;
-
-  @JsonProperty("2020_08_26")
-  private float s2020_08_26;
-
-  @JsonProperty("2020_08_27")
-  private float s2020_08_27;
-
-  @JsonProperty("2020_08_28")
-  private float s2020_08_28;
-
-  @JsonProperty("2020_08_29")
-  private float s2020_08_29;
-
-  @JsonProperty("2020_08_30")
-  private float s2020_08_30;
-
-  @JsonProperty("2020_08_31")
-  private float s2020_08_31;
-
-  @JsonProperty("2020_09_01")
-  private float s2020_09_01;
-
-  @JsonProperty("2020_09_02")
-  private float s2020_09_02;
-
-  @JsonProperty("2020_09_03")
-  private float s2020_09_03;
-
-  @JsonProperty("2020_09_04")
-  private float s2020_09_04;
-
-  @JsonProperty("2020_09_05")
-  private float s2020_09_05;
-
-  @JsonProperty("2020_09_06")
-  private float s2020_09_06;
-
-  @JsonProperty("2020_09_07")
-  private float s2020_09_07;
-
-  @JsonProperty("2020_09_08")
-  private float s2020_09_08;
-
-  @JsonProperty("2020_09_09")
-  private float s2020_09_09;
-
-  @JsonProperty("2020_09_10")
-  private float s2020_09_10;
-
-  @JsonProperty("2020_09_11")
-  private float s2020_09_11;
-
-  @JsonProperty("2020_09_12")
-  private float s2020_09_12;
-
-  @JsonProperty("2020_09_13")
-  private float s2020_09_13;
-
-  @JsonProperty("2020_09_14")
-  private float s2020_09_14;
-
-  @JsonProperty("2020_09_15")
-  private float s2020_09_15;
-
-  @JsonProperty("2020_09_16")
-  private float s2020_09_16;
-
-  @JsonProperty("2020_09_17")
-  private float s2020_09_17;
-
-  @JsonProperty("2020_09_18")
-  private float s2020_09_18;
-
-  @JsonProperty("2020_09_19")
-  private float s2020_09_19;
-
-  @JsonProperty("2020_09_20")
-  private float s2020_09_20;
-
-  @JsonProperty("2020_09_21")
-  private float s2020_09_21;
-
-  @JsonProperty("2020_09_22")
-  private float s2020_09_22;
-
-  @JsonProperty("2020_09_23")
-  private float s2020_09_23;
-
-  @JsonProperty("2020_09_24")
-  private float s2020_09_24;
-
-  @JsonProperty("2020_09_25")
-  private float s2020_09_25;
-
-  @JsonProperty("2020_09_26")
-  private float s2020_09_26;
-
-  @JsonProperty("2020_09_27")
-  private float s2020_09_27;
-
-  @JsonProperty("2020_09_28")
-  private float s2020_09_28;
-
-  @JsonProperty("2020_09_29")
-  private float s2020_09_29;
-
-  @JsonProperty("2020_09_30")
-  private float s2020_09_30;
-
-  @JsonProperty("2020_10_01")
-  private float s2020_10_01;
-
-  @JsonProperty("2020_10_02")
-  private float s2020_10_02;
-
-  @JsonProperty("2020_10_03")
-  private float s2020_10_03;
-
-  @JsonProperty("2020_10_04")
-  private float s2020_10_04;
-
-  @JsonProperty("2020_10_05")
-  private float s2020_10_05;
-
-  @JsonProperty("2020_10_06")
-  private float s2020_10_06;
-
-  @JsonProperty("2020_10_07")
-  private float s2020_10_07;
-
-  @JsonProperty("2020_10_08")
-  private float s2020_10_08;
-
-  @JsonProperty("2020_10_09")
-  private float s2020_10_09;
-
-  @JsonProperty("2020_10_10")
-  private float s2020_10_10;
-
-  @JsonProperty("2020_10_11")
-  private float s2020_10_11;
-
-  @JsonProperty("2020_10_12")
-  private float s2020_10_12;
-
-  public DSHistoricalCovid() {}
-
-  //    public String getCombined_Key()
-  //    {
-  //        return Combined_Key;
-  //    }
-  //
-  //    public void setCombined_Key(String combined_Key)
-  //    {
-  //        Combined_Key = combined_Key;
-  //    }
-
-  public float getS2020_01_22() {
-    return s2020_01_22;
-  }
-
-  public void setS2020_01_22(float s2020_01_22) {
-    this.s2020_01_22 = s2020_01_22;
-  }
-
-  public float getS2020_01_23() {
-    return s2020_01_23;
-  }
-
-  public void setS2020_01_23(float s2020_01_23) {
-    this.s2020_01_23 = s2020_01_23;
-  }
-
-  public float getS2020_01_24() {
-    return s2020_01_24;
-  }
-
-  public void setS2020_01_24(float s2020_01_24) {
-    this.s2020_01_24 = s2020_01_24;
-  }
-
-  public float getS2020_01_25() {
-    return s2020_01_25;
-  }
-
-  public void setS2020_01_25(float s2020_01_25) {
-    this.s2020_01_25 = s2020_01_25;
-  }
-
-  public float getS2020_01_26() {
-    return s2020_01_26;
-  }
-
-  public void setS2020_01_26(float s2020_01_26) {
-    this.s2020_01_26 = s2020_01_26;
-  }
-
-  public float getS2020_01_27() {
-    return s2020_01_27;
-  }
-
-  public void setS2020_01_27(float s2020_01_27) {
-    this.s2020_01_27 = s2020_01_27;
-  }
-
-  public float getS2020_01_28() {
-    return s2020_01_28;
-  }
-
-  public void setS2020_01_28(float s2020_01_28) {
-    this.s2020_01_28 = s2020_01_28;
-  }
-
-  public float getS2020_01_29() {
-    return s2020_01_29;
-  }
-
-  public void setS2020_01_29(float s2020_01_29) {
-    this.s2020_01_29 = s2020_01_29;
-  }
-
-  public float getS2020_01_30() {
-    return s2020_01_30;
-  }
-
-  public void setS2020_01_30(float s2020_01_30) {
-    this.s2020_01_30 = s2020_01_30;
-  }
-
-  public float getS2020_01_31() {
-    return s2020_01_31;
-  }
-
-  public void setS2020_01_31(float s2020_01_31) {
-    this.s2020_01_31 = s2020_01_31;
-  }
-
-  public float getS2020_02_01() {
-    return s2020_02_01;
-  }
-
-  public void setS2020_02_01(float s2020_02_01) {
-    this.s2020_02_01 = s2020_02_01;
-  }
-
-  public float getS2020_02_02() {
-    return s2020_02_02;
-  }
-
-  public void setS2020_02_02(float s2020_02_02) {
-    this.s2020_02_02 = s2020_02_02;
-  }
-
-  public float getS2020_02_03() {
-    return s2020_02_03;
-  }
-
-  public void setS2020_02_03(float s2020_02_03) {
-    this.s2020_02_03 = s2020_02_03;
-  }
-
-  public float getS2020_02_04() {
-    return s2020_02_04;
-  }
-
-  public void setS2020_02_04(float s2020_02_04) {
-    this.s2020_02_04 = s2020_02_04;
-  }
-
-  public float getS2020_02_05() {
-    return s2020_02_05;
-  }
-
-  public void setS2020_02_05(float s2020_02_05) {
-    this.s2020_02_05 = s2020_02_05;
-  }
-
-  public float getS2020_02_06() {
-    return s2020_02_06;
-  }
-
-  public void setS2020_02_06(float s2020_02_06) {
-    this.s2020_02_06 = s2020_02_06;
-  }
-
-  public float getS2020_02_07() {
-    return s2020_02_07;
-  }
-
-  public void setS2020_02_07(float s2020_02_07) {
-    this.s2020_02_07 = s2020_02_07;
-  }
-
-  public float getS2020_02_08() {
-    return s2020_02_08;
-  }
-
-  public void setS2020_02_08(float s2020_02_08) {
-    this.s2020_02_08 = s2020_02_08;
-  }
-
-  public float getS2020_02_09() {
-    return s2020_02_09;
-  }
-
-  public void setS2020_02_09(float s2020_02_09) {
-    this.s2020_02_09 = s2020_02_09;
-  }
-
-  public float getS2020_02_10() {
-    return s2020_02_10;
-  }
-
-  public void setS2020_02_10(float s2020_02_10) {
-    this.s2020_02_10 = s2020_02_10;
-  }
-
-  public float getS2020_02_11() {
-    return s2020_02_11;
-  }
-
-  public void setS2020_02_11(float s2020_02_11) {
-    this.s2020_02_11 = s2020_02_11;
-  }
-
-  public float getS2020_02_12() {
-    return s2020_02_12;
-  }
-
-  public void setS2020_02_12(float s2020_02_12) {
-    this.s2020_02_12 = s2020_02_12;
-  }
-
-  public float getS2020_02_13() {
-    return s2020_02_13;
-  }
-
-  public void setS2020_02_13(float s2020_02_13) {
-    this.s2020_02_13 = s2020_02_13;
-  }
-
-  public float getS2020_02_14() {
-    return s2020_02_14;
-  }
-
-  public void setS2020_02_14(float s2020_02_14) {
-    this.s2020_02_14 = s2020_02_14;
-  }
-
-  public float getS2020_02_15() {
-    return s2020_02_15;
-  }
-
-  public void setS2020_02_15(float s2020_02_15) {
-    this.s2020_02_15 = s2020_02_15;
-  }
-
-  public float getS2020_02_16() {
-    return s2020_02_16;
-  }
-
-  public void setS2020_02_16(float s2020_02_16) {
-    this.s2020_02_16 = s2020_02_16;
-  }
-
-  public float getS2020_02_17() {
-    return s2020_02_17;
-  }
-
-  public void setS2020_02_17(float s2020_02_17) {
-    this.s2020_02_17 = s2020_02_17;
-  }
-
-  public float getS2020_02_18() {
-    return s2020_02_18;
-  }
-
-  public void setS2020_02_18(float s2020_02_18) {
-    this.s2020_02_18 = s2020_02_18;
-  }
-
-  public float getS2020_02_19() {
-    return s2020_02_19;
-  }
-
-  public void setS2020_02_19(float s2020_02_19) {
-    this.s2020_02_19 = s2020_02_19;
-  }
-
-  public float getS2020_02_20() {
-    return s2020_02_20;
-  }
-
-  public void setS2020_02_20(float s2020_02_20) {
-    this.s2020_02_20 = s2020_02_20;
-  }
-
-  public float getS2020_02_21() {
-    return s2020_02_21;
-  }
-
-  public void setS2020_02_21(float s2020_02_21) {
-    this.s2020_02_21 = s2020_02_21;
-  }
-
-  public float getS2020_02_22() {
-    return s2020_02_22;
-  }
-
-  public void setS2020_02_22(float s2020_02_22) {
-    this.s2020_02_22 = s2020_02_22;
-  }
-
-  public float getS2020_02_23() {
-    return s2020_02_23;
-  }
-
-  public void setS2020_02_23(float s2020_02_23) {
-    this.s2020_02_23 = s2020_02_23;
-  }
-
-  public float getS2020_02_24() {
-    return s2020_02_24;
-  }
-
-  public void setS2020_02_24(float s2020_02_24) {
-    this.s2020_02_24 = s2020_02_24;
-  }
-
-  public float getS2020_02_25() {
-    return s2020_02_25;
-  }
-
-  public void setS2020_02_25(float s2020_02_25) {
-    this.s2020_02_25 = s2020_02_25;
-  }
-
-  public float getS2020_02_26() {
-    return s2020_02_26;
-  }
-
-  public void setS2020_02_26(float s2020_02_26) {
-    this.s2020_02_26 = s2020_02_26;
-  }
-
-  public float getS2020_02_27() {
-    return s2020_02_27;
-  }
-
-  public void setS2020_02_27(float s2020_02_27) {
-    this.s2020_02_27 = s2020_02_27;
-  }
-
-  public float getS2020_02_28() {
-    return s2020_02_28;
-  }
-
-  public void setS2020_02_28(float s2020_02_28) {
-    this.s2020_02_28 = s2020_02_28;
-  }
-
-  public float getS2020_02_29() {
-    return s2020_02_29;
-  }
-
-  public void setS2020_02_29(float s2020_02_29) {
-    this.s2020_02_29 = s2020_02_29;
-  }
-
-  public float getS2020_03_01() {
-    return s2020_03_01;
-  }
-
-  public void setS2020_03_01(float s2020_03_01) {
-    this.s2020_03_01 = s2020_03_01;
-  }
-
-  public float getS2020_03_02() {
-    return s2020_03_02;
-  }
-
-  public void setS2020_03_02(float s2020_03_02) {
-    this.s2020_03_02 = s2020_03_02;
-  }
-
-  public float getS2020_03_03() {
-    return s2020_03_03;
-  }
-
-  public void setS2020_03_03(float s2020_03_03) {
-    this.s2020_03_03 = s2020_03_03;
-  }
-
-  public float getS2020_03_04() {
-    return s2020_03_04;
-  }
-
-  public void setS2020_03_04(float s2020_03_04) {
-    this.s2020_03_04 = s2020_03_04;
-  }
-
-  public float getS2020_03_05() {
-    return s2020_03_05;
-  }
-
-  public void setS2020_03_05(float s2020_03_05) {
-    this.s2020_03_05 = s2020_03_05;
-  }
-
-  public float getS2020_03_06() {
-    return s2020_03_06;
-  }
-
-  public void setS2020_03_06(float s2020_03_06) {
-    this.s2020_03_06 = s2020_03_06;
-  }
-
-  public float getS2020_03_07() {
-    return s2020_03_07;
-  }
-
-  public void setS2020_03_07(float s2020_03_07) {
-    this.s2020_03_07 = s2020_03_07;
-  }
-
-  public float getS2020_03_08() {
-    return s2020_03_08;
-  }
-
-  public void setS2020_03_08(float s2020_03_08) {
-    this.s2020_03_08 = s2020_03_08;
-  }
-
-  public float getS2020_03_09() {
-    return s2020_03_09;
-  }
-
-  public void setS2020_03_09(float s2020_03_09) {
-    this.s2020_03_09 = s2020_03_09;
-  }
-
-  public float getS2020_03_10() {
-    return s2020_03_10;
-  }
-
-  public void setS2020_03_10(float s2020_03_10) {
-    this.s2020_03_10 = s2020_03_10;
-  }
-
-  public float getS2020_03_11() {
-    return s2020_03_11;
-  }
-
-  public void setS2020_03_11(float s2020_03_11) {
-    this.s2020_03_11 = s2020_03_11;
-  }
-
-  public float getS2020_03_12() {
-    return s2020_03_12;
-  }
-
-  public void setS2020_03_12(float s2020_03_12) {
-    this.s2020_03_12 = s2020_03_12;
-  }
-
-  public float getS2020_03_13() {
-    return s2020_03_13;
-  }
-
-  public void setS2020_03_13(float s2020_03_13) {
-    this.s2020_03_13 = s2020_03_13;
-  }
-
-  public float getS2020_03_14() {
-    return s2020_03_14;
-  }
-
-  public void setS2020_03_14(float s2020_03_14) {
-    this.s2020_03_14 = s2020_03_14;
-  }
-
-  public float getS2020_03_15() {
-    return s2020_03_15;
-  }
-
-  public void setS2020_03_15(float s2020_03_15) {
-    this.s2020_03_15 = s2020_03_15;
-  }
-
-  public float getS2020_03_16() {
-    return s2020_03_16;
-  }
-
-  public void setS2020_03_16(float s2020_03_16) {
-    this.s2020_03_16 = s2020_03_16;
-  }
-
-  public float getS2020_03_17() {
-    return s2020_03_17;
-  }
-
-  public void setS2020_03_17(float s2020_03_17) {
-    this.s2020_03_17 = s2020_03_17;
-  }
-
-  public float getS2020_03_18() {
-    return s2020_03_18;
-  }
-
-  public void setS2020_03_18(float s2020_03_18) {
-    this.s2020_03_18 = s2020_03_18;
-  }
-
-  public float getS2020_03_19() {
-    return s2020_03_19;
-  }
-
-  public void setS2020_03_19(float s2020_03_19) {
-    this.s2020_03_19 = s2020_03_19;
-  }
-
-  public float getS2020_03_20() {
-    return s2020_03_20;
-  }
-
-  public void setS2020_03_20(float s2020_03_20) {
-    this.s2020_03_20 = s2020_03_20;
-  }
-
-  public float getS2020_03_21() {
-    return s2020_03_21;
-  }
-
-  public void setS2020_03_21(float s2020_03_21) {
-    this.s2020_03_21 = s2020_03_21;
-  }
-
-  public float getS2020_03_22() {
-    return s2020_03_22;
-  }
-
-  public void setS2020_03_22(float s2020_03_22) {
-    this.s2020_03_22 = s2020_03_22;
-  }
-
-  public float getS2020_03_23() {
-    return s2020_03_23;
-  }
-
-  public void setS2020_03_23(float s2020_03_23) {
-    this.s2020_03_23 = s2020_03_23;
-  }
-
-  public float getS2020_03_24() {
-    return s2020_03_24;
-  }
-
-  public void setS2020_03_24(float s2020_03_24) {
-    this.s2020_03_24 = s2020_03_24;
-  }
-
-  public float getS2020_03_25() {
-    return s2020_03_25;
-  }
-
-  public void setS2020_03_25(float s2020_03_25) {
-    this.s2020_03_25 = s2020_03_25;
-  }
-
-  public float getS2020_03_26() {
-    return s2020_03_26;
-  }
-
-  public void setS2020_03_26(float s2020_03_26) {
-    this.s2020_03_26 = s2020_03_26;
-  }
-
-  public float getS2020_03_27() {
-    return s2020_03_27;
-  }
-
-  public void setS2020_03_27(float s2020_03_27) {
-    this.s2020_03_27 = s2020_03_27;
-  }
-
-  public float getS2020_03_28() {
-    return s2020_03_28;
-  }
-
-  public void setS2020_03_28(float s2020_03_28) {
-    this.s2020_03_28 = s2020_03_28;
-  }
-
-  public float getS2020_03_29() {
-    return s2020_03_29;
-  }
-
-  public void setS2020_03_29(float s2020_03_29) {
-    this.s2020_03_29 = s2020_03_29;
-  }
-
-  public float getS2020_03_30() {
-    return s2020_03_30;
-  }
-
-  public void setS2020_03_30(float s2020_03_30) {
-    this.s2020_03_30 = s2020_03_30;
-  }
-
-  public float getS2020_03_31() {
-    return s2020_03_31;
-  }
-
-  public void setS2020_03_31(float s2020_03_31) {
-    this.s2020_03_31 = s2020_03_31;
-  }
-
-  public float getS2020_04_01() {
-    return s2020_04_01;
-  }
-
-  public void setS2020_04_01(float s2020_04_01) {
-    this.s2020_04_01 = s2020_04_01;
-  }
-
-  public float getS2020_04_02() {
-    return s2020_04_02;
-  }
-
-  public void setS2020_04_02(float s2020_04_02) {
-    this.s2020_04_02 = s2020_04_02;
-  }
-
-  public float getS2020_04_03() {
-    return s2020_04_03;
-  }
-
-  public void setS2020_04_03(float s2020_04_03) {
-    this.s2020_04_03 = s2020_04_03;
-  }
-
-  public float getS2020_04_04() {
-    return s2020_04_04;
-  }
-
-  public void setS2020_04_04(float s2020_04_04) {
-    this.s2020_04_04 = s2020_04_04;
-  }
-
-  public float getS2020_04_05() {
-    return s2020_04_05;
-  }
-
-  public void setS2020_04_05(float s2020_04_05) {
-    this.s2020_04_05 = s2020_04_05;
-  }
-
-  public float getS2020_04_06() {
-    return s2020_04_06;
-  }
-
-  public void setS2020_04_06(float s2020_04_06) {
-    this.s2020_04_06 = s2020_04_06;
-  }
-
-  public float getS2020_04_07() {
-    return s2020_04_07;
-  }
-
-  public void setS2020_04_07(float s2020_04_07) {
-    this.s2020_04_07 = s2020_04_07;
-  }
-
-  public float getS2020_04_08() {
-    return s2020_04_08;
-  }
-
-  public void setS2020_04_08(float s2020_04_08) {
-    this.s2020_04_08 = s2020_04_08;
-  }
-
-  public float getS2020_04_09() {
-    return s2020_04_09;
-  }
-
-  public void setS2020_04_09(float s2020_04_09) {
-    this.s2020_04_09 = s2020_04_09;
-  }
-
-  public float getS2020_04_10() {
-    return s2020_04_10;
-  }
-
-  public void setS2020_04_10(float s2020_04_10) {
-    this.s2020_04_10 = s2020_04_10;
-  }
-
-  public float getS2020_04_11() {
-    return s2020_04_11;
-  }
-
-  public void setS2020_04_11(float s2020_04_11) {
-    this.s2020_04_11 = s2020_04_11;
-  }
-
-  public float getS2020_04_12() {
-    return s2020_04_12;
-  }
-
-  public void setS2020_04_12(float s2020_04_12) {
-    this.s2020_04_12 = s2020_04_12;
-  }
-
-  public float getS2020_04_13() {
-    return s2020_04_13;
-  }
-
-  public void setS2020_04_13(float s2020_04_13) {
-    this.s2020_04_13 = s2020_04_13;
-  }
-
-  public float getS2020_04_14() {
-    return s2020_04_14;
-  }
-
-  public void setS2020_04_14(float s2020_04_14) {
-    this.s2020_04_14 = s2020_04_14;
-  }
-
-  public float getS2020_04_15() {
-    return s2020_04_15;
-  }
-
-  public void setS2020_04_15(float s2020_04_15) {
-    this.s2020_04_15 = s2020_04_15;
-  }
-
-  public float getS2020_04_16() {
-    return s2020_04_16;
-  }
-
-  public void setS2020_04_16(float s2020_04_16) {
-    this.s2020_04_16 = s2020_04_16;
-  }
-
-  public float getS2020_04_17() {
-    return s2020_04_17;
-  }
-
-  public void setS2020_04_17(float s2020_04_17) {
-    this.s2020_04_17 = s2020_04_17;
-  }
-
-  public float getS2020_04_18() {
-    return s2020_04_18;
-  }
-
-  public void setS2020_04_18(float s2020_04_18) {
-    this.s2020_04_18 = s2020_04_18;
-  }
-
-  public float getS2020_04_19() {
-    return s2020_04_19;
-  }
-
-  public void setS2020_04_19(float s2020_04_19) {
-    this.s2020_04_19 = s2020_04_19;
-  }
-
-  public float getS2020_04_20() {
-    return s2020_04_20;
-  }
-
-  public void setS2020_04_20(float s2020_04_20) {
-    this.s2020_04_20 = s2020_04_20;
-  }
-
-  public float getS2020_04_21() {
-    return s2020_04_21;
-  }
-
-  public void setS2020_04_21(float s2020_04_21) {
-    this.s2020_04_21 = s2020_04_21;
-  }
-
-  public float getS2020_04_22() {
-    return s2020_04_22;
-  }
-
-  public void setS2020_04_22(float s2020_04_22) {
-    this.s2020_04_22 = s2020_04_22;
-  }
-
-  public float getS2020_04_23() {
-    return s2020_04_23;
-  }
-
-  public void setS2020_04_23(float s2020_04_23) {
-    this.s2020_04_23 = s2020_04_23;
-  }
-
-  public float getS2020_04_24() {
-    return s2020_04_24;
-  }
-
-  public void setS2020_04_24(float s2020_04_24) {
-    this.s2020_04_24 = s2020_04_24;
-  }
-
-  public float getS2020_04_25() {
-    return s2020_04_25;
-  }
-
-  public void setS2020_04_25(float s2020_04_25) {
-    this.s2020_04_25 = s2020_04_25;
-  }
-
-  public float getS2020_04_26() {
-    return s2020_04_26;
-  }
-
-  public void setS2020_04_26(float s2020_04_26) {
-    this.s2020_04_26 = s2020_04_26;
-  }
-
-  public float getS2020_04_27() {
-    return s2020_04_27;
-  }
-
-  public void setS2020_04_27(float s2020_04_27) {
-    this.s2020_04_27 = s2020_04_27;
-  }
-
-  public float getS2020_04_28() {
-    return s2020_04_28;
-  }
-
-  public void setS2020_04_28(float s2020_04_28) {
-    this.s2020_04_28 = s2020_04_28;
-  }
-
-  public float getS2020_04_29() {
-    return s2020_04_29;
-  }
-
-  public void setS2020_04_29(float s2020_04_29) {
-    this.s2020_04_29 = s2020_04_29;
-  }
-
-  public float getS2020_04_30() {
-    return s2020_04_30;
-  }
-
-  public void setS2020_04_30(float s2020_04_30) {
-    this.s2020_04_30 = s2020_04_30;
-  }
-
-  public float getS2020_05_01() {
-    return s2020_05_01;
-  }
-
-  public void setS2020_05_01(float s2020_05_01) {
-    this.s2020_05_01 = s2020_05_01;
-  }
-
-  public float getS2020_05_02() {
-    return s2020_05_02;
-  }
-
-  public void setS2020_05_02(float s2020_05_02) {
-    this.s2020_05_02 = s2020_05_02;
-  }
-
-  public float getS2020_05_03() {
-    return s2020_05_03;
-  }
-
-  public void setS2020_05_03(float s2020_05_03) {
-    this.s2020_05_03 = s2020_05_03;
-  }
-
-  public float getS2020_05_04() {
-    return s2020_05_04;
-  }
-
-  public void setS2020_05_04(float s2020_05_04) {
-    this.s2020_05_04 = s2020_05_04;
-  }
-
-  public float getS2020_05_05() {
-    return s2020_05_05;
-  }
-
-  public void setS2020_05_05(float s2020_05_05) {
-    this.s2020_05_05 = s2020_05_05;
-  }
-
-  public float getS2020_05_06() {
-    return s2020_05_06;
-  }
-
-  public void setS2020_05_06(float s2020_05_06) {
-    this.s2020_05_06 = s2020_05_06;
-  }
-
-  public float getS2020_05_07() {
-    return s2020_05_07;
-  }
-
-  public void setS2020_05_07(float s2020_05_07) {
-    this.s2020_05_07 = s2020_05_07;
-  }
-
-  public float getS2020_05_08() {
-    return s2020_05_08;
-  }
-
-  public void setS2020_05_08(float s2020_05_08) {
-    this.s2020_05_08 = s2020_05_08;
-  }
-
-  public float getS2020_05_09() {
-    return s2020_05_09;
-  }
-
-  public void setS2020_05_09(float s2020_05_09) {
-    this.s2020_05_09 = s2020_05_09;
-  }
-
-  public float getS2020_05_10() {
-    return s2020_05_10;
-  }
-
-  public void setS2020_05_10(float s2020_05_10) {
-    this.s2020_05_10 = s2020_05_10;
-  }
-
-  public float getS2020_05_11() {
-    return s2020_05_11;
-  }
-
-  public void setS2020_05_11(float s2020_05_11) {
-    this.s2020_05_11 = s2020_05_11;
-  }
-
-  public float getS2020_05_12() {
-    return s2020_05_12;
-  }
-
-  public void setS2020_05_12(float s2020_05_12) {
-    this.s2020_05_12 = s2020_05_12;
-  }
-
-  public float getS2020_05_13() {
-    return s2020_05_13;
-  }
-
-  public void setS2020_05_13(float s2020_05_13) {
-    this.s2020_05_13 = s2020_05_13;
-  }
-
-  public float getS2020_05_14() {
-    return s2020_05_14;
-  }
-
-  public void setS2020_05_14(float s2020_05_14) {
-    this.s2020_05_14 = s2020_05_14;
-  }
-
-  public float getS2020_05_15() {
-    return s2020_05_15;
-  }
-
-  public void setS2020_05_15(float s2020_05_15) {
-    this.s2020_05_15 = s2020_05_15;
-  }
-
-  public float getS2020_05_16() {
-    return s2020_05_16;
-  }
-
-  public void setS2020_05_16(float s2020_05_16) {
-    this.s2020_05_16 = s2020_05_16;
-  }
-
-  public float getS2020_05_17() {
-    return s2020_05_17;
-  }
-
-  public void setS2020_05_17(float s2020_05_17) {
-    this.s2020_05_17 = s2020_05_17;
-  }
-
-  public float getS2020_05_18() {
-    return s2020_05_18;
-  }
-
-  public void setS2020_05_18(float s2020_05_18) {
-    this.s2020_05_18 = s2020_05_18;
-  }
-
-  public float getS2020_05_19() {
-    return s2020_05_19;
-  }
-
-  public void setS2020_05_19(float s2020_05_19) {
-    this.s2020_05_19 = s2020_05_19;
-  }
-
-  public float getS2020_05_20() {
-    return s2020_05_20;
-  }
-
-  public void setS2020_05_20(float s2020_05_20) {
-    this.s2020_05_20 = s2020_05_20;
-  }
-
-  public float getS2020_05_21() {
-    return s2020_05_21;
-  }
-
-  public void setS2020_05_21(float s2020_05_21) {
-    this.s2020_05_21 = s2020_05_21;
-  }
-
-  public float getS2020_05_22() {
-    return s2020_05_22;
-  }
-
-  public void setS2020_05_22(float s2020_05_22) {
-    this.s2020_05_22 = s2020_05_22;
-  }
-
-  public float getS2020_05_23() {
-    return s2020_05_23;
-  }
-
-  public void setS2020_05_23(float s2020_05_23) {
-    this.s2020_05_23 = s2020_05_23;
-  }
-
-  public float getS2020_05_24() {
-    return s2020_05_24;
-  }
-
-  public void setS2020_05_24(float s2020_05_24) {
-    this.s2020_05_24 = s2020_05_24;
-  }
-
-  public float getS2020_05_25() {
-    return s2020_05_25;
-  }
-
-  public void setS2020_05_25(float s2020_05_25) {
-    this.s2020_05_25 = s2020_05_25;
-  }
-
-  public float getS2020_05_26() {
-    return s2020_05_26;
-  }
-
-  public void setS2020_05_26(float s2020_05_26) {
-    this.s2020_05_26 = s2020_05_26;
-  }
-
-  public float getS2020_05_27() {
-    return s2020_05_27;
-  }
-
-  public void setS2020_05_27(float s2020_05_27) {
-    this.s2020_05_27 = s2020_05_27;
-  }
-
-  public float getS2020_05_28() {
-    return s2020_05_28;
-  }
-
-  public void setS2020_05_28(float s2020_05_28) {
-    this.s2020_05_28 = s2020_05_28;
-  }
-
-  public float getS2020_05_29() {
-    return s2020_05_29;
-  }
-
-  public void setS2020_05_29(float s2020_05_29) {
-    this.s2020_05_29 = s2020_05_29;
-  }
-
-  public float getS2020_05_30() {
-    return s2020_05_30;
-  }
-
-  public void setS2020_05_30(float s2020_05_30) {
-    this.s2020_05_30 = s2020_05_30;
-  }
-
-  public float getS2020_05_31() {
-    return s2020_05_31;
-  }
-
-  public void setS2020_05_31(float s2020_05_31) {
-    this.s2020_05_31 = s2020_05_31;
-  }
-
-  public float getS2020_06_01() {
-    return s2020_06_01;
-  }
-
-  public void setS2020_06_01(float s2020_06_01) {
-    this.s2020_06_01 = s2020_06_01;
-  }
-
-  public float getS2020_06_02() {
-    return s2020_06_02;
-  }
-
-  public void setS2020_06_02(float s2020_06_02) {
-    this.s2020_06_02 = s2020_06_02;
-  }
-
-  public float getS2020_06_03() {
-    return s2020_06_03;
-  }
-
-  public void setS2020_06_03(float s2020_06_03) {
-    this.s2020_06_03 = s2020_06_03;
-  }
-
-  public float getS2020_06_04() {
-    return s2020_06_04;
-  }
-
-  public void setS2020_06_04(float s2020_06_04) {
-    this.s2020_06_04 = s2020_06_04;
-  }
-
-  public float getS2020_06_05() {
-    return s2020_06_05;
-  }
-
-  public void setS2020_06_05(float s2020_06_05) {
-    this.s2020_06_05 = s2020_06_05;
-  }
-
-  public float getS2020_06_06() {
-    return s2020_06_06;
-  }
-
-  public void setS2020_06_06(float s2020_06_06) {
-    this.s2020_06_06 = s2020_06_06;
-  }
-
-  public float getS2020_06_07() {
-    return s2020_06_07;
-  }
-
-  public void setS2020_06_07(float s2020_06_07) {
-    this.s2020_06_07 = s2020_06_07;
-  }
-
-  public float getS2020_06_08() {
-    return s2020_06_08;
-  }
-
-  public void setS2020_06_08(float s2020_06_08) {
-    this.s2020_06_08 = s2020_06_08;
-  }
-
-  public float getS2020_06_09() {
-    return s2020_06_09;
-  }
-
-  public void setS2020_06_09(float s2020_06_09) {
-    this.s2020_06_09 = s2020_06_09;
-  }
-
-  public float getS2020_06_10() {
-    return s2020_06_10;
-  }
-
-  public void setS2020_06_10(float s2020_06_10) {
-    this.s2020_06_10 = s2020_06_10;
-  }
-
-  public float getS2020_06_11() {
-    return s2020_06_11;
-  }
-
-  public void setS2020_06_11(float s2020_06_11) {
-    this.s2020_06_11 = s2020_06_11;
-  }
-
-  public float getS2020_06_12() {
-    return s2020_06_12;
-  }
-
-  public void setS2020_06_12(float s2020_06_12) {
-    this.s2020_06_12 = s2020_06_12;
-  }
-
-  public float getS2020_06_13() {
-    return s2020_06_13;
-  }
-
-  public void setS2020_06_13(float s2020_06_13) {
-    this.s2020_06_13 = s2020_06_13;
-  }
-
-  public float getS2020_06_14() {
-    return s2020_06_14;
-  }
-
-  public void setS2020_06_14(float s2020_06_14) {
-    this.s2020_06_14 = s2020_06_14;
-  }
-
-  public float getS2020_06_15() {
-    return s2020_06_15;
-  }
-
-  public void setS2020_06_15(float s2020_06_15) {
-    this.s2020_06_15 = s2020_06_15;
-  }
-
-  public float getS2020_06_16() {
-    return s2020_06_16;
-  }
-
-  public void setS2020_06_16(float s2020_06_16) {
-    this.s2020_06_16 = s2020_06_16;
-  }
-
-  public float getS2020_06_17() {
-    return s2020_06_17;
-  }
-
-  public void setS2020_06_17(float s2020_06_17) {
-    this.s2020_06_17 = s2020_06_17;
-  }
-
-  public float getS2020_06_18() {
-    return s2020_06_18;
-  }
-
-  public void setS2020_06_18(float s2020_06_18) {
-    this.s2020_06_18 = s2020_06_18;
-  }
-
-  public float getS2020_06_19() {
-    return s2020_06_19;
-  }
-
-  public void setS2020_06_19(float s2020_06_19) {
-    this.s2020_06_19 = s2020_06_19;
-  }
-
-  public float getS2020_06_20() {
-    return s2020_06_20;
-  }
-
-  public void setS2020_06_20(float s2020_06_20) {
-    this.s2020_06_20 = s2020_06_20;
-  }
-
-  public float getS2020_06_21() {
-    return s2020_06_21;
-  }
-
-  public void setS2020_06_21(float s2020_06_21) {
-    this.s2020_06_21 = s2020_06_21;
-  }
-
-  public float getS2020_06_22() {
-    return s2020_06_22;
-  }
-
-  public void setS2020_06_22(float s2020_06_22) {
-    this.s2020_06_22 = s2020_06_22;
-  }
-
-  public float getS2020_06_23() {
-    return s2020_06_23;
-  }
-
-  public void setS2020_06_23(float s2020_06_23) {
-    this.s2020_06_23 = s2020_06_23;
-  }
-
-  public float getS2020_06_24() {
-    return s2020_06_24;
-  }
-
-  public void setS2020_06_24(float s2020_06_24) {
-    this.s2020_06_24 = s2020_06_24;
-  }
-
-  public float getS2020_06_25() {
-    return s2020_06_25;
-  }
-
-  public void setS2020_06_25(float s2020_06_25) {
-    this.s2020_06_25 = s2020_06_25;
-  }
-
-  public float getS2020_06_26() {
-    return s2020_06_26;
-  }
-
-  public void setS2020_06_26(float s2020_06_26) {
-    this.s2020_06_26 = s2020_06_26;
-  }
-
-  public float getS2020_06_27() {
-    return s2020_06_27;
-  }
-
-  public void setS2020_06_27(float s2020_06_27) {
-    this.s2020_06_27 = s2020_06_27;
-  }
-
-  public float getS2020_06_28() {
-    return s2020_06_28;
-  }
-
-  public void setS2020_06_28(float s2020_06_28) {
-    this.s2020_06_28 = s2020_06_28;
-  }
-
-  public float getS2020_06_29() {
-    return s2020_06_29;
-  }
-
-  public void setS2020_06_29(float s2020_06_29) {
-    this.s2020_06_29 = s2020_06_29;
-  }
-
-  public float getS2020_06_30() {
-    return s2020_06_30;
-  }
-
-  public void setS2020_06_30(float s2020_06_30) {
-    this.s2020_06_30 = s2020_06_30;
-  }
-
-  public float getS2020_07_01() {
-    return s2020_07_01;
-  }
-
-  public void setS2020_07_01(float s2020_07_01) {
-    this.s2020_07_01 = s2020_07_01;
-  }
-
-  public float getS2020_07_02() {
-    return s2020_07_02;
-  }
-
-  public void setS2020_07_02(float s2020_07_02) {
-    this.s2020_07_02 = s2020_07_02;
-  }
-
-  public float getS2020_07_03() {
-    return s2020_07_03;
-  }
-
-  public void setS2020_07_03(float s2020_07_03) {
-    this.s2020_07_03 = s2020_07_03;
-  }
-
-  public float getS2020_07_04() {
-    return s2020_07_04;
-  }
-
-  public void setS2020_07_04(float s2020_07_04) {
-    this.s2020_07_04 = s2020_07_04;
-  }
-
-  public float getS2020_07_05() {
-    return s2020_07_05;
-  }
-
-  public void setS2020_07_05(float s2020_07_05) {
-    this.s2020_07_05 = s2020_07_05;
-  }
-
-  public float getS2020_07_06() {
-    return s2020_07_06;
-  }
-
-  public void setS2020_07_06(float s2020_07_06) {
-    this.s2020_07_06 = s2020_07_06;
-  }
-
-  public float getS2020_07_07() {
-    return s2020_07_07;
-  }
-
-  public void setS2020_07_07(float s2020_07_07) {
-    this.s2020_07_07 = s2020_07_07;
-  }
-
-  public float getS2020_07_08() {
-    return s2020_07_08;
-  }
-
-  public void setS2020_07_08(float s2020_07_08) {
-    this.s2020_07_08 = s2020_07_08;
-  }
-
-  public float getS2020_07_09() {
-    return s2020_07_09;
-  }
-
-  public void setS2020_07_09(float s2020_07_09) {
-    this.s2020_07_09 = s2020_07_09;
-  }
-
-  public float getS2020_07_10() {
-    return s2020_07_10;
-  }
-
-  public void setS2020_07_10(float s2020_07_10) {
-    this.s2020_07_10 = s2020_07_10;
-  }
-
-  public float getS2020_07_11() {
-    return s2020_07_11;
-  }
-
-  public void setS2020_07_11(float s2020_07_11) {
-    this.s2020_07_11 = s2020_07_11;
-  }
-
-  public float getS2020_07_12() {
-    return s2020_07_12;
-  }
-
-  public void setS2020_07_12(float s2020_07_12) {
-    this.s2020_07_12 = s2020_07_12;
-  }
-
-  public float getS2020_07_13() {
-    return s2020_07_13;
-  }
-
-  public void setS2020_07_13(float s2020_07_13) {
-    this.s2020_07_13 = s2020_07_13;
-  }
-
-  public float getS2020_07_14() {
-    return s2020_07_14;
-  }
-
-  public void setS2020_07_14(float s2020_07_14) {
-    this.s2020_07_14 = s2020_07_14;
-  }
-
-  public float getS2020_07_15() {
-    return s2020_07_15;
-  }
-
-  public void setS2020_07_15(float s2020_07_15) {
-    this.s2020_07_15 = s2020_07_15;
-  }
-
-  public float getS2020_07_16() {
-    return s2020_07_16;
-  }
-
-  public void setS2020_07_16(float s2020_07_16) {
-    this.s2020_07_16 = s2020_07_16;
-  }
-
-  public float getS2020_07_17() {
-    return s2020_07_17;
-  }
-
-  public void setS2020_07_17(float s2020_07_17) {
-    this.s2020_07_17 = s2020_07_17;
-  }
-
-  public float getS2020_07_18() {
-    return s2020_07_18;
-  }
-
-  public void setS2020_07_18(float s2020_07_18) {
-    this.s2020_07_18 = s2020_07_18;
-  }
-
-  public float getS2020_07_19() {
-    return s2020_07_19;
-  }
-
-  public void setS2020_07_19(float s2020_07_19) {
-    this.s2020_07_19 = s2020_07_19;
-  }
-
-  public float getS2020_07_20() {
-    return s2020_07_20;
-  }
-
-  public void setS2020_07_20(float s2020_07_20) {
-    this.s2020_07_20 = s2020_07_20;
-  }
-
-  public float getS2020_07_21() {
-    return s2020_07_21;
-  }
-
-  public void setS2020_07_21(float s2020_07_21) {
-    this.s2020_07_21 = s2020_07_21;
-  }
-
-  public float getS2020_07_22() {
-    return s2020_07_22;
-  }
-
-  public void setS2020_07_22(float s2020_07_22) {
-    this.s2020_07_22 = s2020_07_22;
-  }
-
-  public float getS2020_07_23() {
-    return s2020_07_23;
-  }
-
-  public void setS2020_07_23(float s2020_07_23) {
-    this.s2020_07_23 = s2020_07_23;
-  }
-
-  public float getS2020_07_24() {
-    return s2020_07_24;
-  }
-
-  public void setS2020_07_24(float s2020_07_24) {
-    this.s2020_07_24 = s2020_07_24;
-  }
-
-  public float getS2020_07_25() {
-    return s2020_07_25;
-  }
-
-  public void setS2020_07_25(float s2020_07_25) {
-    this.s2020_07_25 = s2020_07_25;
-  }
-
-  public float getS2020_07_26() {
-    return s2020_07_26;
-  }
-
-  public void setS2020_07_26(float s2020_07_26) {
-    this.s2020_07_26 = s2020_07_26;
-  }
-
-  public float getS2020_07_27() {
-    return s2020_07_27;
-  }
-
-  public void setS2020_07_27(float s2020_07_27) {
-    this.s2020_07_27 = s2020_07_27;
-  }
-
-  public float getS2020_07_28() {
-    return s2020_07_28;
-  }
-
-  public void setS2020_07_28(float s2020_07_28) {
-    this.s2020_07_28 = s2020_07_28;
-  }
-
-  public float getS2020_07_29() {
-    return s2020_07_29;
-  }
-
-  public void setS2020_07_29(float s2020_07_29) {
-    this.s2020_07_29 = s2020_07_29;
-  }
-
-  public float getS2020_07_30() {
-    return s2020_07_30;
-  }
-
-  public void setS2020_07_30(float s2020_07_30) {
-    this.s2020_07_30 = s2020_07_30;
-  }
-
-  public float getS2020_07_31() {
-    return s2020_07_31;
-  }
-
-  public void setS2020_07_31(float s2020_07_31) {
-    this.s2020_07_31 = s2020_07_31;
-  }
-
-  public float getS2020_08_01() {
-    return s2020_08_01;
-  }
-
-  public void setS2020_08_01(float s2020_08_01) {
-    this.s2020_08_01 = s2020_08_01;
-  }
-
-  public float getS2020_08_02() {
-    return s2020_08_02;
-  }
-
-  public void setS2020_08_02(float s2020_08_02) {
-    this.s2020_08_02 = s2020_08_02;
-  }
-
-  public float getS2020_08_03() {
-    return s2020_08_03;
-  }
-
-  public void setS2020_08_03(float s2020_08_03) {
-    this.s2020_08_03 = s2020_08_03;
-  }
-
-  public float getS2020_08_04() {
-    return s2020_08_04;
-  }
-
-  public void setS2020_08_04(float s2020_08_04) {
-    this.s2020_08_04 = s2020_08_04;
-  }
-
-  public float getS2020_08_05() {
-    return s2020_08_05;
-  }
-
-  public void setS2020_08_05(float s2020_08_05) {
-    this.s2020_08_05 = s2020_08_05;
-  }
-
-  public float getS2020_08_06() {
-    return s2020_08_06;
-  }
-
-  public void setS2020_08_06(float s2020_08_06) {
-    this.s2020_08_06 = s2020_08_06;
-  }
-
-  public float getS2020_08_07() {
-    return s2020_08_07;
-  }
-
-  public void setS2020_08_07(float s2020_08_07) {
-    this.s2020_08_07 = s2020_08_07;
-  }
-
-  public float getS2020_08_08() {
-    return s2020_08_08;
-  }
-
-  public void setS2020_08_08(float s2020_08_08) {
-    this.s2020_08_08 = s2020_08_08;
-  }
-
-  public float getS2020_08_09() {
-    return s2020_08_09;
-  }
-
-  public void setS2020_08_09(float s2020_08_09) {
-    this.s2020_08_09 = s2020_08_09;
-  }
-
-  public float getS2020_08_10() {
-    return s2020_08_10;
-  }
-
-  public void setS2020_08_10(float s2020_08_10) {
-    this.s2020_08_10 = s2020_08_10;
-  }
-
-  public float getS2020_08_11() {
-    return s2020_08_11;
-  }
-
-  public void setS2020_08_11(float s2020_08_11) {
-    this.s2020_08_11 = s2020_08_11;
-  }
-
-  public float getS2020_08_12() {
-    return s2020_08_12;
-  }
-
-  public void setS2020_08_12(float s2020_08_12) {
-    this.s2020_08_12 = s2020_08_12;
-  }
-
-  public float getS2020_08_13() {
-    return s2020_08_13;
-  }
-
-  public void setS2020_08_13(float s2020_08_13) {
-    this.s2020_08_13 = s2020_08_13;
-  }
-
-  public float getS2020_08_14() {
-    return s2020_08_14;
-  }
-
-  public void setS2020_08_14(float s2020_08_14) {
-    this.s2020_08_14 = s2020_08_14;
-  }
-
-  public float getS2020_08_15() {
-    return s2020_08_15;
-  }
-
-  public void setS2020_08_15(float s2020_08_15) {
-    this.s2020_08_15 = s2020_08_15;
-  }
-
-  public float getS2020_08_16() {
-    return s2020_08_16;
-  }
-
-  public void setS2020_08_16(float s2020_08_16) {
-    this.s2020_08_16 = s2020_08_16;
-  }
-
-  public float getS2020_08_17() {
-    return s2020_08_17;
-  }
-
-  public void setS2020_08_17(float s2020_08_17) {
-    this.s2020_08_17 = s2020_08_17;
-  }
-
-  public float getS2020_08_18() {
-    return s2020_08_18;
-  }
-
-  public void setS2020_08_18(float s2020_08_18) {
-    this.s2020_08_18 = s2020_08_18;
-  }
-
-  public float getS2020_08_19() {
-    return s2020_08_19;
-  }
-
-  public void setS2020_08_19(float s2020_08_19) {
-    this.s2020_08_19 = s2020_08_19;
-  }
-
-  public float getS2020_08_20() {
-    return s2020_08_20;
-  }
-
-  public void setS2020_08_20(float s2020_08_20) {
-    this.s2020_08_20 = s2020_08_20;
-  }
-
-  public float getS2020_08_21() {
-    return s2020_08_21;
-  }
-
-  public void setS2020_08_21(float s2020_08_21) {
-    this.s2020_08_21 = s2020_08_21;
-  }
-
-  public float getS2020_08_22() {
-    return s2020_08_22;
-  }
-
-  public void setS2020_08_22(float s2020_08_22) {
-    this.s2020_08_22 = s2020_08_22;
-  }
-
-  public float getS2020_08_23() {
-    return s2020_08_23;
-  }
-
-  public void setS2020_08_23(float s2020_08_23) {
-    this.s2020_08_23 = s2020_08_23;
-  }
-
-  public float getS2020_08_24() {
-    return s2020_08_24;
-  }
-
-  public void setS2020_08_24(float s2020_08_24) {
-    this.s2020_08_24 = s2020_08_24;
-  }
-
-  public float getS2020_08_25() {
-    return s2020_08_25;
-  }
-
-  public void setS2020_08_25(float s2020_08_25) {
-    this.s2020_08_25 = s2020_08_25;
-  }
-
-  public float getS2020_08_26() {
-    return s2020_08_26;
-  }
-
-  public void setS2020_08_26(float s2020_08_26) {
-    this.s2020_08_26 = s2020_08_26;
-  }
-
-  public float getS2020_08_27() {
-    return s2020_08_27;
-  }
-
-  public void setS2020_08_27(float s2020_08_27) {
-    this.s2020_08_27 = s2020_08_27;
-  }
-
-  public float getS2020_08_28() {
-    return s2020_08_28;
-  }
-
-  public void setS2020_08_28(float s2020_08_28) {
-    this.s2020_08_28 = s2020_08_28;
-  }
-
-  public float getS2020_08_29() {
-    return s2020_08_29;
-  }
-
-  public void setS2020_08_29(float s2020_08_29) {
-    this.s2020_08_29 = s2020_08_29;
-  }
-
-  public float getS2020_08_30() {
-    return s2020_08_30;
-  }
-
-  public void setS2020_08_30(float s2020_08_30) {
-    this.s2020_08_30 = s2020_08_30;
-  }
-
-  public float getS2020_08_31() {
-    return s2020_08_31;
-  }
-
-  public void setS2020_08_31(float s2020_08_31) {
-    this.s2020_08_31 = s2020_08_31;
-  }
-
-  public float getS2020_09_01() {
-    return s2020_09_01;
-  }
-
-  public void setS2020_09_01(float s2020_09_01) {
-    this.s2020_09_01 = s2020_09_01;
-  }
-
-  public float getS2020_09_02() {
-    return s2020_09_02;
-  }
-
-  public void setS2020_09_02(float s2020_09_02) {
-    this.s2020_09_02 = s2020_09_02;
-  }
-
-  public float getS2020_09_03() {
-    return s2020_09_03;
-  }
-
-  public void setS2020_09_03(float s2020_09_03) {
-    this.s2020_09_03 = s2020_09_03;
-  }
-
-  public float getS2020_09_04() {
-    return s2020_09_04;
-  }
-
-  public void setS2020_09_04(float s2020_09_04) {
-    this.s2020_09_04 = s2020_09_04;
-  }
-
-  public float getS2020_09_05() {
-    return s2020_09_05;
-  }
-
-  public void setS2020_09_05(float s2020_09_05) {
-    this.s2020_09_05 = s2020_09_05;
-  }
-
-  public float getS2020_09_06() {
-    return s2020_09_06;
-  }
-
-  public void setS2020_09_06(float s2020_09_06) {
-    this.s2020_09_06 = s2020_09_06;
-  }
-
-  public float getS2020_09_07() {
-    return s2020_09_07;
-  }
-
-  public void setS2020_09_07(float s2020_09_07) {
-    this.s2020_09_07 = s2020_09_07;
-  }
-
-  public float getS2020_09_08() {
-    return s2020_09_08;
-  }
-
-  public void setS2020_09_08(float s2020_09_08) {
-    this.s2020_09_08 = s2020_09_08;
-  }
-
-  public float getS2020_09_09() {
-    return s2020_09_09;
-  }
-
-  public void setS2020_09_09(float s2020_09_09) {
-    this.s2020_09_09 = s2020_09_09;
-  }
-
-  public float getS2020_09_10() {
-    return s2020_09_10;
-  }
-
-  public void setS2020_09_10(float s2020_09_10) {
-    this.s2020_09_10 = s2020_09_10;
-  }
-
-  public float getS2020_09_11() {
-    return s2020_09_11;
-  }
-
-  public void setS2020_09_11(float s2020_09_11) {
-    this.s2020_09_11 = s2020_09_11;
-  }
-
-  public float getS2020_09_12() {
-    return s2020_09_12;
-  }
-
-  public void setS2020_09_12(float s2020_09_12) {
-    this.s2020_09_12 = s2020_09_12;
-  }
-
-  public float getS2020_09_13() {
-    return s2020_09_13;
-  }
-
-  public void setS2020_09_13(float s2020_09_13) {
-    this.s2020_09_13 = s2020_09_13;
-  }
-
-  public float getS2020_09_14() {
-    return s2020_09_14;
-  }
-
-  public void setS2020_09_14(float s2020_09_14) {
-    this.s2020_09_14 = s2020_09_14;
-  }
-
-  public float getS2020_09_15() {
-    return s2020_09_15;
-  }
-
-  public void setS2020_09_15(float s2020_09_15) {
-    this.s2020_09_15 = s2020_09_15;
-  }
-
-  public float getS2020_09_16() {
-    return s2020_09_16;
-  }
-
-  public void setS2020_09_16(float s2020_09_16) {
-    this.s2020_09_16 = s2020_09_16;
-  }
-
-  public float getS2020_09_17() {
-    return s2020_09_17;
-  }
-
-  public void setS2020_09_17(float s2020_09_17) {
-    this.s2020_09_17 = s2020_09_17;
-  }
-
-  public float getS2020_09_18() {
-    return s2020_09_18;
-  }
-
-  public void setS2020_09_18(float s2020_09_18) {
-    this.s2020_09_18 = s2020_09_18;
-  }
-
-  public float getS2020_09_19() {
-    return s2020_09_19;
-  }
-
-  public void setS2020_09_19(float s2020_09_19) {
-    this.s2020_09_19 = s2020_09_19;
-  }
-
-  public float getS2020_09_20() {
-    return s2020_09_20;
-  }
-
-  public void setS2020_09_20(float s2020_09_20) {
-    this.s2020_09_20 = s2020_09_20;
-  }
-
-  public float getS2020_09_21() {
-    return s2020_09_21;
-  }
-
-  public void setS2020_09_21(float s2020_09_21) {
-    this.s2020_09_21 = s2020_09_21;
-  }
-
-  public float getS2020_09_22() {
-    return s2020_09_22;
-  }
-
-  public void setS2020_09_22(float s2020_09_22) {
-    this.s2020_09_22 = s2020_09_22;
-  }
-
-  public float getS2020_09_23() {
-    return s2020_09_23;
-  }
-
-  public void setS2020_09_23(float s2020_09_23) {
-    this.s2020_09_23 = s2020_09_23;
-  }
-
-  public float getS2020_09_24() {
-    return s2020_09_24;
-  }
-
-  public void setS2020_09_24(float s2020_09_24) {
-    this.s2020_09_24 = s2020_09_24;
-  }
-
-  public float getS2020_09_25() {
-    return s2020_09_25;
-  }
-
-  public void setS2020_09_25(float s2020_09_25) {
-    this.s2020_09_25 = s2020_09_25;
-  }
-
-  public float getS2020_09_26() {
-    return s2020_09_26;
-  }
-
-  public void setS2020_09_26(float s2020_09_26) {
-    this.s2020_09_26 = s2020_09_26;
-  }
-
-  public float getS2020_09_27() {
-    return s2020_09_27;
-  }
-
-  public void setS2020_09_27(float s2020_09_27) {
-    this.s2020_09_27 = s2020_09_27;
-  }
-
-  public float getS2020_09_28() {
-    return s2020_09_28;
-  }
-
-  public void setS2020_09_28(float s2020_09_28) {
-    this.s2020_09_28 = s2020_09_28;
-  }
-
-  public float getS2020_09_29() {
-    return s2020_09_29;
-  }
-
-  public void setS2020_09_29(float s2020_09_29) {
-    this.s2020_09_29 = s2020_09_29;
-  }
-
-  public float getS2020_09_30() {
-    return s2020_09_30;
-  }
-
-  public void setS2020_09_30(float s2020_09_30) {
-    this.s2020_09_30 = s2020_09_30;
-  }
-
-  public float getS2020_10_01() {
-    return s2020_10_01;
-  }
-
-  public void setS2020_10_01(float s2020_10_01) {
-    this.s2020_10_01 = s2020_10_01;
-  }
-
-  public float getS2020_10_02() {
-    return s2020_10_02;
-  }
-
-  public void setS2020_10_02(float s2020_10_02) {
-    this.s2020_10_02 = s2020_10_02;
-  }
-
-  public float getS2020_10_03() {
-    return s2020_10_03;
-  }
-
-  public void setS2020_10_03(float s2020_10_03) {
-    this.s2020_10_03 = s2020_10_03;
-  }
-
-  public float getS2020_10_04() {
-    return s2020_10_04;
-  }
-
-  public void setS2020_10_04(float s2020_10_04) {
-    this.s2020_10_04 = s2020_10_04;
-  }
-
-  public float getS2020_10_05() {
-    return s2020_10_05;
-  }
-
-  public void setS2020_10_05(float s2020_10_05) {
-    this.s2020_10_05 = s2020_10_05;
-  }
-
-  public float getS2020_10_06() {
-    return s2020_10_06;
-  }
-
-  public void setS2020_10_06(float s2020_10_06) {
-    this.s2020_10_06 = s2020_10_06;
-  }
-
-  public float getS2020_10_07() {
-    return s2020_10_07;
-  }
-
-  public void setS2020_10_07(float s2020_10_07) {
-    this.s2020_10_07 = s2020_10_07;
-  }
-
-  public float getS2020_10_08() {
-    return s2020_10_08;
-  }
-
-  public void setS2020_10_08(float s2020_10_08) {
-    this.s2020_10_08 = s2020_10_08;
-  }
-
-  public float getS2020_10_09() {
-    return s2020_10_09;
-  }
-
-  public void setS2020_10_09(float s2020_10_09) {
-    this.s2020_10_09 = s2020_10_09;
-  }
-
-  public float getS2020_10_10() {
-    return s2020_10_10;
-  }
-
-  public void setS2020_10_10(float s2020_10_10) {
-    this.s2020_10_10 = s2020_10_10;
-  }
-
-  public float getS2020_10_11() {
-    return s2020_10_11;
-  }
-
-  public void setS2020_10_11(float s2020_10_11) {
-    this.s2020_10_11 = s2020_10_11;
-  }
-
-  public float getS2020_10_12() {
-    return s2020_10_12;
-  }
-
-  public void setS2020_10_12(float s2020_10_12) {
-    this.s2020_10_12 = s2020_10_12;
-  }
-
-  @Override
-  public String toString() {
-    return (
-      "DSHistoricalCovid{" +
-      //            "Combined_Key='" + Combined_Key + '\'' +
-      ", s2020_01_22=" +
-      s2020_01_22 +
-      ", s2020_01_23=" +
-      s2020_01_23 +
-      ", s2020_01_24=" +
-      s2020_01_24 +
-      ", s2020_01_25=" +
-      s2020_01_25 +
-      ", s2020_01_26=" +
-      s2020_01_26 +
-      ", s2020_01_27=" +
-      s2020_01_27 +
-      ", s2020_01_28=" +
-      s2020_01_28 +
-      ", s2020_01_29=" +
-      s2020_01_29 +
-      ", s2020_01_30=" +
-      s2020_01_30 +
-      ", s2020_01_31=" +
-      s2020_01_31 +
-      ", s2020_02_01=" +
-      s2020_02_01 +
-      ", s2020_02_02=" +
-      s2020_02_02 +
-      ", s2020_02_03=" +
-      s2020_02_03 +
-      ", s2020_02_04=" +
-      s2020_02_04 +
-      ", s2020_02_05=" +
-      s2020_02_05 +
-      ", s2020_02_06=" +
-      s2020_02_06 +
-      ", s2020_02_07=" +
-      s2020_02_07 +
-      ", s2020_02_08=" +
-      s2020_02_08 +
-      ", s2020_02_09=" +
-      s2020_02_09 +
-      ", s2020_02_10=" +
-      s2020_02_10 +
-      ", s2020_02_11=" +
-      s2020_02_11 +
-      ", s2020_02_12=" +
-      s2020_02_12 +
-      ", s2020_02_13=" +
-      s2020_02_13 +
-      ", s2020_02_14=" +
-      s2020_02_14 +
-      ", s2020_02_15=" +
-      s2020_02_15 +
-      ", s2020_02_16=" +
-      s2020_02_16 +
-      ", s2020_02_17=" +
-      s2020_02_17 +
-      ", s2020_02_18=" +
-      s2020_02_18 +
-      ", s2020_02_19=" +
-      s2020_02_19 +
-      ", s2020_02_20=" +
-      s2020_02_20 +
-      ", s2020_02_21=" +
-      s2020_02_21 +
-      ", s2020_02_22=" +
-      s2020_02_22 +
-      ", s2020_02_23=" +
-      s2020_02_23 +
-      ", s2020_02_24=" +
-      s2020_02_24 +
-      ", s2020_02_25=" +
-      s2020_02_25 +
-      ", s2020_02_26=" +
-      s2020_02_26 +
-      ", s2020_02_27=" +
-      s2020_02_27 +
-      ", s2020_02_28=" +
-      s2020_02_28 +
-      ", s2020_02_29=" +
-      s2020_02_29 +
-      ", s2020_03_01=" +
-      s2020_03_01 +
-      ", s2020_03_02=" +
-      s2020_03_02 +
-      ", s2020_03_03=" +
-      s2020_03_03 +
-      ", s2020_03_04=" +
-      s2020_03_04 +
-      ", s2020_03_05=" +
-      s2020_03_05 +
-      ", s2020_03_06=" +
-      s2020_03_06 +
-      ", s2020_03_07=" +
-      s2020_03_07 +
-      ", s2020_03_08=" +
-      s2020_03_08 +
-      ", s2020_03_09=" +
-      s2020_03_09 +
-      ", s2020_03_10=" +
-      s2020_03_10 +
-      ", s2020_03_11=" +
-      s2020_03_11 +
-      ", s2020_03_12=" +
-      s2020_03_12 +
-      ", s2020_03_13=" +
-      s2020_03_13 +
-      ", s2020_03_14=" +
-      s2020_03_14 +
-      ", s2020_03_15=" +
-      s2020_03_15 +
-      ", s2020_03_16=" +
-      s2020_03_16 +
-      ", s2020_03_17=" +
-      s2020_03_17 +
-      ", s2020_03_18=" +
-      s2020_03_18 +
-      ", s2020_03_19=" +
-      s2020_03_19 +
-      ", s2020_03_20=" +
-      s2020_03_20 +
-      ", s2020_03_21=" +
-      s2020_03_21 +
-      ", s2020_03_22=" +
-      s2020_03_22 +
-      ", s2020_03_23=" +
-      s2020_03_23 +
-      ", s2020_03_24=" +
-      s2020_03_24 +
-      ", s2020_03_25=" +
-      s2020_03_25 +
-      ", s2020_03_26=" +
-      s2020_03_26 +
-      ", s2020_03_27=" +
-      s2020_03_27 +
-      ", s2020_03_28=" +
-      s2020_03_28 +
-      ", s2020_03_29=" +
-      s2020_03_29 +
-      ", s2020_03_30=" +
-      s2020_03_30 +
-      ", s2020_03_31=" +
-      s2020_03_31 +
-      ", s2020_04_01=" +
-      s2020_04_01 +
-      ", s2020_04_02=" +
-      s2020_04_02 +
-      ", s2020_04_03=" +
-      s2020_04_03 +
-      ", s2020_04_04=" +
-      s2020_04_04 +
-      ", s2020_04_05=" +
-      s2020_04_05 +
-      ", s2020_04_06=" +
-      s2020_04_06 +
-      ", s2020_04_07=" +
-      s2020_04_07 +
-      ", s2020_04_08=" +
-      s2020_04_08 +
-      ", s2020_04_09=" +
-      s2020_04_09 +
-      ", s2020_04_10=" +
-      s2020_04_10 +
-      ", s2020_04_11=" +
-      s2020_04_11 +
-      ", s2020_04_12=" +
-      s2020_04_12 +
-      ", s2020_04_13=" +
-      s2020_04_13 +
-      ", s2020_04_14=" +
-      s2020_04_14 +
-      ", s2020_04_15=" +
-      s2020_04_15 +
-      ", s2020_04_16=" +
-      s2020_04_16 +
-      ", s2020_04_17=" +
-      s2020_04_17 +
-      ", s2020_04_18=" +
-      s2020_04_18 +
-      ", s2020_04_19=" +
-      s2020_04_19 +
-      ", s2020_04_20=" +
-      s2020_04_20 +
-      ", s2020_04_21=" +
-      s2020_04_21 +
-      ", s2020_04_22=" +
-      s2020_04_22 +
-      ", s2020_04_23=" +
-      s2020_04_23 +
-      ", s2020_04_24=" +
-      s2020_04_24 +
-      ", s2020_04_25=" +
-      s2020_04_25 +
-      ", s2020_04_26=" +
-      s2020_04_26 +
-      ", s2020_04_27=" +
-      s2020_04_27 +
-      ", s2020_04_28=" +
-      s2020_04_28 +
-      ", s2020_04_29=" +
-      s2020_04_29 +
-      ", s2020_04_30=" +
-      s2020_04_30 +
-      ", s2020_05_01=" +
-      s2020_05_01 +
-      ", s2020_05_02=" +
-      s2020_05_02 +
-      ", s2020_05_03=" +
-      s2020_05_03 +
-      ", s2020_05_04=" +
-      s2020_05_04 +
-      ", s2020_05_05=" +
-      s2020_05_05 +
-      ", s2020_05_06=" +
-      s2020_05_06 +
-      ", s2020_05_07=" +
-      s2020_05_07 +
-      ", s2020_05_08=" +
-      s2020_05_08 +
-      ", s2020_05_09=" +
-      s2020_05_09 +
-      ", s2020_05_10=" +
-      s2020_05_10 +
-      ", s2020_05_11=" +
-      s2020_05_11 +
-      ", s2020_05_12=" +
-      s2020_05_12 +
-      ", s2020_05_13=" +
-      s2020_05_13 +
-      ", s2020_05_14=" +
-      s2020_05_14 +
-      ", s2020_05_15=" +
-      s2020_05_15 +
-      ", s2020_05_16=" +
-      s2020_05_16 +
-      ", s2020_05_17=" +
-      s2020_05_17 +
-      ", s2020_05_18=" +
-      s2020_05_18 +
-      ", s2020_05_19=" +
-      s2020_05_19 +
-      ", s2020_05_20=" +
-      s2020_05_20 +
-      ", s2020_05_21=" +
-      s2020_05_21 +
-      ", s2020_05_22=" +
-      s2020_05_22 +
-      ", s2020_05_23=" +
-      s2020_05_23 +
-      ", s2020_05_24=" +
-      s2020_05_24 +
-      ", s2020_05_25=" +
-      s2020_05_25 +
-      ", s2020_05_26=" +
-      s2020_05_26 +
-      ", s2020_05_27=" +
-      s2020_05_27 +
-      ", s2020_05_28=" +
-      s2020_05_28 +
-      ", s2020_05_29=" +
-      s2020_05_29 +
-      ", s2020_05_30=" +
-      s2020_05_30 +
-      ", s2020_05_31=" +
-      s2020_05_31 +
-      ", s2020_06_01=" +
-      s2020_06_01 +
-      ", s2020_06_02=" +
-      s2020_06_02 +
-      ", s2020_06_03=" +
-      s2020_06_03 +
-      ", s2020_06_04=" +
-      s2020_06_04 +
-      ", s2020_06_05=" +
-      s2020_06_05 +
-      ", s2020_06_06=" +
-      s2020_06_06 +
-      ", s2020_06_07=" +
-      s2020_06_07 +
-      ", s2020_06_08=" +
-      s2020_06_08 +
-      ", s2020_06_09=" +
-      s2020_06_09 +
-      ", s2020_06_10=" +
-      s2020_06_10 +
-      ", s2020_06_11=" +
-      s2020_06_11 +
-      ", s2020_06_12=" +
-      s2020_06_12 +
-      ", s2020_06_13=" +
-      s2020_06_13 +
-      ", s2020_06_14=" +
-      s2020_06_14 +
-      ", s2020_06_15=" +
-      s2020_06_15 +
-      ", s2020_06_16=" +
-      s2020_06_16 +
-      ", s2020_06_17=" +
-      s2020_06_17 +
-      ", s2020_06_18=" +
-      s2020_06_18 +
-      ", s2020_06_19=" +
-      s2020_06_19 +
-      ", s2020_06_20=" +
-      s2020_06_20 +
-      ", s2020_06_21=" +
-      s2020_06_21 +
-      ", s2020_06_22=" +
-      s2020_06_22 +
-      ", s2020_06_23=" +
-      s2020_06_23 +
-      ", s2020_06_24=" +
-      s2020_06_24 +
-      ", s2020_06_25=" +
-      s2020_06_25 +
-      ", s2020_06_26=" +
-      s2020_06_26 +
-      ", s2020_06_27=" +
-      s2020_06_27 +
-      ", s2020_06_28=" +
-      s2020_06_28 +
-      ", s2020_06_29=" +
-      s2020_06_29 +
-      ", s2020_06_30=" +
-      s2020_06_30 +
-      ", s2020_07_01=" +
-      s2020_07_01 +
-      ", s2020_07_02=" +
-      s2020_07_02 +
-      ", s2020_07_03=" +
-      s2020_07_03 +
-      ", s2020_07_04=" +
-      s2020_07_04 +
-      ", s2020_07_05=" +
-      s2020_07_05 +
-      ", s2020_07_06=" +
-      s2020_07_06 +
-      ", s2020_07_07=" +
-      s2020_07_07 +
-      ", s2020_07_08=" +
-      s2020_07_08 +
-      ", s2020_07_09=" +
-      s2020_07_09 +
-      ", s2020_07_10=" +
-      s2020_07_10 +
-      ", s2020_07_11=" +
-      s2020_07_11 +
-      ", s2020_07_12=" +
-      s2020_07_12 +
-      ", s2020_07_13=" +
-      s2020_07_13 +
-      ", s2020_07_14=" +
-      s2020_07_14 +
-      ", s2020_07_15=" +
-      s2020_07_15 +
-      ", s2020_07_16=" +
-      s2020_07_16 +
-      ", s2020_07_17=" +
-      s2020_07_17 +
-      ", s2020_07_18=" +
-      s2020_07_18 +
-      ", s2020_07_19=" +
-      s2020_07_19 +
-      ", s2020_07_20=" +
-      s2020_07_20 +
-      ", s2020_07_21=" +
-      s2020_07_21 +
-      ", s2020_07_22=" +
-      s2020_07_22 +
-      ", s2020_07_23=" +
-      s2020_07_23 +
-      ", s2020_07_24=" +
-      s2020_07_24 +
-      ", s2020_07_25=" +
-      s2020_07_25 +
-      ", s2020_07_26=" +
-      s2020_07_26 +
-      ", s2020_07_27=" +
-      s2020_07_27 +
-      ", s2020_07_28=" +
-      s2020_07_28 +
-      ", s2020_07_29=" +
-      s2020_07_29 +
-      ", s2020_07_30=" +
-      s2020_07_30 +
-      ", s2020_07_31=" +
-      s2020_07_31 +
-      ", s2020_08_01=" +
-      s2020_08_01 +
-      ", s2020_08_02=" +
-      s2020_08_02 +
-      ", s2020_08_03=" +
-      s2020_08_03 +
-      ", s2020_08_04=" +
-      s2020_08_04 +
-      ", s2020_08_05=" +
-      s2020_08_05 +
-      ", s2020_08_06=" +
-      s2020_08_06 +
-      ", s2020_08_07=" +
-      s2020_08_07 +
-      ", s2020_08_08=" +
-      s2020_08_08 +
-      ", s2020_08_09=" +
-      s2020_08_09 +
-      ", s2020_08_10=" +
-      s2020_08_10 +
-      ", s2020_08_11=" +
-      s2020_08_11 +
-      ", s2020_08_12=" +
-      s2020_08_12 +
-      ", s2020_08_13=" +
-      s2020_08_13 +
-      ", s2020_08_14=" +
-      s2020_08_14 +
-      ", s2020_08_15=" +
-      s2020_08_15 +
-      ", s2020_08_16=" +
-      s2020_08_16 +
-      ", s2020_08_17=" +
-      s2020_08_17 +
-      ", s2020_08_18=" +
-      s2020_08_18 +
-      ", s2020_08_19=" +
-      s2020_08_19 +
-      ", s2020_08_20=" +
-      s2020_08_20 +
-      ", s2020_08_21=" +
-      s2020_08_21 +
-      ", s2020_08_22=" +
-      s2020_08_22 +
-      ", s2020_08_23=" +
-      s2020_08_23 +
-      ", s2020_08_24=" +
-      s2020_08_24 +
-      ", s2020_08_25=" +
-      s2020_08_25 +
-      ", s2020_08_26=" +
-      s2020_08_26 +
-      ", s2020_08_27=" +
-      s2020_08_27 +
-      ", s2020_08_28=" +
-      s2020_08_28 +
-      ", s2020_08_29=" +
-      s2020_08_29 +
-      ", s2020_08_30=" +
-      s2020_08_30 +
-      ", s2020_08_31=" +
-      s2020_08_31 +
-      ", s2020_09_01=" +
-      s2020_09_01 +
-      ", s2020_09_02=" +
-      s2020_09_02 +
-      ", s2020_09_03=" +
-      s2020_09_03 +
-      ", s2020_09_04=" +
-      s2020_09_04 +
-      ", s2020_09_05=" +
-      s2020_09_05 +
-      ", s2020_09_06=" +
-      s2020_09_06 +
-      ", s2020_09_07=" +
-      s2020_09_07 +
-      ", s2020_09_08=" +
-      s2020_09_08 +
-      ", s2020_09_09=" +
-      s2020_09_09 +
-      ", s2020_09_10=" +
-      s2020_09_10 +
-      ", s2020_09_11=" +
-      s2020_09_11 +
-      ", s2020_09_12=" +
-      s2020_09_12 +
-      ", s2020_09_13=" +
-      s2020_09_13 +
-      ", s2020_09_14=" +
-      s2020_09_14 +
-      ", s2020_09_15=" +
-      s2020_09_15 +
-      ", s2020_09_16=" +
-      s2020_09_16 +
-      ", s2020_09_17=" +
-      s2020_09_17 +
-      ", s2020_09_18=" +
-      s2020_09_18 +
-      ", s2020_09_19=" +
-      s2020_09_19 +
-      ", s2020_09_20=" +
-      s2020_09_20 +
-      ", s2020_09_21=" +
-      s2020_09_21 +
-      ", s2020_09_22=" +
-      s2020_09_22 +
-      ", s2020_09_23=" +
-      s2020_09_23 +
-      ", s2020_09_24=" +
-      s2020_09_24 +
-      ", s2020_09_25=" +
-      s2020_09_25 +
-      ", s2020_09_26=" +
-      s2020_09_26 +
-      ", s2020_09_27=" +
-      s2020_09_27 +
-      ", s2020_09_28=" +
-      s2020_09_28 +
-      ", s2020_09_29=" +
-      s2020_09_29 +
-      ", s2020_09_30=" +
-      s2020_09_30 +
-      ", s2020_10_01=" +
-      s2020_10_01 +
-      ", s2020_10_02=" +
-      s2020_10_02 +
-      ", s2020_10_03=" +
-      s2020_10_03 +
-      ", s2020_10_04=" +
-      s2020_10_04 +
-      ", s2020_10_05=" +
-      s2020_10_05 +
-      ", s2020_10_06=" +
-      s2020_10_06 +
-      ", s2020_10_07=" +
-      s2020_10_07 +
-      ", s2020_10_08=" +
-      s2020_10_08 +
-      ", s2020_10_09=" +
-      s2020_10_09 +
-      ", s2020_10_10=" +
-      s2020_10_10 +
-      ", s2020_10_11=" +
-      s2020_10_11 +
-      ", s2020_10_12=" +
-      s2020_10_12 +
-      '}'
-    );
-  }
-}
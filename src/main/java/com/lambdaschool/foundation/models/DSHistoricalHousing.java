@@ -1,1685 +0,0 @@
-package com.lambdaschool.foundation.models;
-
-import com.fasterxml.jackson.annotation.JsonProperty;
-
-public class DSHistoricalHousing {
-
-  /**
-   * This model is used to parse the historical
-   * data coming in from the DS API
-   */
-
-  @JsonProperty("2010_01_31")
-  private float s2010_01_31;
-
-  @JsonProperty("2010_02_28")
-  private float s2010_02_28;
-
-  @JsonProperty("2010_03_31")
-  private float s2010_03_31;
-
-  @JsonProperty("2010_04_30")
-  private float s2010_04_30;
-
-  @JsonProperty("2010_05_31")
-  private float s2010_05_31;
-
-  @JsonProperty("2010_06_30")
-  private float s2010_06_30;
-
-  @JsonProperty("2010_07_31")
-  private float s2010_07_31;
-
-  @JsonProperty("2010_08_31")
-  private float s2010_08_31;
-
-  @JsonProperty("2010_09_30")
-  private float s2010_09_30;
-
-  @JsonProperty("2010_10_31")
-  private float s2010_10_31;
-
-  @JsonProperty("2010_11_30")
-  private float s2010_11_30;
-
-  @JsonProperty("2010_12_31")
-  private float s2010_12_31;
-
-  @JsonProperty("2011_01_31")
-  private float s2011_01_31;
-
-  @JsonProperty("2011_02_28")
-  private float s2011_02_28;
-
-  @JsonProperty("2011_03_31")
-  private float s2011_03_31;
-
-  @JsonProperty("2011_04_30")
-  private float s2011_04_30;
-
-  @JsonProperty("2011_05_31")
-  private float s2011_05_31;
-
-  @JsonProperty("2011_06_30")
-  private float s2011_06_30;
-
-  @JsonProperty("2011_07_31")
-  private float s2011_07_31;
-
-  @JsonProperty("2011_08_31")
-  private float s2011_08_31;
-
-  @JsonProperty("2011_09_30")
-  private float s2011_09_30;
-
-  @JsonProperty("2011_10_31")
-  private float s2011_10_31;
-
-  @JsonProperty("2011_11_30")
-  private float s2011_11_30;
-
-  @JsonProperty("2011_12_31")
-  private float s2011_12_31;
-
-  @JsonProperty("2012_01_31")
-  private float s2012_01_31;
-
-  @JsonProperty("2012_02_29")
-  private float s2012_02_29;
-
-  @JsonProperty("2012_03_31")
-  private float s2012_03_31;
-
-  @JsonProperty("2012_04_30")
-  private float s2012_04_30;
-
-  @JsonProperty("2012_05_31")
-  private float s2012_05_31;
-
-  @JsonProperty("2012_06_30")
-  private float s2012_06_30;
-
-  @JsonProperty("2012_07_31")
-  private float s2012_07_31;
-
-  @JsonProperty("2012_08_31")
-  private float s2012_08_31;
-
-  @JsonProperty("2012_09_30")
-  private float s2012_09_30;
-
-  @JsonProperty("2012_10_31")
-  private float s2012_10_31;
-
-  @JsonProperty("2012_11_30")
-  private float s2012_11_30;
-
-  @JsonProperty("2012_12_31")
-  private float s2012_12_31;
-
-  @JsonProperty("2013_01_31")
-  private float s2013_01_31;
-
-  @JsonProperty("2013_02_28")
-  private float s2013_02_28;
-
-  @JsonProperty("2013_03_31")
-  private float s2013_03_31;
-
-  @JsonProperty("2013_04_30")
-  private float s2013_04_30;
-
-  @JsonProperty("2013_05_31")
-  private float s2013_05_31;
-
-  @JsonProperty("2013_06_30")
-  private float s2013_06_30;
-
-  @JsonProperty("2013_07_31")
-  private float s2013_07_31;
-
-  @JsonProperty("2013_08_31")
-  private float s2013_08_31;
-
-  @JsonProperty("2013_09_30")
-  private float s2013_09_30;
-
-  @JsonProperty("2013_10_31")
-  private float s2013_10_31;
-
-  @JsonProperty("2013_11_30")
-  private float s2013_11_30;
-
-  @JsonProperty("2013_12_31")
-  private float s2013_12_31;
-
-  @JsonProperty("2014_01_31")
-  private float s2014_01_31;
-
-  @JsonProperty("2014_02_28")
-  private float s2014_02_28;
-
-  @JsonProperty("2014_03_31")
-  private float s2014_03_31;
-
-  @JsonProperty("2014_04_30")
-  private float s2014_04_30;
-
-  @JsonProperty("2014_05_31")
-  private float s2014_05_31;
-
-  @JsonProperty("2014_06_30")
-  private float s2014_06_30;
-
-  @JsonProperty("2014_07_31")
-  private float s2014_07_31;
-
-  @JsonProperty("2014_08_31")
-  private float s2014_08_31;
-
-  @JsonProperty("2014_09_30")
-  private float s2014_09_30;
-
-  @JsonProperty("2014_10_31")
-  private float s2014_10_31;
-
-  @JsonProperty("2014_11_30")
-  private float s2014_11_30;
-
-  @JsonProperty("2014_12_31")
-  private float s2014_12_31;
-
-  @JsonProperty("2015_01_31")
-  private float s2015_01_31;
-
-  @JsonProperty("2015_02_28")
-  private float s2015_02_28;
-
-  @JsonProperty("2015_03_31")
-  private float s2015_03_31;
-
-  @JsonProperty("2015_04_30")
-  private float s2015_04_30;
-
-  @JsonProperty("2015_05_31")
-  private float s2015_05_31;
-
-  @JsonProperty("2015_06_30")
-  private float s2015_06_30;
-
-  @JsonProperty("2015_07_31")
-  private float s2015_07_31;
-
-  @JsonProperty("2015_08_31")
-  private float s2015_08_31;
-
-  @JsonProperty("2015_09_30")
-  private float s2015_09_30;
-
-  @JsonProperty("2015_10_31")
-  private float s2015_10_31;
-
-  @JsonProperty("2015_11_30")
-  private float s2015_11_30;
-
-  @JsonProperty("2015_12_31")
-  private float s2015_12_31;
-
-  @JsonProperty("2016_01_31")
-  private float s2016_01_31;
-
-  @JsonProperty("2016_02_29")
-  private float s2016_02_29;
-
-  @JsonProperty("2016_03_31")
-  private float s2016_03_31;
-
-  @JsonProperty("2016_04_30")
-  private float s2016_04_30;
-
-  @JsonProperty("2016_05_31")
-  private float s2016_05_31;
-
-  @JsonProperty("2016_06_30")
-  private float s2016_06_30;
-
-  @JsonProperty("2016_07_31")
-  private float s2016_07_31;
-
-  @JsonProperty("2016_08_31")
-  private float s2016_08_31;
-
-  @JsonProperty("2016_09_30")
-  private float s2016_09_30;
-
-  @JsonProperty("2016_10_31")
-  private float s2016_10_31;
-
-  @JsonProperty("2016_11_30")
-  private float s2016_11_30;
-
-  @JsonProperty("2016_12_31")
-  private float s2016_12_31;
-
-  @JsonProperty("2017_01_31")
-  private float s2017_01_31;
-
-  @JsonProperty("2017_02_28")
-  private float s2017_02_28;
-
-  @JsonProperty("2017_03_31")
-  private float s2017_03_31;
-
-  @JsonProperty("2017_04_30")
-  private float s2017_04_30;
-
-  @JsonProperty("2017_05_31")
-  private float s2017_05_31;
-
-  @JsonProperty("2017_06_30")
-  private float s2017_06_30;
-
-  @JsonProperty("2017_07_31")
-  private float s2017_07_31;
-
-  @JsonProperty("2017_08_31")
-  private float s2017_08_31;
-
-  @JsonProperty("2017_09_30")
-  private float s2017_09_30;
-
-  @JsonProperty("2017_10_31")
-  private float s2017_10_31;
-
-  @JsonProperty("2017_11_30")
-  private float s2017_11_30;
-
-  @JsonProperty("2017_12_31")
-  private float s2017_12_31;
-
-  @JsonProperty("2018_01_31")
-  private float s2018_01_31;
-
-  @JsonProperty("2018_02_28")
-  private float s2018_02_28;
-
-  @JsonProperty("2018_03_31")
-  private float s2018_03_31;
-
-  @JsonProperty("2018_04_30")
-  private float s2018_04_30;
-
-  @JsonProperty("2018_05_31")
-  private float s2018_05_31;
-
-  @JsonProperty("2018_06_30")
-  private float s2018_06_30;
-
-  @JsonProperty("2018_07_31")
-  private float s2018_07_31;
-
-  @JsonProperty("2018_08_31")
-  private float s2018_08_31;
-
-  @JsonProperty("2018_09_30")
-  private float s2018_09_30;
-
-  @JsonProperty("2018_10_31")
-  private float s2018_10_31;
-
-  @JsonProperty("2018_11_30")
-  private float s2018_11_30;
-
-  @JsonProperty("2018_12_31")
-  private float s2018_12_31;
-
-  @JsonProperty("2019_01_31")
-  private float s2019_01_31;
-
-  @JsonProperty("2019_02_28")
-  private float s2019_02_28;
-
-  @JsonProperty("2019_03_31")
-  private float s2019_03_31;
-
-  @JsonProperty("2019_04_30")
-  private float s2019_04_30;
-
-  @JsonProperty("2019_05_31")
-  private float s2019_05_31;
-
-  @JsonProperty("2019_06_30")
-  private float s2019_06_30;
-
-  @JsonProperty("2019_07_31")
-  private float s2019_07_31;
-
-  @JsonProperty("2019_08_31")
-  private float s2019_08_31;
-
-  @JsonProperty("2019_09_30")
-  private float s2019_09_30;
-
-  @JsonProperty("2019_10_31")
-  private float s2019_10_31;
-
-  @JsonProperty("2019_11_30")
-  private float s2019_11_30;
-
-  @JsonProperty("2019_12_31")
-  private float s2019_12_31;
-
-  @JsonProperty("2020_01_31")
-  private float s2020_01_31;
-
-  @JsonProperty("2020_02_29")
-  private float s2020_02_29;
-
-  @JsonProperty("2020_03_31")
-  private float s2020_03_31;
-
-  @JsonProperty("2020_04_30")
-  private float s2020_04_30;
-
-  @JsonProperty("2020_05_31")
-  private float s2020_05_31;
-
-  @JsonProperty("2020_06_30")
-  private float s2020_06_30;
-
-  @JsonProperty("2020_07_31")
-  private float s2020_07_31;
-
-  @JsonProperty("2020_08_31")
-  private float s2020_08_31;
-
-  public DSHistoricalHousing() {}
-
-  public float getS2010_01_31() {
-    return s2010_01_31;
-  }
-
-  public void setS2010_01_31(float s2010_01_31) {
-    this.s2010_01_31 = s2010_01_31;
-  }
-
-  public float getS2010_02_28() {
-    return s2010_02_28;
-  }
-
-  public void setS2010_02_28(float s2010_02_28) {
-    this.s2010_02_28 = s2010_02_28;
-  }
-
-  public float getS2010_03_31() {
-    return s2010_03_31;
-  }
-
-  public void setS2010_03_31(float s2010_03_31) {
-    this.s2010_03_31 = s2010_03_31;
-  }
-
-  public float getS2010_04_30() {
-    return s2010_04_30;
-  }
-
-  public void setS2010_04_30(float s2010_04_30) {
-    this.s2010_04_30 = s2010_04_30;
-  }
-
-  public float getS2010_05_31() {
-    return s2010_05_31;
-  }
-
-  public void setS2010_05_31(float s2010_05_31) {
-    this.s2010_05_31 = s2010_05_31;
-  }
-
-  public float getS2010_06_30() {
-    return s2010_06_30;
-  }
-
-  public void setS2010_06_30(float s2010_06_30) {
-    this.s2010_06_30 = s2010_06_30;
-  }
-
-  public float getS2010_07_31() {
-    return s2010_07_31;
-  }
-
-  public void setS2010_07_31(float s2010_07_31) {
-    this.s2010_07_31 = s2010_07_31;
-  }
-
-  public float getS2010_08_31() {
-    return s2010_08_31;
-  }
-
-  public void setS2010_08_31(float s2010_08_31) {
-    this.s2010_08_31 = s2010_08_31;
-  }
-
-  public float getS2010_09_30() {
-    return s2010_09_30;
-  }
-
-  public void setS2010_09_30(float s2010_09_30) {
-    this.s2010_09_30 = s2010_09_30;
-  }
-
-  public float getS2010_10_31() {
-    return s2010_10_31;
-  }
-
-  public void setS2010_10_31(float s2010_10_31) {
-    this.s2010_10_31 = s2010_10_31;
-  }
-
-  public float getS2010_11_30() {
-    return s2010_11_30;
-  }
-
-  public void setS2010_11_30(float s2010_11_30) {
-    this.s2010_11_30 = s2010_11_30;
-  }
-
-  public float getS2010_12_31() {
-    return s2010_12_31;
-  }
-
-  public void setS2010_12_31(float s2010_12_31) {
-    this.s2010_12_31 = s2010_12_31;
-  }
-
-  public float getS2011_01_31() {
-    return s2011_01_31;
-  }
-
-  public void setS2011_01_31(float s2011_01_31) {
-    this.s2011_01_31 = s2011_01_31;
-  }
-
-  public float getS2011_02_28() {
-    return s2011_02_28;
-  }
-
-  public void setS2011_02_28(float s2011_02_28) {
-    this.s2011_02_28 = s2011_02_28;
-  }
-
-  public float getS2011_03_31() {
-    return s2011_03_31;
-  }
-
-  public void setS2011_03_31(float s2011_03_31) {
-    this.s2011_03_31 = s2011_03_31;
-  }
-
-  public float getS2011_04_30() {
-    return s2011_04_30;
-  }
-
-  public void setS2011_04_30(float s2011_04_30) {
-    this.s2011_04_30 = s2011_04_30;
-  }
-
-  public float getS2011_05_31() {
-    return s2011_05_31;
-  }
-
-  public void setS2011_05_31(float s2011_05_31) {
-    this.s2011_05_31 = s2011_05_31;
-  }
-
-  public float getS2011_06_30() {
-    return s2011_06_30;
-  }
-
-  public void setS2011_06_30(float s2011_06_30) {
-    this.s2011_06_30 = s2011_06_30;
-  }
-
-  public float getS2011_07_31() {
-    return s2011_07_31;
-  }
-
-  public void setS2011_07_31(float s2011_07_31) {
-    this.s2011_07_31 = s2011_07_31;
-  }
-
-  public float getS2011_08_31() {
-    return s2011_08_31;
-  }
-
-  public void setS2011_08_31(float s2011_08_31) {
-    this.s2011_08_31 = s2011_08_31;
-  }
-
-  public float getS2011_09_30() {
-    return s2011_09_30;
-  }
-
-  public void setS2011_09_30(float s2011_09_30) {
-    this.s2011_09_30 = s2011_09_30;
-  }
-
-  public float getS2011_10_31() {
-    return s2011_10_31;
-  }
-
-  public void setS2011_10_31(float s2011_10_31) {
-    this.s2011_10_31 = s2011_10_31;
-  }
-
-  public float getS2011_11_30() {
-    return s2011_11_30;
-  }
-
-  public void setS2011_11_30(float s2011_11_30) {
-    this.s2011_11_30 = s2011_11_30;
-  }
-
-  public float getS2011_12_31() {
-    return s2011_12_31;
-  }
-
-  public void setS2011_12_31(float s2011_12_31) {
-    this.s2011_12_31 = s2011_12_31;
-  }
-
-  public float getS2012_01_31() {
-    return s2012_01_31;
-  }
-
-  public void setS2012_01_31(float s2012_01_31) {
-    this.s2012_01_31 = s2012_01_31;
-  }
-
-  public float getS2012_02_29() {
-    return s2012_02_29;
-  }
-
-  public void setS2012_02_29(float s2012_02_29) {
-    this.s2012_02_29 = s2012_02_29;
-  }
-
-  public float getS2012_03_31() {
-    return s2012_03_31;
-  }
-
-  public void setS2012_03_31(float s2012_03_31) {
-    this.s2012_03_31 = s2012_03_31;
-  }
-
-  public float getS2012_04_30() {
-    return s2012_04_30;
-  }
-
-  public void setS2012_04_30(float s2012_04_30) {
-    this.s2012_04_30 = s2012_04_30;
-  }
-
-  public float getS2012_05_31() {
-    return s2012_05_31;
-  }
-
-  public void setS2012_05_31(float s2012_05_31) {
-    this.s2012_05_31 = s2012_05_31;
-  }
-
-  public float getS2012_06_30() {
-    return s2012_06_30;
-  }
-
-  public void setS2012_06_30(float s2012_06_30) {
-    this.s2012_06_30 = s2012_06_30;
-  }
-
-  public float getS2012_07_31() {
-    return s2012_07_31;
-  }
-
-  public void setS2012_07_31(float s2012_07_31) {
-    this.s2012_07_31 = s2012_07_31;
-  }
-
-  public float getS2012_08_31() {
-    return s2012_08_31;
-  }
-
-  public void setS2012_08_31(float s2012_08_31) {
-    this.s2012_08_31 = s2012_08_31;
-  }
-
-  public float getS2012_09_30() {
-    return s2012_09_30;
-  }
-
-  public void setS2012_09_30(float s2012_09_30) {
-    this.s2012_09_30 = s2012_09_30;
-  }
-
-  public float getS2012_10_31() {
-    return s2012_10_31;
-  }
-
-  public void setS2012_10_31(float s2012_10_31) {
-    this.s2012_10_31 = s2012_10_31;
-  }
-
-  public float getS2012_11_30() {
-    return s2012_11_30;
-  }
-
-  public void setS2012_11_30(float s2012_11_30) {
-    this.s2012_11_30 = s2012_11_30;
-  }
-
-  public float getS2012_12_31() {
-    return s2012_12_31;
-  }
-
-  public void setS2012_12_31(float s2012_12_31) {
-    this.s2012_12_31 = s2012_12_31;
-  }
-
-  public float getS2013_01_31() {
-    return s2013_01_31;
-  }
-
-  public void setS2013_01_31(float s2013_01_31) {
-    this.s2013_01_31 = s2013_01_31;
-  }
-
-  public float getS2013_02_28() {
-    return s2013_02_28;
-  }
-
-  public void setS2013_02_28(float s2013_02_28) {
-    this.s2013_02_28 = s2013_02_28;
-  }
-
-  public float getS2013_03_31() {
-    return s2013_03_31;
-  }
-
-  public void setS2013_03_31(float s2013_03_31) {
-    this.s2013_03_31 = s2013_03_31;
-  }
-
-  public float getS2013_04_30() {
-    return s2013_04_30;
-  }
-
-  public void setS2013_04_30(float s2013_04_30) {
-    this.s2013_04_30 = s2013_04_30;
-  }
-
-  public float getS2013_05_31() {
-    return s2013_05_31;
-  }
-
-  public void setS2013_05_31(float s2013_05_31) {
-    this.s2013_05_31 = s2013_05_31;
-  }
-
-  public float getS2013_06_30() {
-    return s2013_06_30;
-  }
-
-  public void setS2013_06_30(float s2013_06_30) {
-    this.s2013_06_30 = s2013_06_30;
-  }
-
-  public float getS2013_07_31() {
-    return s2013_07_31;
-  }
-
-  public void setS2013_07_31(float s2013_07_31) {
-    this.s2013_07_31 = s2013_07_31;
-  }
-
-  public float getS2013_08_31() {
-    return s2013_08_31;
-  }
-
-  public void setS2013_08_31(float s2013_08_31) {
-    this.s2013_08_31 = s2013_08_31;
-  }
-
-  public float getS2013_09_30() {
-    return s2013_09_30;
-  }
-
-  public void setS2013_09_30(float s2013_09_30) {
-    this.s2013_09_30 = s2013_09_30;
-  }
-
-  public float getS2013_10_31() {
-    return s2013_10_31;
-  }
-
-  public void setS2013_10_31(float s2013_10_31) {
-    this.s2013_10_31 = s2013_10_31;
-  }
-
-  public float getS2013_11_30() {
-    return s2013_11_30;
-  }
-
-  public void setS2013_11_30(float s2013_11_30) {
-    this.s2013_11_30 = s2013_11_30;
-  }
-
-  public float getS2013_12_31() {
-    return s2013_12_31;
-  }
-
-  public void setS2013_12_31(float s2013_12_31) {
-    this.s2013_12_31 = s2013_12_31;
-  }
-
-  public float getS2014_01_31() {
-    return s2014_01_31;
-  }
-
-  public void setS2014_01_31(float s2014_01_31) {
-    this.s2014_01_31 = s2014_01_31;
-  }
-
-  public float getS2014_02_28() {
-    return s2014_02_28;
-  }
-
-  public void setS2014_02_28(float s2014_02_28) {
-    this.s2014_02_28 = s2014_02_28;
-  }
-
-  public float getS2014_03_31() {
-    return s2014_03_31;
-  }
-
-  public void setS2014_03_31(float s2014_03_31) {
-    this.s2014_03_31 = s2014_03_31;
-  }
-
-  public float getS2014_04_30() {
-    return s2014_04_30;
-  }
-
-  public void setS2014_04_30(float s2014_04_30) {
-    this.s2014_04_30 = s2014_04_30;
-  }
-
-  public float getS2014_05_31() {
-    return s2014_05_31;
-  }
-
-  public void setS2014_05_31(float s2014_05_31) {
-    this.s2014_05_31 = s2014_05_31;
-  }
-
-  public float getS2014_06_30() {
-    return s2014_06_30;
-  }
-
-  public void setS2014_06_30(float s2014_06_30) {
-    this.s2014_06_30 = s2014_06_30;
-  }
-
-  public float getS2014_07_31() {
-    return s2014_07_31;
-  }
-
-  public void setS2014_07_31(float s2014_07_31) {
-    this.s2014_07_31 = s2014_07_31;
-  }
-
-  public float getS2014_08_31() {
-    return s2014_08_31;
-  }
-
-  public void setS2014_08_31(float s2014_08_31) {
-    this.s2014_08_31 = s2014_08_31;
-  }
-
-  public float getS2014_09_30() {
-    return s2014_09_30;
-  }
-
-  public void setS2014_09_30(float s2014_09_30) {
-    this.s2014_09_30 = s2014_09_30;
-  }
-
-  public float getS2014_10_31() {
-    return s2014_10_31;
-  }
-
-  public void setS2014_10_31(float s2014_10_31) {
-    this.s2014_10_31 = s2014_10_31;
-  }
-
-  public float getS2014_11_30() {
-    return s2014_11_30;
-  }
-
-  public void setS2014_11_30(float s2014_11_30) {
-    this.s2014_11_30 = s2014_11_30;
-  }
-
-  public float getS2014_12_31() {
-    return s2014_12_31;
-  }
-
-  public void setS2014_12_31(float s2014_12_31) {
-    this.s2014_12_31 = s2014_12_31;
-  }
-
-  public float getS2015_01_31() {
-    return s2015_01_31;
-  }
-
-  public void setS2015_01_31(float s2015_01_31) {
-    this.s2015_01_31 = s2015_01_31;
-  }
-
-  public float getS2015_02_28() {
-    return s2015_02_28;
-  }
-
-  public void setS2015_02_28(float s2015_02_28) {
-    this.s2015_02_28 = s2015_02_28;
-  }
-
-  public float getS2015_03_31() {
-    return s2015_03_31;
-  }
-
-  public void setS2015_03_31(float s2015_03_31) {
-    this.s2015_03_31 = s2015_03_31;
-  }
-
-  public float getS2015_04_30() {
-    return s2015_04_30;
-  }
-
-  public void setS2015_04_30(float s2015_04_30) {
-    this.s2015_04_30 = s2015_04_30;
-  }
-
-  public float getS2015_05_31() {
-    return s2015_05_31;
-  }
-
-  public void setS2015_05_31(float s2015_05_31) {
-    this.s2015_05_31 = s2015_05_31;
-  }
-
-  public float getS2015_06_30() {
-    return s2015_06_30;
-  }
-
-  public void setS2015_06_30(float s2015_06_30) {
-    this.s2015_06_30 = s2015_06_30;
-  }
-
-  public float getS2015_07_31() {
-    return s2015_07_31;
-  }
-
-  public void setS2015_07_31(float s2015_07_31) {
-    this.s2015_07_31 = s2015_07_31;
-  }
-
-  public float getS2015_08_31() {
-    return s2015_08_31;
-  }
-
-  public void setS2015_08_31(float s2015_08_31) {
-    this.s2015_08_31 = s2015_08_31;
-  }
-
-  public float getS2015_09_30() {
-    return s2015_09_30;
-  }
-
-  public void setS2015_09_30(float s2015_09_30) {
-    this.s2015_09_30 = s2015_09_30;
-  }
-
-  public float getS2015_10_31() {
-    return s2015_10_31;
-  }
-
-  public void setS2015_10_31(float s2015_10_31) {
-    this.s2015_10_31 = s2015_10_31;
-  }
-
-  public float getS2015_11_30() {
-    return s2015_11_30;
-  }
-
-  public void setS2015_11_30(float s2015_11_30) {
-    this.s2015_11_30 = s2015_11_30;
-  }
-
-  public float getS2015_12_31() {
-    return s2015_12_31;
-  }
-
-  public void setS2015_12_31(float s2015_12_31) {
-    this.s2015_12_31 = s2015_12_31;
-  }
-
-  public float getS2016_01_31() {
-    return s2016_01_31;
-  }
-
-  public void setS2016_01_31(float s2016_01_31) {
-    this.s2016_01_31 = s2016_01_31;
-  }
-
-  public float getS2016_02_29() {
-    return s2016_02_29;
-  }
-
-  public void setS2016_02_29(float s2016_02_29) {
-    this.s2016_02_29 = s2016_02_29;
-  }
-
-  public float getS2016_03_31() {
-    return s2016_03_31;
-  }
-
-  public void setS2016_03_31(float s2016_03_31) {
-    this.s2016_03_31 = s2016_03_31;
-  }
-
-  public float getS2016_04_30() {
-    return s2016_04_30;
-  }
-
-  public void setS2016_04_30(float s2016_04_30) {
-    this.s2016_04_30 = s2016_04_30;
-  }
-
-  public float getS2016_05_31() {
-    return s2016_05_31;
-  }
-
-  public void setS2016_05_31(float s2016_05_31) {
-    this.s2016_05_31 = s2016_05_31;
-  }
-
-  public float getS2016_06_30() {
-    return s2016_06_30;
-  }
-
-  public void setS2016_06_30(float s2016_06_30) {
-    this.s2016_06_30 = s2016_06_30;
-  }
-
-  public float getS2016_07_31() {
-    return s2016_07_31;
-  }
-
-  public void setS2016_07_31(float s2016_07_31) {
-    this.s2016_07_31 = s2016_07_31;
-  }
-
-  public float getS2016_08_31() {
-    return s2016_08_31;
-  }
-
-  public void setS2016_08_31(float s2016_08_31) {
-    this.s2016_08_31 = s2016_08_31;
-  }
-
-  public float getS2016_09_30() {
-    return s2016_09_30;
-  }
-
-  public void setS2016_09_30(float s2016_09_30) {
-    this.s2016_09_30 = s2016_09_30;
-  }
-
-  public float getS2016_10_31() {
-    return s2016_10_31;
-  }
-
-  public void setS2016_10_31(float s2016_10_31) {
-    this.s2016_10_31 = s2016_10_31;
-  }
-
-  public float getS2016_11_30() {
-    return s2016_11_30;
-  }
-
-  public void setS2016_11_30(float s2016_11_30) {
-    this.s2016_11_30 = s2016_11_30;
-  }
-
-  public float getS2016_12_31() {
-    return s2016_12_31;
-  }
-
-  public void setS2016_12_31(float s2016_12_31) {
-    this.s2016_12_31 = s2016_12_31;
-  }
-
-  public float getS2017_01_31() {
-    return s2017_01_31;
-  }
-
-  public void setS2017_01_31(float s2017_01_31) {
-    this.s2017_01_31 = s2017_01_31;
-  }
-
-  public float getS2017_02_28() {
-    return s2017_02_28;
-  }
-
-  public void setS2017_02_28(float s2017_02_28) {
-    this.s2017_02_28 = s2017_02_28;
-  }
-
-  public float getS2017_03_31() {
-    return s2017_03_31;
-  }
-
-  public void setS2017_03_31(float s2017_03_31) {
-    this.s2017_03_31 = s2017_03_31;
-  }
-
-  public float getS2017_04_30() {
-    return s2017_04_30;
-  }
-
-  public void setS2017_04_30(float s2017_04_30) {
-    this.s2017_04_30 = s2017_04_30;
-  }
-
-  public float getS2017_05_31() {
-    return s2017_05_31;
-  }
-
-  public void setS2017_05_31(float s2017_05_31) {
-    this.s2017_05_31 = s2017_05_31;
-  }
-
-  public float getS2017_06_30() {
-    return s2017_06_30;
-  }
-
-  public void setS2017_06_30(float s2017_06_30) {
-    this.s2017_06_30 = s2017_06_30;
-  }
-
-  public float getS2017_07_31() {
-    return s2017_07_31;
-  }
-
-  public void setS2017_07_31(float s2017_07_31) {
-    this.s2017_07_31 = s2017_07_31;
-  }
-
-  public float getS2017_08_31() {
-    return s2017_08_31;
-  }
-
-  public void setS2017_08_31(float s2017_08_31) {
-    this.s2017_08_31 = s2017_08_31;
-  }
-
-  public float getS2017_09_30() {
-    return s2017_09_30;
-  }
-
-  public void setS2017_09_30(float s2017_09_30) {
-    this.s2017_09_30 = s2017_09_30;
-  }
-
-  public float getS2017_10_31() {
-    return s2017_10_31;
-  }
-
-  public void setS2017_10_31(float s2017_10_31) {
-    this.s2017_10_31 = s2017_10_31;
-  }
-
-  public float getS2017_11_30() {
-    return s2017_11_30;
-  }
-
-  public void setS2017_11_30(float s2017_11_30) {
-    this.s2017_11_30 = s2017_11_30;
-  }
-
-  public float getS2017_12_31() {
-    return s2017_12_31;
-  }
-
-  public void setS2017_12_31(float s2017_12_31) {
-    this.s2017_12_31 = s2017_12_31;
-  }
-
-  public float getS2018_01_31() {
-    return s2018_01_31;
-  }
-
-  public void setS2018_01_31(float s2018_01_31) {
-    this.s2018_01_31 = s2018_01_31;
-  }
-
-  public float getS2018_02_28() {
-    return s2018_02_28;
-  }
-
-  public void setS2018_02_28(float s2018_02_28) {
-    this.s2018_02_28 = s2018_02_28;
-  }
-
-  public float getS2018_03_31() {
-    return s2018_03_31;
-  }
-
-  public void setS2018_03_31(float s2018_03_31) {
-    this.s2018_03_31 = s2018_03_31;
-  }
-
-  public float getS2018_04_30() {
-    return s2018_04_30;
-  }
-
-  public void setS2018_04_30(float s2018_04_30) {
-    this.s2018_04_30 = s2018_04_30;
-  }
-
-  public float getS2018_05_31() {
-    return s2018_05_31;
-  }
-
-  public void setS2018_05_31(float s2018_05_31) {
-    this.s2018_05_31 = s2018_05_31;
-  }
-
-  public float getS2018_06_30() {
-    return s2018_06_30;
-  }
-
-  public void setS2018_06_30(float s2018_06_30) {
-    this.s2018_06_30 = s2018_06_30;
-  }
-
-  public float getS2018_07_31() {
-    return s2018_07_31;
-  }
-
-  public void setS2018_07_31(float s2018_07_31) {
-    this.s2018_07_31 = s2018_07_31;
-  }
-
-  public float getS2018_08_31() {
-    return s2018_08_31;
-  }
-
-  public void setS2018_08_31(float s2018_08_31) {
-    this.s2018_08_31 = s2018_08_31;
-  }
-
-  public float getS2018_09_30() {
-    return s2018_09_30;
-  }
-
-  public void setS2018_09_30(float s2018_09_30) {
-    this.s2018_09_30 = s2018_09_30;
-  }
-
-  public float getS2018_10_31() {
-    return s2018_10_31;
-  }
-
-  public void setS2018_10_31(float s2018_10_31) {
-    this.s2018_10_31 = s2018_10_31;
-  }
-
-  public float getS2018_11_30() {
-    return s2018_11_30;
-  }
-
-  public void setS2018_11_30(float s2018_11_30) {
-    this.s2018_11_30 = s2018_11_30;
-  }
-
-  public float getS2018_12_31() {
-    return s2018_12_31;
-  }
-
-  public void setS2018_12_31(float s2018_12_31) {
-    this.s2018_12_31 = s2018_12_31;
-  }
-
-  public float getS2019_01_31() {
-    return s2019_01_31;
-  }
-
-  public void setS2019_01_31(float s2019_01_31) {
-    this.s2019_01_31 = s2019_01_31;
-  }
-
-  public float getS2019_02_28() {
-    return s2019_02_28;
-  }
-
-  public void setS2019_02_28(float s2019_02_28) {
-    this.s2019_02_28 = s2019_02_28;
-  }
-
-  public float getS2019_03_31() {
-    return s2019_03_31;
-  }
-
-  public void setS2019_03_31(float s2019_03_31) {
-    this.s2019_03_31 = s2019_03_31;
-  }
-
-  public float getS2019_04_30() {
-    return s2019_04_30;
-  }
-
-  public void setS2019_04_30(float s2019_04_30) {
-    this.s2019_04_30 = s2019_04_30;
-  }
-
-  public float getS2019_05_31() {
-    return s2019_05_31;
-  }
-
-  public void setS2019_05_31(float s2019_05_31) {
-    this.s2019_05_31 = s2019_05_31;
-  }
-
-  public float getS2019_06_30() {
-    return s2019_06_30;
-  }
-
-  public void setS2019_06_30(float s2019_06_30) {
-    this.s2019_06_30 = s2019_06_30;
-  }
-
-  public float getS2019_07_31() {
-    return s2019_07_31;
-  }
-
-  public void setS2019_07_31(float s2019_07_31) {
-    this.s2019_07_31 = s2019_07_31;
-  }
-
-  public float getS2019_08_31() {
-    return s2019_08_31;
-  }
-
-  public void setS2019_08_31(float s2019_08_31) {
-    this.s2019_08_31 = s2019_08_31;
-  }
-
-  public float getS2019_09_30() {
-    return s2019_09_30;
-  }
-
-  public void setS2019_09_30(float s2019_09_30) {
-    this.s2019_09_30 = s2019_09_30;
-  }
-
-  public float getS2019_10_31() {
-    return s2019_10_31;
-  }
-
-  public void setS2019_10_31(float s2019_10_31) {
-    this.s2019_10_31 = s2019_10_31;
-  }
-
-  public float getS2019_11_30() {
-    return s2019_11_30;
-  }
-
-  public void setS2019_11_30(float s2019_11_30) {
-    this.s2019_11_30 = s2019_11_30;
-  }
-
-  public float getS2019_12_31() {
-    return s2019_12_31;
-  }
-
-  public void setS2019_12_31(float s2019_12_31) {
-    this.s2019_12_31 = s2019_12_31;
-  }
-
-  public float getS2020_01_31() {
-    return s2020_01_31;
-  }
-
-  public void setS2020_01_31(float s2020_01_31) {
-    this.s2020_01_31 = s2020_01_31;
-  }
-
-  public float getS2020_02_29() {
-    return s2020_02_29;
-  }
-
-  public void setS2020_02_29(float s2020_02_29) {
-    this.s2020_02_29 = s2020_02_29;
-  }
-
-  public float getS2020_03_31() {
-    return s2020_03_31;
-  }
-
-  public void setS2020_03_31(float s2020_03_31) {
-    this.s2020_03_31 = s2020_03_31;
-  }
-
-  public float getS2020_04_30() {
-    return s2020_04_30;
-  }
-
-  public void setS2020_04_30(float s2020_04_30) {
-    this.s2020_04_30 = s2020_04_30;
-  }
-
-  public float getS2020_05_31() {
-    return s2020_05_31;
-  }
-
-  public void setS2020_05_31(float s2020_05_31) {
-    this.s2020_05_31 = s2020_05_31;
-  }
-
-  public float getS2020_06_30() {
-    return s2020_06_30;
-  }
-
-  public void setS2020_06_30(float s2020_06_30) {
-    this.s2020_06_30 = s2020_06_30;
-  }
-
-  public float getS2020_07_31() {
-    return s2020_07_31;
-  }
-
-  public void setS2020_07_31(float s2020_07_31) {
-    this.s2020_07_31 = s2020_07_31;
-  }
-
-  public float getS2020_08_31() {
-    return s2020_08_31;
-  }
-
-  public void setS2020_08_31(float s2020_08_31) {
-    this.s2020_08_31 = s2020_08_31;
-  }
-
-  @Override
-  public String toString() {
-    return (
-      "DSHistoricalHousing{" +
-      "s2010_01_31=" +
-      s2010_01_31 +
-      ", s2010_02_28=" +
-      s2010_02_28 +
-      ", s2010_03_31=" +
-      s2010_03_31 +
-      ", s2010_04_30=" +
-      s2010_04_30 +
-      ", s2010_05_31=" +
-      s2010_05_31 +
-      ", s2010_06_30=" +
-      s2010_06_30 +
-      ", s2010_07_31=" +
-      s2010_07_31 +
-      ", s2010_08_31=" +
-      s2010_08_31 +
-      ", s2010_09_30=" +
-      s2010_09_30 +
-      ", s2010_10_31=" +
-      s2010_10_31 +
-      ", s2010_11_30=" +
-      s2010_11_30 +
-      ", s2010_12_31=" +
-      s2010_12_31 +
-      ", s2011_01_31=" +
-      s2011_01_31 +
-      ", s2011_02_28=" +
-      s2011_02_28 +
-      ", s2011_03_31=" +
-      s2011_03_31 +
-      ", s2011_04_30=" +
-      s2011_04_30 +
-      ", s2011_05_31=" +
-      s2011_05_31 +
-      ", s2011_06_30=" +
-      s2011_06_30 +
-      ", s2011_07_31=" +
-      s2011_07_31 +
-      ", s2011_08_31=" +
-      s2011_08_31 +
-      ", s2011_09_30=" +
-      s2011_09_30 +
-      ", s2011_10_31=" +
-      s2011_10_31 +
-      ", s2011_11_30=" +
-      s2011_11_30 +
-      ", s2011_12_31=" +
-      s2011_12_31 +
-      ", s2012_01_31=" +
-      s2012_01_31 +
-      ", s2012_02_29=" +
-      s2012_02_29 +
-      ", s2012_03_31=" +
-      s2012_03_31 +
-      ", s2012_04_30=" +
-      s2012_04_30 +
-      ", s2012_05_31=" +
-      s2012_05_31 +
-      ", s2012_06_30=" +
-      s2012_06_30 +
-      ", s2012_07_31=" +
-      s2012_07_31 +
-      ", s2012_08_31=" +
-      s2012_08_31 +
-      ", s2012_09_30=" +
-      s2012_09_30 +
-      ", s2012_10_31=" +
-      s2012_10_31 +
-      ", s2012_11_30=" +
-      s2012_11_30 +
-      ", s2012_12_31=" +
-      s2012_12_31 +
-      ", s2013_01_31=" +
-      s2013_01_31 +
-      ", s2013_02_28=" +
-      s2013_02_28 +
-      ", s2013_03_31=" +
-      s2013_03_31 +
-      ", s2013_04_30=" +
-      s2013_04_30 +
-      ", s2013_05_31=" +
-      s2013_05_31 +
-      ", s2013_06_30=" +
-      s2013_06_30 +
-      ", s2013_07_31=" +
-      s2013_07_31 +
-      ", s2013_08_31=" +
-      s2013_08_31 +
-      ", s2013_09_30=" +
-      s2013_09_30 +
-      ", s2013_10_31=" +
-      s2013_10_31 +
-      ", s2013_11_30=" +
-      s2013_11_30 +
-      ", s2013_12_31=" +
-      s2013_12_31 +
-      ", s2014_01_31=" +
-      s2014_01_31 +
-      ", s2014_02_28=" +
-      s2014_02_28 +
-      ", s2014_03_31=" +
-      s2014_03_31 +
-      ", s2014_04_30=" +
-      s2014_04_30 +
-      ", s2014_05_31=" +
-      s2014_05_31 +
-      ", s2014_06_30=" +
-      s2014_06_30 +
-      ", s2014_07_31=" +
-      s2014_07_31 +
-      ", s2014_08_31=" +
-      s2014_08_31 +
-      ", s2014_09_30=" +
-      s2014_09_30 +
-      ", s2014_10_31=" +
-      s2014_10_31 +
-      ", s2014_11_30=" +
-      s2014_11_30 +
-      ", s2014_12_31=" +
-      s2014_12_31 +
-      ", s2015_01_31=" +
-      s2015_01_31 +
-      ", s2015_02_28=" +
-      s2015_02_28 +
-      ", s2015_03_31=" +
-      s2015_03_31 +
-      ", s2015_04_30=" +
-      s2015_04_30 +
-      ", s2015_05_31=" +
-      s2015_05_31 +
-      ", s2015_06_30=" +
-      s2015_06_30 +
-      ", s2015_07_31=" +
-      s2015_07_31 +
-      ", s2015_08_31=" +
-      s2015_08_31 +
-      ", s2015_09_30=" +
-      s2015_09_30 +
-      ", s2015_10_31=" +
-      s2015_10_31 +
-      ", s2015_11_30=" +
-      s2015_11_30 +
-      ", s2015_12_31=" +
-      s2015_12_31 +
-      ", s2016_01_31=" +
-      s2016_01_31 +
-      ", s2016_02_29=" +
-      s2016_02_29 +
-      ", s2016_03_31=" +
-      s2016_03_31 +
-      ", s2016_04_30=" +
-      s2016_04_30 +
-      ", s2016_05_31=" +
-      s2016_05_31 +
-      ", s2016_06_30=" +
-      s2016_06_30 +
-      ", s2016_07_31=" +
-      s2016_07_31 +
-      ", s2016_08_31=" +
-      s2016_08_31 +
-      ", s2016_09_30=" +
-      s2016_09_30 +
-      ", s2016_10_31=" +
-      s2016_10_31 +
-      ", s2016_11_30=" +
-      s2016_11_30 +
-      ", s2016_12_31=" +
-      s2016_12_31 +
-      ", s2017_01_31=" +
-      s2017_01_31 +
-      ", s2017_02_28=" +
-      s2017_02_28 +
-      ", s2017_03_31=" +
-      s2017_03_31 +
-      ", s2017_04_30=" +
-      s2017_04_30 +
-      ", s2017_05_31=" +
-      s2017_05_31 +
-      ", s2017_06_30=" +
-      s2017_06_30 +
-      ", s2017_07_31=" +
-      s2017_07_31 +
-      ", s2017_08_31=" +
-      s2017_08_31 +
-      ", s2017_09_30=" +
-      s2017_09_30 +
-      ", s2017_10_31=" +
-      s2017_10_31 +
-      ", s2017_11_30=" +
-      s2017_11_30 +
-      ", s2017_12_31=" +
-      s2017_12_31 +
-      ", s2018_01_31=" +
-      s2018_01_31 +
-      ", s2018_02_28=" +
-      s2018_02_28 +
-      ", s2018_03_31=" +
-      s2018_03_31 +
-      ", s2018_04_30=" +
-      s2018_04_30 +
-      ", s2018_05_31=" +
-      s2018_05_31 +
-      ", s2018_06_30=" +
-      s2018_06_30 +
-      ", s2018_07_31=" +
-      s2018_07_31 +
-      ", s2018_08_31=" +
-      s2018_08_31 +
-      ", s2018_09_30=" +
-      s2018_09_30 +
-      ", s2018_10_31=" +
-      s2018_10_31 +
-      ", s2018_11_30=" +
-      s2018_11_30 +
-      ", s2018_12_31=" +
-      s2018_12_31 +
-      ", s2019_01_31=" +
-      s2019_01_31 +
-      ", s2019_02_28=" +
-      s2019_02_28 +
-      ", s2019_03_31=" +
-      s2019_03_31 +
-      ", s2019_04_30=" +
-      s2019_04_30 +
-      ", s2019_05_31=" +
-      s2019_05_31 +
-      ", s2019_06_30=" +
-      s2019_06_30 +
-      ", s2019_07_31=" +
-      s2019_07_31 +
-      ", s2019_08_31=" +
-      s2019_08_31 +
-      ", s2019_09_30=" +
-      s2019_09_30 +
-      ", s2019_10_31=" +
-      s2019_10_31 +
-      ", s2019_11_30=" +
-      s2019_11_30 +
-      ", s2019_12_31=" +
-      s2019_12_31 +
-      ", s2020_01_31=" +
-      s2020_01_31 +
-      ", s2020_02_29=" +
-      s2020_02_29 +
-      ", s2020_03_31=" +
-      s2020_03_31 +
-      ", s2020_04_30=" +
-      s2020_04_30 +
-      ", s2020_05_31=" +
-      s2020_05_31 +
-      ", s2020_06_30=" +
-      s2020_06_30 +
-      ", s2020_07_31=" +
-      s2020_07_31 +
-      ", s2020_08_31=" +
-      s2020_08_31 +
-      '}'
-    );
-  }
-}
@@ -1,301 +0,0 @@
-package com.lambdaschool.foundation.models;
-
-import com.fasterxml.jackson.annotation.JsonProperty;
-
-public class DSHistoricalIncome {
-
-  /**
-   * This model is used to parse the historical
-   * data coming in from the DS API
-   */
-
-  @JsonProperty("2010_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2010;
-
-  @JsonProperty("2010_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2010;
-
-  @JsonProperty("2011_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2011;
-
-  @JsonProperty("2011_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2011;
-
-  @JsonProperty("2012_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2012;
-
-  @JsonProperty("2012_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2012;
-
-  @JsonProperty("2013_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2013;
-
-  @JsonProperty("2013_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2013;
-
-  @JsonProperty("2014_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2014;
-
-  @JsonProperty("2014_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2014;
-
-  @JsonProperty("2015_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2015;
-
-  @JsonProperty("2015_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2015;
-
-  @JsonProperty("2016_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2016;
-
-  @JsonProperty("2016_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2016;
-
-  @JsonProperty("2017_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2017;
-
-  @JsonProperty("2017_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2017;
-
-  @JsonProperty("2018_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2018;
-
-  @JsonProperty("2018_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2018;
-
-  @JsonProperty("2019_Med_Hou_Inc")
-  private String sMed_Hou_Inc_2019;
-
-  @JsonProperty("2019_Med_Ind_Inc")
-  private String sMed_Ind_Inc_2019;
-
-  public DSHistoricalIncome() {}
-
-  public String getsMed_Hou_Inc_2010() {
-    return sMed_Hou_Inc_2010;
-  }
-
-  public void setsMed_Hou_Inc_2010(String sMed_Hou_Inc_2010) {
-    this.sMed_Hou_Inc_2010 = sMed_Hou_Inc_2010;
-  }
-
-  public String getsMed_Ind_Inc_2010() {
-    return sMed_Ind_Inc_2010;
-  }
-
-  public void setsMed_Ind_Inc_2010(String sMed_Ind_Inc_2010) {
-    this.sMed_Ind_Inc_2010 = sMed_Ind_Inc_2010;
-  }
-
-  public String getsMed_Hou_Inc_2011() {
-    return sMed_Hou_Inc_2011;
-  }
-
-  public void setsMed_Hou_Inc_2011(String sMed_Hou_Inc_2011) {
-    this.sMed_Hou_Inc_2011 = sMed_Hou_Inc_2011;
-  }
-
-  public String getsMed_Ind_Inc_2011() {
-    return sMed_Ind_Inc_2011;
-  }
-
-  public void setsMed_Ind_Inc_2011(String sMed_Ind_Inc_2011) {
-    this.sMed_Ind_Inc_2011 = sMed_Ind_Inc_2011;
-  }
-
-  public String getsMed_Hou_Inc_2012() {
-    return sMed_Hou_Inc_2012;
-  }
-
-  public void setsMed_Hou_Inc_2012(String sMed_Hou_Inc_2012) {
-    this.sMed_Hou_Inc_2012 = sMed_Hou_Inc_2012;
-  }
-
-  public String getsMed_Ind_Inc_2012() {
-    return sMed_Ind_Inc_2012;
-  }
-
-  public void setsMed_Ind_Inc_2012(String sMed_Ind_Inc_2012) {
-    this.sMed_Ind_Inc_2012 = sMed_Ind_Inc_2012;
-  }
-
-  public String getsMed_Hou_Inc_2013() {
-    return sMed_Hou_Inc_2013;
-  }
-
-  public void setsMed_Hou_Inc_2013(String sMed_Hou_Inc_2013) {
-    this.sMed_Hou_Inc_2013 = sMed_Hou_Inc_2013;
-  }
-
-  public String getsMed_Ind_Inc_2013() {
-    return sMed_Ind_Inc_2013;
-  }
-
-  public void setsMed_Ind_Inc_2013(String sMed_Ind_Inc_2013) {
-    this.sMed_Ind_Inc_2013 = sMed_Ind_Inc_2013;
-  }
-
-  public String getsMed_Hou_Inc_2014() {
-    return sMed_Hou_Inc_2014;
-  }
-
-  public void setsMed_Hou_Inc_2014(String sMed_Hou_Inc_2014) {
-    this.sMed_Hou_Inc_2014 = sMed_Hou_Inc_2014;
-  }
-
-  public String getsMed_Ind_Inc_2014() {
-    return sMed_Ind_Inc_2014;
-  }
-
-  public void setsMed_Ind_Inc_2014(String sMed_Ind_Inc_2014) {
-    this.sMed_Ind_Inc_2014 = sMed_Ind_Inc_2014;
-  }
-
-  public String getsMed_Hou_Inc_2015() {
-    return sMed_Hou_Inc_2015;
-  }
-
-  public void setsMed_Hou_Inc_2015(String sMed_Hou_Inc_2015) {
-    this.sMed_Hou_Inc_2015 = sMed_Hou_Inc_2015;
-  }
-
-  public String getsMed_Ind_Inc_2015() {
-    return sMed_Ind_Inc_2015;
-  }
-
-  public void setsMed_Ind_Inc_2015(String sMed_Ind_Inc_2015) {
-    this.sMed_Ind_Inc_2015 = sMed_Ind_Inc_2015;
-  }
-
-  public String getsMed_Hou_Inc_2016() {
-    return sMed_Hou_Inc_2016;
-  }
-
-  public void setsMed_Hou_Inc_2016(String sMed_Hou_Inc_2016) {
-    this.sMed_Hou_Inc_2016 = sMed_Hou_Inc_2016;
-  }
-
-  public String getsMed_Ind_Inc_2016() {
-    return sMed_Ind_Inc_2016;
-  }
-
-  public void setsMed_Ind_Inc_2016(String sMed_Ind_Inc_2016) {
-    this.sMed_Ind_Inc_2016 = sMed_Ind_Inc_2016;
-  }
-
-  public String getsMed_Hou_Inc_2017() {
-    return sMed_Hou_Inc_2017;
-  }
-
-  public void setsMed_Hou_Inc_2017(String sMed_Hou_Inc_2017) {
-    this.sMed_Hou_Inc_2017 = sMed_Hou_Inc_2017;
-  }
-
-  public String getsMed_Ind_Inc_2017() {
-    return sMed_Ind_Inc_2017;
-  }
-
-  public void setsMed_Ind_Inc_2017(String sMed_Ind_Inc_2017) {
-    this.sMed_Ind_Inc_2017 = sMed_Ind_Inc_2017;
-  }
-
-  public String getsMed_Hou_Inc_2018() {
-    return sMed_Hou_Inc_2018;
-  }
-
-  public void setsMed_Hou_Inc_2018(String sMed_Hou_Inc_2018) {
-    this.sMed_Hou_Inc_2018 = sMed_Hou_Inc_2018;
-  }
-
-  public String getsMed_Ind_Inc_2018() {
-    return sMed_Ind_Inc_2018;
-  }
-
-  public void setsMed_Ind_Inc_2018(String sMed_Ind_Inc_2018) {
-    this.sMed_Ind_Inc_2018 = sMed_Ind_Inc_2018;
-  }
-
-  public String getsMed_Hou_Inc_2019() {
-    return sMed_Hou_Inc_2019;
-  }
-
-  public void setsMed_Hou_Inc_2019(String sMed_Hou_Inc_2019) {
-    this.sMed_Hou_Inc_2019 = sMed_Hou_Inc_2019;
-  }
-
-  public String getsMed_Ind_Inc_2019() {
-    return sMed_Ind_Inc_2019;
-  }
-
-  public void setsMed_Ind_Inc_2019(String sMed_Ind_Inc_2019) {
-    this.sMed_Ind_Inc_2019 = sMed_Ind_Inc_2019;
-  }
-
-  @Override
-  public String toString() {
-    return (
-      "DSHistoricalIncome{" +
-      "sMed_Hou_Inc_2010='" +
-      sMed_Hou_Inc_2010 +
-      '\'' +
-      ", sMed_Ind_Inc_2010='" +
-      sMed_Ind_Inc_2010 +
-      '\'' +
-      ", sMed_Hou_Inc_2011='" +
-      sMed_Hou_Inc_2011 +
-      '\'' +
-      ", sMed_Ind_Inc_2011='" +
-      sMed_Ind_Inc_2011 +
-      '\'' +
-      ", sMed_Hou_Inc_2012='" +
-      sMed_Hou_Inc_2012 +
-      '\'' +
-      ", sMed_Ind_Inc_2012='" +
-      sMed_Ind_Inc_2012 +
-      '\'' +
-      ", sMed_Hou_Inc_2013='" +
-      sMed_Hou_Inc_2013 +
-      '\'' +
-      ", sMed_Ind_Inc_2013='" +
-      sMed_Ind_Inc_2013 +
-      '\'' +
-      ", sMed_Hou_Inc_2014='" +
-      sMed_Hou_Inc_2014 +
-      '\'' +
-      ", sMed_Ind_Inc_2014='" +
-      sMed_Ind_Inc_2014 +
-      '\'' +
-      ", sMed_Hou_Inc_2015='" +
-      sMed_Hou_Inc_2015 +
-      '\'' +
-      ", sMed_Ind_Inc_2015='" +
-      sMed_Ind_Inc_2015 +
-      '\'' +
-      ", sMed_Hou_Inc_2016='" +
-      sMed_Hou_Inc_2016 +
-      '\'' +
-      ", sMed_Ind_Inc_2016='" +
-      sMed_Ind_Inc_2016 +
-      '\'' +
-      ", sMed_Hou_Inc_2017='" +
-      sMed_Hou_Inc_2017 +
-      '\'' +
-      ", sMed_Ind_Inc_2017='" +
-      sMed_Ind_Inc_2017 +
-      '\'' +
-      ", sMed_Hou_Inc_2018='" +
-      sMed_Hou_Inc_2018 +
-      '\'' +
-      ", sMed_Ind_Inc_2018='" +
-      sMed_Ind_Inc_2018 +
-      '\'' +
-      ", sMed_Hou_Inc_2019='" +
-      sMed_Hou_Inc_2019 +
-      '\'' +
-      ", sMed_Ind_Inc_2019='" +
-      sMed_Ind_Inc_2019 +
-      '\'' +
-      '}'
-    );
-  }
-}
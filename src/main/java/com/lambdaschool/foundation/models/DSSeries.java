@@ -0,0 +1,108 @@
+package com.lambdaschool.foundation.models;
+
+import java.util.Arrays;
+
+/**
+ * Model for one historical series coming in from the DS API.
+ * Holds key / value pairs in growable primitive arrays, in the order they
+ * were read. What a key means (a year, a month, an epoch day) depends on the
+ * DSCity field holding the series. This does not become a table.
+ */
+public class DSSeries {
+
+  /**
+   * Keys of the entries, only the first size are used
+   */
+  private int[] keys = new int[16];
+
+  /**
+   * Values of the entries, only the first size are used
+   */
+  private double[] values = new double[16];
+
+  /**
+   * Number of entries
+   */
+  private int size;
+
+  /**
+   * Appends an entry
+   * @param key key of the entry
+   * @param value value of the entry
+   */
+  public void add(int key, double value) {
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      values = Arrays.copyOf(values, size * 2);
+    }
+    keys[size] = key;
+    values[size] = value;
+    size++;
+  }
+
+  /**
+   * Looks up the value of a key
+   * @param key key to look up
+   * @return value of the last entry with that key, NaN if there is none
+   */
+  public double get(int key) {
+    for (int i = size - 1; i >= 0; i--) {
+      if (keys[i] == key) return values[i];
+    }
+    return Double.NaN;
+  }
+
+  /**
+   * Smallest key of the series
+   * @return smallest key, Integer.MAX_VALUE if the series is empty
+   */
+  public int minKey() {
+    int min = Integer.MAX_VALUE;
+    for (int i = 0; i < size; i++) {
+      min = Math.min(min, keys[i]);
+    }
+    return min;
+  }
+
+  /**
+   * Largest key of the series
+   * @return largest key, Integer.MIN_VALUE if the series is empty
+   */
+  public int maxKey() {
+    int max = Integer.MIN_VALUE;
+    for (int i = 0; i < size; i++) {
+      max = Math.max(max, keys[i]);
+    }
+    return max;
+  }
+
+  /**
+   * Getters for DSSeries entries
+   *
+   **************************************************************************/
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int key(int i) {
+    return keys[i];
+  }
+
+  public double value(int i) {
+    return values[i];
+  }
+
+  /**
+   * Override default toString()
+   * @return String of DSSeries object
+   */
+  @Override
+  public String toString() {
+    return "DSSeries{" + "size=" + size + '}';
+  }
+}
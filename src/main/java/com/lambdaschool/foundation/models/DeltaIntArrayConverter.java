@@ -0,0 +1,99 @@
+package com.lambdaschool.foundation.models;
+
+import java.io.ByteArrayOutputStream;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * Stores an int[] as one binary column.
+ * <p>
+ * Day to day values of a time series are close to each other, so each value
+ * is written as the difference to the one before it, zigzag encoded so small
+ * negative differences stay small, as a variable length integer of 7 bits
+ * per byte. The array length is written first. Most days of a series take
+ * a single byte instead of a row.
+ */
+@Converter
+public class DeltaIntArrayConverter
+  implements AttributeConverter<int[], byte[]> {
+
+  @Override
+  public byte[] convertToDatabaseColumn(int[] values) {
+    return encode(values);
+  }
+
+  @Override
+  public int[] convertToEntityAttribute(byte[] bytes) {
+    return decode(bytes);
+  }
+
+  /**
+   * Delta encodes an array
+   * @param values array to encode, may be null
+   * @return encoded bytes, null if values is null
+   */
+  public static byte[] encode(int[] values) {
+    if (values == null) return null;
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(values.length + 5);
+    writeVarint(out, values.length);
+    int previous = 0;
+    for (int value : values) {
+      int delta = value - previous;
+      writeVarint(out, (delta << 1) ^ (delta >> 31));
+      previous = value;
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * Decodes bytes written by encode
+   * @param bytes encoded bytes, may be null
+   * @return the original array, null if bytes is null
+   * @throws IllegalArgumentException the bytes are not a valid encoding
+   */
+  public static int[] decode(byte[] bytes) {
+    if (bytes == null) return null;
+
+    int[] pos = { 0 };
+    int length = readVarint(bytes, pos);
+    if (length < 0 || length > bytes.length) {
+      throw new IllegalArgumentException("Invalid encoded array length");
+    }
+
+    int[] values = new int[length];
+    int previous = 0;
+    for (int i = 0; i < length; i++) {
+      int zigzag = readVarint(bytes, pos);
+      previous += (zigzag >>> 1) ^ -(zigzag & 1);
+      values[i] = previous;
+    }
+    if (pos[0] != bytes.length) {
+      throw new IllegalArgumentException("Trailing bytes after encoded array");
+    }
+    return values;
+  }
+
+  private static void writeVarint(ByteArrayOutputStream out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+
+  private static int readVarint(byte[] bytes, int[] pos) {
+    int value = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      if (pos[0] >= bytes.length) {
+        throw new IllegalArgumentException("Truncated encoded array");
+      }
+      byte b = bytes[pos[0]++];
+      // the fifth byte only has room for the top 4 bits of an int
+      if (shift == 28 && (b & 0x70) != 0) break;
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) return value;
+    }
+    throw new IllegalArgumentException("Malformed encoded array");
+  }
+}
@@ -0,0 +1,123 @@
+package com.lambdaschool.foundation.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.time.LocalDate;
+import java.util.Arrays;
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * Model for City's daily Covid-19 cases, stored as one row per city.
+ * <p>
+ * cases[i] is the count reported on startDate plus i days. The array is
+ * delta encoded into a single binary column by DeltaIntArrayConverter and
+ * serializes as {"startDate": "2020-01-22", "cases": [0, 1, ...]}.
+ */
+@Entity
+@Table(name = "historical_covid_series")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
+@BatchSize(size = 25)
+public class HistoricalCovidSeries extends Auditable {
+
+  /**
+   * Series ID
+   */
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  @JsonIgnore
+  private long seriesId;
+
+  /**
+   * Date of the first entry in cases
+   */
+  @NotNull
+  private LocalDate startDate;
+
+  /**
+   * Cases recorded on each day, starting at startDate
+   */
+  @NotNull
+  @Convert(converter = DeltaIntArrayConverter.class)
+  @Column(length = 65536)
+  private int[] cases = new int[0];
+
+  /**
+   * Default constructor
+   */
+  public HistoricalCovidSeries() {}
+
+  /**
+   * Main constructor
+   * @param startDate Date of the first entry
+   * @param cases Cases recorded on each day from startDate on
+   */
+  public HistoricalCovidSeries(
+    @NotNull LocalDate startDate,
+    @NotNull int[] cases
+  ) {
+    this.startDate = startDate;
+    this.cases = cases;
+  }
+
+  /**
+   * Average of the daily cases
+   * @return average cases per day, 0 for an empty series
+   */
+  public double averageCases() {
+    long total = 0;
+    for (int c : cases) {
+      total += c;
+    }
+    return cases.length == 0 ? 0 : (double) total / cases.length;
+  }
+
+  /**
+   * Getters and Setters for HistoricalCovidSeries fields
+   *
+   **************************************************************************/
+
+  public long getSeriesId() {
+    return seriesId;
+  }
+
+  public void setSeriesId(long seriesId) {
+    this.seriesId = seriesId;
+  }
+
+  public LocalDate getStartDate() {
+    return startDate;
+  }
+
+  public void setStartDate(LocalDate startDate) {
+    this.startDate = startDate;
+  }
+
+  public int[] getCases() {
+    return cases;
+  }
+
+  public void setCases(int[] cases) {
+    this.cases = cases;
+  }
+
+  /**
+   * Override default toString()
+   * @return String of HistoricalCovidSeries object
+   */
+  @Override
+  public String toString() {
+    return (
+      "HistoricalCovidSeries{" +
+      "startDate=" +
+      startDate +
+      ", cases=" +
+      Arrays.toString(cases) +
+      '}'
+    );
+  }
+}
@@ -3,12 +3,15 @@ package com.lambdaschool.foundation.models;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Model for City's historical housing cost data
  */
 @Entity
 @Table(name = "historical_home_cost")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class HistoricalHomeCost extends Auditable {
 
   /**
@@ -3,12 +3,15 @@ package com.lambdaschool.foundation.models;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Model for City's historical weather data
  */
 @Entity
 @Table(name = "historical_weather")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class HistoricalWeather extends Auditable {
 
   /**
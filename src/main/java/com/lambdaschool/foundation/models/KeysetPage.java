@@ -0,0 +1,59 @@
+package com.lambdaschool.foundation.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of a list read with keyset pagination
+ *
+ * @param <T> type of the items
+ */
+public class KeysetPage<T> {
+
+  /**
+   * Items of this page, in sort order
+   */
+  private List<T> items = new ArrayList<>();
+
+  /**
+   * Cursor of the next page, sent back as the cursor parameter, null if
+   * this is the last page
+   */
+  private String nextCursor;
+
+  /**
+   * Default constructor
+   */
+  public KeysetPage() {}
+
+  /**
+   * Main constructor
+   * @param items items of this page
+   * @param nextCursor cursor of the next page, null if this is the last page
+   */
+  public KeysetPage(List<T> items, String nextCursor) {
+    this.items = items;
+    this.nextCursor = nextCursor;
+  }
+
+  /**
+   * Getters and setters for KeysetPage fields
+   *
+   **************************************************************************/
+
+  public List<T> getItems() {
+    return items;
+  }
+
+  public void setItems(List<T> items) {
+    this.items = items;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+}
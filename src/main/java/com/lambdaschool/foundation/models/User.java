@@ -27,6 +27,7 @@ public class User extends Auditable {
    * The username (String). Cannot be null and must be unique
    */
   @NotNull
+  @Column(unique = true)
   private String username;
 
   /**
@@ -3,9 +3,12 @@ package com.lambdaschool.foundation.models;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "zipcodes")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Zipcode extends Auditable {
 
   /**
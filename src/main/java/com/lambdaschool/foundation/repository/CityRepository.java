@@ -1,13 +1,57 @@
 package com.lambdaschool.foundation.repository;
 
 import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.CityAbstract;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
-public interface CityRepository extends CrudRepository<City, Long> {
+public interface CityRepository
+  extends CrudRepository<City, Long>, CityRepositoryCustom {
   /**
    * Finds city by the cityName field
    * @param cityName name of city
    * @return City matching cityName
    */
   City findByCityName(String cityName);
+
+  /**
+   * Finds the abstract of every city. Only the nine CityAbstract columns are
+   * selected, no City entities are loaded into the persistence context.
+   * @return List of all city abstracts ordered by city id
+   */
+  @Query(
+    "SELECT new com.lambdaschool.foundation.models.CityAbstract(" +
+    "c.cityId, c.cityName, c.stateCode, c.population, c.averageHomeCost, " +
+    "c.rent, c.costOfLivingIndex, c.imageUrl, c.website) " +
+    "FROM City c ORDER BY c.cityId"
+  )
+  List<CityAbstract> findAllAbstracts();
+
+  /**
+   * Finds the abstracts of some cities, selected as a projection like
+   * findAllAbstracts
+   * @param ids city ids, not empty
+   * @return the abstracts of the cities found, in no particular order
+   */
+  @Query(
+    "SELECT new com.lambdaschool.foundation.models.CityAbstract(" +
+    "c.cityId, c.cityName, c.stateCode, c.population, c.averageHomeCost, " +
+    "c.rent, c.costOfLivingIndex, c.imageUrl, c.website) " +
+    "FROM City c WHERE c.cityId IN :ids"
+  )
+  List<CityAbstract> findAbstractsByIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Finds the location of every city that has one
+   * @return rows of cityId, latitude, longitude ordered by city id
+   */
+  @Query(
+    "SELECT c.cityId, c.latitude, c.longitude FROM City c " +
+    "WHERE c.latitude IS NOT NULL AND c.longitude IS NOT NULL " +
+    "ORDER BY c.cityId"
+  )
+  List<Object[]> findLocationRows();
 }
@@ -0,0 +1,53 @@
+package com.lambdaschool.foundation.repository;
+
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.CityAbstract;
+import com.lambdaschool.foundation.models.User;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Queries on the cities table that are built at runtime and so cannot be
+ * expressed as derived or annotated repository methods
+ */
+public interface CityRepositoryCustom {
+  /**
+   * Finds the ids of all cities matching the user's preference filter.
+   * The filter is evaluated by the database, no City entities are loaded.
+   *
+   * @param user User whose min / max preferences make up the filter
+   * @param maxLength Maximum length of the returned list, if 0 there is no maximum
+   * @return List of matching city ids ordered by city id
+   */
+  List<Long> findIdsByFilter(User user, int maxLength);
+
+  /**
+   * Finds the abstracts of all cities matching the user's preference filter.
+   * The filter is evaluated by the database, no City entities are loaded.
+   *
+   * @param user User whose min / max preferences make up the filter
+   * @param maxLength Maximum length of the returned list, if 0 there is no maximum
+   * @return List of matching city abstracts ordered by city id
+   */
+  List<CityAbstract> findAbstractsByFilter(User user, int maxLength);
+
+  /**
+   * Reads the numeric metrics of every city without loading City entities.
+   * Each row holds the city id followed by one value per CityMetric, in
+   * CityMetric order. Missing values are null.
+   *
+   * @return one row per city ordered by city id
+   */
+  List<Object[]> findMetricRows();
+
+  /**
+   * Reads every city, in city id order, through a forward-only cursor.
+   * Cities are handed over in chunks of managed entities, and the
+   * persistence context is cleared after each chunk, so memory stays the
+   * same however many cities there are. Must run inside a transaction.
+   *
+   * @param chunkSize cities per chunk, also the cursor fetch size
+   * @param action called once per chunk, lazy collections can still be read
+   */
+  void forEachCityChunk(int chunkSize, Consumer<List<City>> action);
+}
@@ -0,0 +1,175 @@
+package com.lambdaschool.foundation.repository;
+
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.CityAbstract;
+import com.lambdaschool.foundation.models.CityMetric;
+import com.lambdaschool.foundation.models.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import org.hibernate.jpa.QueryHints;
+
+/**
+ * Criteria query implementation of CityRepositoryCustom.
+ * Spring Data picks this class up by name and merges it into CityRepository.
+ */
+public class CityRepositoryCustomImpl implements CityRepositoryCustom {
+
+  /**
+   * Entity manager bound to the current transaction
+   */
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<Long> findIdsByFilter(User user, int maxLength) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = cb.createQuery(Long.class);
+    Root<City> city = query.from(City.class);
+
+    query
+      .select(city.<Long>get("cityId"))
+      .where(filter(cb, city, user))
+      .orderBy(cb.asc(city.get("cityId")));
+
+    return limit(entityManager.createQuery(query), maxLength).getResultList();
+  }
+
+  @Override
+  public List<CityAbstract> findAbstractsByFilter(User user, int maxLength) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<CityAbstract> query = cb.createQuery(CityAbstract.class);
+    Root<City> city = query.from(City.class);
+
+    query
+      .select(
+        cb.construct(
+          CityAbstract.class,
+          city.get("cityId"),
+          city.get("cityName"),
+          city.get("stateCode"),
+          city.get("population"),
+          city.get("averageHomeCost"),
+          city.get("rent"),
+          city.get("costOfLivingIndex"),
+          city.get("imageUrl"),
+          city.get("website")
+        )
+      )
+      .where(filter(cb, city, user))
+      .orderBy(cb.asc(city.get("cityId")));
+
+    return limit(entityManager.createQuery(query), maxLength).getResultList();
+  }
+
+  @Override
+  public void forEachCityChunk(int chunkSize, Consumer<List<City>> action) {
+    TypedQuery<City> query = entityManager
+      .createQuery("SELECT c FROM City c ORDER BY c.cityId", City.class)
+      .setHint(QueryHints.HINT_FETCH_SIZE, chunkSize)
+      .setHint(QueryHints.HINT_READONLY, true);
+
+    try (Stream<City> cities = query.getResultStream()) {
+      List<City> chunk = new ArrayList<>(chunkSize);
+      cities.forEach(
+        city -> {
+          chunk.add(city);
+          if (chunk.size() == chunkSize) {
+            action.accept(chunk);
+            chunk.clear();
+            // detach the chunk, the cursor itself stays open
+            entityManager.clear();
+          }
+        }
+      );
+      if (!chunk.isEmpty()) {
+        action.accept(chunk);
+        entityManager.clear();
+      }
+    }
+  }
+
+  @Override
+  public List<Object[]> findMetricRows() {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+    Root<City> city = query.from(City.class);
+
+    List<Selection<?>> columns = new ArrayList<>();
+    columns.add(city.get("cityId"));
+    for (CityMetric metric : CityMetric.values()) {
+      columns.add(city.get(metric.getAttribute()));
+    }
+
+    query.multiselect(columns).orderBy(cb.asc(city.get("cityId")));
+
+    return entityManager.createQuery(query).getResultList();
+  }
+
+  /**
+   * Builds the WHERE clause for the user's preferences. A preference that
+   * is not set (null) does not restrict the result.
+   *
+   * @param cb criteria builder of the query
+   * @param city root of the query
+   * @param user user whose preferences are applied
+   * @return array of predicates that must all hold
+   */
+  private Predicate[] filter(CriteriaBuilder cb, Root<City> city, User user) {
+    List<Predicate> predicates = new ArrayList<>();
+
+    if (user.getMinPopulation() != null) predicates.add(
+      cb.greaterThanOrEqualTo(
+        city.<Long>get("population"),
+        user.getMinPopulation().longValue()
+      )
+    );
+    if (user.getMaxPopulation() != null) predicates.add(
+      cb.lessThanOrEqualTo(
+        city.<Long>get("population"),
+        user.getMaxPopulation().longValue()
+      )
+    );
+    if (user.getMinRent() != null) predicates.add(
+      cb.greaterThanOrEqualTo(city.<Double>get("rent"), user.getMinRent())
+    );
+    if (user.getMaxRent() != null) predicates.add(
+      cb.lessThanOrEqualTo(city.<Double>get("rent"), user.getMaxRent())
+    );
+    if (user.getMinHouseCost() != null) predicates.add(
+      cb.greaterThanOrEqualTo(
+        city.<Double>get("averageHomeCost"),
+        user.getMinHouseCost()
+      )
+    );
+    if (user.getMaxHouseCost() != null) predicates.add(
+      cb.lessThanOrEqualTo(
+        city.<Double>get("averageHomeCost"),
+        user.getMaxHouseCost()
+      )
+    );
+
+    return predicates.toArray(new Predicate[0]);
+  }
+
+  /**
+   * Applies maxLength as a SQL LIMIT
+   *
+   * @param query query to limit
+   * @param maxLength maximum number of rows, if 0 there is no maximum
+   * @return the same query
+   */
+  private static <T> TypedQuery<T> limit(TypedQuery<T> query, int maxLength) {
+    if (maxLength != 0) query.setMaxResults(maxLength);
+    return query;
+  }
+}
@@ -2,6 +2,7 @@ package com.lambdaschool.foundation.repository;
 
 import com.lambdaschool.foundation.models.User;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 
 /**
@@ -23,4 +24,16 @@ public interface UserRepository extends CrudRepository<User, Long> {
    * @return List of users whose name contain the given substring ignoring case
    */
   List<User> findByUsernameContainingIgnoreCase(String name);
+
+  /**
+   * Find the users after a user id, for keyset pagination
+   *
+   * @param userId id of the last user already read, 0 for the first page
+   * @param pageable size of the page, its page number is not used
+   * @return users with a larger id in id order
+   */
+  List<User> findByUserIdGreaterThanOrderByUserIdAsc(
+    long userId,
+    Pageable pageable
+  );
 }
@@ -0,0 +1,95 @@
+package com.lambdaschool.foundation.services;
+
+import java.util.Arrays;
+
+/**
+ * Max-heap of rows by a distance key, keeping the capacity closest rows
+ * whose key is at most limit. Used for the top-k searches of the in-memory
+ * city indexes.
+ */
+final class BoundedHeap {
+
+  private final int capacity;
+
+  private final double limit;
+
+  private int[] rows = new int[16];
+
+  private double[] keys = new double[16];
+
+  private int size;
+
+  BoundedHeap(int capacity, double limit) {
+    this.capacity = capacity;
+    this.limit = limit;
+  }
+
+  /**
+   * Largest key that can still enter the heap
+   */
+  double bound() {
+    return size < capacity ? limit : keys[0];
+  }
+
+  void offer(int row, double key) {
+    if (key > limit) return;
+    if (size < capacity) {
+      if (size == rows.length) {
+        rows = Arrays.copyOf(rows, size * 2);
+        keys = Arrays.copyOf(keys, size * 2);
+      }
+      int i = size++;
+      while (i > 0 && keys[(i - 1) / 2] < key) {
+        rows[i] = rows[(i - 1) / 2];
+        keys[i] = keys[(i - 1) / 2];
+        i = (i - 1) / 2;
+      }
+      rows[i] = row;
+      keys[i] = key;
+    } else if (key < keys[0]) {
+      siftDown(row, key);
+    }
+  }
+
+  private void siftDown(int row, double key) {
+    int i = 0;
+    while (true) {
+      int child = 2 * i + 1;
+      if (child >= size) break;
+      if (child + 1 < size && keys[child + 1] > keys[child]) child++;
+      if (keys[child] <= key) break;
+      rows[i] = rows[child];
+      keys[i] = keys[child];
+      i = child;
+    }
+    rows[i] = row;
+    keys[i] = key;
+  }
+
+  /**
+   * Sorts the entries by ascending key, nothing can be offered afterwards
+   * @return number of entries
+   */
+  int sort() {
+    int count = size;
+    // heap sort in place: repeatedly move the largest to the end
+    while (size > 1) {
+      int lastRow = rows[size - 1];
+      double lastKey = keys[size - 1];
+      rows[size - 1] = rows[0];
+      keys[size - 1] = keys[0];
+      size--;
+      siftDown(lastRow, lastKey);
+    }
+    size = 0;
+    return count;
+  }
+
+  int row(int i) {
+    return rows[i];
+  }
+
+  double key(int i) {
+    return keys[i];
+  }
+}
@@ -0,0 +1,43 @@
+package com.lambdaschool.foundation.services;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published by CityService whenever a city is written. Listeners that keep
+ * in-memory copies of city data use @TransactionalEventListener so they only
+ * rebuild once the write has committed.
+ * <p>
+ * They rebuild in a new read-write transaction even though they only read.
+ * Read-only transactions go to the read replica, see
+ * ReadWriteRoutingDataSource, and a replica may not have the write yet.
+ * <p>
+ * Rebuilds for writes committed close together run at the same time and can
+ * finish in any order. Each rebuild takes a number before it starts reading
+ * and is only installed if it is newer than the copy in place, so an older
+ * copy never replaces one that has seen more writes.
+ */
+public class CitiesChangedEvent extends ApplicationEvent {
+
+  /**
+   * Id of the city that was written, 0 when many cities were written at once
+   */
+  private final long cityId;
+
+  /**
+   * Main constructor
+   * @param source the service that wrote the city
+   * @param cityId id of the city that was written, 0 for many cities
+   */
+  public CitiesChangedEvent(Object source, long cityId) {
+    super(source);
+    this.cityId = cityId;
+  }
+
+  /**
+   * Getter for cityId
+   * @return id of the city that was written
+   */
+  public long getCityId() {
+    return cityId;
+  }
+}
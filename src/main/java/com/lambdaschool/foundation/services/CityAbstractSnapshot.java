@@ -0,0 +1,100 @@
+package com.lambdaschool.foundation.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambdaschool.foundation.models.CityAbstractPayload;
+import com.lambdaschool.foundation.repository.CityRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Holds the pre-serialized /cities/allid payload.
+ * <p>
+ * The CityAbstract list only changes when a city is written, so it is queried
+ * and serialized once, then handed out as bytes until the next committed
+ * write replaces it.
+ */
+@Component
+public class CityAbstractSnapshot {
+
+  /**
+   * Connection to the cities table
+   */
+  private final CityRepository cityRepository;
+
+  /**
+   * The application's configured Jackson mapper
+   */
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Incremented when a build starts, see CitiesChangedEvent
+   */
+  private final AtomicLong versions = new AtomicLong();
+
+  /**
+   * The current payload, null until first requested
+   */
+  private volatile CityAbstractPayload payload;
+
+  public CityAbstractSnapshot(
+    CityRepository cityRepository,
+    ObjectMapper objectMapper
+  ) {
+    this.cityRepository = cityRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Returns the current payload, building it on first use
+   * @return the serialized CityAbstract list
+   */
+  public CityAbstractPayload get() {
+    CityAbstractPayload current = payload;
+    if (current == null) {
+      synchronized (this) {
+        current = payload;
+        if (current == null) {
+          current = build();
+          install(current);
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Replaces the payload after a city write has committed
+   * @param event the city write
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  // read-write, see CitiesChangedEvent
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void onCitiesChanged(CitiesChangedEvent event) {
+    install(build());
+  }
+
+  /**
+   * Replaces the payload unless a later build is already in place
+   */
+  private synchronized void install(CityAbstractPayload next) {
+    if (payload == null || payload.getVersion() < next.getVersion()) {
+      payload = next;
+    }
+  }
+
+  private CityAbstractPayload build() {
+    long version = versions.incrementAndGet();
+    try {
+      return new CityAbstractPayload(
+        version,
+        objectMapper.writeValueAsBytes(cityRepository.findAllAbstracts())
+      );
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize city abstracts", e);
+    }
+  }
+}
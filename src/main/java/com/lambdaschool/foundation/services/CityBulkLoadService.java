@@ -0,0 +1,14 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.City;
+import java.util.List;
+
+public interface CityBulkLoadService {
+  /**
+   * Inserts new cities with their zipcodes and history in as few
+   * statements as possible. The generated ids are set on the given objects.
+   * @param cities new, unsaved cities
+   * @return number of cities inserted
+   */
+  int load(List<City> cities);
+}
@@ -0,0 +1,452 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.config.DatabaseMetadata;
+import com.lambdaschool.foundation.models.*;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads many cities at once without going through the EntityManager.
+ * <p>
+ * Cities are written in chunks of citrics.bulk-load.batch-size. For every
+ * chunk the ids of all its rows are taken from hibernate_sequence in one
+ * query, the rows are built in memory and each table is written in one go:
+ * with COPY on PostgreSQL, with batched INSERTs everywhere else.
+ * The ids come from the same sequence the entities use, so cities loaded
+ * here and cities saved through JPA never collide.
+ */
+@Service(value = "cityBulkLoadService")
+public class CityBulkLoadServiceImpl implements CityBulkLoadService {
+
+  /**
+   * Connection to the database
+   */
+  private final DataSource dataSource;
+
+  private final DatabaseMetadata databaseMetadata;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Supplies the username for the auditing columns
+   */
+  private final UserAuditing userAuditing;
+
+  /**
+   * Tells in-memory copies of city data that cities were written
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Cities written per chunk, also the JDBC batch size of the INSERTs
+   */
+  private final int batchSize;
+
+  /**
+   * Use COPY when the database is PostgreSQL
+   */
+  private final boolean copyEnabled;
+
+  public CityBulkLoadServiceImpl(
+    DataSource dataSource,
+    DatabaseMetadata databaseMetadata,
+    JdbcTemplate jdbcTemplate,
+    UserAuditing userAuditing,
+    ApplicationEventPublisher eventPublisher,
+    @Value("${citrics.bulk-load.batch-size:500}") int batchSize,
+    @Value("${citrics.bulk-load.copy:true}") boolean copyEnabled
+  ) {
+    this.dataSource = dataSource;
+    this.databaseMetadata = databaseMetadata;
+    this.jdbcTemplate = jdbcTemplate;
+    this.userAuditing = userAuditing;
+    this.eventPublisher = eventPublisher;
+    this.batchSize = Math.max(1, batchSize);
+    this.copyEnabled = copyEnabled;
+  }
+
+  /**
+   * Inserts new cities with their zipcodes and history in one transaction
+   * @param cities new, unsaved cities
+   * @return number of cities inserted
+   */
+  @Transactional
+  @Override
+  public int load(List<City> cities) {
+    if (cities.isEmpty()) return 0;
+
+    String auditor = userAuditing.getCurrentAuditor().orElse("SYSTEM");
+    boolean postgres = databaseMetadata.isPostgres();
+    PGConnection copy = copyEnabled && postgres ? copyConnection() : null;
+
+    for (int from = 0; from < cities.size(); from += batchSize) {
+      List<City> chunk = cities.subList(
+        from,
+        Math.min(from + batchSize, cities.size())
+      );
+      for (Rows rows : buildRows(chunk, auditor, postgres)) {
+        if (rows.isEmpty()) continue;
+        if (copy != null) {
+          copyRows(copy, rows);
+        } else {
+          insertRows(rows);
+        }
+      }
+    }
+
+    eventPublisher.publishEvent(new CitiesChangedEvent(this, 0));
+    return cities.size();
+  }
+
+  /**
+   * The PostgreSQL connection of the current transaction
+   * @return the connection, null if the driver does not support COPY
+   */
+  private PGConnection copyConnection() {
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      if (connection.isWrapperFor(PGConnection.class)) {
+        return connection.unwrap(PGConnection.class);
+      }
+      return null;
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not inspect connection", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  /**
+   * Assigns ids to the chunk and lays out its rows, in foreign key order
+   */
+  private List<Rows> buildRows(
+    List<City> chunk,
+    String auditor,
+    boolean postgres
+  ) {
+    int needed = 0;
+    for (City c : chunk) {
+      needed +=
+        1 +
+        (c.getHistoricalCovid() == null ? 0 : 1) +
+        c.getZipcodes().size() +
+        c.getPopulationHistory().size() +
+        c.getHistoricalIncome().size() +
+        c.getHistoricalHomeCost().size() +
+        c.getHistoricalWeather().size();
+    }
+    Iterator<Long> ids = nextIds(needed, postgres).iterator();
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+
+    Rows series = new Rows(
+      "historical_covid_series",
+      "series_id",
+      "start_date",
+      "cases"
+    );
+    Rows cities = new Rows(
+      "cities",
+      "city_id",
+      "city_name",
+      "state_code",
+      "timezone",
+      "latitude",
+      "longitude",
+      "fpis",
+      "gnis",
+      "image_url",
+      "website",
+      "population",
+      "population_density",
+      "average_age",
+      "household_income",
+      "individual_income",
+      "average_home_cost",
+      "rent",
+      "cost_of_living_index",
+      "aca_status",
+      "average_temperature",
+      "average_precipitation",
+      "average_new_covid_cases",
+      "covid_series_id"
+    );
+    Rows zipcodes = new Rows("zipcodes", "zip_id", "code", "city_id");
+    Rows population = new Rows(
+      "population_history",
+      "population_id",
+      "year",
+      "population",
+      "city_id"
+    );
+    Rows income = new Rows(
+      "historical_income",
+      "income_id",
+      "year",
+      "individual_income",
+      "household_income",
+      "city_id"
+    );
+    Rows homeCost = new Rows(
+      "historical_home_cost",
+      "house_id",
+      "year",
+      "month",
+      "home_cost",
+      "city_id"
+    );
+    Rows weather = new Rows(
+      "historical_weather",
+      "weather_id",
+      "month",
+      "precipitation",
+      "temperature",
+      "city_id"
+    );
+
+    for (City c : chunk) {
+      c.setCityId(ids.next());
+
+      HistoricalCovidSeries covid = c.getHistoricalCovid();
+      if (covid != null) {
+        covid.setSeriesId(ids.next());
+        series.add(
+          auditor,
+          now,
+          covid.getSeriesId(),
+          Date.valueOf(covid.getStartDate()),
+          DeltaIntArrayConverter.encode(covid.getCases())
+        );
+      }
+
+      cities.add(
+        auditor,
+        now,
+        c.getCityId(),
+        c.getCityName(),
+        c.getStateCode(),
+        c.getTimezone(),
+        c.getLatitude(),
+        c.getLongitude(),
+        c.getFpis(),
+        c.getGnis(),
+        c.getImageUrl(),
+        c.getWebsite(),
+        c.getPopulation(),
+        c.getPopulationDensity(),
+        c.getAverageAge(),
+        c.getHouseholdIncome(),
+        c.getIndividualIncome(),
+        c.getAverageHomeCost(),
+        c.getRent(),
+        c.getCostOfLivingIndex(),
+        c.getAcaStatus(),
+        c.getAverageTemperature(),
+        c.getAveragePrecipitation(),
+        c.getAverageNewCovidCases(),
+        covid == null ? null : covid.getSeriesId()
+      );
+
+      for (Zipcode z : c.getZipcodes()) {
+        z.setZipId(ids.next());
+        zipcodes.add(auditor, now, z.getZipId(), z.getCode(), c.getCityId());
+      }
+      for (PopulationHistory p : c.getPopulationHistory()) {
+        p.setPopulationId(ids.next());
+        population.add(
+          auditor,
+          now,
+          p.getPopulationId(),
+          p.getYear(),
+          p.getPopulation(),
+          c.getCityId()
+        );
+      }
+      for (HistoricalIncome i : c.getHistoricalIncome()) {
+        i.setIncomeId(ids.next());
+        income.add(
+          auditor,
+          now,
+          i.getIncomeId(),
+          i.getYear(),
+          i.getIndividualIncome(),
+          i.getHouseholdIncome(),
+          c.getCityId()
+        );
+      }
+      for (HistoricalHomeCost h : c.getHistoricalHomeCost()) {
+        h.setHouseId(ids.next());
+        homeCost.add(
+          auditor,
+          now,
+          h.getHouseId(),
+          h.getYear(),
+          h.getMonth(),
+          h.getHomeCost(),
+          c.getCityId()
+        );
+      }
+      for (HistoricalWeather w : c.getHistoricalWeather()) {
+        w.setWeatherId(ids.next());
+        weather.add(
+          auditor,
+          now,
+          w.getWeatherId(),
+          w.getMonth(),
+          w.getPrecipitation(),
+          w.getTemperature(),
+          c.getCityId()
+        );
+      }
+    }
+
+    List<Rows> tables = new ArrayList<>();
+    tables.add(series);
+    tables.add(cities);
+    tables.add(zipcodes);
+    tables.add(population);
+    tables.add(income);
+    tables.add(homeCost);
+    tables.add(weather);
+    return tables;
+  }
+
+  /**
+   * Takes a block of ids from hibernate_sequence in a single query
+   * @param count number of ids
+   * @param postgres the database is PostgreSQL, otherwise H2 is assumed
+   * @return count new ids
+   */
+  private List<Long> nextIds(int count, boolean postgres) {
+    String sql = postgres
+      ? "SELECT nextval('hibernate_sequence') FROM generate_series(1, ?)"
+      : "SELECT NEXT VALUE FOR hibernate_sequence FROM SYSTEM_RANGE(1, ?)";
+    return jdbcTemplate.queryForList(sql, Long.class, count);
+  }
+
+  private void insertRows(Rows rows) {
+    jdbcTemplate.batchUpdate(
+      rows.insertSql(),
+      rows.values,
+      batchSize,
+      (ps, row) -> {
+        for (int i = 0; i < row.length; i++) {
+          ps.setObject(i + 1, row[i]);
+        }
+      }
+    );
+  }
+
+  private static void copyRows(PGConnection connection, Rows rows) {
+    try {
+      connection
+        .getCopyAPI()
+        .copyIn(rows.copySql(), new StringReader(rows.csv()));
+    } catch (SQLException | IOException e) {
+      throw new IllegalStateException("Could not copy into " + rows.table, e);
+    }
+  }
+
+  /**
+   * The rows of one table, each starting with the four auditing columns
+   */
+  private static final class Rows {
+
+    private final String table;
+
+    private final List<String> columns = new ArrayList<>();
+
+    private final List<Object[]> values = new ArrayList<>();
+
+    Rows(String table, String... columns) {
+      this.table = table;
+      this.columns.add("created_by");
+      this.columns.add("created_date");
+      this.columns.add("last_modified_by");
+      this.columns.add("last_modified_date");
+      for (String column : columns) {
+        this.columns.add(column);
+      }
+    }
+
+    void add(String auditor, Timestamp now, Object... row) {
+      Object[] values = new Object[row.length + 4];
+      values[0] = auditor;
+      values[1] = now;
+      values[2] = auditor;
+      values[3] = now;
+      System.arraycopy(row, 0, values, 4, row.length);
+      this.values.add(values);
+    }
+
+    boolean isEmpty() {
+      return values.isEmpty();
+    }
+
+    String insertSql() {
+      StringBuilder sql = new StringBuilder("INSERT INTO ")
+        .append(table)
+        .append(" (")
+        .append(String.join(", ", columns))
+        .append(") VALUES (?");
+      for (int i = 1; i < columns.size(); i++) {
+        sql.append(", ?");
+      }
+      return sql.append(')').toString();
+    }
+
+    String copySql() {
+      return (
+        "COPY " +
+        table +
+        " (" +
+        String.join(", ", columns) +
+        ") FROM STDIN WITH (FORMAT csv)"
+      );
+    }
+
+    /**
+     * The rows in PostgreSQL's CSV format: an empty unquoted field is NULL,
+     * text is quoted, bytes are written as hex
+     */
+    String csv() {
+      StringBuilder csv = new StringBuilder(values.size() * 64);
+      for (Object[] row : values) {
+        for (int i = 0; i < row.length; i++) {
+          if (i > 0) csv.append(',');
+          Object value = row[i];
+          if (value instanceof String) {
+            csv
+              .append('"')
+              .append(((String) value).replace("\"", "\"\""))
+              .append('"');
+          } else if (value instanceof byte[]) {
+            csv.append("\\x");
+            for (byte b : (byte[]) value) {
+              csv.append(Character.forDigit((b >> 4) & 0xF, 16));
+              csv.append(Character.forDigit(b & 0xF, 16));
+            }
+          } else if (value != null) {
+            csv.append(value);
+          }
+        }
+        csv.append('\n');
+      }
+      return csv.toString();
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.lambdaschool.foundation.services;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambdaschool.foundation.models.City;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the catalogue at startup from a JSON array of cities as the DS API
+ * returns them, replacing the to-csv.py and data.sql path.
+ * <p>
+ * Only runs when citrics.bulk-load.file is set, e.g.
+ * citrics.bulk-load.file=file:/data/ds-cities.json or a classpath: location.
+ * The file is streamed through DSCityParser one city at a time and the
+ * cities are written with CityBulkLoadService. Cities whose name is already
+ * stored are skipped, so the property can stay set across restarts.
+ */
+@Component
+@ConditionalOnProperty("citrics.bulk-load.file")
+public class CityCatalogueLoader implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    CityCatalogueLoader.class
+  );
+
+  private final CityBulkLoadService cityBulkLoadService;
+
+  private final DSCityParser dsCityParser;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final ObjectMapper objectMapper;
+
+  private final Resource file;
+
+  public CityCatalogueLoader(
+    CityBulkLoadService cityBulkLoadService,
+    DSCityParser dsCityParser,
+    JdbcTemplate jdbcTemplate,
+    ObjectMapper objectMapper,
+    ResourceLoader resourceLoader,
+    @Value("${citrics.bulk-load.file}") String file
+  ) {
+    this.cityBulkLoadService = cityBulkLoadService;
+    this.dsCityParser = dsCityParser;
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+    this.file = resourceLoader.getResource(file);
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws IOException {
+    load();
+  }
+
+  /**
+   * Reads the file and inserts the cities not stored yet
+   * @return number of cities inserted
+   * @throws IOException the file cannot be read or is not a JSON array
+   */
+  public int load() throws IOException {
+    long start = System.nanoTime();
+    Set<String> stored = new HashSet<>(
+      jdbcTemplate.queryForList("SELECT city_name FROM cities", String.class)
+    );
+
+    List<City> cities = new ArrayList<>();
+    int skipped = 0;
+    try (
+      InputStream in = file.getInputStream();
+      JsonParser p = objectMapper.getFactory().createParser(in)
+    ) {
+      if (p.nextToken() != JsonToken.START_ARRAY) {
+        throw new IOException(file.getDescription() + " is not a JSON array");
+      }
+      while (p.nextToken() == JsonToken.START_OBJECT) {
+        City city = DSCityParser.toCity(dsCityParser.parse(p));
+        if (stored.add(city.getCityName())) {
+          cities.add(city);
+        } else {
+          skipped++;
+        }
+      }
+    }
+
+    int loaded = cityBulkLoadService.load(cities);
+    logger.info(
+      "Loaded " +
+      loaded +
+      " cities, skipped " +
+      skipped +
+      " already stored, from " +
+      file.getDescription() +
+      " in " +
+      TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) +
+      " ms"
+    );
+    return loaded;
+  }
+}
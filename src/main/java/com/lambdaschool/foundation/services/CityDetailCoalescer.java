@@ -0,0 +1,149 @@
+package com.lambdaschool.foundation.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambdaschool.foundation.SingleFlight;
+import com.lambdaschool.foundation.models.City;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shares one city detail load between concurrent identical requests.
+ * <p>
+ * When a city trends, many requests for it arrive at once. The first one
+ * loads the city and serializes it, the others wait for that load and get
+ * the same JSON bytes, so the herd costs one transaction and one pooled
+ * connection instead of one each. Nothing is kept once the load is done,
+ * later requests load again.
+ */
+@Component
+public class CityDetailCoalescer implements MeterBinder {
+
+  private final CityService cityService;
+
+  /**
+   * Serializes the loaded city the way the controller would
+   */
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Loads in progress by city id
+   */
+  private final SingleFlight<Long, byte[]> byId = new SingleFlight<>();
+
+  /**
+   * Loads in progress by city name
+   */
+  private final SingleFlight<String, byte[]> byName = new SingleFlight<>();
+
+  /**
+   * Requests that ran the load themselves
+   */
+  private final LongAdder loaded = new LongAdder();
+
+  /**
+   * Requests that joined a load already in progress
+   */
+  private final LongAdder coalesced = new LongAdder();
+
+  public CityDetailCoalescer(
+    CityService cityService,
+    ObjectMapper objectMapper
+  ) {
+    this.cityService = cityService;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * The city with its history as JSON, see CityService.findCityById
+   * @param id city id
+   * @return UTF-8 JSON bytes of the city
+   */
+  public byte[] findCityById(long id) {
+    return run(byId, id, () -> cityService.findCityById(id));
+  }
+
+  /**
+   * The city with its history as JSON, see CityService.findByCityName
+   * @param name city name
+   * @return UTF-8 JSON bytes of the city
+   */
+  public byte[] findByCityName(String name) {
+    return run(byName, name, () -> cityService.findByCityName(name));
+  }
+
+  /**
+   * Number of requests that joined a load already in progress
+   * @return coalesced requests since startup
+   */
+  public long getCoalesced() {
+    return coalesced.sum();
+  }
+
+  /**
+   * Number of requests that ran the load themselves
+   * @return loading requests since startup
+   */
+  public long getLoaded() {
+    return loaded.sum();
+  }
+
+  /**
+   * Publishes citrics.city.lookups, tagged by whether the request loaded
+   * or joined, and the number of loads in progress
+   * @param registry registry to publish to
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter
+      .builder("citrics.city.lookups", loaded, LongAdder::sum)
+      .tag("result", "loaded")
+      .description("City detail requests that ran their own load")
+      .register(registry);
+    FunctionCounter
+      .builder("citrics.city.lookups", coalesced, LongAdder::sum)
+      .tag("result", "coalesced")
+      .description("City detail requests that shared a load in progress")
+      .register(registry);
+    Gauge
+      .builder("citrics.city.lookups.in.flight", this, c -> c.inFlight())
+      .description("City detail loads in progress")
+      .register(registry);
+  }
+
+  private int inFlight() {
+    return byId.inFlight() + byName.inFlight();
+  }
+
+  private <K> byte[] run(
+    SingleFlight<K, byte[]> flights,
+    K key,
+    Supplier<City> loader
+  ) {
+    boolean[] ran = new boolean[1];
+    try {
+      return flights.run(
+        key,
+        () -> {
+          ran[0] = true;
+          return serialize(loader.get());
+        }
+      );
+    } finally {
+      (ran[0] ? loaded : coalesced).increment();
+    }
+  }
+
+  private byte[] serialize(City city) {
+    try {
+      return objectMapper.writeValueAsBytes(city);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize city", e);
+    }
+  }
+}
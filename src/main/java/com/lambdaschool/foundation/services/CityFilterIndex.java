@@ -0,0 +1,784 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.CityFacet;
+import com.lambdaschool.foundation.models.CityFilter;
+import com.lambdaschool.foundation.models.CityMatch;
+import com.lambdaschool.foundation.models.CityMetric;
+import com.lambdaschool.foundation.models.CityPreference;
+import com.lambdaschool.foundation.repository.CityRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory columnar copy of the numeric City metrics.
+ * <p>
+ * Every CityMetric is held in its own primitive array, rows ordered by city id,
+ * together with a per metric sorted copy for binary search and a set of
+ * equal-depth range buckets held as bitmaps of rows. Filtering a CityFilter
+ * against the index is a CPU-only operation, no entities are loaded.
+ * <p>
+ * The index is built once the application is ready and rebuilt after every
+ * committed city write. Readers always see a complete, immutable Snapshot.
+ */
+@Component
+public class CityFilterIndex {
+
+  /**
+   * Largest number of facet results kept for one snapshot
+   */
+  static final int FACET_CACHE_SIZE = 1024;
+
+  /**
+   * Connection to the cities table
+   */
+  private final CityRepository cityRepository;
+
+  /**
+   * Incremented when a rebuild starts, so dependent caches can tell when to
+   * refresh and older rebuilds are not installed, see CitiesChangedEvent
+   */
+  private final AtomicLong versions = new AtomicLong();
+
+  /**
+   * The current snapshot, null until the first build
+   */
+  private volatile Snapshot snapshot;
+
+  /**
+   * Facet results by filter and bins, dropped when the snapshot changes
+   */
+  private volatile FacetCache facetCache;
+
+  public CityFilterIndex(CityRepository cityRepository) {
+    this.cityRepository = cityRepository;
+  }
+
+  /**
+   * Builds the index once the application has started
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void onApplicationReady() {
+    rebuild();
+  }
+
+  /**
+   * Rebuilds the index after a city write has committed
+   * @param event the city write
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  // read-write, see CitiesChangedEvent
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void onCitiesChanged(CitiesChangedEvent event) {
+    rebuild();
+  }
+
+  /**
+   * Reads the metric columns from the database and swaps in a new snapshot
+   */
+  private void rebuild() {
+    long version = versions.incrementAndGet();
+    List<Object[]> rows = cityRepository.findMetricRows();
+    int metrics = CityMetric.values().length;
+
+    long[] ids = new long[rows.size()];
+    double[][] columns = new double[metrics][rows.size()];
+
+    for (int row = 0; row < rows.size(); row++) {
+      Object[] values = rows.get(row);
+      ids[row] = ((Number) values[0]).longValue();
+      for (int m = 0; m < metrics; m++) {
+        Object value = values[m + 1];
+        columns[m][row] = value == null
+          ? Double.NaN
+          : ((Number) value).doubleValue();
+      }
+    }
+
+    install(new Snapshot(version, ids, columns));
+  }
+
+  /**
+   * Replaces the snapshot unless a later rebuild is already in place
+   */
+  private synchronized void install(Snapshot next) {
+    if (snapshot == null || snapshot.getVersion() < next.getVersion()) {
+      snapshot = next;
+    }
+  }
+
+  /**
+   * Whether the first build has finished
+   * @return true if the index can answer queries
+   */
+  public boolean isReady() {
+    return snapshot != null;
+  }
+
+  /**
+   * Getter for the current snapshot
+   * @return the current snapshot, null if the index is not built yet
+   */
+  public Snapshot getSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Returns the current snapshot, building it first if a request arrives
+   * before the application ready build has finished
+   * @return the current snapshot
+   */
+  public Snapshot getOrBuildSnapshot() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      synchronized (this) {
+        if (snapshot == null) rebuild();
+        current = snapshot;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Finds the ids of all cities matching the filter
+   * @param filter ranges the cities must fall in
+   * @param maxLength Maximum length of the returned list, if 0 there is no maximum
+   * @return List of matching city ids ordered by city id
+   */
+  public List<Long> filter(CityFilter filter, int maxLength) {
+    Snapshot current = snapshot;
+    return current.ids(current.matches(filter), maxLength);
+  }
+
+  /**
+   * Histograms of every metric given the other ranges of the filter.
+   * Results are cached per filter and number of bins until the next rebuild.
+   * @param filter ranges of the other sliders
+   * @param bins number of bins per metric
+   * @return one histogram per CityMetric
+   */
+  public List<CityFacet> facets(CityFilter filter, int bins) {
+    Snapshot current = getOrBuildSnapshot();
+    FacetCache cache = facetCache;
+    if (cache == null || cache.version != current.getVersion()) {
+      cache = new FacetCache(current.getVersion());
+      facetCache = cache;
+    }
+
+    List<Object> key = Arrays.asList(filter, bins);
+    List<CityFacet> facets = cache.results.get(key);
+    if (facets == null) {
+      facets = current.facets(filter, bins);
+      if (cache.results.size() >= FACET_CACHE_SIZE) cache.results.clear();
+      cache.results.put(key, facets);
+    }
+    return facets;
+  }
+
+  /**
+   * Facet results computed from one snapshot
+   */
+  private static final class FacetCache {
+
+    private final long version;
+
+    private final ConcurrentMap<List<Object>, List<CityFacet>> results =
+      new ConcurrentHashMap<>();
+
+    private FacetCache(long version) {
+      this.version = version;
+    }
+  }
+
+  /**
+   * An immutable, columnar copy of the city metrics
+   */
+  public static final class Snapshot {
+
+    /**
+     * Number of range buckets kept per metric
+     */
+    static final int BUCKETS = 32;
+
+    /**
+     * Build number of this snapshot
+     */
+    private final long version;
+
+    /**
+     * City ids, ascending. The position of an id is its row.
+     */
+    private final long[] ids;
+
+    /**
+     * Metric values per row, indexed [metric ordinal][row]. NaN if missing.
+     */
+    private final double[][] columns;
+
+    /**
+     * Rows ordered by metric value, indexed [metric ordinal][rank].
+     * Rows with a missing value are left out. Ties keep city id order.
+     */
+    private final int[][] order;
+
+    /**
+     * Metric values in ascending order, indexed [metric ordinal][rank]
+     */
+    private final double[][] sorted;
+
+    /**
+     * Rows grouped into BUCKETS equal-depth buckets by metric rank,
+     * indexed [metric ordinal][bucket]. Bucket b holds the rows ranked
+     * [b * bucketSize, (b + 1) * bucketSize).
+     */
+    private final BitSet[][] buckets;
+
+    /**
+     * Number of ranks per bucket, indexed by metric ordinal
+     */
+    private final int[] bucketSize;
+
+    /**
+     * Main constructor
+     * @param version build number of this snapshot
+     * @param ids city ids, ascending
+     * @param columns metric values indexed [metric ordinal][row]
+     */
+    public Snapshot(long version, long[] ids, double[][] columns) {
+      this.version = version;
+      this.ids = ids;
+      this.columns = columns;
+      this.order = new int[columns.length][];
+      this.sorted = new double[columns.length][];
+      this.buckets = new BitSet[columns.length][];
+      this.bucketSize = new int[columns.length];
+
+      for (int m = 0; m < columns.length; m++) {
+        final double[] column = columns[m];
+        List<Integer> rows = new ArrayList<>(ids.length);
+        for (int row = 0; row < ids.length; row++) {
+          if (!Double.isNaN(column[row])) rows.add(row);
+        }
+        // List.sort is stable, so equal values stay in city id order
+        rows.sort(Comparator.comparingDouble(row -> column[row]));
+
+        order[m] = new int[rows.size()];
+        sorted[m] = new double[rows.size()];
+        for (int rank = 0; rank < rows.size(); rank++) {
+          order[m][rank] = rows.get(rank);
+          sorted[m][rank] = column[rows.get(rank)];
+        }
+
+        int valid = order[m].length;
+        bucketSize[m] = Math.max(1, (valid + BUCKETS - 1) / BUCKETS);
+        buckets[m] = new BitSet[(valid + bucketSize[m] - 1) / bucketSize[m]];
+        for (int b = 0; b < buckets[m].length; b++) {
+          BitSet bucket = new BitSet(ids.length);
+          int end = Math.min(valid, (b + 1) * bucketSize[m]);
+          for (int rank = b * bucketSize[m]; rank < end; rank++) {
+            bucket.set(order[m][rank]);
+          }
+          buckets[m][b] = bucket;
+        }
+      }
+    }
+
+    /**
+     * Getter for version
+     * @return build number of this snapshot
+     */
+    public long getVersion() {
+      return version;
+    }
+
+    /**
+     * Number of cities in the snapshot
+     * @return number of rows
+     */
+    public int size() {
+      return ids.length;
+    }
+
+    /**
+     * City id stored in a row
+     * @param row row number
+     * @return city id
+     */
+    public long id(int row) {
+      return ids[row];
+    }
+
+    /**
+     * Finds the row of a city
+     * @param cityId city id
+     * @return row number, or a negative number if the city is not indexed
+     */
+    public int row(long cityId) {
+      return Arrays.binarySearch(ids, cityId);
+    }
+
+    /**
+     * Metric value of a row
+     * @param metric metric to read
+     * @param row row number
+     * @return the value, NaN if missing
+     */
+    public double value(CityMetric metric, int row) {
+      return columns[metric.ordinal()][row];
+    }
+
+    /**
+     * The whole column of a metric. The array must not be modified.
+     * @param metric metric to read
+     * @return values indexed by row
+     */
+    public double[] column(CityMetric metric) {
+      return columns[metric.ordinal()];
+    }
+
+    /**
+     * Rows ordered by a metric. The array must not be modified.
+     * @param metric metric to order by
+     * @return rows in ascending metric order, rows missing the metric left out
+     */
+    public int[] order(CityMetric metric) {
+      return order[metric.ordinal()];
+    }
+
+    /**
+     * Ascending values of a metric. The array must not be modified.
+     * @param metric metric to read
+     * @return values in the same order as order(metric)
+     */
+    public double[] sorted(CityMetric metric) {
+      return sorted[metric.ordinal()];
+    }
+
+    /**
+     * Finds every row matching the filter.
+     * <p>
+     * Each active metric is narrowed to a rank range with a binary search.
+     * If the narrowest range is small its rows are checked against the other
+     * metrics one by one. Otherwise every range is turned into a bitmap of
+     * rows, made from whole range buckets OR-ed together plus the rows of the
+     * two partly covered buckets, and the bitmaps are AND-ed narrowest first.
+     *
+     * @param filter ranges the cities must fall in
+     * @return rows matching every range
+     */
+    public BitSet matches(CityFilter filter) {
+      CityMetric[] metrics = CityMetric.values();
+      int[] active = new int[metrics.length];
+      double[] mins = new double[metrics.length];
+      double[] maxs = new double[metrics.length];
+      int[] from = new int[metrics.length];
+      int[] to = new int[metrics.length];
+      int count = 0;
+
+      for (CityMetric metric : metrics) {
+        if (!filter.isActive(metric)) continue;
+        int m = metric.ordinal();
+        active[count] = m;
+        mins[count] = filter.getMin(metric);
+        maxs[count] = filter.getMax(metric);
+        from[count] = lowerBound(sorted[m], mins[count]);
+        to[count] = Math.max(from[count], upperBound(sorted[m], maxs[count]));
+        count++;
+      }
+
+      if (count == 0) {
+        BitSet all = new BitSet(ids.length);
+        all.set(0, ids.length);
+        return all;
+      }
+
+      // narrowest range first
+      Integer[] byWidth = new Integer[count];
+      for (int i = 0; i < count; i++) byWidth[i] = i;
+      final int[] f = from;
+      final int[] t = to;
+      Arrays.sort(byWidth, Comparator.comparingInt(i -> t[i] - f[i]));
+
+      int narrowest = byWidth[0];
+      if ((long) (to[narrowest] - from[narrowest]) * count <= ids.length / 8) {
+        return scan(narrowest, active, mins, maxs, from, to, count);
+      }
+
+      BitSet result = rangeRows(
+        active[narrowest],
+        from[narrowest],
+        to[narrowest]
+      );
+      for (int i = 1; i < count && !result.isEmpty(); i++) {
+        int next = byWidth[i];
+        result.and(rangeRows(active[next], from[next], to[next]));
+      }
+      return result;
+    }
+
+    /**
+     * Walks the rows of one rank range and checks every active metric
+     * against the column values
+     */
+    private BitSet scan(
+      int driver,
+      int[] active,
+      double[] mins,
+      double[] maxs,
+      int[] from,
+      int[] to,
+      int count
+    ) {
+      BitSet result = new BitSet(ids.length);
+      int[] rows = order[active[driver]];
+
+      candidates:
+      for (int rank = from[driver]; rank < to[driver]; rank++) {
+        int row = rows[rank];
+        for (int i = 0; i < count; i++) {
+          double v = columns[active[i]][row];
+          // written so that NaN (missing) never matches
+          if (!(v >= mins[i] && v <= maxs[i])) continue candidates;
+        }
+        result.set(row);
+      }
+      return result;
+    }
+
+    /**
+     * Bitmap of the rows whose rank, in the order of one metric, lies in
+     * [from, to). Buckets wholly inside the range are OR-ed in, the rows of
+     * the partly covered buckets at either end are set one by one.
+     *
+     * @param m metric ordinal
+     * @param from first rank, inclusive
+     * @param to last rank, exclusive
+     * @return rows in the rank range
+     */
+    BitSet rangeRows(int m, int from, int to) {
+      BitSet result = new BitSet(ids.length);
+      int[] rows = order[m];
+      int size = bucketSize[m];
+
+      // buckets [firstFull, lastFull) lie wholly inside the range
+      int firstFull = (from + size - 1) / size;
+      int lastFull = to / size;
+
+      if (firstFull >= lastFull) {
+        for (int rank = from; rank < to; rank++) result.set(rows[rank]);
+        return result;
+      }
+
+      for (int rank = from; rank < firstFull * size; rank++) {
+        result.set(rows[rank]);
+      }
+      for (int b = firstFull; b < lastFull; b++) {
+        result.or(buckets[m][b]);
+      }
+      for (int rank = lastFull * size; rank < to; rank++) {
+        result.set(rows[rank]);
+      }
+      return result;
+    }
+
+    /**
+     * One page of rows in the order of a metric, continuing after the last
+     * row of the previous page.
+     * <p>
+     * Rows are walked in the precomputed order of the metric, where equal
+     * values are in city id order, so (value, city id) identifies a position
+     * uniquely. The start is found with a binary search on that pair, which
+     * makes a page O(log N + limit) no matter how deep it is.
+     *
+     * @param metric metric to order by, null for city id order. Rows
+     * missing the metric are not part of its order.
+     * @param descending walk from the largest value down
+     * @param afterValue metric value of the previous page's last row,
+     * ignored for city id order
+     * @param afterId city id of the previous page's last row, null for the
+     * first page
+     * @param limit most rows returned
+     * @return rows of the page in order
+     */
+    public int[] page(
+      CityMetric metric,
+      boolean descending,
+      double afterValue,
+      Long afterId,
+      int limit
+    ) {
+      int[] rows = metric == null ? null : order[metric.ordinal()];
+      double[] values = metric == null ? null : sorted[metric.ordinal()];
+      int length = rows == null ? ids.length : rows.length;
+
+      int from;
+      int step;
+      int count;
+      if (descending) {
+        // the last position before the cursor
+        from = afterId == null
+          ? length - 1
+          : seek(rows, values, afterValue, afterId, false) - 1;
+        step = -1;
+        count = Math.min(limit, from + 1);
+      } else {
+        // the first position after the cursor
+        from = afterId == null
+          ? 0
+          : seek(rows, values, afterValue, afterId, true);
+        step = 1;
+        count = Math.min(limit, length - from);
+      }
+
+      int[] page = new int[Math.max(0, count)];
+      for (int i = 0; i < page.length; i++) {
+        int position = from + i * step;
+        page[i] = rows == null ? position : rows[position];
+      }
+      return page;
+    }
+
+    /**
+     * Binary search for a (value, city id) position in a metric order
+     * @param rows rows in metric order, null for city id order
+     * @param values values in metric order, null for city id order
+     * @param value metric value to find
+     * @param id city id to find
+     * @param pastEqual true to skip a position equal to (value, id)
+     * @return first position greater than, or not less than, (value, id)
+     */
+    private int seek(
+      int[] rows,
+      double[] values,
+      double value,
+      long id,
+      boolean pastEqual
+    ) {
+      int lo = 0;
+      int hi = rows == null ? ids.length : rows.length;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        int row = rows == null ? mid : rows[mid];
+        int cmp = values == null ? 0 : Double.compare(values[mid], value);
+        if (cmp == 0) cmp = Long.compare(ids[row], id);
+        if (cmp < 0 || (cmp == 0 && pastEqual)) lo = mid + 1; else hi = mid;
+      }
+      return lo;
+    }
+
+    /**
+     * Histograms of every metric, each counting the cities that match all
+     * the other ranges of the filter, so a slider shows what moving it
+     * would return.
+     * <p>
+     * One pass over the rows: a row failing no range is counted in every
+     * histogram, a row failing exactly one range only in the histogram of
+     * that metric, and a row failing two or more in none. Bins are equal
+     * width between the smallest and largest value of the whole catalogue,
+     * so the axes do not move with the filter.
+     *
+     * @param filter ranges of the other sliders
+     * @param bins number of bins per metric
+     * @return one histogram per CityMetric, in CityMetric order
+     */
+    public List<CityFacet> facets(CityFilter filter, int bins) {
+      CityMetric[] metrics = CityMetric.values();
+      int[] active = new int[metrics.length];
+      double[] mins = new double[metrics.length];
+      double[] maxs = new double[metrics.length];
+      int count = 0;
+      for (CityMetric metric : metrics) {
+        if (!filter.isActive(metric)) continue;
+        active[count] = metric.ordinal();
+        mins[count] = filter.getMin(metric);
+        maxs[count] = filter.getMax(metric);
+        count++;
+      }
+
+      double[] lows = new double[metrics.length];
+      double[] widths = new double[metrics.length];
+      for (int m = 0; m < metrics.length; m++) {
+        if (sorted[m].length == 0) continue;
+        lows[m] = sorted[m][0];
+        widths[m] = (sorted[m][sorted[m].length - 1] - lows[m]) / bins;
+      }
+
+      int[][] counts = new int[metrics.length][bins];
+      for (int row = 0; row < ids.length; row++) {
+        int failures = 0;
+        int failed = -1;
+        for (int i = 0; i < count && failures < 2; i++) {
+          double v = columns[active[i]][row];
+          if (!(v >= mins[i] && v <= maxs[i])) {
+            failures++;
+            failed = active[i];
+          }
+        }
+        if (failures > 1) continue;
+
+        for (int m = 0; m < metrics.length; m++) {
+          if (failures == 1 && m != failed) continue;
+          double v = columns[m][row];
+          if (Double.isNaN(v)) continue;
+          int bin = widths[m] > 0 ? (int) ((v - lows[m]) / widths[m]) : 0;
+          counts[m][Math.min(bin, bins - 1)]++;
+        }
+      }
+
+      List<CityFacet> facets = new ArrayList<>(metrics.length);
+      for (int m = 0; m < metrics.length; m++) {
+        double[] edges = new double[bins + 1];
+        for (int b = 0; b < bins; b++) edges[b] = lows[m] + b * widths[m];
+        int valid = sorted[m].length;
+        edges[bins] = valid == 0 ? 0 : sorted[m][valid - 1];
+        facets.add(new CityFacet(metrics[m].getAttribute(), edges, counts[m]));
+      }
+      return facets;
+    }
+
+    /**
+     * Finds the k cities closest to the preferences.
+     * <p>
+     * For every preferred range a city scores how far outside the range its
+     * value lies, in units of the metric's interquartile range, squared and
+     * times the weight. A missing value counts as one unit outside. The
+     * k lowest totals are kept in a bounded heap while the rows are scanned,
+     * so the cost is O(N log k) and nothing is sorted but the result.
+     *
+     * @param preference ranges and weights to score against
+     * @param k number of cities to return
+     * @return the best matches, lowest score first, ties in city id order
+     */
+    public List<CityMatch> rank(CityPreference preference, int k) {
+      CityFilter ranges = preference.getRanges();
+      CityMetric[] metrics = CityMetric.values();
+      int[] active = new int[metrics.length];
+      double[] mins = new double[metrics.length];
+      double[] maxs = new double[metrics.length];
+      double[] weights = new double[metrics.length];
+      double[] factors = new double[metrics.length];
+      int count = 0;
+
+      for (CityMetric metric : metrics) {
+        double weight = preference.getWeight(metric);
+        if (!ranges.isActive(metric) || !(weight > 0)) continue;
+        int m = metric.ordinal();
+        active[count] = m;
+        mins[count] = ranges.getMin(metric);
+        maxs[count] = ranges.getMax(metric);
+        double spread = spread(m);
+        weights[count] = weight;
+        factors[count] = weight / (spread * spread);
+        count++;
+      }
+
+      BoundedHeap heap = new BoundedHeap(k, Double.POSITIVE_INFINITY);
+      for (int row = 0; row < ids.length; row++) {
+        double score = 0;
+        for (int i = 0; i < count; i++) {
+          double v = columns[active[i]][row];
+          if (Double.isNaN(v)) {
+            score += weights[i];
+          } else if (v < mins[i]) {
+            score += factors[i] * (mins[i] - v) * (mins[i] - v);
+          } else if (v > maxs[i]) {
+            score += factors[i] * (v - maxs[i]) * (v - maxs[i]);
+          }
+        }
+        // on equal scores the earlier row, the lower city id, stays
+        if (score < heap.bound()) heap.offer(row, score);
+      }
+
+      int found = heap.sort();
+      List<CityMatch> matches = new ArrayList<>(found);
+      for (int i = 0; i < found; i++) {
+        matches.add(new CityMatch(ids[heap.row(i)], Math.sqrt(heap.key(i))));
+      }
+      matches.sort(
+        Comparator
+          .comparingDouble(CityMatch::getScore)
+          .thenComparingLong(CityMatch::getCityId)
+      );
+      return matches;
+    }
+
+    /**
+     * Interquartile range of a metric, the full range if that is 0, or 1 if
+     * every value is the same
+     * @param m metric ordinal
+     * @return a positive distance that counts as one unit of the metric
+     */
+    private double spread(int m) {
+      double[] values = sorted[m];
+      if (values.length == 0) return 1;
+      double spread = values[values.length * 3 / 4] - values[values.length / 4];
+      if (spread <= 0) spread = values[values.length - 1] - values[0];
+      return spread > 0 ? spread : 1;
+    }
+
+    /**
+     * Converts matching rows to city ids
+     * @param rows matching rows
+     * @param maxLength Maximum length of the returned list, if 0 there is no maximum
+     * @return city ids in ascending order
+     */
+    public List<Long> ids(BitSet rows, int maxLength) {
+      int length = rows.cardinality();
+      if (maxLength != 0) length = Math.min(length, maxLength);
+
+      List<Long> list = new ArrayList<>(length);
+      for (
+        int row = rows.nextSetBit(0);
+        row >= 0 && list.size() < length;
+        row = rows.nextSetBit(row + 1)
+      ) {
+        list.add(ids[row]);
+      }
+      return list;
+    }
+
+    /**
+     * First rank whose value is at least key
+     * @param values ascending values
+     * @param key lower bound
+     * @return rank, values.length if none
+     */
+    static int lowerBound(double[] values, double key) {
+      int lo = 0;
+      int hi = values.length;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (values[mid] < key) lo = mid + 1; else hi = mid;
+      }
+      return lo;
+    }
+
+    /**
+     * First rank whose value is greater than key
+     * @param values ascending values
+     * @param key upper bound
+     * @return rank, values.length if none
+     */
+    static int upperBound(double[] values, double key) {
+      int lo = 0;
+      int hi = values.length;
+      while (lo < hi) {
+        int mid = (lo + hi) >>> 1;
+        if (values[mid] <= key) lo = mid + 1; else hi = mid;
+      }
+      return lo;
+    }
+  }
+}
@@ -0,0 +1,355 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.CityDistance;
+import com.lambdaschool.foundation.repository.CityRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory spatial index of the city locations.
+ * <p>
+ * Every city with a latitude and longitude is stored as a point on the unit
+ * sphere and kept in a 3-d tree. The straight line between two points of the
+ * sphere grows with the great-circle distance, so nearest neighbours and
+ * radius searches on the tree give exact great-circle answers without a
+ * haversine over every city.
+ * <p>
+ * The tree is built on first use and rebuilt after every committed city
+ * write. Readers always see a complete, immutable Tree.
+ */
+@Component
+public class CityGeoIndex {
+
+  /**
+   * Mean earth radius in kilometers
+   */
+  static final double EARTH_RADIUS_KM = 6371.0088;
+
+  /**
+   * Connection to the cities table
+   */
+  private final CityRepository cityRepository;
+
+  /**
+   * Incremented when a build starts, see CitiesChangedEvent
+   */
+  private final AtomicLong builds = new AtomicLong();
+
+  /**
+   * The current tree, null until first requested
+   */
+  private volatile Tree tree;
+
+  /**
+   * Number of the build that made the current tree, guarded by this
+   */
+  private long treeBuild;
+
+  public CityGeoIndex(CityRepository cityRepository) {
+    this.cityRepository = cityRepository;
+  }
+
+  /**
+   * Returns the current tree, building it on first use
+   * @return the current tree
+   */
+  public Tree get() {
+    Tree current = tree;
+    if (current == null) {
+      synchronized (this) {
+        current = tree;
+        if (current == null) {
+          long number = builds.incrementAndGet();
+          current = install(number, build());
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Replaces the tree after a city write has committed
+   * @param event the city write
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  // read-write, see CitiesChangedEvent
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void onCitiesChanged(CitiesChangedEvent event) {
+    long number = builds.incrementAndGet();
+    install(number, build());
+  }
+
+  /**
+   * Replaces the tree unless a later build is already in place
+   * @return the tree in place afterwards
+   */
+  private synchronized Tree install(long number, Tree next) {
+    if (tree == null || treeBuild < number) {
+      tree = next;
+      treeBuild = number;
+    }
+    return tree;
+  }
+
+  private Tree build() {
+    List<Object[]> rows = cityRepository.findLocationRows();
+    long[] ids = new long[rows.size()];
+    double[] latitudes = new double[rows.size()];
+    double[] longitudes = new double[rows.size()];
+    for (int row = 0; row < rows.size(); row++) {
+      Object[] values = rows.get(row);
+      ids[row] = ((Number) values[0]).longValue();
+      latitudes[row] = ((Number) values[1]).doubleValue();
+      longitudes[row] = ((Number) values[2]).doubleValue();
+    }
+    return new Tree(ids, latitudes, longitudes);
+  }
+
+  /**
+   * An immutable 3-d tree over the city locations
+   */
+  public static final class Tree {
+
+    /**
+     * City ids, ascending. The position of an id is its row.
+     */
+    private final long[] ids;
+
+    /**
+     * Unit vector of every row
+     */
+    private final double[] x;
+
+    private final double[] y;
+
+    private final double[] z;
+
+    /**
+     * Rows in tree order. The node of the range [lo, hi) is at its middle,
+     * (lo + hi) / 2, with the lower half of the range on its left.
+     */
+    private final int[] nodes;
+
+    /**
+     * Split axis (0 = x, 1 = y, 2 = z) of the node at the same position
+     */
+    private final byte[] axes;
+
+    /**
+     * Main constructor
+     * @param ids city ids, ascending
+     * @param latitudes latitude in degrees of every row
+     * @param longitudes longitude in degrees of every row
+     */
+    public Tree(long[] ids, double[] latitudes, double[] longitudes) {
+      this.ids = ids;
+      this.x = new double[ids.length];
+      this.y = new double[ids.length];
+      this.z = new double[ids.length];
+      for (int row = 0; row < ids.length; row++) {
+        double lat = Math.toRadians(latitudes[row]);
+        double lon = Math.toRadians(longitudes[row]);
+        x[row] = Math.cos(lat) * Math.cos(lon);
+        y[row] = Math.cos(lat) * Math.sin(lon);
+        z[row] = Math.sin(lat);
+      }
+
+      this.nodes = new int[ids.length];
+      for (int i = 0; i < nodes.length; i++) {
+        nodes[i] = i;
+      }
+      this.axes = new byte[ids.length];
+      split(0, nodes.length);
+    }
+
+    /**
+     * Number of cities in the tree
+     * @return number of cities with a location
+     */
+    public int size() {
+      return ids.length;
+    }
+
+    /**
+     * Row of a city
+     * @param cityId city id
+     * @return row of the city, negative if it has no location
+     */
+    public int row(long cityId) {
+      return Arrays.binarySearch(ids, cityId);
+    }
+
+    /**
+     * Finds the cities closest to a point
+     * @param latitude latitude of the point in degrees
+     * @param longitude longitude of the point in degrees
+     * @param k maximum number of cities, 0 for no maximum
+     * @param radiusKm maximum distance in kilometers, 0 for no maximum
+     * @return the cities found, closest first
+     */
+    public List<CityDistance> near(
+      double latitude,
+      double longitude,
+      int k,
+      double radiusKm
+    ) {
+      double lat = Math.toRadians(latitude);
+      double lon = Math.toRadians(longitude);
+      return search(
+        Math.cos(lat) * Math.cos(lon),
+        Math.cos(lat) * Math.sin(lon),
+        Math.sin(lat),
+        k,
+        radiusKm,
+        -1
+      );
+    }
+
+    /**
+     * Finds the cities closest to a city, not counting the city itself
+     * @param cityId city to search around
+     * @param k maximum number of cities, 0 for no maximum
+     * @param radiusKm maximum distance in kilometers, 0 for no maximum
+     * @return the cities found, closest first, null if the city has no
+     * location
+     */
+    public List<CityDistance> nearCity(long cityId, int k, double radiusKm) {
+      int row = row(cityId);
+      if (row < 0) return null;
+      return search(x[row], y[row], z[row], k, radiusKm, row);
+    }
+
+    private List<CityDistance> search(
+      double qx,
+      double qy,
+      double qz,
+      int k,
+      double radiusKm,
+      int excludeRow
+    ) {
+      double limit = Double.POSITIVE_INFINITY;
+      if (radiusKm > 0) {
+        // squared chord length of the radius
+        double half = Math.min(radiusKm / EARTH_RADIUS_KM, Math.PI) / 2;
+        double chord = 2 * Math.sin(half);
+        limit = chord * chord;
+      }
+
+      BoundedHeap heap = new BoundedHeap(k > 0 ? k : Integer.MAX_VALUE, limit);
+      search(0, nodes.length, new double[] { qx, qy, qz }, heap, excludeRow);
+
+      int count = heap.sort();
+      List<CityDistance> found = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        double chord = Math.sqrt(heap.key(i));
+        double km = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, chord / 2));
+        found.add(new CityDistance(ids[heap.row(i)], km));
+      }
+      return found;
+    }
+
+    private void search(
+      int lo,
+      int hi,
+      double[] q,
+      BoundedHeap heap,
+      int excludeRow
+    ) {
+      if (lo >= hi) return;
+      int mid = (lo + hi) >>> 1;
+      int row = nodes[mid];
+
+      if (row != excludeRow) {
+        double dx = q[0] - x[row];
+        double dy = q[1] - y[row];
+        double dz = q[2] - z[row];
+        heap.offer(row, dx * dx + dy * dy + dz * dz);
+      }
+
+      // visit the side of the split the point is on first, then the other
+      // side only if it can still hold something closer
+      double diff = q[axes[mid]] - coordinate(axes[mid], row);
+      if (diff < 0) {
+        search(lo, mid, q, heap, excludeRow);
+        if (diff * diff <= heap.bound()) {
+          search(mid + 1, hi, q, heap, excludeRow);
+        }
+      } else {
+        search(mid + 1, hi, q, heap, excludeRow);
+        if (diff * diff <= heap.bound()) {
+          search(lo, mid, q, heap, excludeRow);
+        }
+      }
+    }
+
+    /**
+     * Arranges nodes[lo, hi) into a subtree, splitting on the axis the
+     * points spread the most along
+     */
+    private void split(int lo, int hi) {
+      if (hi - lo <= 1) return;
+
+      int axis = 0;
+      double widest = -1;
+      for (int a = 0; a < 3; a++) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = lo; i < hi; i++) {
+          double v = coordinate(a, nodes[i]);
+          min = Math.min(min, v);
+          max = Math.max(max, v);
+        }
+        if (max - min > widest) {
+          widest = max - min;
+          axis = a;
+        }
+      }
+
+      int mid = (lo + hi) >>> 1;
+      select(lo, hi - 1, mid, axis);
+      axes[mid] = (byte) axis;
+      split(lo, mid);
+      split(mid + 1, hi);
+    }
+
+    /**
+     * Quickselect: moves the node with rank k on axis to position k, smaller
+     * ones before it and larger ones after it
+     */
+    private void select(int left, int right, int k, int axis) {
+      while (left < right) {
+        double pivot = coordinate(axis, nodes[(left + right) >>> 1]);
+        int i = left;
+        int j = right;
+        while (i <= j) {
+          while (coordinate(axis, nodes[i]) < pivot) i++;
+          while (coordinate(axis, nodes[j]) > pivot) j--;
+          if (i <= j) {
+            int swap = nodes[i];
+            nodes[i] = nodes[j];
+            nodes[j] = swap;
+            i++;
+            j--;
+          }
+        }
+        if (k <= j) {
+          right = j;
+        } else if (k >= i) {
+          left = i;
+        } else {
+          return;
+        }
+      }
+    }
+
+    private double coordinate(int axis, int row) {
+      return axis == 0 ? x[row] : axis == 1 ? y[row] : z[row];
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.CityTrend;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts city views and favorites in memory and ranks the trending cities.
+ * <p>
+ * Counting only increments LongAdders, so it never blocks a request and
+ * never touches the database. CityStatsWriter periodically takes the
+ * counts and adds them to the city_stats table.
+ * <p>
+ * Every citrics.trending.refresh-millis each city's score is halved per
+ * citrics.trending.half-life-minutes passed, and its views and weighted
+ * favorites since the last refresh are added. The top
+ * citrics.trending.size cities are then published as an immutable list
+ * that /cities/trending reads without locking. The ranking lives only in
+ * this instance and starts empty after a restart.
+ */
+@Component
+public class CityPopularity implements MeterBinder {
+
+  /**
+   * Counts by city id. Only ids of existing cities are counted, so the map
+   * is bounded by the catalogue and entries are never removed
+   */
+  private final ConcurrentMap<Long, Counts> counts = new ConcurrentHashMap<>();
+
+  /**
+   * A favorite counts as this many views towards the score
+   */
+  private final long favoriteWeight;
+
+  private final double halfLifeMillis;
+
+  private final int size;
+
+  /**
+   * Most trending first, replaced on every refresh
+   */
+  private volatile List<CityTrend> trending = Collections.emptyList();
+
+  private long lastRefresh = System.nanoTime();
+
+  public CityPopularity(
+    @Value("${citrics.trending.favorite-weight:5}") long favoriteWeight,
+    @Value("${citrics.trending.half-life-minutes:60}") double halfLifeMinutes,
+    @Value("${citrics.trending.size:100}") int size
+  ) {
+    this.favoriteWeight = favoriteWeight;
+    this.halfLifeMillis = halfLifeMinutes * 60_000;
+    this.size = Math.max(1, size);
+  }
+
+  /**
+   * Counts a view of the city
+   * @param cityId id of an existing city
+   */
+  public void viewed(long cityId) {
+    Counts c = counts(cityId);
+    c.views.increment();
+    c.recent.increment();
+  }
+
+  /**
+   * Counts the city being added to a user's favorites
+   * @param cityId id of an existing city
+   */
+  public void favorited(long cityId) {
+    Counts c = counts(cityId);
+    c.favorites.increment();
+    c.recent.add(favoriteWeight);
+  }
+
+  /**
+   * Takes back a favorite of the city, counted when the city is removed
+   * from a user's favorites
+   * @param cityId id of an existing city
+   */
+  public void unfavorited(long cityId) {
+    Counts c = counts(cityId);
+    c.favorites.decrement();
+    c.recent.add(-favoriteWeight);
+  }
+
+  /**
+   * The most trending cities as of the last refresh
+   * @param limit most cities to return
+   * @return cities by descending score, only cities with a score
+   */
+  public List<CityTrend> trending(int limit) {
+    List<CityTrend> top = trending;
+    return top.size() <= limit ? top : top.subList(0, limit);
+  }
+
+  /**
+   * Takes the views and favorites counted since the last call, for
+   * writing to the database. Counting goes on while this runs, what comes
+   * in meanwhile is left for the next call
+   * @return city id to {views, favorites}, cities without counts left out
+   */
+  public synchronized Map<Long, long[]> drain() {
+    Map<Long, long[]> drained = new HashMap<>();
+    counts.forEach(
+      (cityId, c) -> {
+        long views = c.views.sum() - c.viewsTaken;
+        long favorites = c.favorites.sum() - c.favoritesTaken;
+        c.viewsTaken += views;
+        c.favoritesTaken += favorites;
+        if (views != 0 || favorites != 0) {
+          drained.put(cityId, new long[] { views, favorites });
+        }
+      }
+    );
+    return drained;
+  }
+
+  /**
+   * Adds back counts that could not be written, so the next drain
+   * includes them
+   * @param drained what drain returned
+   */
+  public synchronized void restore(Map<Long, long[]> drained) {
+    drained.forEach(
+      (cityId, drainedCounts) -> {
+        Counts c = counts(cityId);
+        c.viewsTaken -= drainedCounts[0];
+        c.favoritesTaken -= drainedCounts[1];
+      }
+    );
+  }
+
+  /**
+   * Decays the scores, adds the recent counts and republishes the ranking
+   */
+  @Scheduled(fixedDelayString = "${citrics.trending.refresh-millis:5000}")
+  public synchronized void refresh() {
+    long now = System.nanoTime();
+    double elapsed = TimeUnit.NANOSECONDS.toMillis(now - lastRefresh);
+    double decay = Math.pow(0.5, elapsed / halfLifeMillis);
+    lastRefresh = now;
+
+    List<Long> ids = new ArrayList<>(counts.size());
+    BoundedHeap heap = new BoundedHeap(size, 0);
+    counts.forEach(
+      (cityId, c) -> {
+        long recent = c.recent.sum();
+        c.score = c.score * decay + (recent - c.recentTaken);
+        c.recentTaken = recent;
+        int row = ids.size();
+        ids.add(cityId);
+        // heap keeps the smallest keys, so rank by the negated score
+        if (c.score > 0 && -c.score < heap.bound()) heap.offer(row, -c.score);
+      }
+    );
+
+    int found = heap.sort();
+    List<CityTrend> top = new ArrayList<>(found);
+    for (int i = 0; i < found; i++) {
+      top.add(new CityTrend(ids.get(heap.row(i)), -heap.key(i)));
+    }
+    trending = Collections.unmodifiableList(top);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge
+      .builder("citrics.trending.cities", counts, Map::size)
+      .description("Cities with popularity counters")
+      .register(registry);
+  }
+
+  private Counts counts(long cityId) {
+    return counts.computeIfAbsent(cityId, id -> new Counts());
+  }
+
+  /**
+   * Counters of one city. The adders only grow, what has been taken from
+   * them is remembered instead of resetting them, because a reset can lose
+   * increments made at the same time. The other fields are only used
+   * while holding the CityPopularity lock.
+   */
+  private static final class Counts {
+
+    private final LongAdder views = new LongAdder();
+
+    private final LongAdder favorites = new LongAdder();
+
+    /**
+     * Views plus weighted favorites, for the score
+     */
+    private final LongAdder recent = new LongAdder();
+
+    /**
+     * Counts already drained for city_stats
+     */
+    private long viewsTaken;
+
+    private long favoritesTaken;
+
+    /**
+     * Weighted counts already added to the score
+     */
+    private long recentTaken;
+
+    /**
+     * Decayed score
+     */
+    private double score;
+  }
+}
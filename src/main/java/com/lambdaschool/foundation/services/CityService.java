@@ -2,8 +2,21 @@ package com.lambdaschool.foundation.services;
 
 import com.lambdaschool.foundation.models.City;
 import com.lambdaschool.foundation.models.CityAbstract;
+import com.lambdaschool.foundation.models.CityAbstractPayload;
+import com.lambdaschool.foundation.models.CityComparison;
+import com.lambdaschool.foundation.models.CityDistance;
+import com.lambdaschool.foundation.models.CityFacet;
+import com.lambdaschool.foundation.models.CityMatch;
+import com.lambdaschool.foundation.models.CityMetric;
+import com.lambdaschool.foundation.models.CitySimilarity;
+import com.lambdaschool.foundation.models.CityTrend;
+import com.lambdaschool.foundation.models.DSCity;
+import com.lambdaschool.foundation.models.KeysetPage;
 import com.lambdaschool.foundation.models.User;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 
 public interface CityService {
   /**
@@ -12,6 +25,20 @@ public interface CityService {
    */
   List<City> findAll();
 
+  /**
+   * Writes every city with its history as NDJSON, one City object per line
+   * @param out stream to write to, it is flushed but not closed
+   * @throws IOException writing to out failed
+   */
+  void exportAllJson(OutputStream out) throws IOException;
+
+  /**
+   * Writes the fields of every city, without history, as CSV with a header
+   * @param out stream to write to, it is flushed but not closed
+   * @throws IOException writing to out failed
+   */
+  void exportAllCsv(OutputStream out) throws IOException;
+
   /**
    * Finds city by city id
    * @param id city id
@@ -19,6 +46,13 @@ public interface CityService {
    */
   City findCityById(long id);
 
+  /**
+   * Loads several cities and lines their histories up for side by side view
+   * @param ids city ids, duplicates are ignored
+   * @return the cities in the requested order with their merged histories
+   */
+  CityComparison compareCities(List<Long> ids);
+
   /**
    * Find all cities ids of cities matching the current user's filter
    * @param maxLength Maximum length or return list, if 0 there is no maximum
@@ -33,6 +67,22 @@ public interface CityService {
    */
   List<CityAbstract> findAbstractByFilter(int maxLength);
 
+  /**
+   * Ranks all cities by how close they are to the current user's preferences
+   * @param k number of cities to return
+   * @param weights weight per metric, metrics not listed weigh 1
+   * @return the k best matching cities, best first
+   */
+  List<CityMatch> findBestMatches(int k, Map<CityMetric, Double> weights);
+
+  /**
+   * Histograms of every city metric, each counting the cities that match
+   * the current user's other filter ranges
+   * @param bins number of bins per metric
+   * @return one histogram per metric
+   */
+  List<CityFacet> findFacets(int bins);
+
   /**
    * Saves new city
    * @param city new city to be saved
@@ -40,12 +90,12 @@ public interface CityService {
    */
   City save(City city);
 
-  //  /**
-  //   * Saves new city from DS API schema
-  //   * @param city new city to be saved
-  //   * @return newly saved city
-  //   */
-  //  City saveDs(DSCity city) throws Exception;
+  /**
+   * Saves new city from DS API schema
+   * @param city new city to be saved, as read by DSCityParser
+   * @return newly saved city
+   */
+  City saveDs(DSCity city);
 
   /**
    * Finds city by cityName field
@@ -60,6 +110,67 @@ public interface CityService {
    */
   List<CityAbstract> findAllIds();
 
+  /**
+   * Finds all cities ids and names, already serialized to JSON
+   * @return the current serialized list of city abstracts with its ETag
+   */
+  CityAbstractPayload findAllIdsPayload();
+
+  /**
+   * Finds one page of city abstracts in the order of a metric
+   * @param sort metric to sort by, null for city id order
+   * @param descending largest value first
+   * @param cursor nextCursor of the previous page, null for the first page
+   * @param limit most cities on the page
+   * @return the page and the cursor of the next one
+   */
+  KeysetPage<CityAbstract> findAllIdsPage(
+    CityMetric sort,
+    boolean descending,
+    String cursor,
+    int limit
+  );
+
+  /**
+   * Finds the cities closest to a point
+   * @param latitude latitude of the point in degrees
+   * @param longitude longitude of the point in degrees
+   * @param k maximum number of cities, if 0 there is no maximum
+   * @param radiusKm maximum distance in kilometers, if 0 there is no maximum
+   * @return cities with their distance, closest first
+   */
+  List<CityDistance> findNear(
+    double latitude,
+    double longitude,
+    int k,
+    double radiusKm
+  );
+
+  /**
+   * Finds the cities closest to a city, not counting the city itself
+   * @param cityId city id of the city to search around
+   * @param k maximum number of cities, if 0 there is no maximum
+   * @param radiusKm maximum distance in kilometers, if 0 there is no maximum
+   * @return cities with their distance, closest first
+   */
+  List<CityDistance> findNearCity(long cityId, int k, double radiusKm);
+
+  /**
+   * Finds the cities whose metrics are closest to those of a city
+   * @param cityId city id of the city to compare against
+   * @param k number of cities to return
+   * @return cities with their distance, most similar first
+   */
+  List<CitySimilarity> findSimilar(long cityId, int k);
+
+  /**
+   * The cities viewed and favorited most lately, recent activity counting
+   * more than old
+   * @param limit most cities to return
+   * @return cities with their score, most trending first
+   */
+  List<CityTrend> findTrending(int limit);
+
   /**
    * Saves city to current users fav cities list
    * @param cityId city id of city to be saved
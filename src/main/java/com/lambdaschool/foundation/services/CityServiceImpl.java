@@ -1,18 +1,56 @@
 package com.lambdaschool.foundation.services;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lambdaschool.foundation.exceptions.ResourceFoundException;
 import com.lambdaschool.foundation.exceptions.ResourceNotFoundException;
 import com.lambdaschool.foundation.models.*;
 import com.lambdaschool.foundation.repository.CityRepository;
 import com.lambdaschool.foundation.repository.UserRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-@Transactional
+@Transactional(readOnly = true)
 @Service(value = "cityService")
 public class CityServiceImpl implements CityService {
 
+  /**
+   * Cities read per chunk by the exports, the history @BatchSize, so each
+   * history collection costs one query per chunk
+   */
+  static final int EXPORT_CHUNK_SIZE = 25;
+
+  /**
+   * Columns of the CSV export
+   */
+  static final String CSV_HEADER =
+    "cityId,cityName,stateCode,timezone,latitude,longitude,fpis,gnis," +
+    "population,populationDensity,averageAge,householdIncome," +
+    "individualIncome,averageHomeCost,rent,costOfLivingIndex,acaStatus," +
+    "averageTemperature,averagePrecipitation,averageNewCovidCases," +
+    "website,imageUrl";
+
   /**
    * Connections to needed repositories
    */
@@ -32,9 +70,63 @@ public class CityServiceImpl implements CityService {
 
   private final UserRepository userRepository;
 
+  /**
+   * In-memory copy of the city metrics used to answer the filter
+   */
+  private final CityFilterIndex cityFilterIndex;
+
+  /**
+   * Pre-serialized /cities/allid payload
+   */
+  private final CityAbstractSnapshot cityAbstractSnapshot;
+
+  /**
+   * In-memory tree of the city locations used by /near
+   */
+  private final CityGeoIndex cityGeoIndex;
+
+  /**
+   * In-memory matrix of the normalized city metrics used by /similar
+   */
+  private final CitySimilarityIndex citySimilarityIndex;
+
+  /**
+   * Tells in-memory copies of city data when a city was written
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Serializes cities for the NDJSON export
+   */
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Queues favorite changes and writes them in batches
+   */
+  private final FavoriteCityBuffer favoriteCityBuffer;
+
+  /**
+   * Counts favorites towards the trending cities
+   */
+  private final CityPopularity cityPopularity;
+
+  /**
+   * Answer /filterid from the in-memory index instead of the database
+   */
+  private final boolean filterIndexEnabled;
+
   public CityServiceImpl(
     CityRepository cityRepository,
-    UserRepository userRepository
+    UserRepository userRepository,
+    CityFilterIndex cityFilterIndex,
+    CityAbstractSnapshot cityAbstractSnapshot,
+    CityGeoIndex cityGeoIndex,
+    CitySimilarityIndex citySimilarityIndex,
+    ApplicationEventPublisher eventPublisher,
+    ObjectMapper objectMapper,
+    FavoriteCityBuffer favoriteCityBuffer,
+    CityPopularity cityPopularity,
+    @Value("${citrics.filter-index.enabled:true}") boolean filterIndexEnabled
   ) {
     this.cityRepository = cityRepository;
     //    this.zipcodeRepository = zipcodeRepository;
@@ -44,6 +136,15 @@ public class CityServiceImpl implements CityService {
     //    this.historicalCovidRepository = historicalCovidRepository;
     //    this.historicalWeatherRepository = historicalWeatherRepository;
     this.userRepository = userRepository;
+    this.cityFilterIndex = cityFilterIndex;
+    this.cityAbstractSnapshot = cityAbstractSnapshot;
+    this.cityGeoIndex = cityGeoIndex;
+    this.citySimilarityIndex = citySimilarityIndex;
+    this.eventPublisher = eventPublisher;
+    this.objectMapper = objectMapper;
+    this.favoriteCityBuffer = favoriteCityBuffer;
+    this.cityPopularity = cityPopularity;
+    this.filterIndexEnabled = filterIndexEnabled;
   }
 
   /**
@@ -60,8 +161,129 @@ public class CityServiceImpl implements CityService {
     return list;
   }
 
+  /**
+   * Writes every city with its history as NDJSON
+   * Cities are read through a cursor in chunks and detached after each
+   * chunk is written, so memory use does not grow with the catalogue
+   *
+   * @param out stream to write to, it is flushed but not closed
+   * @throws IOException writing to out failed
+   */
+  @Override
+  public void exportAllJson(OutputStream out) throws IOException {
+    JsonGenerator generator = objectMapper
+      .getFactory()
+      .createGenerator(out)
+      .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+      // lines are separated by the newlines below, not by a space
+      .setRootValueSeparator(null);
+    ObjectWriter writer = objectMapper
+      .writer()
+      .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    try {
+      cityRepository.forEachCityChunk(
+        EXPORT_CHUNK_SIZE,
+        cities -> {
+          try {
+            for (City city : cities) {
+              writer.writeValue(generator, initializeHistory(city));
+              generator.writeRaw('\n');
+            }
+            generator.flush();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+      );
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    generator.close();
+  }
+
+  /**
+   * Writes the fields of every city, without history, as CSV
+   * Read the same way as exportAllJson, but the history is never loaded
+   *
+   * @param out stream to write to, it is flushed but not closed
+   * @throws IOException writing to out failed
+   */
+  @Override
+  public void exportAllCsv(OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(
+      new OutputStreamWriter(out, StandardCharsets.UTF_8)
+    );
+    writer.write(CSV_HEADER);
+    writer.write('\n');
+
+    try {
+      cityRepository.forEachCityChunk(
+        EXPORT_CHUNK_SIZE,
+        cities -> {
+          try {
+            for (City city : cities) {
+              writeCsvRow(writer, city);
+            }
+            writer.flush();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+      );
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.flush();
+  }
+
+  /**
+   * Writes one city as a CSV line in CSV_HEADER order
+   */
+  private static void writeCsvRow(Writer writer, City city)
+    throws IOException {
+    List<Object> values = Arrays.asList(
+      city.getCityId(),
+      city.getCityName(),
+      city.getStateCode(),
+      city.getTimezone(),
+      city.getLatitude(),
+      city.getLongitude(),
+      city.getFpis(),
+      city.getGnis(),
+      city.getPopulation(),
+      city.getPopulationDensity(),
+      city.getAverageAge(),
+      city.getHouseholdIncome(),
+      city.getIndividualIncome(),
+      city.getAverageHomeCost(),
+      city.getRent(),
+      city.getCostOfLivingIndex(),
+      city.getAcaStatus(),
+      city.getAverageTemperature(),
+      city.getAveragePrecipitation(),
+      city.getAverageNewCovidCases(),
+      city.getWebsite(),
+      city.getImageUrl()
+    );
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) writer.write(',');
+      Object value = values.get(i);
+      if (value == null) continue;
+      String text = value.toString();
+      if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 ||
+        text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+        text = '"' + text.replace("\"", "\"\"") + '"';
+      }
+      writer.write(text);
+    }
+    writer.write('\n');
+  }
+
   /**
    * find city by city id
+   * The history collections are loaded before the transaction ends, so the
+   * city can be serialized without an open session
    *
    * @param id local id of city
    * @return City object matching the city id or
@@ -69,6 +291,17 @@ public class CityServiceImpl implements CityService {
    */
   @Override
   public City findCityById(long id) throws ResourceNotFoundException {
+    return initializeHistory(loadCity(id));
+  }
+
+  /**
+   * Loads a city without its history collections
+   *
+   * @param id local id of city
+   * @return City object matching the city id
+   * @throws ResourceNotFoundException no such city found
+   */
+  private City loadCity(long id) throws ResourceNotFoundException {
     return cityRepository
       .findById(id)
       .orElseThrow(
@@ -76,96 +309,168 @@ public class CityServiceImpl implements CityService {
       );
   }
 
+  /**
+   * Loads several cities and lines their histories up for side by side view
+   * The cities are read with one IN query and every history collection with
+   * one batch fetched IN query for all of them, so comparing three cities
+   * costs the same statements as loading one
+   *
+   * @param ids city ids, duplicates are ignored
+   * @return the cities in the requested order with their merged histories
+   * @throws ResourceNotFoundException one of the cities was not found
+   */
+  @Override
+  public CityComparison compareCities(List<Long> ids)
+    throws ResourceNotFoundException {
+    List<Long> cityIds = new ArrayList<>(new LinkedHashSet<>(ids));
+
+    Map<Long, City> found = new HashMap<>();
+    for (City city : cityRepository.findAllById(cityIds)) {
+      found.put(city.getCityId(), city);
+    }
+
+    List<City> cities = new ArrayList<>(cityIds.size());
+    List<SortedMap<Integer, ? extends Number>> population = new ArrayList<>();
+    List<SortedMap<Integer, ? extends Number>> homeCost = new ArrayList<>();
+    List<SortedMap<Integer, ? extends Number>> covid = new ArrayList<>();
+    for (long id : cityIds) {
+      City city = found.get(id);
+      if (city == null) {
+        throw new ResourceNotFoundException("City id " + id + " not found!");
+      }
+      cities.add(initializeHistory(city));
+
+      SortedMap<Integer, Long> years = new TreeMap<>();
+      for (PopulationHistory p : city.getPopulationHistory()) {
+        years.put(p.getYear(), p.getPopulation());
+      }
+      population.add(years);
+
+      SortedMap<Integer, Integer> months = new TreeMap<>();
+      for (HistoricalHomeCost h : city.getHistoricalHomeCost()) {
+        months.put(h.getYear() * 12 + h.getMonth() - 1, h.getHomeCost());
+      }
+      homeCost.add(months);
+
+      SortedMap<Integer, Integer> days = new TreeMap<>();
+      HistoricalCovidSeries series = city.getHistoricalCovid();
+      if (series != null) {
+        int first = (int) series.getStartDate().toEpochDay();
+        int[] cases = series.getCases();
+        for (int i = 0; i < cases.length; i++) {
+          days.put(first + i, cases[i]);
+        }
+      }
+      covid.add(days);
+    }
+
+    return new CityComparison(
+      cities,
+      ComparedSeries.align(cityIds, population, String::valueOf),
+      ComparedSeries.align(
+        cityIds,
+        homeCost,
+        month -> String.format("%04d-%02d", month / 12, month % 12 + 1)
+      ),
+      ComparedSeries.align(
+        cityIds,
+        covid,
+        day -> LocalDate.ofEpochDay(day).toString()
+      )
+    );
+  }
+
+  /**
+   * Initializes every lazy collection a city detail response serializes.
+   * Each collection is one batch fetched query, so a city detail always
+   * costs the same small number of statements.
+   *
+   * @param city managed City
+   * @return the same city
+   */
+  private City initializeHistory(City city) {
+    Hibernate.initialize(city.getZipcodes());
+    Hibernate.initialize(city.getPopulationHistory());
+    Hibernate.initialize(city.getHistoricalIncome());
+    Hibernate.initialize(city.getHistoricalHomeCost());
+    Hibernate.initialize(city.getHistoricalCovid());
+    Hibernate.initialize(city.getHistoricalWeather());
+    return city;
+  }
+
   /**
    * Find all cities ids of cities matching the current user's filter
+   * Answered from the in-memory CityFilterIndex when it is enabled and built,
+   * otherwise the filter is run by the database
    * @param maxLength Maximum length or return list, if 0 there is no maximum
    * @return List of city ids of cities matching the current user's filter
    */
   @Override
   public List<Long> findIdByFilter(int maxLength) {
-    // TODO use authenticated user
-    long id = 1;
-    List<Long> matchList = new ArrayList<>();
-    List<City> cityList = findAll();
-    User currentUser = userRepository
-      .findById(id)
-      .orElseThrow(
-        () -> new ResourceNotFoundException("User id " + id + " not found!")
-      );
+    User currentUser = currentUser();
 
-    for (City city : cityList) {
-      // continue loop (don't add city) if it fails any filter criteria
-      if (filter(currentUser, city)) continue;
-
-      matchList.add(city.getCityId());
-      // if we have a maximum, check if we have reached it
-      if (maxLength != 0 && matchList.size() == maxLength) break;
+    if (filterIndexEnabled && cityFilterIndex.isReady()) {
+      return cityFilterIndex.filter(CityFilter.of(currentUser), maxLength);
     }
-
-    return matchList;
+    return cityRepository.findIdsByFilter(currentUser, maxLength);
   }
 
   /**
    * Find all city abstracts matching the current user's filter
+   * The filter is run by the database, so only the matching rows are loaded
    * @param maxLength Maximum length or return list, if 0 there is no maximum
    * @return List of city abstracts of cities matching the current user's filter
    */
   @Override
   public List<CityAbstract> findAbstractByFilter(int maxLength) {
+    return cityRepository.findAbstractsByFilter(currentUser(), maxLength);
+  }
+
+  /**
+   * Ranks all cities by how close they are to the current user's preferences
+   * Scored on the in-memory CityFilterIndex snapshot with a bounded heap, so
+   * no City entities are loaded and only the k results are sorted
+   * @param k number of cities to return
+   * @param weights weight per metric, metrics not listed weigh 1
+   * @return the k best matching cities, best first
+   */
+  @Override
+  public List<CityMatch> findBestMatches(
+    int k,
+    Map<CityMetric, Double> weights
+  ) {
+    CityPreference preference = CityPreference.of(currentUser());
+    weights.forEach(preference::setWeight);
+
+    return cityFilterIndex.getOrBuildSnapshot().rank(preference, k);
+  }
+
+  /**
+   * Histograms of every city metric, each counting the cities that match
+   * the current user's other filter ranges
+   * Computed in one pass over the in-memory CityFilterIndex snapshot and
+   * cached per filter until the next city write
+   * @param bins number of bins per metric
+   * @return one histogram per metric
+   */
+  @Override
+  public List<CityFacet> findFacets(int bins) {
+    return cityFilterIndex.facets(CityFilter.of(currentUser()), bins);
+  }
+
+  /**
+   * Finds the user whose preferences are used by the filter endpoints
+   * @return the current user
+   * @throws ResourceNotFoundException no such user found
+   */
+  private User currentUser() throws ResourceNotFoundException {
     // TODO use authenticated user
     long id = 1;
-    List<CityAbstract> matchList = new ArrayList<>();
-    List<City> cityList = findAll();
-    User currentUser = userRepository
+    return userRepository
       .findById(id)
       .orElseThrow(
         () -> new ResourceNotFoundException("User id " + id + " not found!")
       );
-
-    for (City city : cityList) {
-      // continue loop (don't add city) if it fails any filter criteria
-      if (filter(currentUser, city)) continue;
-
-      matchList.add(
-        new CityAbstract(
-          city.getCityId(),
-          city.getCityName(),
-          city.getStateCode(),
-          city.getPopulation(),
-          city.getAverageHomeCost(),
-          city.getRent(),
-          city.getCostOfLivingIndex(),
-          city.getImageUrl(),
-          city.getWebsite()
-        )
-      );
-      // if we have a maximum, check if we have reached it
-      if (maxLength != 0 && matchList.size() == maxLength) break;
-    }
-
-    return matchList;
-  }
-
-  private boolean filter(User currentUser, City city) {
-    if (currentUser.getMinPopulation() != null) if (
-      city.getPopulation() < currentUser.getMinPopulation()
-    ) return true;
-    if (currentUser.getMaxPopulation() != null) if (
-      city.getPopulation() > currentUser.getMaxPopulation()
-    ) return true;
-    if (currentUser.getMinRent() != null) if (
-      city.getRent() < currentUser.getMinRent()
-    ) return true;
-    if (currentUser.getMaxRent() != null) if (
-      city.getRent() > currentUser.getMaxRent()
-    ) return true;
-    if (currentUser.getMinHouseCost() != null) if (
-      city.getAverageHomeCost() < currentUser.getMinHouseCost()
-    ) return true;
-    if (currentUser.getMaxHouseCost() != null) if ( //noinspection RedundantIfStatement
-      city.getAverageHomeCost() > currentUser.getMaxHouseCost()
-    ) return true;
-    return false;
   }
 
   /**
@@ -271,25 +576,11 @@ public class CityServiceImpl implements CityService {
         );
     }
 
-    for (HistoricalCovid co : city.getHistoricalCovid()) {
-      /*
-       * UNCOMMENT WHEN DB IS DONE SEEDING
-       * cannot find property until DB is seeded
-       */
-      //            HistoricalCovid cov = covrepo.findById(co.getCovidId())
-      //                .orElseThrow(() -> new ResourceNotFoundException("Historical Covid id " + co.getCovidId() + " not found!"));
-
-      c
-        .getHistoricalCovid()
-        .add(
-          new HistoricalCovid(
-            co.getYear(),
-            co.getMonth(),
-            co.getDay(),
-            co.getCases(),
-            c
-          )
-        );
+    HistoricalCovidSeries covid = city.getHistoricalCovid();
+    if (covid != null) {
+      c.setHistoricalCovid(
+        new HistoricalCovidSeries(covid.getStartDate(), covid.getCases())
+      );
     }
 
     for (HistoricalWeather weather : city.getHistoricalWeather()) {
@@ -320,340 +611,26 @@ public class CityServiceImpl implements CityService {
     c.setAveragePrecipitation(city.getAveragePrecipitation());
     c.setAverageNewCovidCases(city.getAverageNewCovidCases());
 
-    return cityRepository.save(c);
+    c = cityRepository.save(c);
+    eventPublisher.publishEvent(new CitiesChangedEvent(this, c.getCityId()));
+    return c;
   }
 
-  //  /**
-  //   * Saves new city from DS API schema
-  //   * Had to modify last minute to accept new city schema returned by DS
-  //   * @param city JSON City to be saved
-  //   * @return newly saved City object
-  //   */
-  //  @Transactional
-  //  @Override
-  //  public City saveDs(DSCity city) throws Exception {
-  //    City c = new City();
-  //
-  //    c.setCityName(city.getCity() + ", " + city.getStatename());
-  //    c.setStateCode(city.getAbbrev());
-  //    c.setTimezone(city.getTimezone());
-  //    c.setLatitude(city.getLatitude());
-  //    c.setLongitude(city.getLongitude());
-  //    c.setFpis(city.getFIPS());
-  //    c.setImageUrl(city.getWiki_img_url());
-  //    c.setWebsite(city.getWebsite());
-  //    c.setPopulation(city.getPop());
-  //    c.setPopulationDensity(city.getDensity_mi_sq());
-  //    c.setAverageAge(city.getAge());
-  //    c.setHouseholdIncome(city.getHousehold());
-  //    c.setIndividualIncome(city.getIndividual());
-  //    c.setAverageHomeCost(city.getHouse());
-  //    c.setRent(city.getRent());
-  //    c.setCostOfLivingIndex(city.getCOLI());
-  //    c.setAcaStatus(city.getACA_status());
-  //
-  //    /*
-  //     * Splits zipcode string into
-  //     * an actual list of strings
-  //     */
-  //    if (city.getZiplist() != null) {
-  //      String rawZip = city.getZiplist();
-  //      String[] split = rawZip.split(" ");
-  //
-  //      for (String s : split) {
-  //        c.getZipcodes().add(new Zipcode(s, c));
-  //      }
-  //    }
-  //
-  //    /*
-  //     * Splits historical population list string
-  //     * into an actual list of historical populations
-  //     */
-  //    if (city.getPop_hist() != null) {
-  //      DSHistoricalPop p = city.getPop_hist();
-  //
-  //      ObjectMapper mapper = new ObjectMapper();
-  //
-  ////      String raw = mapper.writeValueAsString(p);
-  ////      raw = raw.replace("{", "");
-  ////      raw = raw.replace("}", "");
-  ////      raw = raw.replace("\"", "");
-  ////      raw = raw.replace("city:", "");
-  ////      raw = raw.replace(city.getCity() + ", " + city.getStatename() + ",", "");
-  ////      raw = raw.replace("Braintree ", "");
-  ////      raw = raw.replace("Town,", "");
-  ////      raw = raw.replace("Nashville-Davidson,", "");
-  ////      //            raw = raw.replace(city.getStatename() + ",",
-  ////      //                "");
-  ////      raw = raw.replace("POP", "");
-  ////      raw = raw.replace("_", "");
-  ////      raw = raw.replace("census", "");
-  ////      raw = raw.replace("est", "");
-  ////
-  ////      raw = raw.trim();
-  ////
-  //      //String[] split = raw.split(",");
-  //      //            migrating population from double to int broke it
-  //      //            for (String s : split)
-  //      //            {
-  //      //                String[] splits = s.split(":");
-  //      //                c.getPopulationHistory()
-  //      //                    .add(new PopulationHistory(Integer.parseInt(splits[0]),
-  //      //                        Double.parseDouble(splits[1]),
-  //      //                        c));
-  //      //            }
-  //
-  //    }
-  //
-  //    /**
-  //     * Splits historical income string
-  //     * into an actual list of historical incomes
-  //     */
-  //    if (city.getIncome_hist() != null) {
-  //      DSHistoricalIncome i = city.getIncome_hist();
-  //
-  //      ObjectMapper mapper = new ObjectMapper();
-  //
-  //      String raw = mapper.writeValueAsString(i);
-  //      raw = raw.replace("{", "");
-  //      raw = raw.replace("}", "");
-  //      raw = raw.replace("\"", "");
-  //      raw = raw.replace("_Med", "");
-  //      raw = raw.replace("_Inc", "");
-  //
-  //      String[] split = raw.split(",");
-  //
-  //      List<String> house = new ArrayList<>();
-  //      List<String> ind = new ArrayList<>();
-  //
-  //      for (String s : split) {
-  //        if (s.contains("Hou")) {
-  //          house.add(s);
-  //        } else if (s.contains("Ind")) {
-  //          ind.add(s);
-  //        }
-  //      }
-  //
-  //      Hashtable<Integer, List<Integer>> h = new Hashtable<>();
-  //
-  //      for (String s : house) {
-  //        s = s.replace("_Hou", "");
-  //        String[] splits = s.split(":");
-  //        int year = Integer.parseInt(splits[0]);
-  //        int cost = Integer.parseInt(splits[1]);
-  //
-  //        List<Integer> list = new ArrayList<>();
-  //        list.add(cost);
-  //        h.put(year, list);
-  //      }
-  //
-  //      for (String s : ind) {
-  //        s = s.replace("_Ind", "");
-  //        String[] splits = s.split(":");
-  //        int year = Integer.parseInt(splits[0]);
-  //        int cost = Integer.parseInt(splits[1]);
-  //
-  //        List<Integer> list = h.get(year);
-  //        list.add(cost);
-  //      }
-  //
-  //      Set<Integer> keys = h.keySet();
-  //
-  //      for (Integer key : keys) {
-  //        List<Integer> list = h.get(key);
-  //
-  //        c
-  //          .getHistoricalIncome()
-  //          .add(new HistoricalIncome(key, list.get(1), list.get(0), c));
-  //      }
-  //    }
-  //
-  //    /**
-  //     * Splits historical hosuing string
-  //     * into an actual list of historical housing
-  //     */
-  //    if (city.getHome_hist() != null) {
-  //      DSHistoricalHousing h = city.getHome_hist();
-  //
-  //      ObjectMapper mapper = new ObjectMapper();
-  //
-  //      String raw = mapper.writeValueAsString(h);
-  //
-  //      raw = raw.replace("{", "");
-  //      raw = raw.replace("}", "");
-  //      raw = raw.replace("\"", "");
-  //      String[] split = raw.split(",");
-  //
-  //      for (String s : split) {
-  //        String[] first = s.split(":");
-  //
-  //        double cost;
-  //
-  //        try {
-  //          cost = Double.parseDouble(first[1]);
-  //        } catch (NumberFormatException nfe) {
-  //          cost = 0;
-  //        }
-  //
-  //        String[] second = first[0].split("_");
-  //
-  //        int year = Integer.parseInt(second[0]);
-  //        int month = Integer.parseInt(second[1]);
-  //
-  //        c
-  //          .getHistoricalHomeCost()
-  //          .add(new HistoricalHomeCost(year, month, (int) cost, c));
-  //      }
-  //    }
-  //
-  //    /**
-  //     * Splits historical covid string
-  //     * into an actual list of historical covid cases
-  //     */
-  //    if (city.getJhcovid() != null) {
-  //      DSHistoricalCovid cov = city.getJhcovid();
-  //
-  //      ObjectMapper mapper = new ObjectMapper();
-  //
-  //      String raw = mapper.writeValueAsString(cov);
-  //      raw = raw.replace("{", "");
-  //      raw = raw.replace("}", "");
-  //      raw = raw.replace("\"", "");
-  //
-  //      String[] split = raw.split(",");
-  //
-  //      for (String s : split) {
-  //        if (
-  //          s.contains("C") || s.contains(city.getStatename()) || s.contains("U")
-  //        ) {
-  //          continue;
-  //        } else {
-  //          String[] first = s.split(":");
-  //          int cases = (int) Double.parseDouble(first[1]);
-  //
-  //          String[] second = first[0].split("_");
-  //
-  //          int year = Integer.parseInt(second[0]);
-  //          int month = Integer.parseInt(second[1]);
-  //          int day = Integer.parseInt(second[2]);
-  //
-  //          c
-  //            .getHistoricalCovid()
-  //            .add(new HistoricalCovid(year, month, day, cases, c));
-  //        }
-  //      }
-  //    }
-  //
-  //    /**
-  //     * Splits historical weather string
-  //     * into actual list of historical weather
-  //     */
-  //    if (city.getWeather_hist() != null) {
-  //      DSHistoricalWeather w = city.getWeather_hist();
-  //
-  //      ObjectMapper mapper = new ObjectMapper();
-  //
-  //      String raw = mapper.writeValueAsString(w);
-  //      raw = raw.replace("{", "");
-  //      raw = raw.replace("}", "");
-  //      raw = raw.replace("\"", "");
-  //
-  //      String[] split = raw.split(",");
-  //
-  //      List<String> perc = new ArrayList<>();
-  //      List<String> temp = new ArrayList<>();
-  //      Hashtable<String, List<Double>> h = new Hashtable<>();
-  //
-  //      for (String s : split) {
-  //        if (s.contains("prec")) {
-  //          perc.add(s);
-  //        } else if (s.contains("temp")) {
-  //          temp.add(s);
-  //        }
-  //      }
-  //
-  //      for (String s : perc) {
-  //        String[] first = s.split(":");
-  //
-  //        double value = Double.parseDouble(first[1]);
-  //
-  //        String[] second = first[0].split("_");
-  //        String month = second[0];
-  //
-  //        List<Double> list = new ArrayList<>();
-  //        list.add(value);
-  //
-  //        h.put(month, list);
-  //      }
-  //
-  //      for (String s : temp) {
-  //        String[] first = s.split(":");
-  //
-  //        double value = Double.parseDouble(first[1]);
-  //
-  //        String[] second = first[0].split("_");
-  //        String month = second[0];
-  //
-  //        List<Double> list = h.get(month);
-  //        list.add(value);
-  //      }
-  //
-  //      Set<String> keys = h.keySet();
-  //
-  //      for (String key : keys) {
-  //        List<Double> list = h.get(key);
-  //        c
-  //          .getHistoricalWeather()
-  //          .add(new HistoricalWeather(key, list.get(0), list.get(1), c));
-  //      }
-  //    }
-  //
-  //    /**
-  //     * Calculates historical data averages
-  //     */
-  //    double totalHistPopulaion = 0;
-  //    double totalHistInd = 0;
-  //    double totalHistHouse = 0;
-  //    double totalHistoricalHousing = 0;
-  //    int totalCovidCount = 0;
-  //    double totalCovid = 0;
-  //    int totalPercCount = 0;
-  //    double totalPerc = 0;
-  //    int totalTempCount = 0;
-  //    double totalTemp = 0;
-  //
-  //    for (PopulationHistory pop : c.getPopulationHistory()) {
-  //      totalHistPopulaion += pop.getPopulation();
-  //    }
-  //
-  //    for (HistoricalIncome v : c.getHistoricalIncome()) {
-  //      totalHistInd += v.getIndividualIncome();
-  //      totalHistHouse += v.getHouseholdIncome();
-  //    }
-  //
-  //    for (HistoricalHomeCost h : c.getHistoricalHomeCost()) {
-  //      totalHistoricalHousing += h.getHomeCost();
-  //    }
-  //
-  //    for (HistoricalCovid co : c.getHistoricalCovid()) {
-  //      totalCovidCount++;
-  //      totalCovid += co.getCases();
-  //    }
-  //
-  //    for (HistoricalWeather h : c.getHistoricalWeather()) {
-  //      totalPercCount++;
-  //      totalTempCount++;
-  //
-  //      totalPerc += h.getPrecipitation();
-  //      totalTemp += h.getTemperature();
-  //    }
-  //
-  //    c.setAverageTemperature(totalTemp / totalTempCount);
-  //    c.setAveragePrecipitation(totalPerc / totalPercCount);
-  //    c.setAverageNewCovidCases(totalCovid / totalCovidCount);
-  //
-  //    return cityRepository.save(c);
-  //  }
+  /**
+   * Saves new city from DS API schema
+   * The historical series were already decoded by DSCityParser, which also
+   * lays them out as the City's history
+   * @param city DS city to be saved
+   * @return newly saved City object
+   */
+  @Transactional
+  @Override
+  public City saveDs(DSCity city) {
+    City c = DSCityParser.toCity(city);
+    c = cityRepository.save(c);
+    eventPublisher.publishEvent(new CitiesChangedEvent(this, c.getCityId()));
+    return c;
+  }
 
   /**
    * Find city by city name
@@ -667,38 +644,167 @@ public class CityServiceImpl implements CityService {
     if (c == null) {
       throw new ResourceNotFoundException("City name " + name + " not found!");
     }
-    return c;
+    return initializeHistory(c);
   }
 
   /**
    * Find all cities and their name's + id's
+   * Selected as a projection, so no City entities are loaded
    *
    * @return List of City name's and Id's
    */
   @Override
   public List<CityAbstract> findAllIds() {
-    List<CityAbstract> cities = new ArrayList<>();
-
-    cityRepository
-      .findAll()
-      .iterator()
-      .forEachRemaining(
-        city ->
-          cities.add(
-            new CityAbstract(
-              city.getCityId(),
-              city.getCityName(),
-              city.getStateCode(),
-              city.getPopulation(),
-              city.getAverageHomeCost(),
-              city.getRent(),
-              city.getCostOfLivingIndex(),
-              city.getImageUrl(),
-              city.getWebsite()
-            )
-          )
+    return cityRepository.findAllAbstracts();
+  }
+
+  /**
+   * Find all cities and their name's + id's, already serialized
+   * Rebuilt only after a city write commits, so most calls are a field read
+   *
+   * @return the serialized list of City name's and Id's with its ETag
+   */
+  @Override
+  public CityAbstractPayload findAllIdsPayload() {
+    return cityAbstractSnapshot.get();
+  }
+
+  /**
+   * Finds one page of city abstracts in the order of a metric
+   * The page is cut from the precomputed metric order of the CityFilterIndex
+   * snapshot, then only its abstracts are read, so memory and work stay in
+   * proportion to the page size. The cursor is the city id of the last city,
+   * preceded by its metric value and a colon when sorted by a metric.
+   * Cities without a value for the sort metric are not listed.
+   *
+   * @param sort metric to sort by, null for city id order
+   * @param descending largest value first
+   * @param cursor nextCursor of the previous page, null for the first page
+   * @param limit most cities on the page
+   * @return the page and the cursor of the next one
+   * @throws ResourceFoundException the cursor can not be read
+   */
+  @Override
+  public KeysetPage<CityAbstract> findAllIdsPage(
+    CityMetric sort,
+    boolean descending,
+    String cursor,
+    int limit
+  ) throws ResourceFoundException {
+    double afterValue = 0;
+    Long afterId = null;
+    if (cursor != null) {
+      int colon = cursor.lastIndexOf(':');
+      try {
+        afterId = Long.parseLong(cursor.substring(colon + 1));
+        if (sort != null) {
+          afterValue = Double.parseDouble(cursor.substring(0, colon));
+        }
+      } catch (NumberFormatException | IndexOutOfBoundsException e) {
+        throw new ResourceFoundException("Invalid cursor " + cursor);
+      }
+    }
+
+    CityFilterIndex.Snapshot snapshot = cityFilterIndex.getOrBuildSnapshot();
+    int[] rows = snapshot.page(sort, descending, afterValue, afterId, limit);
+
+    List<Long> ids = new ArrayList<>(rows.length);
+    for (int row : rows) {
+      ids.add(snapshot.id(row));
+    }
+    Map<Long, CityAbstract> found = new HashMap<>();
+    if (!ids.isEmpty()) {
+      for (CityAbstract city : cityRepository.findAbstractsByIds(ids)) {
+        found.put(city.getCityId(), city);
+      }
+    }
+    List<CityAbstract> items = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      // a city deleted since the snapshot was built is skipped
+      if (found.containsKey(id)) items.add(found.get(id));
+    }
+
+    String next = null;
+    if (rows.length == limit) {
+      int last = rows[rows.length - 1];
+      next = String.valueOf(snapshot.id(last));
+      if (sort != null) next = snapshot.value(sort, last) + ":" + next;
+    }
+    return new KeysetPage<>(items, next);
+  }
+
+  /**
+   * Finds the cities closest to a point
+   * Answered from the in-memory CityGeoIndex, so no query is run
+   *
+   * @param latitude latitude of the point in degrees
+   * @param longitude longitude of the point in degrees
+   * @param k maximum number of cities, if 0 there is no maximum
+   * @param radiusKm maximum distance in kilometers, if 0 there is no maximum
+   * @return cities with their distance, closest first
+   */
+  @Override
+  public List<CityDistance> findNear(
+    double latitude,
+    double longitude,
+    int k,
+    double radiusKm
+  ) {
+    return cityGeoIndex.get().near(latitude, longitude, k, radiusKm);
+  }
+
+  /**
+   * Finds the cities closest to a city, not counting the city itself
+   *
+   * @param cityId city id of the city to search around
+   * @param k maximum number of cities, if 0 there is no maximum
+   * @param radiusKm maximum distance in kilometers, if 0 there is no maximum
+   * @return cities with their distance, closest first
+   * @throws ResourceNotFoundException no such city, or it has no location
+   */
+  @Override
+  public List<CityDistance> findNearCity(long cityId, int k, double radiusKm)
+    throws ResourceNotFoundException {
+    List<CityDistance> found = cityGeoIndex
+      .get()
+      .nearCity(cityId, k, radiusKm);
+    if (found == null) {
+      throw new ResourceNotFoundException(
+        "City id " + cityId + " not found or has no location!"
       );
-    return cities;
+    }
+    return found;
+  }
+
+  /**
+   * Finds the cities whose metrics are closest to those of a city
+   * Answered from the in-memory CitySimilarityIndex, so no query is run
+   *
+   * @param cityId city id of the city to compare against
+   * @param k number of cities to return
+   * @return cities with their distance, most similar first
+   * @throws ResourceNotFoundException no such city found
+   */
+  @Override
+  public List<CitySimilarity> findSimilar(long cityId, int k)
+    throws ResourceNotFoundException {
+    List<CitySimilarity> found = citySimilarityIndex.get().similar(cityId, k);
+    if (found == null) {
+      throw new ResourceNotFoundException("City id " + cityId + " not found!");
+    }
+    return found;
+  }
+
+  /**
+   * Answered from the ranking CityPopularity keeps in memory, so no query
+   * is run
+   *
+   * @param limit most cities to return
+   * @return cities with their score, most trending first
+   */
+  @Override
+  public List<CityTrend> findTrending(int limit) {
+    return cityPopularity.trending(limit);
   }
 
   //  /**
@@ -779,42 +885,40 @@ public class CityServiceImpl implements CityService {
   //  }
 
   /**
-   * Saves city to current users fav cities list
+   * Queues the city for the users fav cities list, the row is written by
+   * FavoriteCityBuffer. Only the ids are checked, neither the city nor the
+   * user is loaded. Read-write, so the ids are checked on the primary,
+   * where a user provisioned a moment ago already exists
    * @param cityId city id of city to be saved
    * @param userId user extracted by controller
    */
+  @Transactional
   @Override
   public void saveFavoriteCity(long cityId, long userId) {
-    City city = findCityById(cityId);
-    User user = userRepository
-      .findById(userId)
-      .orElseThrow(
-        () -> new ResourceNotFoundException("User id " + userId + " not found!")
-      );
-
-    UserCities userCity = new UserCities(user, city);
-
-    user.getFavoriteCities().add((userCity));
-    city.getUsers().add(userCity);
+    checkFavoriteIds(cityId, userId);
+    favoriteCityBuffer.add(userId, cityId);
   }
 
   /**
-   * Saves city to current users fav cities list
-   * @param cityId city id of city to be saved
+   * Queues removing the city from the users fav cities list, checked on
+   * the primary like saveFavoriteCity
+   * @param cityId city id of city to be removed
    * @param userId user extracted by controller
    */
+  @Transactional
   @Override
   public void deleteFavoriteCity(long cityId, long userId) {
-    City city = findCityById(cityId);
-    User user = userRepository
-      .findById(userId)
-      .orElseThrow(
-        () -> new ResourceNotFoundException("User id " + userId + " not found!")
-      );
-
-    UserCities userCity = new UserCities(user, city);
+    checkFavoriteIds(cityId, userId);
+    favoriteCityBuffer.remove(userId, cityId);
+  }
 
-    user.getFavoriteCities().remove(userCity);
-    city.getUsers().remove(userCity);
+  private void checkFavoriteIds(long cityId, long userId)
+    throws ResourceNotFoundException {
+    if (!cityRepository.existsById(cityId)) {
+      throw new ResourceNotFoundException("City id " + cityId + " not found!");
+    }
+    if (!userRepository.existsById(userId)) {
+      throw new ResourceNotFoundException("User id " + userId + " not found!");
+    }
   }
 }
@@ -0,0 +1,196 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.CityMetric;
+import com.lambdaschool.foundation.models.CitySimilarity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory feature matrix of the city metrics used to find similar cities.
+ * <p>
+ * Every CityMetric is scaled to mean 0 and standard deviation 1 and stored in
+ * one contiguous float array, one row of metrics per city, so a search is a
+ * linear pass over primitive memory with a bounded heap per chunk of rows.
+ * Large tables are searched chunk by chunk in parallel.
+ * <p>
+ * The matrix is made from the CityFilterIndex snapshot, without a query, and
+ * is remade whenever the snapshot version changes.
+ */
+@Component
+public class CitySimilarityIndex {
+
+  /**
+   * Rows searched by one task. Tables up to this size are searched on the
+   * calling thread.
+   */
+  static final int CHUNK_ROWS = 4096;
+
+  /**
+   * Source of the city metrics
+   */
+  private final CityFilterIndex cityFilterIndex;
+
+  /**
+   * The current matrix, null until first requested
+   */
+  private volatile Matrix matrix;
+
+  public CitySimilarityIndex(CityFilterIndex cityFilterIndex) {
+    this.cityFilterIndex = cityFilterIndex;
+  }
+
+  /**
+   * Returns the matrix of the current filter index snapshot, remaking it if
+   * the snapshot changed since the last call
+   * @return the current matrix
+   */
+  public Matrix get() {
+    CityFilterIndex.Snapshot snapshot = cityFilterIndex.getOrBuildSnapshot();
+    Matrix current = matrix;
+    if (current == null || current.getVersion() != snapshot.getVersion()) {
+      synchronized (this) {
+        current = matrix;
+        if (current == null || current.getVersion() != snapshot.getVersion()) {
+          current = new Matrix(snapshot);
+          matrix = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * An immutable matrix of normalized city metrics
+   */
+  public static final class Matrix {
+
+    /**
+     * Features per city, one per CityMetric
+     */
+    static final int DIMENSIONS = CityMetric.values().length;
+
+    /**
+     * Snapshot the features were made from, rows are shared with it
+     */
+    private final CityFilterIndex.Snapshot snapshot;
+
+    /**
+     * Normalized metrics, row major: feature d of row r is at
+     * r * DIMENSIONS + d. Missing metrics are 0, the mean.
+     */
+    private final float[] features;
+
+    /**
+     * Main constructor
+     * @param snapshot city metrics to normalize
+     */
+    public Matrix(CityFilterIndex.Snapshot snapshot) {
+      this.snapshot = snapshot;
+      int rows = snapshot.size();
+      this.features = new float[rows * DIMENSIONS];
+
+      for (CityMetric metric : CityMetric.values()) {
+        double[] column = snapshot.column(metric);
+        double sum = 0;
+        double squares = 0;
+        int count = 0;
+        for (double v : column) {
+          if (Double.isNaN(v)) continue;
+          sum += v;
+          squares += v * v;
+          count++;
+        }
+        if (count == 0) continue;
+
+        double mean = sum / count;
+        double variance = Math.max(0, squares / count - mean * mean);
+        double deviation = Math.sqrt(variance);
+        if (deviation == 0) continue;
+
+        int d = metric.ordinal();
+        for (int row = 0; row < rows; row++) {
+          double v = column[row];
+          if (!Double.isNaN(v)) {
+            features[row * DIMENSIONS + d] = (float) ((v - mean) / deviation);
+          }
+        }
+      }
+    }
+
+    /**
+     * Getter for version
+     * @return version of the snapshot the matrix was made from
+     */
+    public long getVersion() {
+      return snapshot.getVersion();
+    }
+
+    /**
+     * Finds the cities closest to a city over the normalized metrics, not
+     * counting the city itself
+     * @param cityId city to compare against
+     * @param k number of cities to return
+     * @return the cities found, most similar first, null if the city is not
+     * indexed
+     */
+    public List<CitySimilarity> similar(long cityId, int k) {
+      int target = snapshot.row(cityId);
+      if (target < 0) return null;
+
+      int rows = snapshot.size();
+      int chunks = (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+      IntStream tasks = IntStream.range(0, chunks);
+      if (chunks > 1) tasks = tasks.parallel();
+      List<BoundedHeap> heaps = tasks
+        .mapToObj(
+          c -> {
+            int to = Math.min(rows, (c + 1) * CHUNK_ROWS);
+            return scan(c * CHUNK_ROWS, to, target, k);
+          }
+        )
+        .collect(Collectors.toList());
+
+      // the k best of every chunk hold the k best overall
+      BoundedHeap best = heaps.get(0);
+      for (int c = 1; c < heaps.size(); c++) {
+        BoundedHeap heap = heaps.get(c);
+        int count = heap.sort();
+        for (int i = 0; i < count; i++) {
+          best.offer(heap.row(i), heap.key(i));
+        }
+      }
+
+      int count = best.sort();
+      List<CitySimilarity> found = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        found.add(
+          new CitySimilarity(snapshot.id(best.row(i)), Math.sqrt(best.key(i)))
+        );
+      }
+      return found;
+    }
+
+    /**
+     * Squared distances of the rows [from, to) to the target row, keeping
+     * the k smallest
+     */
+    private BoundedHeap scan(int from, int to, int target, int k) {
+      BoundedHeap heap = new BoundedHeap(k, Double.POSITIVE_INFINITY);
+      int t = target * DIMENSIONS;
+      for (int row = from; row < to; row++) {
+        if (row == target) continue;
+        int r = row * DIMENSIONS;
+        float sum = 0;
+        for (int d = 0; d < DIMENSIONS; d++) {
+          float diff = features[r + d] - features[t + d];
+          sum += diff * diff;
+        }
+        if (sum < heap.bound()) heap.offer(row, sum);
+      }
+      return heap;
+    }
+  }
+}
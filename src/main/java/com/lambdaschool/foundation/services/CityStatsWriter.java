@@ -0,0 +1,116 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.config.DatabaseMetadata;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Adds the view and favorite counts collected by CityPopularity to the
+ * city_stats table every citrics.city-stats.flush-millis, and on shutdown.
+ * <p>
+ * All cities counted since the last flush are written in one transaction:
+ * with one batched INSERT ... ON CONFLICT DO UPDATE on PostgreSQL, and on
+ * H2 with a batched UPDATE followed by an INSERT of the cities that had no
+ * row yet. If the write fails the counts are handed back to CityPopularity
+ * and go out with the next flush.
+ */
+@Component
+public class CityStatsWriter {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    CityStatsWriter.class
+  );
+
+  private final CityPopularity cityPopularity;
+
+  private final DatabaseMetadata databaseMetadata;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  public CityStatsWriter(
+    CityPopularity cityPopularity,
+    DatabaseMetadata databaseMetadata,
+    JdbcTemplate jdbcTemplate,
+    PlatformTransactionManager transactionManager
+  ) {
+    this.cityPopularity = cityPopularity;
+    this.databaseMetadata = databaseMetadata;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Writes the counts collected since the last flush
+   */
+  @Scheduled(fixedDelayString = "${citrics.city-stats.flush-millis:30000}")
+  @PreDestroy
+  public synchronized void flush() {
+    Map<Long, long[]> drained = cityPopularity.drain();
+    if (drained.isEmpty()) return;
+
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    List<Object[]> rows = new ArrayList<>(drained.size());
+    drained.forEach(
+      (cityId, counts) ->
+        rows.add(new Object[] { counts[0], counts[1], now, cityId })
+    );
+    try {
+      transactionTemplate.execute(
+        status -> {
+          if (databaseMetadata.isPostgres()) {
+            upsert(rows);
+          } else {
+            updateThenInsert(rows);
+          }
+          return null;
+        }
+      );
+    } catch (DataAccessException e) {
+      logger.warn("Could not write city stats, retrying next flush", e);
+      cityPopularity.restore(drained);
+    }
+  }
+
+  private void upsert(List<Object[]> rows) {
+    jdbcTemplate.batchUpdate(
+      "INSERT INTO city_stats (views, favorites, last_updated, city_id)" +
+      " VALUES (?, ?, ?, ?) ON CONFLICT (city_id) DO UPDATE SET" +
+      " views = city_stats.views + EXCLUDED.views," +
+      " favorites = city_stats.favorites + EXCLUDED.favorites," +
+      " last_updated = EXCLUDED.last_updated",
+      rows
+    );
+  }
+
+  private void updateThenInsert(List<Object[]> rows) {
+    int[] updated = jdbcTemplate.batchUpdate(
+      "UPDATE city_stats SET views = views + ?, favorites = favorites + ?," +
+      " last_updated = ? WHERE city_id = ?",
+      rows
+    );
+    List<Object[]> missing = new ArrayList<>();
+    for (int i = 0; i < updated.length; i++) {
+      if (updated[i] == 0) missing.add(rows.get(i));
+    }
+    if (!missing.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+        "INSERT INTO city_stats (views, favorites, last_updated, city_id)" +
+        " VALUES (?, ?, ?, ?)",
+        missing
+      );
+    }
+  }
+}
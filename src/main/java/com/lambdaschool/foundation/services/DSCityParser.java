@@ -0,0 +1,480 @@
+package com.lambdaschool.foundation.services;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.DSCity;
+import com.lambdaschool.foundation.models.DSSeries;
+import com.lambdaschool.foundation.models.HistoricalCovidSeries;
+import com.lambdaschool.foundation.models.HistoricalHomeCost;
+import com.lambdaschool.foundation.models.HistoricalIncome;
+import com.lambdaschool.foundation.models.HistoricalWeather;
+import com.lambdaschool.foundation.models.PopulationHistory;
+import com.lambdaschool.foundation.models.Zipcode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads a city returned by the DS API into a DSCity in a single pass over the
+ * JSON tokens.
+ * <p>
+ * The historical objects are keyed by date ("2020_01_22": 5.0) or by year
+ * ("POP_2015_est": 20000), with a new key for every new data point. Instead
+ * of binding them to a class with one field per key, each key is decoded
+ * into an int and the value is appended to a DSSeries of the city. Field
+ * names are canonicalized by the JsonFactory, so repeated keys do not create
+ * new Strings. New dates need no code change, and keys that are not a date,
+ * year or month are skipped.
+ */
+@Component
+public class DSCityParser {
+
+  /**
+   * Returned by the key decoders for keys they do not understand
+   */
+  static final int MISSING = Integer.MIN_VALUE;
+
+  private static final String[] MONTHS = {
+    "Jan",
+    "Feb",
+    "Mar",
+    "Apr",
+    "May",
+    "Jun",
+    "Jul",
+    "Aug",
+    "Sep",
+    "Oct",
+    "Nov",
+    "Dec",
+  };
+
+  /**
+   * Creates the streaming parsers
+   */
+  private final JsonFactory jsonFactory;
+
+  public DSCityParser(ObjectMapper objectMapper) {
+    this.jsonFactory = objectMapper.getFactory();
+  }
+
+  /**
+   * Names of the weather months as used by HistoricalWeather
+   * @param month month 1 - 12
+   * @return three letter month name
+   */
+  public static String monthName(int month) {
+    return MONTHS[month - 1];
+  }
+
+  /**
+   * Reads one city
+   * @param json UTF-8 JSON of one DS city
+   * @return the city
+   * @throws IOException the JSON is malformed or not an object
+   */
+  public DSCity parse(byte[] json) throws IOException {
+    try (JsonParser p = jsonFactory.createParser(json)) {
+      return parse(p);
+    }
+  }
+
+  /**
+   * Reads one city
+   * @param json UTF-8 JSON of one DS city, closed when done
+   * @return the city
+   * @throws IOException the JSON is malformed or not an object
+   */
+  public DSCity parse(InputStream json) throws IOException {
+    try (JsonParser p = jsonFactory.createParser(json)) {
+      return parse(p);
+    }
+  }
+
+  /**
+   * Reads the city object the parser is at, or the next one
+   * @param p parser positioned before or at a START_OBJECT
+   * @return the city
+   * @throws IOException the JSON is malformed or not an object
+   */
+  public DSCity parse(JsonParser p) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == null || token == JsonToken.END_OBJECT) {
+      token = p.nextToken();
+    }
+    if (token != JsonToken.START_OBJECT) {
+      throw new JsonParseException(p, "Expected a DS city object");
+    }
+
+    DSCity city = new DSCity();
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String name = p.getCurrentName();
+      p.nextToken();
+      switch (name) {
+        case "city":
+          city.setCity(text(p));
+          break;
+        case "statename":
+          city.setStatename(text(p));
+          break;
+        case "abbrev":
+          city.setAbbrev(text(p));
+          break;
+        case "ziplist":
+          city.setZiplist(text(p));
+          break;
+        case "timezone":
+          city.setTimezone(text(p));
+          break;
+        case "counties":
+          city.setCounties(text(p));
+          break;
+        case "latitude":
+          city.setLatitude(number(p));
+          break;
+        case "longitude":
+          city.setLongitude(number(p));
+          break;
+        case "FIPS":
+          city.setFIPS(text(p));
+          break;
+        case "GNIS":
+          city.setGNIS(text(p));
+          break;
+        case "wiki_img_url":
+          city.setWiki_img_url(text(p));
+          break;
+        case "website":
+          city.setWebsite(text(p));
+          break;
+        case "pop":
+          Double pop = number(p);
+          city.setPop(pop == null ? null : Math.round(pop));
+          break;
+        case "density_mi_sq":
+          city.setDensity_mi_sq(number(p));
+          break;
+        case "density_km_sq":
+          city.setDensity_km_sq(number(p));
+          break;
+        case "age":
+          city.setAge(number(p));
+          break;
+        case "household":
+          city.setHousehold(number(p));
+          break;
+        case "individual":
+          city.setIndividual(number(p));
+          break;
+        case "house":
+          city.setHouse(number(p));
+          break;
+        case "rent":
+          city.setRent(number(p));
+          break;
+        case "COLI":
+          city.setCOLI(number(p));
+          break;
+        case "ACA_status":
+          city.setACA_status(text(p));
+          break;
+        case "pop_hist":
+          readEntries(
+            p,
+            (key, value) -> add(city.getPop_hist(), year(key), value)
+          );
+          break;
+        case "income_hist":
+          readEntries(
+            p,
+            (key, value) -> {
+              if (key.contains("Hou")) {
+                add(city.getHousehold_hist(), year(key), value);
+              } else if (key.contains("Ind")) {
+                add(city.getIndividual_hist(), year(key), value);
+              }
+            }
+          );
+          break;
+        case "home_hist":
+          readEntries(
+            p,
+            (key, value) -> add(city.getHome_hist(), epochDay(key), value)
+          );
+          break;
+        case "weather_hist":
+          readEntries(
+            p,
+            (key, value) -> {
+              if (key.contains("precip")) {
+                add(city.getPrecip_hist(), month(key), value);
+              } else if (key.contains("temp")) {
+                add(city.getTemp_hist(), month(key), value);
+              }
+            }
+          );
+          break;
+        case "jhcovid":
+          readEntries(
+            p,
+            (key, value) -> add(city.getJhcovid(), epochDay(key), value)
+          );
+          break;
+        default:
+          p.skipChildren();
+      }
+    }
+    return city;
+  }
+
+  /**
+   * Lays a DS city out as a new, unsaved City with its history
+   * @param city DS city as read by parse
+   * @return the City, ready for CityService.saveDs or CityBulkLoadService
+   */
+  public static City toCity(DSCity city) {
+    City c = new City();
+
+    c.setCityName(city.getCity() + ", " + city.getStatename());
+    c.setStateCode(city.getAbbrev());
+    c.setTimezone(city.getTimezone());
+    c.setLatitude(city.getLatitude());
+    c.setLongitude(city.getLongitude());
+    c.setFpis(city.getFIPS());
+    c.setGnis(city.getGNIS());
+    c.setImageUrl(city.getWiki_img_url());
+    c.setWebsite(city.getWebsite());
+    c.setPopulation(city.getPop());
+    c.setPopulationDensity(city.getDensity_mi_sq());
+    c.setAverageAge(city.getAge());
+    c.setHouseholdIncome(city.getHousehold());
+    c.setIndividualIncome(city.getIndividual());
+    c.setAverageHomeCost(city.getHouse());
+    c.setRent(city.getRent());
+    c.setCostOfLivingIndex(city.getCOLI());
+    c.setAcaStatus(city.getACA_status());
+
+    /*
+     * Splits zipcode string into
+     * an actual list of zipcodes
+     */
+    if (city.getZiplist() != null) {
+      for (String s : city.getZiplist().trim().split("\\s+")) {
+        if (!s.isEmpty()) {
+          c.getZipcodes().add(new Zipcode(s, c));
+        }
+      }
+    }
+
+    DSSeries pop = city.getPop_hist();
+    for (int i = 0; i < pop.size(); i++) {
+      c
+        .getPopulationHistory()
+        .add(
+          new PopulationHistory(pop.key(i), Math.round(pop.value(i)), c)
+        );
+    }
+
+    DSSeries household = city.getHousehold_hist();
+    DSSeries individual = city.getIndividual_hist();
+    for (int i = 0; i < household.size(); i++) {
+      double ind = individual.get(household.key(i));
+      if (!Double.isNaN(ind)) {
+        c
+          .getHistoricalIncome()
+          .add(
+            new HistoricalIncome(
+              household.key(i),
+              (int) ind,
+              (int) household.value(i),
+              c
+            )
+          );
+      }
+    }
+
+    DSSeries home = city.getHome_hist();
+    for (int i = 0; i < home.size(); i++) {
+      LocalDate date = LocalDate.ofEpochDay(home.key(i));
+      c
+        .getHistoricalHomeCost()
+        .add(
+          new HistoricalHomeCost(
+            date.getYear(),
+            date.getMonthValue(),
+            (int) home.value(i),
+            c
+          )
+        );
+    }
+
+    DSSeries precip = city.getPrecip_hist();
+    DSSeries temp = city.getTemp_hist();
+    double totalPerc = 0;
+    double totalTemp = 0;
+    for (int i = 0; i < precip.size(); i++) {
+      double t = temp.get(precip.key(i));
+      if (!Double.isNaN(t)) {
+        totalPerc += precip.value(i);
+        totalTemp += t;
+        c
+          .getHistoricalWeather()
+          .add(
+            new HistoricalWeather(
+              monthName(precip.key(i)),
+              precip.value(i),
+              t,
+              c
+            )
+          );
+      }
+    }
+
+    /*
+     * Lays the daily cases out from the first to the last reported day,
+     * days without a report count as 0
+     */
+    DSSeries covid = city.getJhcovid();
+    if (!covid.isEmpty()) {
+      int first = covid.minKey();
+      int[] cases = new int[covid.maxKey() - first + 1];
+      for (int i = 0; i < covid.size(); i++) {
+        cases[covid.key(i) - first] = (int) covid.value(i);
+      }
+      c.setHistoricalCovid(
+        new HistoricalCovidSeries(LocalDate.ofEpochDay(first), cases)
+      );
+      c.setAverageNewCovidCases(c.getHistoricalCovid().averageCases());
+    }
+
+    int months = c.getHistoricalWeather().size();
+    if (months > 0) {
+      c.setAverageTemperature(totalTemp / months);
+      c.setAveragePrecipitation(totalPerc / months);
+    }
+    return c;
+  }
+
+  /**
+   * Receives the entries of a historical object
+   */
+  @FunctionalInterface
+  private interface EntryHandler {
+    /**
+     * @param key name of the entry
+     * @param value value of the entry, NaN if it is missing
+     */
+    void entry(String key, double value);
+  }
+
+  /**
+   * Hands every key / number pair of the object the parser is at to handler.
+   * Anything that is not an object is skipped.
+   */
+  private static void readEntries(JsonParser p, EntryHandler handler)
+    throws IOException {
+    if (p.currentToken() != JsonToken.START_OBJECT) {
+      p.skipChildren();
+      return;
+    }
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String key = p.getCurrentName();
+      if (p.nextToken().isStructStart()) {
+        p.skipChildren();
+        continue;
+      }
+      handler.entry(key, p.getValueAsDouble(Double.NaN));
+    }
+  }
+
+  private static void add(DSSeries series, int key, double value) {
+    if (key != MISSING && !Double.isNaN(value)) {
+      series.add(key, value);
+    }
+  }
+
+  private static String text(JsonParser p) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_NULL) return null;
+    if (token.isStructStart()) {
+      p.skipChildren();
+      return null;
+    }
+    return p.getText();
+  }
+
+  private static Double number(JsonParser p) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token.isNumeric()) return p.getDoubleValue();
+    if (token.isStructStart()) p.skipChildren();
+    if (token != JsonToken.VALUE_STRING) return null;
+    double value = p.getValueAsDouble(Double.NaN);
+    return Double.isNaN(value) ? null : value;
+  }
+
+  /**
+   * Decodes a "yyyy_MM_dd" or "yyyy-MM-dd" key
+   * @return epoch day of the date, MISSING if the key is not a date
+   */
+  static int epochDay(String key) {
+    if (
+      key.length() != 10 ||
+      !isSeparator(key.charAt(4)) ||
+      !isSeparator(key.charAt(7))
+    ) {
+      return MISSING;
+    }
+    int year = digits(key, 0, 4);
+    int month = digits(key, 5, 2);
+    int day = digits(key, 8, 2);
+    if (year < 0 || month < 0 || day < 0) return MISSING;
+    try {
+      return (int) LocalDate.of(year, month, day).toEpochDay();
+    } catch (DateTimeException e) {
+      return MISSING;
+    }
+  }
+
+  /**
+   * Decodes the first four digit run of a key, as in "POP_2015_est"
+   * @return the year, MISSING if the key has none
+   */
+  static int year(String key) {
+    for (int i = 0; i + 4 <= key.length(); i++) {
+      int year = digits(key, i, 4);
+      if (year >= 0) return year;
+    }
+    return MISSING;
+  }
+
+  /**
+   * Decodes the three letter month name a key starts with, as in "Jan_temp"
+   * @return month 1 - 12, MISSING if the key does not start with a month
+   */
+  static int month(String key) {
+    for (int m = 0; m < MONTHS.length; m++) {
+      if (key.startsWith(MONTHS[m])) return m + 1;
+    }
+    return MISSING;
+  }
+
+  private static int digits(String key, int off, int count) {
+    int value = 0;
+    for (int i = off; i < off + count; i++) {
+      char c = key.charAt(i);
+      if (c < '0' || c > '9') return -1;
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isSeparator(char c) {
+    return c == '_' || c == '-';
+  }
+}
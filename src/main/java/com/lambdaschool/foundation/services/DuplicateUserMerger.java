@@ -0,0 +1,172 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.config.DatabaseMetadata;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Merges users whose names differ only in case into one user, and
+ * lowercases all usernames.
+ * <p>
+ * Older versions looked users up by the name as given but saved it in
+ * lower case, so the users table can hold the same name several times and
+ * no unique constraint on username. KnownUserCache and
+ * UserService.findByName look names up in lower case and expect at most
+ * one row.
+ * <p>
+ * A one-off migration, only run at startup when
+ * citrics.users.merge-duplicates=true. Of each group of duplicates the user
+ * with the lowest id is kept. Preferences it lacks are taken from the other
+ * users, most recently modified first, and their favorite cities are moved
+ * to it unless it already has them. The other users are then deleted, their
+ * ids are logged first. All of it is one transaction. Hibernate adds the
+ * unique constraint on username at the next startup, after which the
+ * property can be removed again.
+ */
+@Component
+@ConditionalOnProperty("citrics.users.merge-duplicates")
+public class DuplicateUserMerger implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    DuplicateUserMerger.class
+  );
+
+  /**
+   * Preference columns of users, filled on the kept user when null
+   */
+  private static final String[] PREFERENCES = {
+    "min_population",
+    "max_population",
+    "min_rent",
+    "max_rent",
+    "min_house_cost",
+    "max_house_cost",
+    "cost_of_living",
+    "about_me",
+    "profile_picture",
+  };
+
+  private final DatabaseMetadata databaseMetadata;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  public DuplicateUserMerger(
+    DatabaseMetadata databaseMetadata,
+    JdbcTemplate jdbcTemplate,
+    PlatformTransactionManager transactionManager
+  ) {
+    this.databaseMetadata = databaseMetadata;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    merge();
+  }
+
+  /**
+   * Merges the duplicate users if the users table exists
+   * @return number of users deleted
+   */
+  public int merge() {
+    if (!databaseMetadata.tableExists("users")) return 0;
+
+    Integer merged = transactionTemplate.execute(status -> mergeAll());
+    logger.info("Merged " + merged + " users into users of the same name");
+    return merged;
+  }
+
+  private int mergeAll() {
+    List<Map<String, Object>> groups = jdbcTemplate.queryForList(
+      "SELECT LOWER(username) AS name, MIN(user_id) AS kept FROM users" +
+      " GROUP BY LOWER(username) HAVING COUNT(*) > 1"
+    );
+
+    StringBuilder fill = new StringBuilder("UPDATE users SET ");
+    for (int i = 0; i < PREFERENCES.length; i++) {
+      String column = PREFERENCES[i];
+      if (i > 0) fill.append(", ");
+      fill
+        .append(column)
+        .append(" = COALESCE(")
+        .append(column)
+        .append(", (SELECT d.")
+        .append(column)
+        .append(" FROM users d WHERE d.user_id = ?))");
+    }
+    fill.append(" WHERE user_id = ?");
+
+    List<Object[]> pairs = new ArrayList<>();
+    List<Object[]> duplicates = new ArrayList<>();
+    for (Map<String, Object> group : groups) {
+      long kept = ((Number) group.get("kept")).longValue();
+      List<Long> merged = jdbcTemplate.queryForList(
+        "SELECT user_id FROM users WHERE LOWER(username) = ?" +
+        " AND user_id <> ? ORDER BY last_modified_date DESC, user_id DESC",
+        Long.class,
+        group.get("name"),
+        kept
+      );
+      logger.info(
+        "Merging users " +
+        merged +
+        " into user " +
+        kept +
+        " (" +
+        group.get("name") +
+        ")"
+      );
+      for (Long duplicate : merged) {
+        pairs.add(new Object[] { duplicate, kept });
+        duplicates.add(new Object[] { duplicate });
+      }
+    }
+
+    if (!pairs.isEmpty()) {
+      // newest first, so the most recent non-null preference wins
+      jdbcTemplate.batchUpdate(fill.toString(), pairs);
+      jdbcTemplate.batchUpdate(
+        "UPDATE user_cities SET user_id = ? WHERE user_id = ? AND city_id" +
+        " NOT IN (SELECT k.city_id FROM user_cities k WHERE k.user_id = ?)",
+        swapped(pairs)
+      );
+      jdbcTemplate.batchUpdate(
+        "DELETE FROM user_cities WHERE user_id = ?",
+        duplicates
+      );
+      jdbcTemplate.batchUpdate(
+        "DELETE FROM users WHERE user_id = ?",
+        duplicates
+      );
+    }
+    jdbcTemplate.update(
+      "UPDATE users SET username = LOWER(username)" +
+      " WHERE username <> LOWER(username)"
+    );
+    return duplicates.size();
+  }
+
+  /**
+   * {duplicate, kept} to {kept, duplicate, kept} for moving favorites
+   */
+  private static List<Object[]> swapped(List<Object[]> pairs) {
+    List<Object[]> rows = new ArrayList<>(pairs.size());
+    for (Object[] pair : pairs) {
+      rows.add(new Object[] { pair[1], pair[0], pair[1] });
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,402 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.config.DatabaseMetadata;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Collects favorite city adds and removes and writes them to user_cities in
+ * batches, instead of one transaction per request.
+ * <p>
+ * Only ids are queued. For each user and city the latest operation wins,
+ * so adding and removing a favorite before a flush writes nothing. Queued
+ * operations are written every citrics.favorites.flush-millis, or as soon
+ * as citrics.favorites.batch-size of them are waiting: adds with one
+ * batched INSERT ... ON CONFLICT DO NOTHING on PostgreSQL, MERGE on H2,
+ * removes with one batched DELETE.
+ * <p>
+ * Only adds that insert a row and removes that delete one are counted in
+ * CityPopularity, once their transaction has committed, so adding a
+ * favorite the user already has does not make a city trend.
+ * <p>
+ * Anything that reads a user's favorites calls flush(userId) first, so a
+ * user always sees their own changes. Flushes write to the primary, and
+ * the reads that follow them run read-write so they read the primary too.
+ */
+@Component
+public class FavoriteCityBuffer implements MeterBinder {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    FavoriteCityBuffer.class
+  );
+
+  private static final String COLUMNS =
+    "created_by, created_date, last_modified_by, last_modified_date," +
+    " user_id, city_id";
+
+  private final DatabaseMetadata databaseMetadata;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Counts the favorites actually added and removed
+   */
+  private final CityPopularity cityPopularity;
+
+  /**
+   * Writes each flush in its own read-write transaction, also when called
+   * from inside a read-only one
+   */
+  private final TransactionTemplate writeTransaction;
+
+  /**
+   * Supplies the username for the auditing columns
+   */
+  private final UserAuditing userAuditing;
+
+  /**
+   * Operations written at once, also the JDBC batch size
+   */
+  private final int batchSize;
+
+  /**
+   * Queued operations by user id, then city id. A user's map is only
+   * changed inside compute on the outer map, and never after it is removed
+   */
+  private final ConcurrentMap<Long, Map<Long, Op>> pending =
+    new ConcurrentHashMap<>();
+
+  /**
+   * Number of queued operations
+   */
+  private final AtomicInteger size = new AtomicInteger();
+
+  /**
+   * Held while operations are drained and written, so a user's older
+   * operations are never written after their newer ones
+   */
+  private final ReentrantLock flushing = new ReentrantLock();
+
+  /**
+   * Operations written, and replaced before they were written
+   */
+  private final LongAdder written = new LongAdder();
+
+  private final LongAdder coalesced = new LongAdder();
+
+  public FavoriteCityBuffer(
+    DatabaseMetadata databaseMetadata,
+    JdbcTemplate jdbcTemplate,
+    PlatformTransactionManager transactionManager,
+    UserAuditing userAuditing,
+    CityPopularity cityPopularity,
+    @Value("${citrics.favorites.batch-size:500}") int batchSize
+  ) {
+    this.databaseMetadata = databaseMetadata;
+    this.jdbcTemplate = jdbcTemplate;
+    this.writeTransaction = new TransactionTemplate(transactionManager);
+    this.writeTransaction.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW
+      );
+    this.userAuditing = userAuditing;
+    this.cityPopularity = cityPopularity;
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  /**
+   * Queues adding a city to a user's favorites
+   * @param userId id of an existing user
+   * @param cityId id of an existing city
+   */
+  public void add(long userId, long cityId) {
+    enqueue(userId, cityId, true);
+  }
+
+  /**
+   * Queues removing a city from a user's favorites
+   * @param userId id of the user
+   * @param cityId id of the city
+   */
+  public void remove(long userId, long cityId) {
+    enqueue(userId, cityId, false);
+  }
+
+  /**
+   * Writes the user's queued operations, and waits for any flush in
+   * progress, so what is read next includes them
+   * @param userId id of the user about to be read
+   */
+  public void flush(long userId) {
+    // drains happen under the lock, so nothing queued and no lock held
+    // means every operation of the user is already committed
+    if (!pending.containsKey(userId) && !flushing.isLocked()) return;
+
+    flushing.lock();
+    try {
+      Map<Long, Map<Long, Op>> drained = new LinkedHashMap<>();
+      Map<Long, Op> ops = pending.remove(userId);
+      if (ops != null) {
+        drained.put(userId, ops);
+        size.addAndGet(-ops.size());
+      }
+      write(drained);
+    } finally {
+      flushing.unlock();
+    }
+  }
+
+  /**
+   * Writes every queued operation
+   */
+  @Scheduled(fixedDelayString = "${citrics.favorites.flush-millis:200}")
+  @PreDestroy
+  public void flushAll() {
+    if (pending.isEmpty()) return;
+
+    flushing.lock();
+    try {
+      Map<Long, Map<Long, Op>> drained = new LinkedHashMap<>();
+      for (Long userId : pending.keySet()) {
+        Map<Long, Op> ops = pending.remove(userId);
+        if (ops != null) {
+          drained.put(userId, ops);
+          size.addAndGet(-ops.size());
+        }
+      }
+      write(drained);
+    } finally {
+      flushing.unlock();
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge
+      .builder("citrics.favorites.pending", size, AtomicInteger::get)
+      .description("Favorite operations waiting to be written")
+      .register(registry);
+    FunctionCounter
+      .builder("citrics.favorites.operations", written, LongAdder::sum)
+      .tag("result", "written")
+      .description("Favorite operations written to the database")
+      .register(registry);
+    FunctionCounter
+      .builder("citrics.favorites.operations", coalesced, LongAdder::sum)
+      .tag("result", "coalesced")
+      .description("Favorite operations replaced before they were written")
+      .register(registry);
+  }
+
+  private void enqueue(long userId, long cityId, boolean add) {
+    Op op = new Op(
+      add,
+      userAuditing.getCurrentAuditor().orElse("SYSTEM"),
+      new Timestamp(System.currentTimeMillis())
+    );
+    pending.compute(
+      userId,
+      (id, ops) -> {
+        if (ops == null) ops = new LinkedHashMap<>();
+        if (ops.put(cityId, op) == null) {
+          size.incrementAndGet();
+        } else {
+          coalesced.increment();
+        }
+        return ops;
+      }
+    );
+    if (size.get() >= batchSize) flushAll();
+  }
+
+  /**
+   * Writes drained operations in one transaction. If a batch fails, e.g.
+   * because a city was deleted meanwhile, the rows are retried one by one
+   * so only the failing ones are lost.
+   */
+  private void write(Map<Long, Map<Long, Op>> drained) {
+    List<Object[]> adds = new ArrayList<>();
+    List<Object[]> removes = new ArrayList<>();
+    for (Map.Entry<Long, Map<Long, Op>> user : drained.entrySet()) {
+      for (Map.Entry<Long, Op> city : user.getValue().entrySet()) {
+        Op op = city.getValue();
+        if (op.add) {
+          adds.add(
+            new Object[] {
+              op.auditor,
+              op.at,
+              op.auditor,
+              op.at,
+              user.getKey(),
+              city.getKey(),
+            }
+          );
+        } else {
+          removes.add(new Object[] { user.getKey(), city.getKey() });
+        }
+      }
+    }
+    if (adds.isEmpty() && removes.isEmpty()) return;
+
+    // city ids of the rows actually deleted and inserted
+    List<Long> removed = new ArrayList<>();
+    List<Long> added = new ArrayList<>();
+    try {
+      writeTransaction.execute(
+        status -> {
+          removed.addAll(delete(removes));
+          added.addAll(insert(adds));
+          return null;
+        }
+      );
+    } catch (DataAccessException e) {
+      logger.warn("Favorite batch failed, writing rows one by one", e);
+      removed.clear();
+      added.clear();
+      removed.addAll(writeEach(removes, this::delete));
+      added.addAll(writeEach(adds, this::insert));
+    }
+    written.add(adds.size() + removes.size());
+    removed.forEach(cityPopularity::unfavorited);
+    added.forEach(cityPopularity::favorited);
+  }
+
+  /**
+   * Deletes the rows of the removes
+   * @return city ids of the rows that existed
+   */
+  private List<Long> delete(List<Object[]> removes) {
+    if (removes.isEmpty()) return Collections.emptyList();
+
+    int[] deleted = jdbcTemplate.batchUpdate(
+      "DELETE FROM user_cities WHERE user_id = ? AND city_id = ?",
+      removes
+    );
+    List<Long> cityIds = new ArrayList<>();
+    for (int i = 0; i < deleted.length; i++) {
+      if (deleted[i] > 0) cityIds.add((Long) removes.get(i)[1]);
+    }
+    return cityIds;
+  }
+
+  /**
+   * Inserts the rows of the adds that are not stored yet. Stored rows are
+   * looked up first, because the update counts of a batch rewritten into
+   * multi-row INSERTs, and of MERGE, do not tell whether a row was new
+   * @return city ids of the rows inserted
+   */
+  private List<Long> insert(List<Object[]> adds) {
+    if (adds.isEmpty()) return Collections.emptyList();
+
+    Set<Long> userIds = new LinkedHashSet<>();
+    for (Object[] add : adds) {
+      userIds.add((Long) add[4]);
+    }
+    Set<List<Long>> stored = new HashSet<>();
+    jdbcTemplate.query(
+      "SELECT user_id, city_id FROM user_cities WHERE user_id IN (" +
+      String.join(", ", Collections.nCopies(userIds.size(), "?")) +
+      ")",
+      rs -> {
+        stored.add(Arrays.asList(rs.getLong(1), rs.getLong(2)));
+      },
+      userIds.toArray()
+    );
+
+    List<Object[]> missing = new ArrayList<>();
+    List<Long> cityIds = new ArrayList<>();
+    for (Object[] add : adds) {
+      if (!stored.contains(Arrays.asList(add[4], add[5]))) {
+        missing.add(add);
+        cityIds.add((Long) add[5]);
+      }
+    }
+    if (!missing.isEmpty()) jdbcTemplate.batchUpdate(insertSql(), missing);
+    return cityIds;
+  }
+
+  /**
+   * Writes the rows in a transaction each, dropping the ones that fail
+   * @return what write returned for the rows written
+   */
+  private List<Long> writeEach(
+    List<Object[]> rows,
+    Function<List<Object[]>, List<Long>> write
+  ) {
+    List<Long> changed = new ArrayList<>();
+    for (Object[] row : rows) {
+      try {
+        changed.addAll(
+          writeTransaction.execute(
+            status -> write.apply(Collections.singletonList(row))
+          )
+        );
+      } catch (DataAccessException e) {
+        logger.warn(
+          "Dropped favorite of user " +
+          row[row.length - 2] +
+          " for city " +
+          row[row.length - 1],
+          e
+        );
+      }
+    }
+    return changed;
+  }
+
+  private String insertSql() {
+    return databaseMetadata.isPostgres()
+      ? "INSERT INTO user_cities (" +
+      COLUMNS +
+      ") VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING"
+      : "MERGE INTO user_cities (" +
+      COLUMNS +
+      ") KEY (user_id, city_id) VALUES (?, ?, ?, ?, ?, ?)";
+  }
+
+  /**
+   * One queued add or remove, with the auditing values of the request
+   */
+  private static final class Op {
+
+    private final boolean add;
+
+    private final String auditor;
+
+    private final Timestamp at;
+
+    Op(boolean add, String auditor, Timestamp at) {
+      this.add = add;
+      this.auditor = auditor;
+      this.at = at;
+    }
+  }
+}
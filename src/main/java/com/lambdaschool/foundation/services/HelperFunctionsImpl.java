@@ -5,6 +5,8 @@ import com.lambdaschool.foundation.models.ValidationError;
 import java.util.ArrayList;
 import java.util.List;
 import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,6 +17,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 @Service(value = "helperFunctions")
 public class HelperFunctionsImpl implements HelperFunctions {
 
+  private static final Logger logger = LoggerFactory.getLogger(
+    HelperFunctionsImpl.class
+  );
+
   public List<ValidationError> getConstraintViolation(Throwable cause) {
     // Find any data violations that might be associated with the error and report them
     // data validations get wrapped in other exceptions as we work through the Spring
@@ -27,7 +33,7 @@ public class HelperFunctionsImpl implements HelperFunctions {
         cause instanceof MethodArgumentNotValidException
       )
     ) {
-      System.out.println(cause.getClass().toString());
+      logger.debug("No constraint violation in {}", cause.getClass());
       cause = cause.getCause();
     }
 
@@ -52,7 +58,7 @@ public class HelperFunctionsImpl implements HelperFunctions {
             listVE.add(newVe);
           }
         } else {
-          System.out.println(
+          logger.error(
             "Error in producing constraint violations exceptions. " +
             "If we see this in the console a major logic error has occurred in the " +
             "helperfunction.getConstraintViolation method that we should investigate. " +
@@ -0,0 +1,172 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.config.DatabaseMetadata;
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.DeltaIntArrayConverter;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves Covid-19 cases from the retired historical_covid table, one row per
+ * city per day, into historical_covid_series, one row per city.
+ * <p>
+ * Runs once at startup, after Hibernate has added cities.covid_series_id.
+ * The old rows of each city become one series from its first to its last
+ * day, days without a row counting 0 cases. Cities that already have a
+ * series keep it. The series and the cities pointing at them are written
+ * in one transaction, and only after it commits is historical_covid
+ * dropped, so a failed run is simply repeated at the next startup. Once the
+ * table is gone this does nothing.
+ */
+@Component
+public class HistoricalCovidMigration implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    HistoricalCovidMigration.class
+  );
+
+  private static final String TABLE = "historical_covid";
+
+  private final DatabaseMetadata databaseMetadata;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Tells in-memory copies of city data that cities were written
+   */
+  private final ApplicationEventPublisher eventPublisher;
+
+  public HistoricalCovidMigration(
+    DatabaseMetadata databaseMetadata,
+    JdbcTemplate jdbcTemplate,
+    PlatformTransactionManager transactionManager,
+    EntityManagerFactory entityManagerFactory,
+    ApplicationEventPublisher eventPublisher
+  ) {
+    this.databaseMetadata = databaseMetadata;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.entityManagerFactory = entityManagerFactory;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    migrate();
+  }
+
+  /**
+   * Converts and drops historical_covid if it still exists
+   * @return number of cities given a series
+   */
+  public int migrate() {
+    if (!databaseMetadata.tableExists(TABLE)) return 0;
+
+    Integer migrated = transactionTemplate.execute(status -> convert());
+    jdbcTemplate.execute("DROP TABLE " + TABLE);
+
+    // cities were changed behind Hibernate's back
+    entityManagerFactory.getCache().evict(City.class);
+    eventPublisher.publishEvent(new CitiesChangedEvent(this, 0));
+    logger.info("Moved Covid-19 cases of " + migrated + " cities to series");
+    return migrated;
+  }
+
+  private int convert() {
+    // city id to its cases by day, for cities without a series
+    Map<Long, TreeMap<LocalDate, Integer>> days = new LinkedHashMap<>();
+    jdbcTemplate.query(
+      "SELECT h.city_id, h.year, h.month, h.day, h.cases FROM " +
+      TABLE +
+      " h JOIN cities c ON c.city_id = h.city_id" +
+      " WHERE c.covid_series_id IS NULL",
+      rs -> {
+        LocalDate date;
+        try {
+          date = LocalDate.of(rs.getInt(2), rs.getInt(3), rs.getInt(4));
+        } catch (DateTimeException e) {
+          logger.warn("Skipped Covid-19 row with invalid date", e);
+          return;
+        }
+        days
+          .computeIfAbsent(rs.getLong(1), id -> new TreeMap<>())
+          .merge(date, rs.getInt(5), Integer::sum);
+      }
+    );
+    if (days.isEmpty()) return 0;
+
+    List<Long> ids = nextIds(days.size());
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    List<Object[]> series = new ArrayList<>(days.size());
+    List<Object[]> cities = new ArrayList<>(days.size());
+    int next = 0;
+    for (Map.Entry<Long, TreeMap<LocalDate, Integer>> city : days
+      .entrySet()) {
+      long seriesId = ids.get(next++);
+      TreeMap<LocalDate, Integer> cases = city.getValue();
+      LocalDate start = cases.firstKey();
+      long length = ChronoUnit.DAYS.between(start, cases.lastKey()) + 1;
+      int[] values = new int[(int) length];
+      cases.forEach(
+        (date, count) ->
+          values[(int) ChronoUnit.DAYS.between(start, date)] = count
+      );
+      series.add(
+        new Object[] {
+          "SYSTEM",
+          now,
+          "SYSTEM",
+          now,
+          seriesId,
+          Date.valueOf(start),
+          DeltaIntArrayConverter.encode(values),
+        }
+      );
+      cities.add(new Object[] { seriesId, city.getKey() });
+    }
+
+    jdbcTemplate.batchUpdate(
+      "INSERT INTO historical_covid_series (created_by, created_date," +
+      " last_modified_by, last_modified_date, series_id, start_date, cases)" +
+      " VALUES (?, ?, ?, ?, ?, ?, ?)",
+      series
+    );
+    jdbcTemplate.batchUpdate(
+      "UPDATE cities SET covid_series_id = ? WHERE city_id = ?",
+      cities
+    );
+    return days.size();
+  }
+
+  /**
+   * Takes a block of ids from hibernate_sequence, like CityBulkLoadService
+   */
+  private List<Long> nextIds(int count) {
+    String sql = databaseMetadata.isPostgres()
+      ? "SELECT nextval('hibernate_sequence') FROM generate_series(1, ?)"
+      : "SELECT NEXT VALUE FOR hibernate_sequence FROM SYSTEM_RANGE(1, ?)";
+    return jdbcTemplate.queryForList(sql, Long.class, count);
+  }
+}
@@ -9,7 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-@Transactional
+@Transactional(readOnly = true)
 @Service(value = "historicalWeatherService")
 public class HistoricalWeatherServiceImp implements HistoricalWeatherService {
 
@@ -0,0 +1,128 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.SingleFlight;
+import com.lambdaschool.foundation.models.User;
+import com.lambdaschool.foundation.repository.UserRepository;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers which usernames already have a row in the users table, so the
+ * authentication filter does not query for the user on every request.
+ * <p>
+ * Entries expire after citrics.user-cache.ttl-seconds and at most
+ * citrics.user-cache.max-size names are kept. UserService removes names when
+ * users are deleted. A name that is not cached is looked up, and inserted if
+ * missing, once per name no matter how many requests for it arrive together.
+ */
+@Component
+public class KnownUserCache {
+
+  /**
+   * Connection to the users table
+   */
+  private final UserRepository userRepository;
+
+  /**
+   * Lowercase username to the time, in nanos, its entry expires
+   */
+  private final ConcurrentMap<String, Long> known = new ConcurrentHashMap<>();
+
+  /**
+   * Lookups and inserts in progress, by lowercase username
+   */
+  private final SingleFlight<String, Boolean> provisioning =
+    new SingleFlight<>();
+
+  private final long ttlNanos;
+
+  private final int maxSize;
+
+  public KnownUserCache(
+    UserRepository userRepository,
+    @Value("${citrics.user-cache.ttl-seconds:600}") long ttlSeconds,
+    @Value("${citrics.user-cache.max-size:10000}") int maxSize
+  ) {
+    this.userRepository = userRepository;
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    this.maxSize = Math.max(1, maxSize);
+  }
+
+  /**
+   * Makes sure a user row exists for username, creating it if needed
+   *
+   * @param username name of the authenticated user
+   */
+  public void provision(String username) {
+    String name = username.toLowerCase();
+    if (isKnown(name)) return;
+
+    provisioning.run(
+      name,
+      () -> {
+        if (!isKnown(name) && userRepository.findByUsername(name) == null) {
+          try {
+            userRepository.save(new User(name));
+          } catch (DataIntegrityViolationException e) {
+            // fine if another instance inserted the same user first
+            if (userRepository.findByUsername(name) == null) throw e;
+          }
+        }
+        remember(name);
+        return Boolean.TRUE;
+      }
+    );
+  }
+
+  /**
+   * Checks the cache without touching the database
+   *
+   * @param username name of the user
+   * @return true if the user is known to exist
+   */
+  public boolean isKnown(String username) {
+    String name = username.toLowerCase();
+    Long expires = known.get(name);
+    if (expires == null) return false;
+    if (System.nanoTime() - expires >= 0) {
+      known.remove(name, expires);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Forgets a user, call when the user is deleted or renamed
+   *
+   * @param username name of the user
+   */
+  public void invalidate(String username) {
+    known.remove(username.toLowerCase());
+  }
+
+  /**
+   * Forgets all users
+   */
+  public void invalidateAll() {
+    known.clear();
+  }
+
+  private void remember(String name) {
+    long now = System.nanoTime();
+    if (known.size() >= maxSize) {
+      // drop expired entries first, then any entries, to stay bounded
+      known.values().removeIf(expires -> now - expires >= 0);
+      Iterator<String> names = known.keySet().iterator();
+      while (known.size() >= maxSize && names.hasNext()) {
+        names.next();
+        names.remove();
+      }
+    }
+    known.put(name, now + ttlNanos);
+  }
+}
@@ -1,6 +1,7 @@
 package com.lambdaschool.foundation.services;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.lambdaschool.foundation.models.KeysetPage;
 import com.lambdaschool.foundation.models.User;
 import java.util.List;
 
@@ -19,6 +20,15 @@ public interface UserService {
    */
   List<User> findAll();
 
+  /**
+   * Returns one page of the Users in user id order
+   *
+   * @param cursor nextCursor of the previous page, null for the first page
+   * @param limit most users on the page
+   * @return the page and the cursor of the next one
+   */
+  KeysetPage<User> findPage(String cursor, int limit);
+
   /**
    * A list of all users whose username contains the given substring
    *
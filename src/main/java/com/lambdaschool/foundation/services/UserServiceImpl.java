@@ -1,18 +1,29 @@
 package com.lambdaschool.foundation.services;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.lambdaschool.foundation.exceptions.ResourceFoundException;
 import com.lambdaschool.foundation.exceptions.ResourceNotFoundException;
+import com.lambdaschool.foundation.models.KeysetPage;
 import com.lambdaschool.foundation.models.User;
 import com.lambdaschool.foundation.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Implements UserService Interface
+ * <p>
+ * Methods that flush FavoriteCityBuffer before reading run read-write, so
+ * the read goes to the primary the flush wrote to rather than to a read
+ * replica that may not have the favorites yet, see
+ * ReadWriteRoutingDataSource.
  */
-@Transactional
+@Transactional(readOnly = true)
 @Service(value = "userService")
 public class UserServiceImpl implements UserService {
 
@@ -23,32 +34,55 @@ public class UserServiceImpl implements UserService {
 
   private final HelperFunctions helperFunctions;
 
+  /**
+   * Usernames the authentication filter knows to exist
+   */
+  private final KnownUserCache knownUserCache;
+
+  /**
+   * Favorite changes not yet written, flushed before users are read so
+   * their favoriteCities are current
+   */
+  private final FavoriteCityBuffer favoriteCityBuffer;
+
   public UserServiceImpl(
     UserRepository userRepository,
-    HelperFunctions helperFunctions
+    HelperFunctions helperFunctions,
+    KnownUserCache knownUserCache,
+    FavoriteCityBuffer favoriteCityBuffer
   ) {
     this.userRepository = userRepository;
     this.helperFunctions = helperFunctions;
+    this.knownUserCache = knownUserCache;
+    this.favoriteCityBuffer = favoriteCityBuffer;
   }
 
+  @Transactional
   @Override
   public User findUserById(long id) throws ResourceNotFoundException {
-    return userRepository
+    favoriteCityBuffer.flush(id);
+    User user = userRepository
       .findById(id)
       .orElseThrow(
         () -> new ResourceNotFoundException("User id " + id + " not found!")
       );
+    Hibernate.initialize(user.getFavoriteCities());
+    return user;
   }
 
+  @Transactional
   @Override
   public List<User> findByNameContaining(String username) {
+    favoriteCityBuffer.flushAll();
     return userRepository.findByUsernameContainingIgnoreCase(
       username.toLowerCase()
     );
   }
 
+  @Transactional
   @Override
   public List<User> findAll() {
+    favoriteCityBuffer.flushAll();
     List<User> list = new ArrayList<>();
     /*
      * findAll returns an iterator set.
@@ -58,23 +92,58 @@ public class UserServiceImpl implements UserService {
     return list;
   }
 
+  /**
+   * Reads one page past the last user id of the previous page, so a deep
+   * page costs the same as the first and never loads the whole table
+   */
+  @Transactional
+  @Override
+  public KeysetPage<User> findPage(String cursor, int limit)
+    throws ResourceFoundException {
+    long after = 0;
+    if (cursor != null) {
+      try {
+        after = Long.parseLong(cursor);
+      } catch (NumberFormatException e) {
+        throw new ResourceFoundException("Invalid cursor " + cursor);
+      }
+    }
+
+    favoriteCityBuffer.flushAll();
+    List<User> users = userRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+      after,
+      PageRequest.of(0, limit)
+    );
+    String next = users.size() < limit
+      ? null
+      : String.valueOf(users.get(users.size() - 1).getUserId());
+    return new KeysetPage<>(users, next);
+  }
+
   @Transactional
   @Override
   public void delete(long id) {
-    userRepository
+    // queued adds would otherwise outlive the user's cascaded favorites
+    favoriteCityBuffer.flush(id);
+    User user = userRepository
       .findById(id)
       .orElseThrow(
         () -> new ResourceNotFoundException("User id " + id + " not found!")
       );
     userRepository.deleteById(id);
+    invalidateAfterCommit(() -> knownUserCache.invalidate(user.getUsername()));
   }
 
+  @Transactional
   @Override
   public User findByName(String name) {
     User uu = userRepository.findByUsername(name.toLowerCase());
     if (uu == null) {
       throw new ResourceNotFoundException("User name " + name + " not found!");
     }
+    // favoriteCities is lazy, so it is read after this flush
+    favoriteCityBuffer.flush(uu.getUserId());
+    Hibernate.initialize(uu.getFavoriteCities());
     return uu;
   }
 
@@ -84,7 +153,7 @@ public class UserServiceImpl implements UserService {
     User newUser = new User();
 
     if (user.getUserId() != 0) {
-      userRepository
+      User oldUser = userRepository
         .findById(user.getUserId())
         .orElseThrow(
           () ->
@@ -93,6 +162,10 @@ public class UserServiceImpl implements UserService {
             )
         );
       newUser.setUserId(user.getUserId());
+      // the old name no longer exists if the user is renamed
+      invalidateAfterCommit(
+        () -> knownUserCache.invalidate(oldUser.getUsername())
+      );
     }
 
     newUser.setUsername(user.getUsername().toLowerCase());
@@ -122,5 +195,27 @@ public class UserServiceImpl implements UserService {
   @Override
   public void deleteAll() {
     userRepository.deleteAll();
+    invalidateAfterCommit(knownUserCache::invalidateAll);
+  }
+
+  /**
+   * Runs a KnownUserCache invalidation once the transaction has committed.
+   * Before the commit a request for the same name can still find the old
+   * row and cache the name again, which would then outlive the row
+   */
+  private static void invalidateAfterCommit(Runnable invalidation) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      invalidation.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+      new TransactionSynchronizationAdapter() {
+
+        @Override
+        public void afterCommit() {
+          invalidation.run();
+        }
+      }
+    );
   }
 }
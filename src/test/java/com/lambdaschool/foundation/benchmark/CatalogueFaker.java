@@ -0,0 +1,265 @@
+package com.lambdaschool.foundation.benchmark;
+
+import com.github.javafaker.Faker;
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.CityAbstract;
+import com.lambdaschool.foundation.models.CityMetric;
+import com.lambdaschool.foundation.models.HistoricalCovidSeries;
+import com.lambdaschool.foundation.models.HistoricalHomeCost;
+import com.lambdaschool.foundation.models.HistoricalIncome;
+import com.lambdaschool.foundation.models.HistoricalWeather;
+import com.lambdaschool.foundation.models.PopulationHistory;
+import com.lambdaschool.foundation.models.User;
+import com.lambdaschool.foundation.models.Zipcode;
+import com.lambdaschool.foundation.services.CityFilterIndex;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic catalogues shaped like the real data for the benchmarks.
+ * Seeded, so every run measures the same data.
+ */
+final class CatalogueFaker
+{
+    /**
+     * Month names the DS API uses in weather keys
+     */
+    static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun",
+        "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
+    /**
+     * Years of population and income history per city
+     */
+    static final int YEARS = 10;
+
+    /**
+     * Months of home cost history per city
+     */
+    static final int HOME_MONTHS = 240;
+
+    /**
+     * Days of covid cases per city
+     */
+    static final int COVID_DAYS = 300;
+
+    private final Faker faker;
+
+    private final Random random;
+
+    CatalogueFaker(long seed)
+    {
+        random = new Random(seed);
+        faker = new Faker(random);
+    }
+
+    /**
+     * Filter index snapshot of n cities, about one value in twenty missing
+     */
+    CityFilterIndex.Snapshot snapshot(int n)
+    {
+        long[] ids = new long[n];
+        double[][] columns = new double[CityMetric.values().length][n];
+        for (int row = 0; row < n; row++)
+        {
+            ids[row] = row + 1;
+            for (CityMetric metric : CityMetric.values())
+            {
+                columns[metric.ordinal()][row] = random.nextInt(20) == 0
+                    ? Double.NaN
+                    : metricValue(metric);
+            }
+        }
+        return new CityFilterIndex.Snapshot(1, ids, columns);
+    }
+
+    /**
+     * User with every preference set, as the filter endpoints see it
+     */
+    User user()
+    {
+        int minPopulation = faker.number().numberBetween(1000, 200000);
+        double minRent = faker.number().numberBetween(500, 1500);
+        double minHouseCost = faker.number().numberBetween(80000, 400000);
+        return new User(1,
+            faker.name().username(),
+            minPopulation,
+            minPopulation * 5,
+            minRent,
+            minRent + 800,
+            minHouseCost,
+            minHouseCost * 2,
+            null,
+            faker.lorem().sentence(),
+            faker.internet().url());
+    }
+
+    /**
+     * City with every field and every history collection filled
+     */
+    City city()
+    {
+        City city = new City(faker.address().cityName() + ", " + faker.address().stateAbbr());
+        city.setCityId(faker.number().numberBetween(1, 100000));
+        city.setStateCode(faker.address().stateAbbr());
+        city.setTimezone(faker.address().timeZone());
+        city.setLatitude(25 + random.nextDouble() * 24);
+        city.setLongitude(-124 + random.nextDouble() * 57);
+        city.setFpis(faker.number().digits(7));
+        city.setGnis(faker.number().digits(7));
+        city.setImageUrl(faker.internet().image());
+        city.setWebsite(faker.internet().url());
+        city.setPopulation((long) metricValue(CityMetric.POPULATION));
+        city.setPopulationDensity(metricValue(CityMetric.POPULATION_DENSITY));
+        city.setAverageAge(metricValue(CityMetric.AVERAGE_AGE));
+        city.setHouseholdIncome(metricValue(CityMetric.HOUSEHOLD_INCOME));
+        city.setIndividualIncome(metricValue(CityMetric.INDIVIDUAL_INCOME));
+        city.setAverageHomeCost(metricValue(CityMetric.AVERAGE_HOME_COST));
+        city.setRent(metricValue(CityMetric.RENT));
+        city.setCostOfLivingIndex(metricValue(CityMetric.COST_OF_LIVING_INDEX));
+        city.setAcaStatus("Adopted");
+        city.setAverageTemperature(metricValue(CityMetric.AVERAGE_TEMPERATURE));
+        city.setAveragePrecipitation(metricValue(CityMetric.AVERAGE_PRECIPITATION));
+        city.setAverageNewCovidCases(metricValue(CityMetric.AVERAGE_NEW_COVID_CASES));
+
+        for (int i = 0; i < 5; i++)
+        {
+            city.getZipcodes().add(new Zipcode(faker.address().zipCode(), city));
+        }
+        for (int year = 2010; year < 2010 + YEARS; year++)
+        {
+            city.getPopulationHistory().add(new PopulationHistory(year, city.getPopulation(), city));
+            city.getHistoricalIncome().add(new HistoricalIncome(year,
+                faker.number().numberBetween(20000, 60000),
+                faker.number().numberBetween(40000, 120000),
+                city));
+        }
+        for (int month = 0; month < HOME_MONTHS; month++)
+        {
+            city.getHistoricalHomeCost().add(new HistoricalHomeCost(2000 + month / 12,
+                month % 12 + 1,
+                faker.number().numberBetween(80000, 900000),
+                city));
+        }
+        for (String month : MONTHS)
+        {
+            city.getHistoricalWeather().add(new HistoricalWeather(month,
+                faker.number().randomDouble(2, 0, 8),
+                faker.number().randomDouble(1, 10, 95),
+                city));
+        }
+        int[] cases = new int[COVID_DAYS];
+        for (int day = 0; day < cases.length; day++)
+        {
+            cases[day] = faker.number().numberBetween(0, 500);
+        }
+        city.setHistoricalCovid(new HistoricalCovidSeries(LocalDate.of(2020, 1, 22), cases));
+        return city;
+    }
+
+    /**
+     * The /cities/allid list of n cities
+     */
+    List<CityAbstract> abstracts(int n)
+    {
+        List<CityAbstract> abstracts = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+        {
+            abstracts.add(new CityAbstract(i + 1,
+                faker.address().cityName() + ", " + faker.address().stateAbbr(),
+                faker.address().stateAbbr(),
+                (long) metricValue(CityMetric.POPULATION),
+                metricValue(CityMetric.AVERAGE_HOME_COST),
+                metricValue(CityMetric.RENT),
+                metricValue(CityMetric.COST_OF_LIVING_INDEX),
+                faker.internet().image(),
+                faker.internet().url()));
+        }
+        return abstracts;
+    }
+
+    /**
+     * One city as the DS API sends it, with covid and housing history
+     */
+    String dsCityJson()
+    {
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"city\": \"").append(faker.address().cityName()).append("\", ");
+        json.append("\"statename\": \"").append(faker.address().state()).append("\", ");
+        json.append("\"abbrev\": \"").append(faker.address().stateAbbr()).append("\", ");
+        json.append("\"FIPS\": \"").append(faker.number().digits(7)).append("\", ");
+        json.append("\"pop\": ").append(metricValue(CityMetric.POPULATION)).append(", ");
+        json.append("\"rent\": ").append(metricValue(CityMetric.RENT)).append(", ");
+
+        json.append("\"home_hist\": {");
+        for (int month = 0; month < HOME_MONTHS; month++)
+        {
+            if (month > 0) json.append(", ");
+            json.append(String.format("\"%d_%02d_28\": %d",
+                2000 + month / 12, month % 12 + 1,
+                faker.number().numberBetween(80000, 900000)));
+        }
+        json.append("}, ");
+
+        json.append("\"jhcovid\": {\"City\": \"Benchmark\"");
+        LocalDate day = LocalDate.of(2020, 1, 22);
+        for (int i = 0; i < COVID_DAYS; i++, day = day.plusDays(1))
+        {
+            json.append(String.format(", \"%d_%02d_%02d\": %d.0",
+                day.getYear(), day.getMonthValue(), day.getDayOfMonth(),
+                faker.number().numberBetween(0, 500)));
+        }
+        json.append("}}");
+        return json.toString();
+    }
+
+    /**
+     * JSON body of a profile update that changes every preference
+     */
+    String userUpdateJson()
+    {
+        return "{\"minPopulation\": " + faker.number().numberBetween(1000, 50000)
+            + ", \"maxPopulation\": " + faker.number().numberBetween(50000, 900000)
+            + ", \"minRent\": " + faker.number().numberBetween(500, 1000)
+            + ", \"maxRent\": " + faker.number().numberBetween(1000, 3000)
+            + ", \"minHouseCost\": null"
+            + ", \"maxHouseCost\": " + faker.number().numberBetween(200000, 900000)
+            + ", \"costOfLiving\": " + faker.number().numberBetween(50, 150)
+            + ", \"aboutMe\": \"" + faker.lorem().sentence() + "\""
+            + ", \"profilePicture\": \"" + faker.internet().url() + "\"}";
+    }
+
+    /**
+     * A plausible value of the metric
+     */
+    private double metricValue(CityMetric metric)
+    {
+        switch (metric)
+        {
+            case POPULATION:
+                return faker.number().numberBetween(1000, 1000000);
+            case POPULATION_DENSITY:
+                return faker.number().randomDouble(1, 10, 20000);
+            case AVERAGE_AGE:
+                return faker.number().randomDouble(1, 20, 60);
+            case HOUSEHOLD_INCOME:
+                return faker.number().numberBetween(30000, 150000);
+            case INDIVIDUAL_INCOME:
+                return faker.number().numberBetween(15000, 90000);
+            case AVERAGE_HOME_COST:
+                return faker.number().numberBetween(60000, 1500000);
+            case RENT:
+                return faker.number().numberBetween(400, 4000);
+            case COST_OF_LIVING_INDEX:
+                return faker.number().numberBetween(70, 250);
+            case AVERAGE_TEMPERATURE:
+                return faker.number().randomDouble(1, 30, 85);
+            case AVERAGE_PRECIPITATION:
+                return faker.number().randomDouble(2, 0, 7);
+            default:
+                return faker.number().randomDouble(1, 0, 500);
+        }
+    }
+}
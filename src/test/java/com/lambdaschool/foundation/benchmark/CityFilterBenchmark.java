@@ -0,0 +1,69 @@
+package com.lambdaschool.foundation.benchmark;
+
+import com.lambdaschool.foundation.models.CityFilter;
+import com.lambdaschool.foundation.services.CityFilterIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The /cities/filterid hot path: CityServiceImpl.findIdByFilter turns the
+ * user's preferences into a CityFilter and runs it over the in-memory
+ * CityFilterIndex snapshot
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CityFilterBenchmark
+{
+    /**
+     * Cities in the catalogue
+     */
+    @Param({"1000", "100000", "1000000"})
+    private int cities;
+
+    private CityFilterIndex.Snapshot snapshot;
+
+    private CityFilter filter;
+
+    @Setup
+    public void setUp()
+    {
+        CatalogueFaker faker = new CatalogueFaker(42);
+        snapshot = faker.snapshot(cities);
+        filter = CityFilter.of(faker.user());
+    }
+
+    /**
+     * What findIdByFilter does per request, without a maximum length
+     */
+    @Benchmark
+    public List<Long> filter()
+    {
+        return snapshot.ids(snapshot.matches(filter), 0);
+    }
+
+    /**
+     * Only the range matching, without building the id list
+     */
+    @Benchmark
+    public BitSet matches()
+    {
+        return snapshot.matches(filter);
+    }
+}
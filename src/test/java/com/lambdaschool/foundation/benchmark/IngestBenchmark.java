@@ -0,0 +1,87 @@
+package com.lambdaschool.foundation.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambdaschool.foundation.models.DSCity;
+import com.lambdaschool.foundation.models.User;
+import com.lambdaschool.foundation.services.DSCityParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading data in: a DS API city with covid and housing history through
+ * DSCityParser, and a profile update through User.update, which applies
+ * each field with Utility.optionallyReplace
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IngestBenchmark
+{
+    private ObjectMapper mapper;
+
+    private DSCityParser parser;
+
+    private byte[] dsCity;
+
+    private byte[] userUpdate;
+
+    private JsonNode userUpdateTree;
+
+    private User user;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        mapper = new ObjectMapper();
+        parser = new DSCityParser(mapper);
+        CatalogueFaker faker = new CatalogueFaker(42);
+        dsCity = faker.dsCityJson().getBytes(StandardCharsets.UTF_8);
+        userUpdate = faker.userUpdateJson().getBytes(StandardCharsets.UTF_8);
+        userUpdateTree = mapper.readTree(userUpdate);
+        user = faker.user();
+    }
+
+    /**
+     * One DS city, jhcovid and home_hist included
+     */
+    @Benchmark
+    public DSCity dsCity() throws Exception
+    {
+        return parser.parse(dsCity);
+    }
+
+    /**
+     * Applying an already parsed update
+     */
+    @Benchmark
+    public User userUpdate()
+    {
+        user.update(userUpdateTree);
+        return user;
+    }
+
+    /**
+     * Parsing the request body and applying it, as PATCH /users/user/{id} does
+     */
+    @Benchmark
+    public User userUpdateFromBytes() throws Exception
+    {
+        user.update(mapper.readTree(userUpdate));
+        return user;
+    }
+}
@@ -0,0 +1,73 @@
+package com.lambdaschool.foundation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.CityAbstract;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the /cities/city/{id} and /cities/allid bodies,
+ * with a mapper built the way Spring Boot builds the application's
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark
+{
+    /**
+     * Rows in abstract.csv, the size of the real catalogue
+     */
+    private static final int CATALOGUE = 1273;
+
+    private ObjectMapper mapper;
+
+    private City city;
+
+    private List<CityAbstract> abstracts;
+
+    @Setup
+    public void setUp()
+    {
+        mapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .build();
+        CatalogueFaker faker = new CatalogueFaker(42);
+        city = faker.city();
+        abstracts = faker.abstracts(CATALOGUE);
+    }
+
+    /**
+     * A city with every history collection filled
+     */
+    @Benchmark
+    public byte[] city() throws Exception
+    {
+        return mapper.writeValueAsBytes(city);
+    }
+
+    /**
+     * The whole /cities/allid list
+     */
+    @Benchmark
+    public byte[] abstracts() throws Exception
+    {
+        return mapper.writeValueAsBytes(abstracts);
+    }
+}
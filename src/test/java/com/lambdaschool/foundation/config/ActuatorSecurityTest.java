@@ -0,0 +1,49 @@
+package com.lambdaschool.foundation.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the full security filter chain against the in-memory H2 database
+ */
+@SpringBootTest(properties = "local.run.db=H2")
+@AutoConfigureMockMvc
+class ActuatorSecurityTest
+{
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    /**
+     * Mocks up the H2ServerConfiguration class
+     * so the test does not open the H2 TCP and web ports
+     */
+    @MockBean
+    private H2ServerConfiguration h2ServerConfiguration;
+
+    @Test
+    void metricsNeedAToken() throws Exception
+    {
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/metrics"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void healthIsPublic() throws Exception
+    {
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/health"))
+            .andExpect(status().isOk());
+    }
+}
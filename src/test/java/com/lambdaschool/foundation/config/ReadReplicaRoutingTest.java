@@ -0,0 +1,93 @@
+package com.lambdaschool.foundation.config;
+
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.User;
+import com.lambdaschool.foundation.repository.UserRepository;
+import com.lambdaschool.foundation.services.CityFilterIndex;
+import com.lambdaschool.foundation.services.CityService;
+import com.lambdaschool.foundation.services.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs with a read replica that never receives any writes: read-url is a
+ * second, empty in-memory H2 database without tables. Anything read from it
+ * fails, so every read below that succeeds went to the primary.
+ * The scheduled favorite flush is slowed down so only the reads flush.
+ */
+@SpringBootTest(properties = {"local.run.db=H2", "citrics.datasource.read-url=jdbc:h2:mem:replica",
+    "citrics.favorites.flush-millis=3600000"})
+class ReadReplicaRoutingTest
+{
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Mocks up the H2ServerConfiguration class
+     * so the test does not open the H2 TCP and web ports
+     */
+    @MockBean
+    private H2ServerConfiguration h2ServerConfiguration;
+
+    /**
+     * Its startup build reads in a read-only transaction, which the
+     * empty replica cannot answer
+     */
+    @MockBean
+    private CityFilterIndex cityFilterIndex;
+
+    @Test
+    void readOnlyTransactionsUseTheReplica()
+    {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        assertThrows(DataAccessException.class, () -> readOnly.execute(
+            status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class)));
+    }
+
+    @Test
+    void userReadsTheirOwnFavoritesBack()
+    {
+        /**
+         * Provisioned on the primary a moment ago, as JwtAuthenticationFilter does
+         */
+        long userId = userRepository.save(new User("replicareader")).getUserId();
+        City city = new City("Replica City, RC");
+        city.setStateCode("RC");
+        long cityId = cityService.save(city).getCityId();
+
+        /**
+         * The ids are checked on the primary, so this is not a 404
+         */
+        cityService.saveFavoriteCity(cityId, userId);
+
+        User byId = userService.findUserById(userId);
+        assertEquals(1, byId.getFavoriteCities().size());
+        assertEquals(cityId, byId.getFavoriteCities().get(0).getCity().getCityId());
+
+        cityService.deleteFavoriteCity(cityId, userId);
+        assertEquals(0, userService.findByName("ReplicaReader").getFavoriteCities().size());
+    }
+}
@@ -0,0 +1,80 @@
+package com.lambdaschool.foundation.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ReadWriteRoutingDataSourceTest
+{
+    /**
+     * Stand-ins for the two pools, no database is needed
+     */
+    private DataSource write;
+
+    private DataSource read;
+
+    private Connection writeConnection;
+
+    private Connection readConnection;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        write = Mockito.mock(DataSource.class);
+        read = Mockito.mock(DataSource.class);
+        writeConnection = Mockito.mock(Connection.class);
+        readConnection = Mockito.mock(Connection.class);
+        Mockito.when(write.getConnection()).thenReturn(writeConnection);
+        Mockito.when(read.getConnection()).thenReturn(readConnection);
+
+        /**
+         * Wired the way DataSourceConfig wires the real pools
+         */
+        dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(write, read));
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReadPool() throws Exception
+    {
+        /**
+         * The connection is handed out before the transaction is marked
+         * read-only, as JpaTransactionManager does
+         */
+        Connection connection = dataSource.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        /**
+         * The first statement picks the pool
+         */
+        assertSame(readConnection, ((ConnectionProxy) connection).getTargetConnection());
+        verify(read).getConnection();
+    }
+
+    @Test
+    void readWriteTransactionUsesWritePool() throws Exception
+    {
+        Connection connection = dataSource.getConnection();
+
+        assertSame(writeConnection, ((ConnectionProxy) connection).getTargetConnection());
+        verify(read, never()).getConnection();
+    }
+}
@@ -3,9 +3,13 @@ package com.lambdaschool.foundation.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lambdaschool.foundation.models.City;
 import com.lambdaschool.foundation.models.CityAbstract;
+import com.lambdaschool.foundation.models.CityAbstractPayload;
 import com.lambdaschool.foundation.repository.UserRepository;
+import com.lambdaschool.foundation.services.CityDetailCoalescer;
+import com.lambdaschool.foundation.services.CityPopularity;
 import com.lambdaschool.foundation.services.CityService;
 import com.lambdaschool.foundation.services.HelperFunctions;
+import com.lambdaschool.foundation.services.KnownUserCache;
 import com.lambdaschool.foundation.services.UserService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,18 +18,27 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CityController.class)
+@Import({CityDetailCoalescer.class, CityPopularity.class})
 class CityControllerTest
 {
     /**
@@ -69,6 +82,13 @@ class CityControllerTest
     @MockBean
     private JwtDecoder jwtDecoder;
 
+    /**
+     * Mocks the known user cache
+     * Needed due to JWT Authentication Config
+     */
+    @MockBean
+    private KnownUserCache knownUserCache;
+
     /**
      * Lists used for testing
      */
@@ -102,22 +122,45 @@ class CityControllerTest
     {
         /**
          * Instantiates a new mapper
-         * and maps the cities list to string
+         * and maps every city to its own NDJSON line
          */
         ObjectMapper mapper = new ObjectMapper();
-        String res = mapper.writeValueAsString(cities);
+        StringBuilder res = new StringBuilder();
+        for (City c : cities)
+        {
+            res.append(mapper.writeValueAsString(c)).append('\n');
+        }
 
         /**
-         * Tells Mockito to return the cities list when CityService.findAll() is called
+         * Tells Mockito to write those lines when CityService.exportAllJson() is called
          */
-        Mockito.when(service.findAll()).thenReturn(cities);
+        Mockito.doAnswer(invocation ->
+        {
+            OutputStream out = invocation.getArgument(0);
+            out.write(res.toString().getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(service).exportAllJson(any());
 
         /**
-         * Mocks network request using only the web layer (doesn't start server)
-         * and asserts the JSON returned == cities (mapped as string)
+         * The body is streamed after the handler returns,
+         * so the async result is dispatched before checking it
          */
-        this.mockMvc.perform(get("/cities/all")).andDo(print()).andExpect(status().isOk())
-            .andExpect(content().json(res));
+        MvcResult result = this.mockMvc.perform(get("/cities/all"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        this.mockMvc.perform(asyncDispatch(result)).andDo(print()).andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/x-ndjson"))
+            .andExpect(content().string(res.toString()));
+    }
+
+    @Test
+    void listAllCitiesRejectsUnknownFormat() throws Exception
+    {
+        /**
+         * Only ndjson and csv can be streamed
+         */
+        this.mockMvc.perform(get("/cities/all").param("format", "xml"))
+            .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -151,18 +194,78 @@ class CityControllerTest
         String res = mapper.writeValueAsString(cityAbstracts);
 
         /**
-         * Tells Mockito to return the cityAbstracts list when CityServices.findAllIds() is called
+         * Tells Mockito to return the serialized cityAbstracts list when
+         * CityServices.findAllIdsPayload() is called
          */
-        Mockito.when(service.findAllIds()).thenReturn(cityAbstracts);
+        CityAbstractPayload payload = new CityAbstractPayload(1, mapper.writeValueAsBytes(cityAbstracts));
+        Mockito.when(service.findAllIdsPayload()).thenReturn(payload);
 
         /**
          * Mocks a GET network request asserts the JSON returned == cityAbstracts (mapped as string)
+         * and that the ETag of the payload is sent along
          */
         this.mockMvc.perform(get("/cities/allid")).andDo(print()).andExpect(status().isOk())
+            .andExpect(header().string("ETag", payload.getEtag()))
             .andExpect(content().json(res));
 
     }
 
+    @Test
+    void listAllCityIdsNotModified() throws Exception
+    {
+        /**
+         * Serialized payload the client already holds
+         */
+        ObjectMapper mapper = new ObjectMapper();
+        CityAbstractPayload payload = new CityAbstractPayload(1, mapper.writeValueAsBytes(cityAbstracts));
+        Mockito.when(service.findAllIdsPayload()).thenReturn(payload);
+
+        /**
+         * Sending the ETag back returns 304 without a body
+         */
+        this.mockMvc.perform(get("/cities/allid").header("If-None-Match", payload.getEtag()))
+            .andDo(print()).andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void listAllCityIdsGzipHasItsOwnEtag() throws Exception
+    {
+        ObjectMapper mapper = new ObjectMapper();
+        CityAbstractPayload payload = new CityAbstractPayload(1, mapper.writeValueAsBytes(cityAbstracts));
+        Mockito.when(service.findAllIdsPayload()).thenReturn(payload);
+
+        /**
+         * The gzip bytes carry their own ETag
+         */
+        this.mockMvc.perform(get("/cities/allid").header("Accept-Encoding", "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andExpect(header().string("ETag", payload.getGzipEtag()));
+
+        /**
+         * A weak tag sent back by a proxy still matches
+         */
+        this.mockMvc.perform(get("/cities/allid").header("Accept-Encoding", "gzip")
+            .header("If-None-Match", "W/" + payload.getGzipEtag()))
+            .andExpect(status().isNotModified());
+
+        /**
+         * The identity tag does not match the gzip bytes
+         */
+        this.mockMvc.perform(get("/cities/allid").header("Accept-Encoding", "gzip")
+            .header("If-None-Match", payload.getEtag()))
+            .andExpect(status().isOk());
+
+        /**
+         * gzip;q=0 refuses gzip even though anything else is accepted
+         */
+        this.mockMvc.perform(get("/cities/allid").header("Accept-Encoding", "*, gzip;q=0"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Content-Encoding"))
+            .andExpect(header().string("ETag", payload.getEtag()));
+    }
+
     @Test
     void getAverageCity() throws Exception
     {
@@ -0,0 +1,84 @@
+package com.lambdaschool.foundation.controllers;
+
+import com.lambdaschool.foundation.config.H2ServerConfiguration;
+import com.lambdaschool.foundation.services.CityService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Runs on a real Tomcat whose own async timeout is cut to one second,
+ * so an export that takes longer only finishes if
+ * spring.mvc.async.request-timeout from application.properties applies
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "local.run.db=H2")
+class CityExportTimeoutTest
+{
+    @TestConfiguration
+    static class ShortContainerTimeout
+    {
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> shortAsyncTimeout()
+        {
+            return factory -> factory.addConnectorCustomizers(connector -> connector.setAsyncTimeout(1000));
+        }
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private CityService cityService;
+
+    /**
+     * No request carries a token, so nothing is ever decoded
+     */
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    /**
+     * Mocks up the H2ServerConfiguration class
+     * so the test does not open the H2 TCP and web ports
+     */
+    @MockBean
+    private H2ServerConfiguration h2ServerConfiguration;
+
+    @Test
+    void exportOutlastsTheContainerTimeout() throws Exception
+    {
+        /**
+         * A slow catalogue: the second line comes two seconds after the first
+         */
+        Mockito.doAnswer(invocation ->
+        {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"cityId\":1}\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            Thread.sleep(2000);
+            out.write("{\"cityId\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(cityService).exportAllJson(any());
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/cities/all", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("{\"cityId\":1}\n{\"cityId\":2}\n", response.getBody());
+    }
+}
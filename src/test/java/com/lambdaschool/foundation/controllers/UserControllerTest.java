@@ -5,6 +5,7 @@ import com.lambdaschool.foundation.models.User;
 import com.lambdaschool.foundation.repository.UserRepository;
 import com.lambdaschool.foundation.services.CityService;
 import com.lambdaschool.foundation.services.HelperFunctions;
+import com.lambdaschool.foundation.services.KnownUserCache;
 import com.lambdaschool.foundation.services.UserService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,6 +55,9 @@ class UserControllerTest {
     @MockBean
     private CityService cityService;
 
+    @MockBean
+    private KnownUserCache knownUserCache;
+
     List<User> userList;
 
     @BeforeEach
@@ -0,0 +1,499 @@
+package com.lambdaschool.foundation.load;
+
+import com.lambdaschool.foundation.config.H2ServerConfiguration;
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.HistoricalCovidSeries;
+import com.lambdaschool.foundation.models.HistoricalHomeCost;
+import com.lambdaschool.foundation.models.HistoricalIncome;
+import com.lambdaschool.foundation.models.HistoricalWeather;
+import com.lambdaschool.foundation.models.PopulationHistory;
+import com.lambdaschool.foundation.models.User;
+import com.lambdaschool.foundation.models.Zipcode;
+import com.lambdaschool.foundation.repository.UserRepository;
+import com.lambdaschool.foundation.services.CityBulkLoadService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives mixed concurrent traffic through the whole application over HTTP
+ * and reports latency, throughput and garbage collection per endpoint.
+ * <p>
+ * The application runs on the in-memory H2 database of DataSourceConfig,
+ * seeded with the cities of abstract.csv and synthetic history.
+ * Excluded from the normal build, run it with
+ * mvn -P load test -Dload.threads=16 -Dload.seconds=30
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"local.run.db=H2", "logging.level.root=WARN"})
+class CitricsLoadTest
+{
+    /**
+     * The requests sent, and how often, out of the weights' total
+     */
+    enum Endpoint
+    {
+        ALL_ID(20, "/cities/allid"),
+        CITY_DETAIL(40, "/cities/city/{id}"),
+        FILTER_ID(20, "/cities/filterid/{maxLength}"),
+        FAVORITE_ADD(10, "/cities/favorite/{cityId}"),
+        FAVORITE_DELETE(0, "/cities/favorite/{cityId}"),
+        USER_PATCH(10, "/users/user/{id}");
+
+        final int weight;
+
+        final String pattern;
+
+        Endpoint(int weight, String pattern)
+        {
+            this.weight = weight;
+            this.pattern = pattern;
+        }
+    }
+
+    /**
+     * Mocks up the H2ServerConfiguration class
+     * so the test does not open the H2 TCP and web ports
+     */
+    @MockBean
+    private H2ServerConfiguration h2ServerConfiguration;
+
+    /**
+     * No request carries a token, so nothing is ever decoded
+     */
+    @MockBean
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private CityBulkLoadService cityBulkLoadService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${load.threads:16}")
+    private int threads;
+
+    @Value("${load.warmup-seconds:5}")
+    private int warmupSeconds;
+
+    @Value("${load.seconds:30}")
+    private int seconds;
+
+    private long[] cityIds;
+
+    private RestTemplate restTemplate;
+
+    @Test
+    void mixedTraffic() throws Exception
+    {
+        /**
+         * The endpoints act as user 1 until authentication is wired in
+         */
+        User user = userRepository.save(new User("loadtest"));
+        assertEquals(1, user.getUserId(), "the endpoints expect the user to have id 1");
+        cityIds = seedCities();
+
+        restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(
+            HttpClients.custom().setMaxConnPerRoute(threads).setMaxConnTotal(threads).build()));
+        restTemplate.setErrorHandler(new ResponseErrorHandler()
+        {
+            @Override
+            public boolean hasError(ClientHttpResponse response)
+            {
+                return false;
+            }
+
+            @Override
+            public void handleError(ClientHttpResponse response)
+            {
+            }
+        });
+
+        /**
+         * Warm up, then measure for the configured time
+         */
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Worker>> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++)
+        {
+            Worker worker = new Worker(i, measureFrom, end);
+            workers.add(pool.submit(worker::run));
+        }
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureFrom - System.nanoTime()));
+        long[] gcBefore = gc();
+        Map<Endpoint, double[]> serverBefore = serverSide();
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, end - System.nanoTime()));
+
+        Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+        for (Endpoint e : Endpoint.values())
+        {
+            samples.put(e, new Samples());
+        }
+        for (Future<Worker> worker : workers)
+        {
+            for (Endpoint e : Endpoint.values())
+            {
+                samples.get(e).addAll(worker.get().samples.get(e));
+            }
+        }
+        pool.shutdown();
+        long[] gcAfter = gc();
+        Map<Endpoint, double[]> serverAfter = serverSide();
+
+        report(samples, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], serverBefore, serverAfter);
+
+        for (Endpoint e : Endpoint.values())
+        {
+            assertTrue(samples.get(e).count > 0, e + " was never measured");
+            assertEquals(0, samples.get(e).errors, e + " had error responses");
+        }
+    }
+
+    /**
+     * One client thread, picking requests by weight until the end time
+     */
+    private class Worker
+    {
+        private final Random random;
+
+        private final int index;
+
+        private final long measureFrom;
+
+        private final long end;
+
+        private final Map<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+
+        Worker(int index, long measureFrom, long end)
+        {
+            this.random = new Random(index);
+            this.index = index;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            for (Endpoint e : Endpoint.values())
+            {
+                samples.put(e, new Samples());
+            }
+        }
+
+        Worker run()
+        {
+            int total = Arrays.stream(Endpoint.values()).mapToInt(e -> e.weight).sum();
+            while (System.nanoTime() < end)
+            {
+                int pick = random.nextInt(total);
+                for (Endpoint e : Endpoint.values())
+                {
+                    pick -= e.weight;
+                    if (pick < 0)
+                    {
+                        send(e);
+                        break;
+                    }
+                }
+            }
+            return this;
+        }
+
+        private void send(Endpoint endpoint)
+        {
+            long cityId = cityIds[random.nextInt(cityIds.length)];
+            switch (endpoint)
+            {
+                case ALL_ID:
+                    time(endpoint, HttpMethod.GET, "/cities/allid", null);
+                    break;
+                case CITY_DETAIL:
+                    time(endpoint, HttpMethod.GET, "/cities/city/" + cityId, null);
+                    break;
+                case FILTER_ID:
+                    time(endpoint, HttpMethod.GET, "/cities/filterid/50", null);
+                    break;
+                case USER_PATCH:
+                    int minRent = 500 + random.nextInt(1000);
+                    time(endpoint, HttpMethod.PATCH, "/users/user/1",
+                        "{\"minRent\": " + minRent + ", \"maxRent\": " + (minRent + 800) + "}");
+                    break;
+                default:
+                    /**
+                     * Threads use disjoint cities, so no two add the same favorite
+                     */
+                    long favorite = cityIds[(index + threads * random.nextInt(cityIds.length / threads))
+                        % cityIds.length];
+                    time(Endpoint.FAVORITE_ADD, HttpMethod.POST, "/cities/favorite/" + favorite, null);
+                    time(Endpoint.FAVORITE_DELETE, HttpMethod.DELETE, "/cities/favorite/" + favorite, null);
+            }
+        }
+
+        private void time(Endpoint endpoint, HttpMethod method, String path, String body)
+        {
+            HttpHeaders headers = new HttpHeaders();
+            if (body != null)
+            {
+                headers.setContentType(MediaType.APPLICATION_JSON);
+            }
+            long start = System.nanoTime();
+            int status = restTemplate
+                .exchange("http://localhost:" + port + path, method, new HttpEntity<>(body, headers), byte[].class)
+                .getStatusCodeValue();
+            long took = System.nanoTime() - start;
+            if (start >= measureFrom && start < end)
+            {
+                samples.get(endpoint).add(took, status >= 400);
+            }
+        }
+    }
+
+    /**
+     * Latencies of one endpoint, in nanoseconds
+     */
+    private static class Samples
+    {
+        long[] nanos = new long[1024];
+
+        int count;
+
+        int errors;
+
+        void add(long took, boolean error)
+        {
+            if (count == nanos.length)
+            {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = took;
+            if (error)
+            {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other)
+        {
+            for (int i = 0; i < other.count; i++)
+            {
+                add(other.nanos[i], false);
+            }
+            errors += other.errors;
+        }
+
+        /**
+         * Nearest rank percentile in milliseconds, call after sorting
+         */
+        double percentile(double p)
+        {
+            if (count == 0) return 0;
+            int rank = (int) Math.ceil(p * count) - 1;
+            return nanos[Math.max(0, rank)] / 1e6;
+        }
+    }
+
+    /**
+     * Reads abstract.csv into cities with synthetic history and bulk loads them
+     */
+    private long[] seedCities() throws Exception
+    {
+        Random random = new Random(7);
+        List<City> cities = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new ClassPathResource("abstract.csv").getInputStream(), StandardCharsets.UTF_8)))
+        {
+            // City ID,City,State,Population,Cost of Living Index,Rent,Housing Cost
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                if (line.trim().isEmpty()) continue;
+                List<String> fields = csvFields(line);
+                City c = new City(fields.get(1) + ", " + fields.get(2));
+                c.setStateCode(fields.get(2));
+                c.setPopulation(fields.get(3).isEmpty() ? null : Long.valueOf(fields.get(3)));
+                c.setCostOfLivingIndex(number(fields.get(4)));
+                c.setRent(number(fields.get(5)));
+                c.setAverageHomeCost(number(fields.get(6)));
+                addHistory(c, random);
+                cities.add(c);
+            }
+        }
+        cityBulkLoadService.load(cities);
+        return cities.stream().mapToLong(City::getCityId).toArray();
+    }
+
+    /**
+     * About as much history as a DS city brings
+     */
+    private static void addHistory(City c, Random random)
+    {
+        c.getZipcodes().add(new Zipcode(String.format("%05d", random.nextInt(100000)), c));
+        for (int year = 2010; year < 2020; year++)
+        {
+            c.getPopulationHistory().add(new PopulationHistory(year, 1000 + random.nextInt(500000), c));
+            c.getHistoricalIncome().add(new HistoricalIncome(year,
+                20000 + random.nextInt(40000), 40000 + random.nextInt(80000), c));
+        }
+        for (int month = 0; month < 120; month++)
+        {
+            c.getHistoricalHomeCost().add(new HistoricalHomeCost(2010 + month / 12, month % 12 + 1,
+                80000 + random.nextInt(800000), c));
+        }
+        for (String month : new String[]{"Jan", "Feb", "Mar", "Apr", "May", "Jun",
+            "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"})
+        {
+            c.getHistoricalWeather().add(new HistoricalWeather(month,
+                random.nextDouble() * 8, 10 + random.nextDouble() * 85, c));
+        }
+        int[] cases = new int[300];
+        for (int day = 0; day < cases.length; day++)
+        {
+            cases[day] = random.nextInt(500);
+        }
+        c.setHistoricalCovid(new HistoricalCovidSeries(LocalDate.of(2020, 1, 22), cases));
+    }
+
+    /**
+     * Splits one CSV line, names may be quoted
+     */
+    private static List<String> csvFields(String line)
+    {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (char ch : line.toCharArray())
+        {
+            if (ch == '"')
+            {
+                quoted = !quoted;
+            } else if (ch == ',' && !quoted)
+            {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else
+            {
+                field.append(ch);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static Double number(String field)
+    {
+        return field.isEmpty() ? null : Double.valueOf(field);
+    }
+
+    /**
+     * Collections and milliseconds spent in them by all collectors so far
+     */
+    private static long[] gc()
+    {
+        long[] totals = new long[2];
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+        {
+            totals[0] += Math.max(0, gc.getCollectionCount());
+            totals[1] += Math.max(0, gc.getCollectionTime());
+        }
+        return totals;
+    }
+
+    /**
+     * Requests, SQL statements and allocated bytes the server recorded per
+     * endpoint so far, see QueryCountFilter
+     */
+    private Map<Endpoint, double[]> serverSide()
+    {
+        Map<Endpoint, double[]> totals = new EnumMap<>(Endpoint.class);
+        for (Endpoint e : Endpoint.values())
+        {
+            String method = e == Endpoint.FAVORITE_ADD ? "POST"
+                : e == Endpoint.FAVORITE_DELETE ? "DELETE"
+                : e == Endpoint.USER_PATCH ? "PATCH" : "GET";
+            DistributionSummary statements = meterRegistry.find("citrics.request.sql.statements")
+                .tags("method", method, "uri", e.pattern).summary();
+            DistributionSummary allocated = meterRegistry.find("citrics.request.allocated")
+                .tags("method", method, "uri", e.pattern).summary();
+            totals.put(e, new double[]{
+                statements == null ? 0 : statements.count(),
+                statements == null ? 0 : statements.totalAmount(),
+                allocated == null ? 0 : allocated.count(),
+                allocated == null ? 0 : allocated.totalAmount()});
+        }
+        return totals;
+    }
+
+    private void report(Map<Endpoint, Samples> samples, long gcCount, long gcMillis,
+                        Map<Endpoint, double[]> serverBefore, Map<Endpoint, double[]> serverAfter)
+    {
+        System.out.printf("%nLoad test: %d threads, %d s measured after %d s warm-up, %d cities%n",
+            threads, seconds, warmupSeconds, cityIds.length);
+        System.out.printf("%-16s %9s %7s %9s %9s %9s %9s %8s %12s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms", "sql/req", "alloc/req");
+        for (Endpoint e : Endpoint.values())
+        {
+            Samples s = samples.get(e);
+            Arrays.sort(s.nanos, 0, s.count);
+            double[] before = serverBefore.get(e);
+            double[] after = serverAfter.get(e);
+            double requests = after[0] - before[0];
+            double allocations = after[2] - before[2];
+            System.out.printf("%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %8.1f %12s%n",
+                e,
+                s.count,
+                s.errors,
+                s.count / (double) seconds,
+                s.percentile(0.50),
+                s.percentile(0.99),
+                s.percentile(1.0),
+                requests == 0 ? 0 : (after[1] - before[1]) / requests,
+                allocations == 0 ? "-" : String.format("%.0f KB", (after[3] - before[3]) / allocations / 1024));
+        }
+        System.out.printf("GC: %d collections, %d ms, %.1f%% of the measured time%n%n",
+            gcCount, gcMillis, 100.0 * gcMillis / TimeUnit.SECONDS.toMillis(seconds));
+    }
+}
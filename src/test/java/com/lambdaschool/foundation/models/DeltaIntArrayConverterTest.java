@@ -0,0 +1,88 @@
+package com.lambdaschool.foundation.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeltaIntArrayConverterTest
+{
+    private static int[] roundTrip(int[] values)
+    {
+        return DeltaIntArrayConverter.decode(DeltaIntArrayConverter.encode(values));
+    }
+
+    @Test
+    void emptyAndNull()
+    {
+        assertArrayEquals(new int[0], roundTrip(new int[0]));
+        assertArrayEquals(new byte[]{0}, DeltaIntArrayConverter.encode(new int[0]));
+        assertNull(DeltaIntArrayConverter.encode(null));
+        assertNull(DeltaIntArrayConverter.decode(null));
+    }
+
+    @Test
+    void negativeDeltas()
+    {
+        int[] values = {500, 3, -7, -7, 0, -100000, 64, 63, -64, -65};
+        assertArrayEquals(values, roundTrip(values));
+
+        /**
+         * Small differences either way take one byte each
+         */
+        assertEquals(1 + 4, DeltaIntArrayConverter.encode(new int[]{1, 0, -1, 62}).length);
+    }
+
+    @Test
+    void extremeJumps()
+    {
+        /**
+         * The differences overflow an int and wrap back on decode
+         */
+        int[] values = {Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE,
+            0, Integer.MIN_VALUE, Integer.MIN_VALUE, -1, Integer.MAX_VALUE};
+        assertArrayEquals(values, roundTrip(values));
+    }
+
+    @Test
+    void truncatedInput()
+    {
+        byte[] bytes = DeltaIntArrayConverter.encode(new int[]{1, 300, 70000});
+        for (int length = 0; length < bytes.length; length++)
+        {
+            byte[] truncated = new byte[length];
+            System.arraycopy(bytes, 0, truncated, 0, length);
+            assertThrows(IllegalArgumentException.class, () -> DeltaIntArrayConverter.decode(truncated));
+        }
+    }
+
+    @Test
+    void malformedInput()
+    {
+        /**
+         * A varint longer than five bytes
+         */
+        assertThrows(IllegalArgumentException.class, () -> DeltaIntArrayConverter.decode(
+            new byte[]{1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0}));
+
+        /**
+         * A fifth byte with more bits than an int has
+         */
+        assertThrows(IllegalArgumentException.class, () -> DeltaIntArrayConverter.decode(
+            new byte[]{1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F}));
+
+        /**
+         * A length larger than the bytes can hold, or negative
+         */
+        assertThrows(IllegalArgumentException.class, () -> DeltaIntArrayConverter.decode(new byte[]{100, 0}));
+        assertThrows(IllegalArgumentException.class, () -> DeltaIntArrayConverter.decode(
+            new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}));
+
+        /**
+         * Bytes left over after the last value
+         */
+        assertThrows(IllegalArgumentException.class, () -> DeltaIntArrayConverter.decode(new byte[]{1, 2, 3}));
+    }
+}
@@ -0,0 +1,80 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.config.H2ServerConfiguration;
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.HistoricalCovidSeries;
+import com.lambdaschool.foundation.models.PopulationHistory;
+import com.lambdaschool.foundation.models.Zipcode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Runs against the in-memory H2 database, so the batched INSERT path is used
+ */
+@SpringBootTest(properties = {"local.run.db=H2", "citrics.bulk-load.batch-size=2"})
+class CityBulkLoadServiceImplTest
+{
+    @Autowired
+    private CityBulkLoadService cityBulkLoadService;
+
+    @Autowired
+    private CityService cityService;
+
+    /**
+     * Mocks up the H2ServerConfiguration class
+     * so the test does not open the H2 TCP and web ports
+     */
+    @MockBean
+    private H2ServerConfiguration h2ServerConfiguration;
+
+    @Test
+    void load()
+    {
+        /**
+         * Five cities, so the loader writes three chunks
+         */
+        List<City> cities = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+        {
+            City c = new City("Bulk City " + i + ", BC");
+            c.setStateCode("BC");
+            c.getZipcodes().add(new Zipcode("0000" + i, c));
+            c.getPopulationHistory().add(new PopulationHistory(2010, 1000 + i, c));
+            c.getPopulationHistory().add(new PopulationHistory(2011, 2000 + i, c));
+            c.setHistoricalCovid(new HistoricalCovidSeries(LocalDate.of(2020, 1, 22), new int[]{0, 1, i}));
+            cities.add(c);
+        }
+
+        assertEquals(5, cityBulkLoadService.load(cities));
+
+        /**
+         * The loaded rows read back through JPA
+         */
+        City c3 = cityService.findCityById(cities.get(3).getCityId());
+        assertEquals("Bulk City 3, BC", c3.getCityName());
+        assertEquals(1, c3.getZipcodes().size());
+        assertEquals(2, c3.getPopulationHistory().size());
+        assertArrayEquals(new int[]{0, 1, 3}, c3.getHistoricalCovid().getCases());
+
+        /**
+         * A city saved through JPA afterwards gets an id from the same sequence
+         */
+        City after = new City("After Bulk, BC");
+        after.setStateCode("BC");
+        City saved = cityService.save(after);
+        for (City c : cities)
+        {
+            assertNotEquals(c.getCityId(), saved.getCityId());
+        }
+    }
+}
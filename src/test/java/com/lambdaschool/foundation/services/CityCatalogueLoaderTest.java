@@ -0,0 +1,76 @@
+package com.lambdaschool.foundation.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambdaschool.foundation.config.H2ServerConfiguration;
+import com.lambdaschool.foundation.models.City;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs against the in-memory H2 database, the loader is created by hand
+ * so citrics.bulk-load.file does not have to be set for the whole context
+ */
+@SpringBootTest(properties = "local.run.db=H2")
+class CityCatalogueLoaderTest
+{
+    @Autowired
+    private CityBulkLoadService cityBulkLoadService;
+
+    @Autowired
+    private DSCityParser dsCityParser;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    @Autowired
+    private CityService cityService;
+
+    /**
+     * Mocks up the H2ServerConfiguration class
+     * so the test does not open the H2 TCP and web ports
+     */
+    @MockBean
+    private H2ServerConfiguration h2ServerConfiguration;
+
+    @Test
+    void load(@TempDir Path dir) throws Exception
+    {
+        Path file = dir.resolve("ds-cities.json");
+        Files.write(file, ("[{\"city\": \"Seedtown\", \"statename\": \"Oregon\", \"abbrev\": \"OR\","
+            + " \"ziplist\": \"97001 97002\", \"pop\": 1200,"
+            + " \"jhcovid\": {\"City\": \"Seedtown\", \"2020_01_22\": 1.0, \"2020_01_24\": 3.0}},"
+            + " {\"city\": \"Seedville\", \"statename\": \"Oregon\", \"abbrev\": \"OR\"}]")
+            .getBytes(StandardCharsets.UTF_8));
+
+        CityCatalogueLoader loader = new CityCatalogueLoader(cityBulkLoadService, dsCityParser,
+            jdbcTemplate, objectMapper, resourceLoader, file.toUri().toString());
+        assertEquals(2, loader.load());
+
+        City seedtown = cityService.findByCityName("Seedtown, Oregon");
+        assertEquals(2, seedtown.getZipcodes().size());
+        assertArrayEquals(new int[]{1, 0, 3}, seedtown.getHistoricalCovid().getCases());
+
+        /**
+         * Loading the same file again skips both cities
+         */
+        assertEquals(0, loader.load());
+    }
+}
@@ -0,0 +1,96 @@
+package com.lambdaschool.foundation.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambdaschool.foundation.exceptions.ResourceNotFoundException;
+import com.lambdaschool.foundation.models.City;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CityDetailCoalescerTest
+{
+    /**
+     * Mocked city service, no Spring context is needed
+     */
+    private CityService cityService;
+
+    private CityDetailCoalescer coalescer;
+
+    @BeforeEach
+    void setUp()
+    {
+        cityService = Mockito.mock(CityService.class);
+        coalescer = new CityDetailCoalescer(cityService, new ObjectMapper());
+    }
+
+    @Test
+    void concurrentLookupsShareOneLoad() throws Exception
+    {
+        /**
+         * The load is slow, so all threads arrive while it is running
+         */
+        CountDownLatch start = new CountDownLatch(1);
+        Mockito.doAnswer(invocation ->
+        {
+            Thread.sleep(100);
+            return new City("Trending City, TC");
+        }).when(cityService).findCityById(7);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<byte[]>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+        {
+            results.add(pool.submit(() ->
+            {
+                start.await();
+                return coalescer.findCityById(7);
+            }));
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        /**
+         * One load, and every thread got the same serialized city
+         */
+        verify(cityService, times(1)).findCityById(7);
+        byte[] first = results.get(0).get();
+        for (Future<byte[]> result : results)
+        {
+            assertArrayEquals(first, result.get());
+        }
+        assertEquals(1, coalescer.getLoaded());
+        assertEquals(7, coalescer.getCoalesced());
+    }
+
+    @Test
+    void failedLoadIsNotRemembered()
+    {
+        Mockito.doThrow(new ResourceNotFoundException("City name Nowhere not found!"))
+            .when(cityService).findByCityName("Nowhere");
+
+        /**
+         * Sequential lookups never overlap, so each one loads again
+         */
+        assertThrows(ResourceNotFoundException.class, () -> coalescer.findByCityName("Nowhere"));
+        assertThrows(ResourceNotFoundException.class, () -> coalescer.findByCityName("Nowhere"));
+        verify(cityService, times(2)).findByCityName("Nowhere");
+        assertEquals(2, coalescer.getLoaded());
+        assertEquals(0, coalescer.getCoalesced());
+    }
+}
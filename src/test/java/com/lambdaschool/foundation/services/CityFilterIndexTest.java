@@ -0,0 +1,247 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.CityFacet;
+import com.lambdaschool.foundation.models.CityFilter;
+import com.lambdaschool.foundation.models.CityMatch;
+import com.lambdaschool.foundation.models.CityMetric;
+import com.lambdaschool.foundation.models.CityPreference;
+import com.lambdaschool.foundation.repository.CityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CityFilterIndexTest
+{
+    /**
+     * Snapshot under test, built straight from arrays so no database is needed
+     */
+    private CityFilterIndex.Snapshot snapshot;
+
+    @BeforeEach
+    void setUp()
+    {
+        /**
+         * Four cities, ids 10 - 40. City 30 has no rent recorded.
+         */
+        long[] ids = {10, 20, 30, 40};
+        double[][] columns = new double[CityMetric.values().length][ids.length];
+        for (double[] column : columns)
+        {
+            Arrays.fill(column, 1);
+        }
+        columns[CityMetric.POPULATION.ordinal()] = new double[]{50000, 120000, 80000, 300000};
+        columns[CityMetric.RENT.ordinal()] = new double[]{900, 1400, Double.NaN, 1100};
+
+        snapshot = new CityFilterIndex.Snapshot(1, ids, columns);
+    }
+
+    @Test
+    void matchesEverythingWithoutFilter()
+    {
+        List<Long> ids = snapshot.ids(snapshot.matches(new CityFilter()), 0);
+
+        assertEquals(Arrays.asList(10L, 20L, 30L, 40L), ids);
+    }
+
+    @Test
+    void matchesInclusiveRanges()
+    {
+        CityFilter filter = new CityFilter()
+            .setMin(CityMetric.POPULATION, 80000)
+            .setMax(CityMetric.RENT, 1400);
+
+        /**
+         * City 30 is inside the population range but has no rent,
+         * so it cannot satisfy the rent range
+         */
+        List<Long> ids = snapshot.ids(snapshot.matches(filter), 0);
+
+        assertEquals(Arrays.asList(20L, 40L), ids);
+    }
+
+    @Test
+    void appliesMaxLength()
+    {
+        List<Long> ids = snapshot.ids(snapshot.matches(new CityFilter()), 1);
+
+        assertEquals(Collections.singletonList(10L), ids);
+    }
+
+    @Test
+    void emptyRange()
+    {
+        CityFilter filter = new CityFilter()
+            .setMin(CityMetric.RENT, 2000);
+
+        assertEquals(0, snapshot.matches(filter).cardinality());
+    }
+
+    @Test
+    void facetsCountGivenTheOtherRanges()
+    {
+        CityFilter filter = new CityFilter()
+            .setMax(CityMetric.POPULATION, 100000)
+            .setMax(CityMetric.RENT, 1000);
+
+        List<CityFacet> facets = snapshot.facets(filter, 2);
+        CityFacet population = facets.get(CityMetric.POPULATION.ordinal());
+        CityFacet rent = facets.get(CityMetric.RENT.ordinal());
+
+        /**
+         * Population counts the cities with rent up to 1000: city 10 and
+         * city 30, whose missing rent fails the range, is not one of them
+         */
+        assertArrayEquals(new double[]{50000, 175000, 300000}, population.getEdges());
+        assertArrayEquals(new int[]{1, 0}, population.getCounts());
+
+        /**
+         * Rent counts the cities with population up to 100000: 10 and 30,
+         * and city 30 has no rent to count
+         */
+        assertArrayEquals(new int[]{1, 0}, rent.getCounts());
+
+        /**
+         * Without a filter every city with a value is counted
+         */
+        CityFacet all = snapshot.facets(new CityFilter(), 2).get(CityMetric.RENT.ordinal());
+        assertArrayEquals(new double[]{900, 1150, 1400}, all.getEdges());
+        assertArrayEquals(new int[]{2, 1}, all.getCounts());
+    }
+
+    @Test
+    void pagesContinueAfterTheCursor()
+    {
+        /**
+         * Rent order is 10 (900), 40 (1100), 20 (1400). City 30 has no
+         * rent, so it is not part of that order.
+         */
+        int[] first = snapshot.page(CityMetric.RENT, false, 0, null, 2);
+        assertArrayEquals(new int[]{0, 3}, first);
+
+        int[] second = snapshot.page(CityMetric.RENT, false, 1100, 40L, 2);
+        assertArrayEquals(new int[]{1}, second);
+
+        int[] descending = snapshot.page(CityMetric.RENT, true, 1400, 20L, 5);
+        assertArrayEquals(new int[]{3, 0}, descending);
+
+        /**
+         * City id order, after city 20
+         */
+        assertArrayEquals(new int[]{2, 3}, snapshot.page(null, false, 0, 20L, 5));
+    }
+
+    @Test
+    void ranksByDistanceOutsideRanges()
+    {
+        CityPreference preference = new CityPreference(new CityFilter()
+            .setMax(CityMetric.POPULATION, 100000)
+            .setMax(CityMetric.RENT, 1000));
+
+        /**
+         * City 10 is inside both ranges. City 20 is a little too big and
+         * its rent is well over, city 40 is far too big. City 30 has no
+         * rent, which counts as one interquartile range off.
+         */
+        assertEquals(Arrays.asList(10L, 20L, 40L), cityIds(snapshot.rank(preference, 3)));
+        assertEquals(0, snapshot.rank(preference, 1).get(0).getScore());
+
+        /**
+         * Without rent, city 30 matches as well as city 10
+         */
+        preference.setWeight(CityMetric.RENT, 0);
+        assertEquals(Arrays.asList(10L, 30L, 20L, 40L), cityIds(snapshot.rank(preference, 10)));
+    }
+
+    private static List<Long> cityIds(List<CityMatch> matches)
+    {
+        return matches.stream().map(CityMatch::getCityId).collect(Collectors.toList());
+    }
+
+    @Test
+    void matchesBruteForceOnLargeCatalogue()
+    {
+        /**
+         * Several thousand random cities so that both the row scan and the
+         * bucket bitmap paths are used, checked against a plain loop
+         */
+        Random random = new Random(28);
+        int n = 5000;
+        long[] ids = new long[n];
+        double[][] columns = new double[CityMetric.values().length][n];
+        for (int row = 0; row < n; row++)
+        {
+            ids[row] = row + 1;
+            for (double[] column : columns)
+            {
+                column[row] = random.nextInt(20) == 0 ? Double.NaN : random.nextInt(1000);
+            }
+        }
+        CityFilterIndex.Snapshot big = new CityFilterIndex.Snapshot(1, ids, columns);
+
+        for (int run = 0; run < 200; run++)
+        {
+            CityFilter filter = new CityFilter();
+            for (CityMetric metric : CityMetric.values())
+            {
+                if (random.nextInt(4) != 0) continue;
+                int lo = random.nextInt(1000);
+                filter.setMin(metric, lo).setMax(metric, lo + random.nextInt(1000));
+            }
+
+            int expected = 0;
+            for (int row = 0; row < n; row++)
+            {
+                boolean match = true;
+                for (CityMetric metric : CityMetric.values())
+                {
+                    double v = columns[metric.ordinal()][row];
+                    if (filter.isActive(metric) && !(v >= filter.getMin(metric) && v <= filter.getMax(metric)))
+                    {
+                        match = false;
+                    }
+                }
+                if (match) expected++;
+            }
+
+            assertEquals(expected, big.matches(filter).cardinality(), filter.toString());
+        }
+    }
+
+    @Test
+    void olderRebuildDoesNotReplaceNewer()
+    {
+        CityRepository cityRepository = Mockito.mock(CityRepository.class);
+        CityFilterIndex index = new CityFilterIndex(cityRepository);
+
+        /**
+         * The first rebuild reads one city, and while it is reading a second
+         * rebuild starts, reads two cities and finishes first
+         */
+        Object[] row = new Object[CityMetric.values().length + 1];
+        Arrays.fill(row, 1.0);
+        row[0] = 10L;
+        Object[] other = row.clone();
+        other[0] = 20L;
+        Mockito.when(cityRepository.findMetricRows())
+            .thenAnswer(invocation ->
+            {
+                index.onCitiesChanged(null);
+                return Collections.singletonList(row);
+            })
+            .thenReturn(Arrays.asList(row, other));
+
+        index.onCitiesChanged(null);
+
+        assertEquals(2, index.getSnapshot().getVersion());
+        assertEquals(Arrays.asList(10L, 20L), index.filter(new CityFilter(), 0));
+    }
+}
@@ -0,0 +1,94 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.CityDistance;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CityGeoIndexTest
+{
+    @Test
+    void nearestMatchesHaversineScan()
+    {
+        /**
+         * Random cities, some sharing a latitude or longitude so the tree
+         * has to split runs of equal coordinates
+         */
+        Random random = new Random(28);
+        int n = 500;
+        long[] ids = new long[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++)
+        {
+            ids[i] = i * 2 + 1;
+            latitudes[i] = i % 5 == 0 ? 40 : random.nextDouble() * 180 - 90;
+            longitudes[i] = i % 7 == 0 ? -100 : random.nextDouble() * 360 - 180;
+        }
+        CityGeoIndex.Tree tree = new CityGeoIndex.Tree(ids, latitudes, longitudes);
+
+        for (int query = 0; query < 50; query++)
+        {
+            double lat = random.nextDouble() * 180 - 90;
+            double lon = random.nextDouble() * 360 - 180;
+            List<Double> expected = new ArrayList<>();
+            for (int i = 0; i < n; i++)
+            {
+                expected.add(haversine(lat, lon, latitudes[i], longitudes[i]));
+            }
+            expected.sort(Double::compare);
+
+            List<CityDistance> found = tree.near(lat, lon, 7, 0);
+            assertEquals(7, found.size());
+            for (int i = 0; i < found.size(); i++)
+            {
+                assertEquals(expected.get(i), found.get(i).getDistanceKm(), 1e-6);
+            }
+
+            /**
+             * Everything within a radius, and nothing beyond it
+             */
+            double radius = 2000;
+            long inside = expected.stream().filter(d -> d <= radius).count();
+            assertEquals(inside, tree.near(lat, lon, 0, radius).size());
+        }
+    }
+
+    @Test
+    void nearCityLeavesOutTheCity()
+    {
+        /**
+         * Seattle, Portland and Miami
+         */
+        CityGeoIndex.Tree tree = new CityGeoIndex.Tree(
+            new long[]{1, 2, 3},
+            new double[]{47.61, 45.52, 25.76},
+            new double[]{-122.33, -122.68, -80.19});
+
+        List<CityDistance> found = tree.nearCity(1, 0, 500);
+        assertEquals(1, found.size());
+        assertEquals(2, found.get(0).getCityId());
+        assertEquals(234, found.get(0).getDistanceKm(), 2);
+
+        /**
+         * City 4 has no location
+         */
+        assertNull(tree.nearCity(4, 5, 0));
+    }
+
+    private static double haversine(double lat1, double lon1, double lat2, double lon2)
+    {
+        double p1 = Math.toRadians(lat1);
+        double p2 = Math.toRadians(lat2);
+        double dp = p2 - p1;
+        double dl = Math.toRadians(lon2 - lon1);
+        double h = Math.sin(dp / 2) * Math.sin(dp / 2)
+            + Math.cos(p1) * Math.cos(p2) * Math.sin(dl / 2) * Math.sin(dl / 2);
+        return 2 * CityGeoIndex.EARTH_RADIUS_KM * Math.asin(Math.sqrt(h));
+    }
+}
@@ -0,0 +1,81 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.CityTrend;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CityPopularityTest
+{
+    @Test
+    void trendingRanksByViewsAndWeightedFavorites()
+    {
+        /**
+         * A favorite weighs five views, the top two are kept
+         */
+        CityPopularity popularity = new CityPopularity(5, 60, 2);
+        for (int i = 0; i < 3; i++)
+        {
+            popularity.viewed(1);
+        }
+        popularity.favorited(2);
+        popularity.viewed(3);
+
+        /**
+         * Nothing is ranked before the first refresh
+         */
+        assertTrue(popularity.trending(10).isEmpty());
+
+        popularity.refresh();
+        List<CityTrend> top = popularity.trending(10);
+        assertEquals(2, top.size());
+        assertEquals(2, top.get(0).getCityId());
+        assertEquals(5, top.get(0).getScore(), 0.01);
+        assertEquals(1, top.get(1).getCityId());
+        assertEquals(1, popularity.trending(1).size());
+    }
+
+    @Test
+    void drainTakesEachCountOnce()
+    {
+        CityPopularity popularity = new CityPopularity(5, 60, 10);
+        popularity.viewed(7);
+        popularity.viewed(7);
+        popularity.favorited(7);
+
+        Map<Long, long[]> drained = popularity.drain();
+        assertArrayEquals(new long[]{2, 1}, drained.get(7L));
+        assertTrue(popularity.drain().isEmpty());
+
+        /**
+         * Counts handed back after a failed write come out with the next drain
+         */
+        popularity.restore(drained);
+        popularity.viewed(7);
+        assertArrayEquals(new long[]{3, 1}, popularity.drain().get(7L));
+    }
+
+    @Test
+    void removedFavoriteIsTakenBack()
+    {
+        CityPopularity popularity = new CityPopularity(5, 60, 10);
+        popularity.favorited(4);
+        popularity.unfavorited(4);
+        popularity.viewed(5);
+
+        /**
+         * City 4 nets nothing, so only city 5 trends
+         */
+        popularity.refresh();
+        List<CityTrend> top = popularity.trending(10);
+        assertEquals(1, top.size());
+        assertEquals(5, top.get(0).getCityId());
+        assertArrayEquals(new long[]{1, 0}, popularity.drain().get(5L));
+        assertTrue(popularity.drain().isEmpty());
+    }
+}
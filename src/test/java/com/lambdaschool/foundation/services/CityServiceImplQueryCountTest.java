@@ -0,0 +1,215 @@
+package com.lambdaschool.foundation.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambdaschool.foundation.config.H2ServerConfiguration;
+import com.lambdaschool.foundation.config.QueryCountInspector;
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.CityComparison;
+import com.lambdaschool.foundation.models.HistoricalHomeCost;
+import com.lambdaschool.foundation.models.HistoricalIncome;
+import com.lambdaschool.foundation.models.HistoricalWeather;
+import com.lambdaschool.foundation.models.PopulationHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against the in-memory H2 database so real SQL statements are counted
+ */
+@SpringBootTest(properties = "local.run.db=H2")
+class CityServiceImplQueryCountTest
+{
+    /**
+     * Connects CityService to test
+     */
+    @Autowired
+    private CityService cityService;
+
+    /**
+     * Mocks up the H2ServerConfiguration class
+     * so the test does not open the H2 TCP and web ports
+     */
+    @MockBean
+    private H2ServerConfiguration h2ServerConfiguration;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void findCityByIdLoadsHistoryInFixedQueries()
+    {
+        /**
+         * Save a city with some history
+         */
+        City c1 = new City("Query Count City, TC");
+        c1.setStateCode("TC");
+        c1.getPopulationHistory().add(new PopulationHistory(2010, 1000, c1));
+        c1.getPopulationHistory().add(new PopulationHistory(2011, 1100, c1));
+        c1.getHistoricalIncome().add(new HistoricalIncome(2010, 30000, 50000, c1));
+        c1.getHistoricalHomeCost().add(new HistoricalHomeCost(2010, 1, 150000, c1));
+        c1.getHistoricalWeather().add(new HistoricalWeather("Jan", 2.5, 40.0, c1));
+        long id = cityService.save(c1).getCityId();
+
+        /**
+         * Count the statements of one detail lookup
+         */
+        QueryCountInspector.reset();
+        City c2 = cityService.findCityById(id);
+        int statements = QueryCountInspector.count();
+
+        /**
+         * One statement for the city, at most one per history collection,
+         * no matter how many history rows there are
+         */
+        assertTrue(statements <= 7, "findCityById ran " + statements + " statements");
+
+        /**
+         * The collections are readable after the transaction has ended,
+         * so the endpoint does not depend on open-in-view
+         */
+        assertEquals(2, c2.getPopulationHistory().size());
+        assertEquals(1, c2.getHistoricalIncome().size());
+        assertEquals(1, c2.getHistoricalHomeCost().size());
+        assertEquals(1, c2.getHistoricalWeather().size());
+    }
+
+    @Test
+    void repeatedFindCityByIdIsServedFromSecondLevelCache()
+    {
+        /**
+         * Save a city with some history and view it once
+         */
+        City c1 = new City("Cached City, CC");
+        c1.setStateCode("CC");
+        c1.getPopulationHistory().add(new PopulationHistory(2010, 1000, c1));
+        c1.getHistoricalWeather().add(new HistoricalWeather("Jan", 2.5, 40.0, c1));
+        long id = cityService.save(c1).getCityId();
+        cityService.findCityById(id);
+
+        /**
+         * The second view finds the city, its collections and their rows
+         * in the cache
+         */
+        QueryCountInspector.reset();
+        City c2 = cityService.findCityById(id);
+        int statements = QueryCountInspector.count();
+
+        assertEquals(0, statements, "findCityById ran " + statements + " statements");
+        assertEquals(1, c2.getPopulationHistory().size());
+        assertEquals(1, c2.getHistoricalWeather().size());
+    }
+
+    @Test
+    void compareCitiesLoadsHistoryInFixedQueries()
+    {
+        /**
+         * Three cities whose home cost months only partly overlap
+         */
+        long[] ids = new long[3];
+        for (int i = 0; i < ids.length; i++)
+        {
+            City c = new City("Compare City " + i + ", TC");
+            c.setStateCode("TC");
+            c.getPopulationHistory().add(new PopulationHistory(2010, 1000 * (i + 1), c));
+            c.getHistoricalHomeCost().add(new HistoricalHomeCost(2010, i + 1, 150000, c));
+            c.getHistoricalHomeCost().add(new HistoricalHomeCost(2010, i + 2, 160000, c));
+            ids[i] = cityService.save(c).getCityId();
+        }
+
+        QueryCountInspector.reset();
+        CityComparison comparison = cityService.compareCities(Arrays.asList(ids[2], ids[0], ids[1]));
+        int statements = QueryCountInspector.count();
+
+        /**
+         * The same statements as one city detail, not three times as many
+         */
+        assertTrue(statements <= 7, "compareCities ran " + statements + " statements");
+
+        /**
+         * Cities come back in the requested order, months are merged
+         * and a month a city has no entry for is null
+         */
+        assertEquals(ids[2], comparison.getCities().get(0).getCityId());
+        assertEquals(Arrays.asList("2010-01", "2010-02", "2010-03", "2010-04"),
+            comparison.getHomeCost().getAxis());
+        assertEquals(Arrays.asList(null, null, 150000, 160000),
+            comparison.getHomeCost().getValues().get(ids[2]));
+        assertEquals(Arrays.asList(1000L),
+            comparison.getPopulation().getValues().get(ids[0]));
+    }
+
+    @Test
+    void exportAllCsvWritesOneQuotedLinePerCity() throws Exception
+    {
+        /**
+         * Save a city whose name needs quoting
+         */
+        City c1 = new City("Export City, EC");
+        c1.setStateCode("EC");
+        c1.getPopulationHistory().add(new PopulationHistory(2010, 1000, c1));
+        long id = cityService.save(c1).getCityId();
+
+        /**
+         * Export without loading any history
+         */
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        QueryCountInspector.reset();
+        cityService.exportAllCsv(out);
+        int statements = QueryCountInspector.count();
+        String[] lines = out.toString("UTF-8").split("\n");
+
+        /**
+         * Header first, then the city with its name quoted,
+         * read by the cursor in a single statement
+         */
+        assertEquals(CityServiceImpl.CSV_HEADER, lines[0]);
+        assertTrue(Arrays.asList(lines).stream()
+            .anyMatch(l -> l.startsWith(id + ",\"Export City, EC\",EC,")));
+        assertEquals(1, statements, "exportAllCsv ran " + statements + " statements");
+    }
+
+    @Test
+    void exportAllJsonWritesOneDocumentPerLine() throws Exception
+    {
+        /**
+         * Save two cities, so there is more than one line
+         */
+        City c1 = new City("Json Export City, JE");
+        c1.setStateCode("JE");
+        c1.getPopulationHistory().add(new PopulationHistory(2010, 1000, c1));
+        long id = cityService.save(c1).getCityId();
+        City c2 = new City("Json Export Town, JE");
+        c2.setStateCode("JE");
+        cityService.save(c2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cityService.exportAllJson(out);
+        String[] lines = out.toString("UTF-8").split("\n");
+        assertTrue(lines.length >= 2);
+
+        /**
+         * Every line is a whole city on its own, not preceded by
+         * the space Jackson puts between root values by default
+         */
+        boolean found = false;
+        for (String line : lines)
+        {
+            assertTrue(line.startsWith("{"), "line starts with " + line.charAt(0));
+            JsonNode city = objectMapper.readTree(line);
+            if (city.get("cityId").asLong() == id)
+            {
+                found = true;
+                assertEquals(1, city.get("populationHistory").size());
+            }
+        }
+        assertTrue(found);
+    }
+}
@@ -4,7 +4,9 @@ import com.lambdaschool.foundation.config.H2ServerConfiguration;
 import com.lambdaschool.foundation.models.City;
 import com.lambdaschool.foundation.models.CityAbstract;
 import com.lambdaschool.foundation.models.DSCity;
+import com.lambdaschool.foundation.models.User;
 import com.lambdaschool.foundation.repository.CityRepository;
+import com.lambdaschool.foundation.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,8 +20,9 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
-@SpringBootTest
+@SpringBootTest(properties = "citrics.filter-index.enabled=false")
 class CityServiceImplTest
 {
     /**
@@ -34,6 +37,13 @@ class CityServiceImplTest
     @MockBean
     private CityRepository cityRepository;
 
+    /**
+     * Mocks up the UserRepository
+     * Needed because the filter endpoints read the current user's preferences
+     */
+    @MockBean
+    private UserRepository userRepository;
+
     /**
      * Mocks up the CustomErrorDetails class
      * Needed because custom error messages on exceptions are turned on?
@@ -108,6 +118,37 @@ class CityServiceImplTest
         assertEquals("Test City 1, USA", c1.getCityName());
     }
 
+    @Test
+    void findIdByFilter()
+    {
+        /**
+         * Mock up repositories
+         * dummy user whose preferences make up the filter
+         */
+        User u1 = new User("testuser");
+        u1.setMaxRent(1000.0);
+
+        /**
+         * With the in-memory index switched off for this class, the filter
+         * runs in the database, so the service only has to
+         * hand the current user and the limit to the repository
+         */
+        Mockito.doReturn(Optional.of(u1)).when(userRepository).findById(1l);
+        Mockito.doReturn(Arrays.asList(3L, 7L))
+            .when(cityRepository).findIdsByFilter(u1, 2);
+
+        /**
+         * Executes the service call
+         */
+        List<Long> ids = cityService.findIdByFilter(2);
+
+        /**
+         * Assert the expected results
+         */
+        assertEquals(Arrays.asList(3L, 7L), ids);
+        Mockito.verify(cityRepository).findIdsByFilter(any(User.class), eq(2));
+    }
+
     @Test
     void save()
     {
@@ -157,12 +198,12 @@ class CityServiceImplTest
         /**
          * Execute the service call
          */
-//        City c2 = cityService.saveDs(new DSCity());
+        City c2 = cityService.saveDs(new DSCity());
 
         /**
          * Assert the expected results
          */
-//        assertEquals("Test City 1, USA", c2.getCityName());
+        assertEquals("Test City 1, USA", c2.getCityName());
     }
 
     @Test
@@ -198,21 +239,17 @@ class CityServiceImplTest
     {
         /**
          * Mock up repository
-         * new dummy cities to test
+         * new dummy city abstracts to test
          */
-        City c1 = new City("Test City 1, USA");
-        City c2 = new City("Test City 2, USA");
+        CityAbstract c1 = new CityAbstract(1, "Test City 1, USA", "TC", 1000L, 100000.0, 900.0, 90.0, null, null);
+        CityAbstract c2 = new CityAbstract(2, "Test City 2, USA", "TC", 2000L, 200000.0, 1200.0, 110.0, null, null);
 
         /**
-         * When Mockito calls the CityService.findAllIds() it returns the dummy
-         * cities as a list. findAllIds() calls the findAll() method from the repository
-         * which returns a list of City objects, so even though findAllIds() returns
-         * a CityAbstract object because it relies on a passthrough method from the repository
-         * we must mock a return list of City Objects or else we get an error when a CityAbstract
-         * is attemped to be type casted as a City object in the inner function. Would like some
-         * clarification from JM
+         * findAllIds() selects the abstracts straight from the database with a
+         * projection query, so the repository already returns CityAbstract objects
+         * and no City entities are involved
          */
-        Mockito.doReturn(Arrays.asList(c1,c2)).when(cityRepository).findAll();
+        Mockito.doReturn(Arrays.asList(c1,c2)).when(cityRepository).findAllAbstracts();
 
         /**
          * Executes the service call
@@ -0,0 +1,79 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.CityMetric;
+import com.lambdaschool.foundation.models.CitySimilarity;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CitySimilarityIndexTest
+{
+    @Test
+    void mostSimilarFirst()
+    {
+        /**
+         * Cities 1 and 2 are alike, city 3 is far off on population and
+         * city 5 on rent. City 4 has no rent recorded, so its rent counts
+         * as the average.
+         */
+        long[] ids = {1, 2, 3, 4, 5};
+        double[][] columns = new double[CityMetric.values().length][ids.length];
+        for (double[] column : columns)
+        {
+            Arrays.fill(column, 5);
+        }
+        columns[CityMetric.POPULATION.ordinal()] = new double[]{100000, 110000, 900000, 120000, 105000};
+        columns[CityMetric.RENT.ordinal()] = new double[]{1000, 1010, 1000, Double.NaN, 3000};
+
+        CitySimilarityIndex.Matrix matrix = new CitySimilarityIndex.Matrix(
+            new CityFilterIndex.Snapshot(1, ids, columns));
+
+        List<CitySimilarity> similar = matrix.similar(1, 2);
+        assertEquals(2, similar.size());
+        assertEquals(2, similar.get(0).getCityId());
+        assertEquals(4, similar.get(1).getCityId());
+
+        assertNull(matrix.similar(6, 2));
+    }
+
+    @Test
+    void parallelSearchMatchesScan()
+    {
+        /**
+         * More rows than one chunk, so the chunks are searched in parallel
+         * and their heaps merged
+         */
+        Random random = new Random(12);
+        int n = CitySimilarityIndex.CHUNK_ROWS * 3 + 17;
+        long[] ids = new long[n];
+        double[][] columns = new double[CityMetric.values().length][n];
+        for (int row = 0; row < n; row++)
+        {
+            ids[row] = row + 1;
+            for (double[] column : columns)
+            {
+                column[row] = random.nextGaussian();
+            }
+        }
+        CitySimilarityIndex.Matrix matrix = new CitySimilarityIndex.Matrix(
+            new CityFilterIndex.Snapshot(1, ids, columns));
+
+        List<CitySimilarity> all = matrix.similar(42, n);
+        assertEquals(n - 1, all.size());
+        for (int i = 1; i < all.size(); i++)
+        {
+            assertEquals(true, all.get(i - 1).getDistance() <= all.get(i).getDistance());
+        }
+
+        List<CitySimilarity> top = matrix.similar(42, 25);
+        for (int i = 0; i < top.size(); i++)
+        {
+            assertEquals(all.get(i).getDistance(), top.get(i).getDistance(), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.lambdaschool.foundation.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lambdaschool.foundation.models.DSCity;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DSCityParserTest
+{
+    /**
+     * Parser under test, no Spring context is needed
+     */
+    private final DSCityParser parser = new DSCityParser(new ObjectMapper());
+
+    @Test
+    void parse() throws Exception
+    {
+        /**
+         * A trimmed down DS city, including keys the parser does not know
+         */
+        String json = "{\"city\": \"Test City\", \"statename\": \"Test State\","
+            + " \"FIPS\": 1234, \"pop\": 20000.0, \"rent\": null,"
+            + " \"unknown\": {\"a\": [1, 2]},"
+            + " \"pop_hist\": {\"POP_2010_census\": 19000, \"POP_2011_est\": 19500},"
+            + " \"income_hist\": {\"2010_Med_Hou_Inc\": \"50000\", \"2010_Med_Ind_Inc\": \"30000\"},"
+            + " \"home_hist\": {\"2010_01_31\": 150000.5},"
+            + " \"weather_hist\": {\"Jan_precip\": 2.5, \"Jan_temp\": 40.0},"
+            + " \"jhcovid\": {\"City\": \"Test City\", \"2020_01_22\": 1.0, \"2020_01_24\": 3.0}}";
+
+        DSCity city = parser.parse(json.getBytes(StandardCharsets.UTF_8));
+
+        /**
+         * Scalars
+         */
+        assertEquals("Test City", city.getCity());
+        assertEquals("1234", city.getFIPS());
+        assertEquals(20000L, (long) city.getPop());
+        assertNull(city.getRent());
+
+        /**
+         * Historical series, keyed by year, month or epoch day
+         */
+        assertEquals(2, city.getPop_hist().size());
+        assertEquals(2011, city.getPop_hist().key(1));
+        assertEquals(50000, city.getHousehold_hist().get(2010), 0);
+        assertEquals(30000, city.getIndividual_hist().get(2010), 0);
+        assertEquals(LocalDate.of(2010, 1, 31).toEpochDay(), city.getHome_hist().key(0));
+        assertEquals(2.5, city.getPrecip_hist().get(1), 0);
+        assertEquals(40.0, city.getTemp_hist().get(1), 0);
+        assertEquals(2, city.getJhcovid().size());
+        assertEquals(LocalDate.of(2020, 1, 24).toEpochDay(), city.getJhcovid().maxKey());
+    }
+}
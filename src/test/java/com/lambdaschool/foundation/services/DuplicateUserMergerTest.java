@@ -0,0 +1,65 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.config.DatabaseMetadata;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs against its own in-memory H2 database, with the users and
+ * user_cities tables as older versions left them, without the unique
+ * constraint on username
+ */
+class DuplicateUserMergerTest
+{
+    @Test
+    void merge()
+    {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:duplicateusers;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (user_id BIGINT PRIMARY KEY,"
+            + " last_modified_date TIMESTAMP, username VARCHAR(255), min_population INT,"
+            + " max_population INT, min_rent DOUBLE, max_rent DOUBLE, min_house_cost DOUBLE,"
+            + " max_house_cost DOUBLE, cost_of_living INT, about_me VARCHAR(255),"
+            + " profile_picture CLOB)");
+        jdbcTemplate.execute("CREATE TABLE user_cities (user_id BIGINT, city_id BIGINT,"
+            + " PRIMARY KEY (user_id, city_id))");
+
+        /**
+         * Arthur three times, the newest duplicate has the rent preference
+         */
+        jdbcTemplate.update("INSERT INTO users (user_id, last_modified_date, username, about_me,"
+            + " max_rent) VALUES (1, '2020-01-01', 'Arthur', 'first', NULL),"
+            + " (2, '2020-03-01', 'arthur', NULL, 900), (3, '2020-02-01', 'ARTHUR', 'third', 500),"
+            + " (4, '2020-01-01', 'James', NULL, NULL)");
+        jdbcTemplate.update("INSERT INTO user_cities (user_id, city_id)"
+            + " VALUES (1, 10), (2, 10), (2, 11), (3, 12), (4, 10)");
+
+        DuplicateUserMerger merger = new DuplicateUserMerger(new DatabaseMetadata(dataSource),
+            jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        assertEquals(2, merger.merge());
+
+        assertEquals(Arrays.asList("arthur", "james"), jdbcTemplate.queryForList(
+            "SELECT username FROM users ORDER BY user_id", String.class));
+        assertEquals("first", jdbcTemplate.queryForObject(
+            "SELECT about_me FROM users WHERE user_id = 1", String.class));
+        assertEquals(900, jdbcTemplate.queryForObject(
+            "SELECT max_rent FROM users WHERE user_id = 1", Double.class), 0.01);
+        assertEquals(Arrays.asList(10L, 11L, 12L), jdbcTemplate.queryForList(
+            "SELECT city_id FROM user_cities WHERE user_id = 1 ORDER BY city_id", Long.class));
+        assertEquals(4, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM user_cities", Integer.class));
+
+        /**
+         * Nothing left to merge, and now the constraint can be added
+         */
+        assertEquals(0, merger.merge());
+        jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT uk_username UNIQUE (username)");
+    }
+}
@@ -0,0 +1,104 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.config.H2ServerConfiguration;
+import com.lambdaschool.foundation.models.City;
+import com.lambdaschool.foundation.models.User;
+import com.lambdaschool.foundation.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against the in-memory H2 database, so adds are written with MERGE.
+ * The scheduled flushes are slowed down so only the test flushes,
+ * and only the test drains the popularity counts.
+ */
+@SpringBootTest(properties = {"local.run.db=H2", "citrics.favorites.flush-millis=3600000",
+    "citrics.city-stats.flush-millis=3600000"})
+class FavoriteCityBufferTest
+{
+    @Autowired
+    private FavoriteCityBuffer favoriteCityBuffer;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CityPopularity cityPopularity;
+
+    /**
+     * Mocks up the H2ServerConfiguration class
+     * so the test does not open the H2 TCP and web ports
+     */
+    @MockBean
+    private H2ServerConfiguration h2ServerConfiguration;
+
+    @Test
+    void queuedOperationsAreWrittenOnFlush()
+    {
+        long userId = userRepository.save(new User("favoritebuffer")).getUserId();
+        long first = saveCity("Buffered One, BF");
+        long second = saveCity("Buffered Two, BF");
+
+        /**
+         * Nothing is written until the user is flushed
+         */
+        cityService.saveFavoriteCity(first, userId);
+        cityService.saveFavoriteCity(second, userId);
+        assertEquals(0, favorites(userId));
+        favoriteCityBuffer.flush(userId);
+        assertEquals(2, favorites(userId));
+        Map<Long, long[]> counted = cityPopularity.drain();
+        assertArrayEquals(new long[]{0, 1}, counted.get(first));
+        assertArrayEquals(new long[]{0, 1}, counted.get(second));
+
+        /**
+         * Adding a favorite again is not an error, and is not counted
+         */
+        cityService.saveFavoriteCity(first, userId);
+        favoriteCityBuffer.flush(userId);
+        assertEquals(2, favorites(userId));
+        assertTrue(cityPopularity.drain().isEmpty());
+
+        /**
+         * A remove replaces a queued add of the same city
+         */
+        cityService.deleteFavoriteCity(first, userId);
+        cityService.saveFavoriteCity(first, userId);
+        cityService.deleteFavoriteCity(first, userId);
+        favoriteCityBuffer.flushAll();
+        assertEquals(1, favorites(userId));
+
+        /**
+         * The remove deleted a row, so it takes the favorite back
+         */
+        assertArrayEquals(new long[]{0, -1}, cityPopularity.drain().get(first));
+    }
+
+    private long saveCity(String name)
+    {
+        City city = new City(name);
+        city.setStateCode("BF");
+        return cityService.save(city).getCityId();
+    }
+
+    private int favorites(long userId)
+    {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_cities WHERE user_id = ?",
+            Integer.class, userId);
+    }
+}
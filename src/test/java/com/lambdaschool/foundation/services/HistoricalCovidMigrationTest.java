@@ -0,0 +1,70 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.config.H2ServerConfiguration;
+import com.lambdaschool.foundation.models.City;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs against the in-memory H2 database, with historical_covid created
+ * the way older versions of the entity left it
+ */
+@SpringBootTest(properties = "local.run.db=H2")
+class HistoricalCovidMigrationTest
+{
+    @Autowired
+    private HistoricalCovidMigration historicalCovidMigration;
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Mocks up the H2ServerConfiguration class
+     * so the test does not open the H2 TCP and web ports
+     */
+    @MockBean
+    private H2ServerConfiguration h2ServerConfiguration;
+
+    @Test
+    void migrate()
+    {
+        City city = new City("Old Covid, OC");
+        city.setStateCode("OC");
+        long cityId = cityService.save(city).getCityId();
+
+        jdbcTemplate.execute("CREATE TABLE historical_covid (covid_id BIGINT PRIMARY KEY,"
+            + " created_by VARCHAR(255), created_date TIMESTAMP, last_modified_by VARCHAR(255),"
+            + " last_modified_date TIMESTAMP, year INT NOT NULL, month INT NOT NULL, day INT NOT NULL,"
+            + " cases INT NOT NULL, city_id BIGINT)");
+        /**
+         * Out of order, with March 1st missing
+         */
+        jdbcTemplate.update("INSERT INTO historical_covid (covid_id, year, month, day, cases, city_id)"
+            + " VALUES (1, 2020, 3, 2, 9, ?), (2, 2020, 2, 28, 4, ?), (3, 2020, 2, 29, 6, ?)",
+            cityId, cityId, cityId);
+
+        assertEquals(1, historicalCovidMigration.migrate());
+
+        City migrated = cityService.findCityById(cityId);
+        assertEquals(LocalDate.of(2020, 2, 28), migrated.getHistoricalCovid().getStartDate());
+        assertArrayEquals(new int[]{4, 6, 0, 9}, migrated.getHistoricalCovid().getCases());
+
+        /**
+         * The old table is gone, so running again does nothing
+         */
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES"
+            + " WHERE TABLE_NAME = 'HISTORICAL_COVID'", Integer.class));
+        assertEquals(0, historicalCovidMigration.migrate());
+    }
+}
@@ -0,0 +1,85 @@
+package com.lambdaschool.foundation.services;
+
+import com.lambdaschool.foundation.models.User;
+import com.lambdaschool.foundation.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class KnownUserCacheTest
+{
+    /**
+     * Mocked users table, no Spring context is needed
+     */
+    private UserRepository userRepository;
+
+    private KnownUserCache knownUserCache;
+
+    @BeforeEach
+    void setUp()
+    {
+        userRepository = Mockito.mock(UserRepository.class);
+        knownUserCache = new KnownUserCache(userRepository, 600, 100);
+    }
+
+    @Test
+    void provisionOnceForConcurrentRequests() throws Exception
+    {
+        /**
+         * The user does not exist yet and the insert is slow,
+         * so all threads arrive while it is running
+         */
+        CountDownLatch start = new CountDownLatch(1);
+        Mockito.doAnswer(invocation ->
+        {
+            Thread.sleep(100);
+            return invocation.getArgument(0);
+        }).when(userRepository).save(any());
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++)
+        {
+            pool.submit(() ->
+            {
+                start.await();
+                knownUserCache.provision("NewUser");
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        verify(userRepository, times(1)).save(any(User.class));
+        assertTrue(knownUserCache.isKnown("newuser"));
+    }
+
+    @Test
+    void knownUserSkipsDatabaseUntilInvalidated()
+    {
+        Mockito.doReturn(new User("arthur")).when(userRepository).findByUsername("arthur");
+
+        knownUserCache.provision("Arthur");
+        knownUserCache.provision("arthur");
+        verify(userRepository, times(1)).findByUsername("arthur");
+
+        /**
+         * Deleting the user forgets it, so the next request looks again
+         */
+        knownUserCache.invalidate("arthur");
+        assertFalse(knownUserCache.isKnown("arthur"));
+        knownUserCache.provision("arthur");
+        verify(userRepository, times(2)).findByUsername("arthur");
+    }
+}